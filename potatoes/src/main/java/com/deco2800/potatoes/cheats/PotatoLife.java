@@ -20,7 +20,7 @@ public class PotatoLife implements CheatExecution {
         else {
             if (emitter == null) {
                 emitter = new ParticleEmitter(0, 0,
-                        new GlobalEmitterType(5000, 5000.0f, 75.0f, 60, t.getTexture("potate")));
+                        new GlobalEmitterType(5000, 5000.0f, 75.0f, 60, t.getTextureRegion("potate")));
             }
 
             m.addParticleEmitter(0, emitter);
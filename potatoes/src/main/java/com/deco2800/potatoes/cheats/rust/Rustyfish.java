@@ -4,7 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.deco2800.potatoes.cheats.CheatExecution;
@@ -27,6 +27,8 @@ public class Rustyfish implements CheatExecution {
     private boolean state = true;
     private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(Rustyfish.class);
     private static SpriteBatch batch = new SpriteBatch();
+    // Region drawn by drawSprite, flipped as the sprite asks
+    private static TextureRegion sprite = new TextureRegion();
     private static ShapeRenderer sr = new ShapeRenderer();
 
     private interface RLibrary extends Library {
@@ -179,13 +181,13 @@ public class Rustyfish implements CheatExecution {
         @SuppressWarnings("unused")
         public void run(RenderObject.ByValue obj) {
             TextureManager m = GameManager.get().getManager(TextureManager.class);
-            Texture t = m.getTexture(obj.asset);
+            sprite.setRegion(m.getTextureRegion(obj.asset));
+            sprite.flip(obj.flipX != 0, obj.flipY != 0);
 
             batch.setColor(getColor(obj.color));
 
-            batch.draw(t, obj.x, Gdx.graphics.getHeight() - t.getHeight() * obj.scale - obj.y,
-                    0, 0, t.getWidth(), t.getHeight(), obj.scale, obj.scale, obj.rotation,
-                    0, 0, t.getWidth(), t.getHeight(), obj.flipX != 0, obj.flipY != 0);
+            batch.draw(sprite, obj.x, Gdx.graphics.getHeight() - sprite.getRegionHeight() * obj.scale - obj.y,
+                    0, 0, sprite.getRegionWidth(), sprite.getRegionHeight(), obj.scale, obj.scale, obj.rotation);
         }
     };
 
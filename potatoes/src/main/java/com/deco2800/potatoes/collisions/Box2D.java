@@ -1,7 +1,7 @@
 package com.deco2800.potatoes.collisions;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
@@ -429,16 +429,16 @@ public class Box2D extends Shape2D {
      */
     @Override
     public void renderHighlight(SpriteBatch batch) {
-        Texture textureHighlight  = GameManager.get().getManager(TextureManager.class).getTexture(TEXTURE_STRING);
+        TextureRegion textureHighlight  = GameManager.get().getManager(TextureManager.class).getTextureRegion(TEXTURE_STRING);
 
         Vector2 isoPosition = Render3D.worldToScreenCoordinates(x, y, 0);
 
         int tileWidth = (int) GameManager.get().getWorld().getMap().getProperties().get("tilewidth");
-        float aspect = (float) textureHighlight.getWidth() / (float) tileWidth;
+        float aspect = (float) textureHighlight.getRegionWidth() / (float) tileWidth;
 
         batch.draw(textureHighlight,
                 isoPosition.x - tileWidth * xLength / 2, isoPosition.y - tileWidth * yLength / 2,   // x, y
-                tileWidth * xLength, textureHighlight.getHeight() / aspect * yLength);              // width, height
+                tileWidth * xLength, textureHighlight.getRegionHeight() / aspect * yLength);              // width, height
 
     }
 
@@ -1,7 +1,7 @@
 package com.deco2800.potatoes.collisions;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
@@ -156,17 +156,17 @@ public class Circle2D extends Shape2D {
      */
     @Override
     public void renderHighlight(SpriteBatch batch) {
-        Texture textureHighlight  = GameManager.get().getManager(TextureManager.class).getTexture(TEXTURE_STRING);
+        TextureRegion textureHighlight  = GameManager.get().getManager(TextureManager.class).getTextureRegion(TEXTURE_STRING);
 
         Vector2 isoPosition = Render3D.worldToScreenCoordinates(x, y, 0);
 
         int tileWidth = (int) GameManager.get().getWorld().getMap().getProperties().get("tilewidth");
-        float aspect = (float) textureHighlight.getWidth() / (float) tileWidth;
+        float aspect = (float) textureHighlight.getRegionWidth() / (float) tileWidth;
         float rt2 = (float) Math.sqrt(2);
 
         batch.draw(textureHighlight,
                 isoPosition.x - tileWidth * radius / rt2, isoPosition.y - tileWidth * radius / rt2, // x, y
-                tileWidth * radius * rt2, textureHighlight.getHeight() / aspect * radius * rt2);    // width, height
+                tileWidth * radius * rt2, textureHighlight.getRegionHeight() / aspect * radius * rt2);    // width, height
 
     }
 
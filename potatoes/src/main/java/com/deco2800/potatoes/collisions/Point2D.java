@@ -1,7 +1,7 @@
 package com.deco2800.potatoes.collisions;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
@@ -154,7 +154,7 @@ public class Point2D extends Shape2D {
     @Override
     public void renderHighlight(SpriteBatch batch) {
 
-        Texture textureHighlight  = GameManager.get().getManager(TextureManager.class).getTexture(TEXTURE_STRING);
+        TextureRegion textureHighlight  = GameManager.get().getManager(TextureManager.class).getTextureRegion(TEXTURE_STRING);
 
         Vector2 isoPosition = Render3D.worldToScreenCoordinates(x, y, 0);
 
@@ -6,10 +6,13 @@ import com.deco2800.potatoes.collisions.Point2D;
 import com.deco2800.potatoes.entities.effects.Effect;
 import com.deco2800.potatoes.entities.projectiles.Projectile;
 import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.TextureManager;
+import com.deco2800.potatoes.observers.PositionObserver;
 import com.deco2800.potatoes.renderering.Renderable;
 
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -34,6 +37,9 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 
 	// Rendering texture
 	private String texture = "error_box";
+	// The frame id of the texture, see TextureManager.getFrameId(...), and the texture it was interned from
+	private transient int textureFrame = -1;
+	private transient String textureFrameName;
 
 	private float xRenderLength = 25;
 	private float yRenderLength = 25;
@@ -54,12 +60,22 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 	private float moveAngle = 0; 			// Measured in Radians
 	private float mass = 1;					// mass used in mobile on mobile collisions
 
+	// Position tracking, lets the world only update the entities that moved
+	private transient PositionObserver positionObserver = null;
+	private transient boolean positionChanged = false;
+
+	// Position before the last simulation step, for drawing between steps. NaN until first saved
+	private transient float lastPosX = Float.NaN;
+	private transient float lastPosY = Float.NaN;
+
 	private static final float MIN_DIST = 0.000001f; 		// the closest we will move to another entity
 	private static final float ESCAPE_SPEED = 0.15f; 		// the speed to get out from inside another object
+	private static final float MAX_INTERPOLATED_DIST = 2; 	// moves further than this in a step are drawn as jumps
 	//private static final float FRICTION = 0.005f; 		// the amount we will decrease our momentumSpeed by
 
 	Set<AbstractEntity> overlappedEntities = new HashSet<AbstractEntity>();		// entities I overlap this step
 	Set<AbstractEntity> pushedEntities = new HashSet<AbstractEntity>();			// entities I pushed this step
+	List<AbstractEntity> nearbyEntities = new ArrayList<AbstractEntity>();		// solid entities near me this step
 
 
 
@@ -214,8 +230,15 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 	 * @param x		The new x value of this entity
 	 */
 	public void setPosX(float x) {
+		boolean moved = x != collisionMask.getX();
+		if (moved) {
+			markPositionChanged();
+		}
 		this.collisionMask.setX(x);
 		this.shadow.setX(x);		// if shadow is same as collisionMask, this is redundant but acceptable
+		if (moved) {
+			notifyMoved();
+		}
 	}
 
 	/**
@@ -223,8 +246,15 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 	 * @param y		The new x value of this entity
 	 */
 	public void setPosY(float y) {
+		boolean moved = y != collisionMask.getY();
+		if (moved) {
+			markPositionChanged();
+		}
 		this.collisionMask.setY(y);
 		this.shadow.setY(y);		// if shadow is same as collisionMask, this is redundant but acceptable
+		if (moved) {
+			notifyMoved();
+		}
 	}
 
 	/**
@@ -240,6 +270,103 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 		setPosY(y);
 	}
 
+	/**
+	 * Remembers this entity's position before a simulation step, so it can be drawn part way between
+	 * where it was and where the step moved it to.
+	 */
+	public void savePosition() {
+		lastPosX = getPosX();
+		lastPosY = getPosY();
+	}
+
+	/**
+	 * Gets the x coordinate to draw this entity at, part way through the step after the last one.
+	 *
+	 * @param alpha	How far through the step, from 0 (the position before the last step) to 1 (the current position)
+	 * @return	The x coordinate to draw at
+	 */
+	public float getRenderX(float alpha) {
+		return interpolate(lastPosX, getPosX(), alpha);
+	}
+
+	/**
+	 * Gets the y coordinate to draw this entity at, part way through the step after the last one.
+	 *
+	 * @param alpha	How far through the step, from 0 (the position before the last step) to 1 (the current position)
+	 * @return	The y coordinate to draw at
+	 */
+	public float getRenderY(float alpha) {
+		return interpolate(lastPosY, getPosY(), alpha);
+	}
+
+	private static float interpolate(float last, float current, float alpha) {
+		// Not saved yet, or teleported
+		if (Float.isNaN(last) || Math.abs(current - last) > MAX_INTERPOLATED_DIST) {
+			return current;
+		}
+		return last + (current - last) * alpha;
+	}
+
+	/**
+	 * Sets the observer told when this entity first moves after its position was last cleared.
+	 * This is set by the world the entity is in, so it can update its spatial indexes.
+	 *
+	 * @param observer	The observer to notify, or null for none
+	 */
+	public void setPositionObserver(PositionObserver observer) {
+		this.positionObserver = observer;
+		this.positionChanged = false;
+	}
+
+	/**
+	 * Called when this entity is taken out of the world it is in, however that happens, so it can let go of anything
+	 * it holds on to while in the world. Does nothing by default.
+	 */
+	public void onRemovedFromWorld() {
+		// Nothing held by default
+	}
+
+	/**
+	 * @return	The observer told when this entity moves, or null if there is none
+	 */
+	public PositionObserver getPositionObserver() {
+		return positionObserver;
+	}
+
+	/**
+	 * @return	True iff this entity has moved since its position was last cleared
+	 */
+	public boolean hasPositionChanged() {
+		return positionChanged;
+	}
+
+	/**
+	 * Acknowledges this entity's current position, so the next move notifies the observer again.
+	 */
+	public void clearPositionChanged() {
+		positionChanged = false;
+	}
+
+	/**
+	 * Marks this entity as moved, notifying the observer if this is the first move since the
+	 * position was last cleared.
+	 */
+	private void markPositionChanged() {
+		if (!positionChanged && positionObserver != null) {
+			positionChanged = true;
+			positionObserver.notifyPositionChanged(this);
+		}
+	}
+
+	/**
+	 * Tells the observer where this entity has just moved to.
+	 */
+	private void notifyMoved() {
+		if (positionObserver != null) {
+			positionObserver.notifyMoved(this, collisionMask);
+		}
+	}
+
 
 
 
@@ -315,6 +442,34 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 		this.texture = texture;
 	}
 
+	/**
+	 * Sets the texture for this entity by its frame id, as from TextureManager.getFrameId(...), without building its
+	 * string. getTexture() gives the id it was interned from.
+	 *
+	 * @param frame
+	 *            Frame id of the texture
+	 */
+	public void setTextureFrame(int frame) {
+		this.texture = TextureManager.getFrameName(frame);
+		this.textureFrameName = this.texture;
+		this.textureFrame = frame;
+	}
+
+	/**
+	 * Gives the frame id of the texture for this entity, interning it when the texture changes.
+	 *
+	 * @return frame id of getTexture()
+	 */
+	public int getTextureFrame() {
+		String current = getTexture();
+		// Compared by reference, so textures set by frame id are never looked up
+		if (current != textureFrameName) {
+			textureFrame = TextureManager.getFrameId(current);
+			textureFrameName = current;
+		}
+		return textureFrame;
+	}
+
 
 
 
@@ -614,8 +769,9 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 		// more massive entities will move less during mobile entity to mobile entity collision
 
 
-		
-		Map<Integer, AbstractEntity> entities = GameManager.get().getWorld().getEntities();
+		// only entities in the collision cells around me can be hit this step
+		nearbyEntities.clear();
+		GameManager.get().getWorld().getSolidEntitiesNear(collisionMask, nearbyEntities);
 
 		// collection of entities I overlap during this step
 		overlappedEntities.clear();
@@ -623,7 +779,7 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 
 		// If I'm overlapping any entities, move away from them/try push them away
 		// This method modifies overlappedEntities to contain entities I overlap this step
-		moveEscapeOverlapping( entities );
+		moveEscapeOverlapping( nearbyEntities );
 
 
 		if (moveSpeedModifier <= 0)
@@ -631,7 +787,7 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 
 		// Move me and distribute my momentum with any entities I collide with
 		// This method modifies pushedEntities to contain entities I overlap this step
-		moveAndPush( entities );
+		moveAndPush( nearbyEntities );
 
 	}
 
@@ -671,11 +827,10 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 	 *
 	 * @param entities	The entities to check collision against
 	 */
-	private void moveEscapeOverlapping(Map<Integer, AbstractEntity> entities) {
+	private void moveEscapeOverlapping(List<AbstractEntity> entities) {
 
 		// Check for entities i'm already overlapping, and move away from those entities centres
-		for (Map.Entry<Integer, AbstractEntity> entity : entities.entrySet()) {
-			AbstractEntity e = entity.getValue();
+		for (AbstractEntity e : entities) {
 
 			if (this.equals(e) || !e.isSolid)         // don't collide with yourself silly, or non solid entities
 				continue;
@@ -705,7 +860,7 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 	 *
 	 * @param entities 	The entities to check collision against
 	 */
-	private void moveAndPush(Map<Integer, AbstractEntity> entities){
+	private void moveAndPush(List<AbstractEntity> entities){
 		float length = GameManager.get().getWorld().getLength();
 		float width = GameManager.get().getWorld().getWidth();
 		float terrainModifierCheck;
@@ -719,8 +874,7 @@ public abstract class AbstractEntity implements Renderable, Comparable<AbstractE
 
 		//check if next position overlaps with any new entities, push them out of the way if possible
 		//let them push this entity too, do not allow nextPos to overlap another entity
-		for (Map.Entry<Integer, AbstractEntity> entity : entities.entrySet()) {
-			AbstractEntity e = entity.getValue();
+		for (AbstractEntity e : entities) {
 
 			if (this.equals(e) || !e.isSolid)         // don't collide with yourself silly, or non solid entities
 				continue;
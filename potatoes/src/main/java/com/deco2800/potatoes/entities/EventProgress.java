@@ -0,0 +1,23 @@
+package com.deco2800.potatoes.entities;
+
+/**
+ * A read-only view of how far a TimeEvent has to go, for GUIs and the like to read each frame rather than having the
+ * event or the EventManager tell them every tick.
+ */
+public interface EventProgress {
+
+	/**
+	 * @return the time left until the event is due, counting down to 0
+	 */
+	int getProgress();
+
+	/**
+	 * @return the time the event counts down from when it repeats
+	 */
+	int getResetAmount();
+
+	/**
+	 * @return whether the event is completed
+	 */
+	boolean isCompleted();
+}
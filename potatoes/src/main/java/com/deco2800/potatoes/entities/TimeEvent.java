@@ -1,5 +1,7 @@
 package com.deco2800.potatoes.entities;
 
+import com.deco2800.potatoes.managers.EventManager;
+
 import java.util.function.Consumer;
 
 /**
@@ -7,11 +9,13 @@ import java.util.function.Consumer;
  * projectile when an amount of time has passed
  * TODO sync with network
  */
-public abstract class TimeEvent<T> {
+public abstract class TimeEvent<T> implements EventProgress {
 
 	private long progress = 0;
 	private boolean doReset = false;
 	private int resetAmount = 0;
+	// The manager the event is registered with, which keeps its progress while it is
+	private transient EventManager eventManager;
 
 	public static <T> TimeEvent<T> createWithSimpleAction(int resetAmount, boolean doReset, Action action) {
 		return createWithFunction(resetAmount, doReset, action == null ? null : x -> action.run());
@@ -39,8 +43,9 @@ public abstract class TimeEvent<T> {
 	/**
 	 * @return the current progress (towards 0) of the event
 	 */
+	@Override
 	public int getProgress() {
-		return (int) progress;
+		return (int) getRemaining();
 	}
 
 	/**
@@ -50,7 +55,37 @@ public abstract class TimeEvent<T> {
 	 * @param progress
 	 */
 	public void setProgress(int progress) {
-		this.progress = progress;
+		setRemaining(progress);
+	}
+
+	private long getRemaining() {
+		return eventManager == null ? progress : eventManager.getProgress(this);
+	}
+
+	private void setRemaining(long remaining) {
+		if (eventManager == null) {
+			progress = remaining;
+		} else {
+			eventManager.setProgress(this, remaining);
+		}
+	}
+
+	/**
+	 * @return the EventManager this event is registered with, or null if it isn't registered
+	 */
+	public EventManager getEventManager() {
+		return eventManager;
+	}
+
+	/**
+	 * Sets the EventManager the event is registered with. Only for EventManager, which takes over keeping the progress
+	 * while the event is registered and hands it back before setting this to null.
+	 *
+	 * @param eventManager
+	 *            the manager the event is registered with, or null
+	 */
+	public void setEventManager(EventManager eventManager) {
+		this.eventManager = eventManager;
 	}
 
 	public boolean isDoReset() {
@@ -71,6 +106,7 @@ public abstract class TimeEvent<T> {
 	/**
 	 * @return the value the event will reset to
 	 */
+	@Override
 	public int getResetAmount() {
 		return resetAmount;
 	}
@@ -90,13 +126,13 @@ public abstract class TimeEvent<T> {
 	 * @param deltaTime
 	 */
 	public void decreaseProgress(long deltaTime, T param) {
-		progress -= deltaTime;
+		setRemaining(getRemaining() - deltaTime);
 		if (isCompleted()) {
 			action(param);
 			if (doReset) {
 				decreaseProgress(-resetAmount, param);
 			} else {
-				progress = 0;
+				setRemaining(0);
 			}
 		}
 	}
@@ -104,8 +140,9 @@ public abstract class TimeEvent<T> {
 	/**
 	 * @return whether this event is completed
 	 */
+	@Override
 	public boolean isCompleted() {
-		return progress <= 0;
+		return getRemaining() <= 0;
 	}
 
 	/**
@@ -113,11 +150,7 @@ public abstract class TimeEvent<T> {
 	 * action is not triggered
 	 */
 	public void reset() {
-		if (doReset) {
-			progress = resetAmount;
-		} else {
-			progress = 0;
-		}
+		setRemaining(doReset ? resetAmount : 0);
 	}
 
 	/**
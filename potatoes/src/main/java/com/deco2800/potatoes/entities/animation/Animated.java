@@ -13,4 +13,11 @@ public interface Animated {
 	 * Returns current animation
 	 */
 	public Animation getAnimation();
+
+	/**
+	 * Returns the frame id of the texture for the current frame of the animation
+	 */
+	public default int getFrameId() {
+		return getAnimation().getFrameId();
+	}
 }
@@ -1,5 +1,7 @@
 package com.deco2800.potatoes.entities.animation;
 
+import com.deco2800.potatoes.managers.TextureManager;
+
 /**
  * Class representing an animation
  */
@@ -8,6 +10,13 @@ public interface Animation {
 	 * Returns the texture for the current frame of the animation
 	 */
 	public String getFrame();
+
+	/**
+	 * Returns the frame id of the texture for the current frame, see TextureManager.getFrameId(...)
+	 */
+	public default int getFrameId() {
+		return TextureManager.getFrameId(getFrame());
+	}
 	
 	/**
 	 * Returns the animation this animation is running(?) may not need to be public
@@ -1,11 +1,15 @@
 package com.deco2800.potatoes.entities.animation;
 
+import com.deco2800.potatoes.managers.TextureManager;
+
 /**
  * Class for a single animation frame
  */
 public class SingleFrameAnimation implements Animation {
 
 	private final transient String frameTexture;
+	// Interned the first time it is asked for
+	private transient int frameId = -1;
 	
 	/**
 	 * Default constructor for serialization
@@ -26,6 +30,14 @@ public class SingleFrameAnimation implements Animation {
 		return frameTexture;
 	}
 
+	@Override
+	public int getFrameId() {
+		if (frameId == -1) {
+			frameId = TextureManager.getFrameId(frameTexture);
+		}
+		return frameId;
+	}
+
 	@Override
 	public Animation getAnimation() {
 		return this;
@@ -45,6 +45,11 @@ public class StateAnimation implements Animation {
 		return getAnimation().getFrame();
 	}
 
+	@Override
+	public int getFrameId() {
+		return getAnimation().getFrameId();
+	}
+
 	@Override
 	public Animation getAnimation() {
 		float scaledValue = 1 - (valueFunction.get() - minValue) / maxValue;
@@ -39,6 +39,11 @@ public class TimeAnimation extends TimeEvent<Tickable> implements Animation {
 		return getAnimation().getFrame();
 	}
 
+	@Override
+	public int getFrameId() {
+		return getAnimation().getFrameId();
+	}
+
 	@Override
 	public Animation getAnimation() {
 		return frames[Math.round((frames.length - 1) * (1 - (float) getProgress() / getResetAmount()))];
@@ -2,7 +2,7 @@ package com.deco2800.potatoes.entities.effects;
 
 import java.util.Map;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
@@ -238,10 +238,10 @@ public abstract class Effect extends AbstractEntity implements Tickable {
 		int tileHeight = (int) GameManager.get().getWorld().getMap().getProperties().get("tileheight");
 
 		TextureManager reg = GameManager.get().getManager(TextureManager.class);
-		Texture tex = reg.getTexture(this.getTexture());
+		TextureRegion tex = reg.getTextureRegion(this.getTexture());
 
-		float lWidth = tex.getWidth();
-		float lHeight = tex.getHeight();
+		float lWidth = tex.getRegionWidth();
+		float lHeight = tex.getRegionHeight();
 
 		Vector2 startPos = Render3D.worldToScreenCoordinates(xPos, yPos, 0);
 		Vector2 endPos = Render3D.worldToScreenCoordinates(fxPos, fyPos, 0);
@@ -254,19 +254,15 @@ public abstract class Effect extends AbstractEntity implements Tickable {
 		// start pos of line in y direction
 		float lY = 0 - startPos.y - (lHeight + tileHeight) / 2 + tileHeight / 2;
 
-		float originX = tex.getWidth() / 2;
-		float originY = tex.getHeight() / 2;
+		float originX = tex.getRegionWidth() / 2;
+		float originY = tex.getRegionHeight() / 2;
 
 		// stretch texture using x scale
 		float lScaleX = (float) Math.sqrt(l * l + h * h);
 		float lScaleY = 0.4f;
 
-		int srcX = 0;
-		int srcY = 0;
-		int srcWidth = tex.getWidth();
-		int srcHeight = tex.getHeight();
 		batch.draw(tex, lX, lY, originX, originY, lWidth, lHeight, lScaleX, lScaleY,
-				WorldUtil.rotation(xPos, yPos, fxPos, fyPos) - 45, srcX, srcY, srcWidth, srcHeight, false, false);
+				WorldUtil.rotation(xPos, yPos, fxPos, fyPos) - 45);
 
 	}
 
@@ -68,6 +68,7 @@ public class LargeFootstepEffect extends Effect {
                 ParticleType particle =  new BasicParticleType(1700, 1700.0f,
                         0.0f, 256, Color.OLIVE, 25, 4);
                 particle.setSpeed(0.04f);
+                particle.setPriority(ParticleType.Priority.LOW);
                 Vector2 pos = Render3D.worldToScreenCoordinates(entity.getPosX(), entity.getPosY(), -0.5f);
                 int tileWidth = (int) GameManager.get().getWorld().getMap().getProperties().get("tilewidth");
                 int tileHeight = (int) GameManager.get().getWorld().getMap().getProperties().get("tileheight");
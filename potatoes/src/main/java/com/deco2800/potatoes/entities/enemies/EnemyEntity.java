@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -53,6 +54,14 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 	private long sTime = System.currentTimeMillis();
 	private int textureLength = 0;
 	private int delayTime = 500;
+	// Frame ids of each type of enemy's animation for each status, by direction then frame, see updateSprites()
+	private static final Map<String, int[][]> ANIMATION_FRAMES = new HashMap<>();
+	// The frame ids of this enemy's current animation, and the status they are for
+	private transient int[][] animationFrames;
+	private transient String animationStatus;
+	private transient int[] idleFrames;
+	// If this enemy holds on to its textures until it dies, see acquireTextures()
+	private transient boolean holdingTextures;
 
 	/**
 	 * Default constructor for serialization
@@ -94,7 +103,8 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 
 	/***
 	 * Update the enemy's target that it is moving to and the path that it is following to do so with
-	 * a provided goal AbstractEntity
+	 * a provided goal AbstractEntity. Enemies follow the goal's flow field from PathManager, and only
+	 * generate a path of their own where the field has no route.
 	 *
 	 * @param pathTarget data class containing enemy's current path and target
 	 * @param goalEntity the entity the enemy's path and target are to be set to
@@ -104,15 +114,22 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 		Shape2D target = pathTarget.getTarget();
 		PathManager pathManager = GameManager.get().getManager(PathManager.class);
 		if (goalEntity != null) {
-			// check paths
-			// check that we actually have a path
-			if (path == null || path.isEmpty()) {
-				path = pathManager.generatePath(this.getMask(), goalEntity.getMask());
+			// follow the goal's shared flow field where it has a route
+			float fieldAngle = pathManager.getFlowField(goalEntity).getAngle(getPosX(), getPosY());
+			if (!Float.isNaN(fieldAngle)) {
+				super.setMoveAngle(fieldAngle);
+				pathTarget.setPath(null);
+				pathTarget.setTarget(null);
+				pathTarget.setPathRequest(null);
+				return;
 			}
 
-			//check if last node in path matches player
-			if (!path.goal().overlaps(goalEntity.getMask())) {
-				path = pathManager.generatePath(this.getMask(), goalEntity.getMask());
+			// otherwise fall back to a path of its own
+			// check that we actually have a path, and that the last node in it matches the goal
+			// a new path is delivered to pathTarget on a later tick, so keep following the old one until then
+			if (pathTarget.getPathRequest() == null
+					&& (path == null || path.isEmpty() || !path.goal().overlaps(goalEntity.getMask()))) {
+				pathManager.requestPath(this.getMask(), goalEntity.getMask(), pathTarget);
 			}
 
 			//check if close enough to target
@@ -121,7 +138,7 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 			}
 
 			//check if the path has another node
-			if (target == null && !path.isEmpty()) {
+			if (target == null && path != null && !path.isEmpty()) {
 				target = path.pop();
 			}
 
@@ -225,12 +242,13 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 	 */
 	public void updateSprites() {
 		String[] type = getEnemyType();
-		String direction = "_" + super.facing.name();
 		if (type.length == 1) {
-			this.setTexture(type[0] + direction);
+			if (idleFrames == null) {
+				idleFrames = TextureManager.getDirectionalFrameIds(type[0]);
+			}
+			this.setTextureFrame(idleFrames[super.facing.ordinal()]);
 		} else {
-			LOGGER.info("Texture:::"+type[0]+enemyStatus + direction + "_" + texturePointer);
-			this.setTexture(type[0]+enemyStatus + direction + "_" + texturePointer);
+			this.setTextureFrame(getAnimationFrames(type[0])[super.facing.ordinal()][texturePointer - 1]);
 			if(delay(delayTime)){
 				texturePointer++;
 				if(texturePointer>textureLength){
@@ -240,6 +258,24 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 		}
 	}
 
+	/**
+	 * Gets the frame ids of this enemy's animation for its status, looking them up only when the status changes or
+	 * the animation gets longer. They are shared between enemies of the same type.
+	 */
+	private int[][] getAnimationFrames(String type) {
+		int length = Math.max(texturePointer, textureLength);
+		if (animationFrames == null || !enemyStatus.equals(animationStatus) || animationFrames[0].length < length) {
+			String prefix = type + enemyStatus;
+			animationFrames = ANIMATION_FRAMES.get(prefix);
+			if (animationFrames == null || animationFrames[0].length < length) {
+				animationFrames = TextureManager.getDirectionalFrameIds(prefix, length);
+				ANIMATION_FRAMES.put(prefix, animationFrames);
+			}
+			animationStatus = enemyStatus;
+		}
+		return animationFrames;
+	}
+
 	/**
 	 * the purpose of method is make a time delay for next texture
 	 * @param milliSeconds i guest just millisecond
@@ -263,6 +299,39 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 	 */
 	public abstract String[] getEnemyType();
 
+	/**
+	 * @return the group of textures for this type of enemy, see TextureManager.acquireTextures(...)
+	 */
+	public String getTextureGroup() {
+		return TextureManager.ENEMY_GROUP + getEnemyType()[0];
+	}
+
+	/**
+	 * Keeps this type of enemy's textures from being unloaded until this enemy leaves the world. Called when the enemy
+	 * is spawned.
+	 */
+	public void acquireTextures() {
+		if (!holdingTextures) {
+			TextureManager.acquireTextures(getTextureGroup());
+			holdingTextures = true;
+		}
+	}
+
+	/**
+	 * Lets this type of enemy's textures be unloaded again, if this enemy is holding on to them
+	 */
+	private void releaseTextures() {
+		if (holdingTextures) {
+			TextureManager.releaseTextures(getTextureGroup());
+			holdingTextures = false;
+		}
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		releaseTextures();
+	}
+
 	/**
 	 * Registers the list of events given with the event manager and unregisters all
 	 * other events for this object
@@ -442,6 +511,7 @@ public abstract class EnemyEntity extends MortalEntity implements HasProgressBar
 		// destroy the enemy & it's events
 		GameManager.get().getWorld().removeEntity(this);
 		GameManager.get().getManager(EventManager.class).unregisterAll(this);
+		releaseTextures();
 		GameManager.get().getManager(WaveManager.class).getActiveWave().reduceTotalEnemiesByOne();
 	}
 
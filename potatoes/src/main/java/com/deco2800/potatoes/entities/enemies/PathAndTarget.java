@@ -2,6 +2,7 @@ package com.deco2800.potatoes.entities.enemies;
 
 import com.deco2800.potatoes.collisions.Shape2D;
 import com.deco2800.potatoes.util.Path;
+import com.deco2800.potatoes.util.PathRequest;
 
 /***
  * Data class for Path and Shape2D variables used by enemies for path finding
@@ -9,6 +10,7 @@ import com.deco2800.potatoes.util.Path;
 public class PathAndTarget {
     private Path path;
     private Shape2D target;
+    private PathRequest pathRequest;
 
     /**
      * Constructor to initialize the class with provided Shape2D target (the target the enemy would like to move
@@ -53,4 +55,21 @@ public class PathAndTarget {
     public void setTarget(Shape2D target) {
         this.target = target;
     }
+
+    /**
+     * @return the request for a new path that hasn't been delivered yet, or null if there isn't one
+     */
+    public PathRequest getPathRequest() {
+        return this.pathRequest;
+    }
+
+    /**
+     * Set the request for a new path that hasn't been delivered yet. Only the path for this request will be
+     * delivered, so setting it to null drops any outstanding request.
+     *
+     * @param pathRequest
+     */
+    public void setPathRequest(PathRequest pathRequest) {
+        this.pathRequest = pathRequest;
+    }
 }
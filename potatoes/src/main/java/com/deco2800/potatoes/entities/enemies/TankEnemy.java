@@ -107,6 +107,7 @@ public class TankEnemy extends EnemyEntity implements Tickable {
 			ParticleType particle =  new BasicParticleType(15000, 1000.0f,
 					0.0f, 256, Color.DARK_GRAY, 4, 1);
 			particle.setSpeed(0.15f);
+			particle.setPriority(ParticleType.Priority.LOW);
 
 			Vector2 pos = Render3D.worldToScreenCoordinates(this.getPosX(), this.getPosY(), 0);
 			int tileWidth = (int) GameManager.get().getWorld().getMap().getProperties().get("tilewidth");
@@ -75,6 +75,7 @@ public class HealingWaveEvent extends TimeEvent<EnemyEntity> {
         ParticleType particle =  new BasicParticleType(25000, 1000.0f,
                 0.0f, 256, Color.GREEN, 6, 6);
         particle.setSpeed(0.47f);
+        particle.setPriority(ParticleType.Priority.HIGH);
 
         Vector2 pos = Render3D.worldToScreenCoordinates(enemy.getPosX(), enemy.getPosY(), 0);
         int tileWidth = (int) GameManager.get().getWorld().getMap().getProperties().get("tilewidth");
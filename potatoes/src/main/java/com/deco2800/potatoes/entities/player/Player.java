@@ -18,6 +18,7 @@ import com.badlogic.gdx.math.Vector3;
 import com.deco2800.potatoes.collisions.Circle2D;
 import com.deco2800.potatoes.entities.AbstractEntity;
 import com.deco2800.potatoes.entities.Direction;
+import com.deco2800.potatoes.entities.EventProgress;
 import com.deco2800.potatoes.entities.Tickable;
 import com.deco2800.potatoes.entities.animation.TimeAnimation;
 import com.deco2800.potatoes.entities.animation.TimeTriggerAnimation;
@@ -80,6 +81,7 @@ public class Player extends MortalEntity implements Tickable, HasProgressBar {
     protected ProjectileTexture projectileTexture=ProjectileTexture.ROCKET;
     //protected Projectile projectile = null;
     protected int respawnTime = 5000;    // Time until respawn in milliseconds
+    private transient RespawnEvent respawnEvent;    // The event the player last respawns at, for the respawn GUI
     private Inventory inventory;
     private boolean holdPosition = false;    // Used to determine if the player should be held in place
 
@@ -247,6 +249,15 @@ public class Player extends MortalEntity implements Tickable, HasProgressBar {
         return this.state;
     }
 
+    /**
+     * Returns the progress of the player's respawn, for the respawn GUI to show while the player is dead.
+     *
+     * @return the event the player last respawns at, or null if the player hasn't died
+     */
+    public EventProgress getRespawnProgress() {
+        return respawnEvent;
+    }
+
     /**
      * This method, unlike the set state method, always resets the state to
      * IDLE. Use this method to clear that state after being in a state like
@@ -612,7 +623,8 @@ public class Player extends MortalEntity implements Tickable, HasProgressBar {
         // get the event manager
         EventManager eventManager = GameManager.get().getManager(EventManager.class);
         // add the respawn event
-        eventManager.registerEvent(this, new RespawnEvent(respawnTime));
+        respawnEvent = new RespawnEvent(respawnTime);
+        eventManager.registerEvent(this, respawnEvent);
 
         GameManager.get().getManager(GuiManager.class).getGui(RespawnGui.class).show();
     }
@@ -2,7 +2,6 @@ package com.deco2800.potatoes.gui;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -51,11 +50,11 @@ public class FadingGui extends Gui implements Tickable{
                 uiSkin);
         
         if (treeState.getTree() instanceof ResourceTree) {
-        		image =  new Image(new TextureRegionDrawable(new TextureRegion(textureManager
-                    .getTexture(	((ResourceTree) treeState.getTree()).defaultTexture))));
+        		image =  new Image(new TextureRegionDrawable(textureManager
+                    .getTextureRegion(	((ResourceTree) treeState.getTree()).defaultTexture)));
         } else {
-        		image =  new Image(new TextureRegionDrawable(new TextureRegion(textureManager
-                    .getTexture(treeState.getTree().getTexture()))));
+        		image =  new Image(new TextureRegionDrawable(textureManager
+                    .getTextureRegion(treeState.getTree().getTexture())));
         }
 
         float x = (stage.getWidth() - image.getImageWidth())/2;
@@ -76,6 +75,7 @@ public class FadingGui extends Gui implements Tickable{
         ParticleType particle =  new BasicParticleType(1000, 2000.0f,
                 0.0f, 512, Color.WHITE, 10, 10);
         particle.setSpeed(1.0f);
+        particle.setPriority(ParticleType.Priority.HIGH);
 
         Player player = GameManager.get().getManager(PlayerManager.class).getPlayer();
         Vector2 pos = Render3D.worldToScreenCoordinates(player.getPosX(), player.getPosY(),
@@ -1,7 +1,6 @@
 package com.deco2800.potatoes.gui;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -49,8 +48,8 @@ public class GameOverGui extends Gui {
         table = new Table(uiSkin);
 
         // Make drawables from textures
-        startDrawable = new TextureRegionDrawable(new TextureRegion(GameManager.get().getManager(TextureManager.class).getTexture("gameOverRestart")));
-        exitDrawable = new TextureRegionDrawable(new TextureRegion(GameManager.get().getManager(TextureManager.class).getTexture("gameOverExit")));
+        startDrawable = new TextureRegionDrawable(GameManager.get().getManager(TextureManager.class).getTextureRegion("gameOverRestart"));
+        exitDrawable = new TextureRegionDrawable(GameManager.get().getManager(TextureManager.class).getTextureRegion("gameOverExit"));
         startButton = new ImageButton(startDrawable);
         exitButton = new ImageButton(exitDrawable);
 
@@ -67,7 +66,7 @@ public class GameOverGui extends Gui {
         exitButton.pad(PADDINGVERTICAL, PADDINGHORIZONTAL, PADDINGVERTICAL, PADDINGHORIZONTAL);
         setupListeners();
 
-        table.setBackground(new TextureRegionDrawable(new TextureRegion(GameManager.get().getManager(TextureManager.class).getTexture("gameOverScreen"))));
+        table.setBackground(new TextureRegionDrawable(GameManager.get().getManager(TextureManager.class).getTextureRegion("gameOverScreen")));
         table.add(primaryButtons).expandX().center().padTop(230);
         table.setVisible(false);
         table.setWidth(stage.getWidth());
@@ -4,7 +4,6 @@ import java.util.HashMap;
 import java.util.TreeMap;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -143,7 +142,7 @@ public class InventoryGui extends Gui {
 		
 		/* Image linking to display sprite */
 		TextureManager textureManager = GameManager.get().getManager(TextureManager.class);
-		Image resourceImage = new Image(new TextureRegionDrawable(new TextureRegion(textureManager.getTexture(resource))));
+		Image resourceImage = new Image(new TextureRegionDrawable(textureManager.getTextureRegion(resource)));
 			
 		resourceImage.setOrigin(50, 50);
 		inventoryTable.add(resourceImage).size(30, 30).pad(2);
@@ -171,8 +170,8 @@ public class InventoryGui extends Gui {
 		for (Resource resource : inventory.getInventoryResources()) {
 			/* Image linking to display sprite */
 			TextureManager textureManager = GameManager.get().getManager(TextureManager.class);
-			Image resourceImage = new Image(new TextureRegionDrawable(new TextureRegion
-					(textureManager.getTexture(resource.getTexture()))));
+			Image resourceImage = new Image(new TextureRegionDrawable(
+					textureManager.getTextureRegion(resource.getTexture())));
 
 			Label resourceLabel = new Label(Integer.toString(inventory.getQuantity
 					(resource)), skin);
@@ -1,7 +1,6 @@
 package com.deco2800.potatoes.gui;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.EventListener;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -90,7 +89,7 @@ public class MainMenuGui extends Gui {
         primaryButtons.add(exitButton).width(buttonWidth).height(buttonHeight).space(buttonSpacing).right();
 
         // Start state
-        startCharacterImage = new Image(new TextureRegion(textureManager.getTexture("caveman_idle_SW_1")));
+        startCharacterImage = new Image(textureManager.getTextureRegion("caveman_idle_SW_1"));
         startCharacterSelect = new SelectBox<String>(uiSkin);
         startCharacterSelect.setItems(capitalisePlayerTypes(PlayerType.names()));
         singleplayerButton = new TextButton("Start Game", uiSkin);
@@ -171,7 +170,7 @@ public class MainMenuGui extends Gui {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
                 GameManager.get().getManager(PlayerManager.class).setPlayerType(PlayerType.valueOf(startCharacterSelect.getSelected().toUpperCase()));
-                startCharacterImage.setDrawable(new TextureRegionDrawable(new TextureRegion(textureManager.getTexture(startCharacterSelect.getSelected().toLowerCase()+"_idle_SW_1"))));
+                startCharacterImage.setDrawable(new TextureRegionDrawable(textureManager.getTextureRegion(startCharacterSelect.getSelected().toLowerCase()+"_idle_SW_1")));
             }
         });
 
@@ -2,7 +2,6 @@ package com.deco2800.potatoes.gui;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -108,21 +107,21 @@ public class PauseMenuGui extends Gui {
         table = new Table(uiSkin);
 
         // Make drawables from textures
-        resumeDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("resumePauseMenu")));
-        optionsDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("optionsPauseMenu")));
-        optionsBackDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("optionsBackButton")));
-        saveDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("savePauseMenu")));
-        exitDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("exitPauseMenu")));
-        helpDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("tutorialPauseMenu")));
+        resumeDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("resumePauseMenu"));
+        optionsDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("optionsPauseMenu"));
+        optionsBackDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("optionsBackButton"));
+        saveDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("savePauseMenu"));
+        exitDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("exitPauseMenu"));
+        helpDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("tutorialPauseMenu"));
 
         
         // Help drawables
-        initialGameplayDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("initialGameplayButton")));
-        treesDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("treesButton")));
-        enemiesDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("enemiesButton")));
-        healthDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("healthButton")));
-        portalsDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("portalsButton")));
-        controlsDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("controlsButton")));
+        initialGameplayDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("initialGameplayButton"));
+        treesDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("treesButton"));
+        enemiesDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("enemiesButton"));
+        healthDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("healthButton"));
+        portalsDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("portalsButton"));
+        controlsDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("controlsButton"));
         
         // Pause State
         resumeButton = new ImageButton(resumeDrawable);
@@ -155,7 +154,7 @@ public class PauseMenuGui extends Gui {
         optionsMusicVolumeLabel = new Label("Music Volume", uiSkin);
         optionsMusicVolumeSlider = new Slider(0f,1f,0.01f,false, uiSkin);
         optionsBackButton = new ImageButton(optionsBackDrawable);
-        optionsBackgroundDrawable = new TextureRegionDrawable(new TextureRegion(textureManager.getTexture("backgroundOptionsMenu")));
+        optionsBackgroundDrawable = new TextureRegionDrawable(textureManager.getTextureRegion("backgroundOptionsMenu"));
         
         // Help button group
 		helpButtonGroup = new VerticalGroup();
@@ -427,7 +426,7 @@ public class PauseMenuGui extends Gui {
             	table.add(helpButtonGroup).expandX().center();;
             	break;
             case INFORMATION:
-            	tutorialDrawable = new Image(new TextureRegionDrawable(new TextureRegion(textureManager.getTexture(tutorialTexture))));
+            	tutorialDrawable = new Image(new TextureRegionDrawable(textureManager.getTextureRegion(tutorialTexture)));
             	table.add(tutorialDrawable).size(450, 490).pad(10);
             	table.row();
             	table.add(slideBackButton).expandX().center();
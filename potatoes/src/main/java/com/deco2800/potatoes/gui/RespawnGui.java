@@ -6,6 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.deco2800.potatoes.entities.EventProgress;
 import com.deco2800.potatoes.managers.*;
 import com.deco2800.potatoes.screens.GameScreen;
 import org.slf4j.Logger;
@@ -83,6 +84,22 @@ public class RespawnGui extends Gui{
         this.count = count;
     }
 
+    /**
+     * Shows the time left until the player respawns. Called every frame, reading the respawn event's progress rather
+     * than having it pushed in every tick.
+     *
+     * @param respawn the progress of the player's respawn
+     */
+    public void update(EventProgress respawn) {
+        int display = (int) Math.round(count / 1000.0) + 1;
+        count = respawn.getProgress();
+        int newDisplay = (int) Math.round(count / 1000.0) + 1;
+        // The label only changes once a second
+        if (newDisplay != display) {
+            timer.setText(Integer.toString(newDisplay));
+        }
+    }
+
 
     @Override
     public void show() {
@@ -6,7 +6,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Circle;
@@ -465,7 +464,7 @@ public class TreeShopGui extends Gui implements SceneGui {
                                          number) {
         // Add entity texture image
         String texture = entry.getKey().getTexture();
-        Image treeImg = new Image(new TextureRegionDrawable(new TextureRegion(textureManager.getTexture(texture))));
+        Image treeImg = new Image(new TextureRegionDrawable(textureManager.getTextureRegion(texture)));
 
         treeImg.setPosition(itemX, itemY);
         treeImg.setWidth(imgSize);
@@ -491,8 +490,7 @@ public class TreeShopGui extends Gui implements SceneGui {
         costContainer.defaults().width(20);
         costContainer.pad(20f);
 
-        Image seedImg = new Image(new TextureRegionDrawable(new TextureRegion
-                (textureManager.getTexture(sprite))));
+        Image seedImg = new Image(new TextureRegionDrawable(textureManager.getTextureRegion(sprite)));
         Label costLbl = new Label(Integer.toString(cost), skin);
 
         offset = calculateDisplacement(radius * 0.86f, itemAngle + 2);
@@ -1,7 +1,6 @@
 package com.deco2800.potatoes.gui;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -160,7 +159,7 @@ public class TutorialGui extends Gui {
     private void resetGui(Stage stage) {
     	
     	// Make drawables from textures
-        tutorialDrawable = new Image(new TextureRegionDrawable(new TextureRegion(textureManager.getTexture(slides[position]))));
+        tutorialDrawable = new Image(new TextureRegionDrawable(textureManager.getTextureRegion(slides[position])));
     	
         // set size and position of table
         table.reset();
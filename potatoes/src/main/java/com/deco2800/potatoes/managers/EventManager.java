@@ -2,57 +2,86 @@ package com.deco2800.potatoes.managers;
 
 import com.deco2800.potatoes.entities.Tickable;
 import com.deco2800.potatoes.entities.TimeEvent;
-import com.deco2800.potatoes.entities.player.Player;
-import com.deco2800.potatoes.gui.Gui;
-import com.deco2800.potatoes.gui.RespawnGui;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manager for all TimeEvents associated with tickable entities. <br>
  * <br>
- * If you know a better way implement this, please change
+ * Registered events are kept in a timing wheel: a ring of slots, one for each millisecond, with each event in the slot
+ * of the millisecond it is next due. This manager's clock goes up by the time given to each tick, and a tick only
+ * visits the slots it passes over, so only the events that are due are touched. The progress of the rest is worked
+ * out from the clock when asked for. Events due more than a turn of the wheel away wait in their slot for the turns
+ * in between. Events are also indexed by their tickable, so unregistering a tickable's events doesn't search through
+ * everyone else's.
  */
 public class EventManager extends Manager implements TickableManager, ForWorld {
 
-	private static class EventPair {
+	// Milliseconds in a turn of the wheel, longer than most events repeat after. A power of 2
+	private static final int WHEEL_SIZE = 4096;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private static class ScheduledEvent {
 		private final Tickable tickable;
 		private final TimeEvent<Tickable> event;
+		private long due;
+		// The slot the event is in, its neighbours in the slot's list, and whether it is in it. It isn't while it is
+		// running
+		private int slot;
+		private ScheduledEvent previous;
+		private ScheduledEvent next;
+		private boolean linked;
+		private boolean registered = true;
 
-		public EventPair(Tickable tickable, TimeEvent<Tickable> event) {
+		private ScheduledEvent(Tickable tickable, TimeEvent<Tickable> event) {
 			this.tickable = tickable;
 			this.event = event;
 		}
 	}
 
-	private List<EventPair> events;
+	private long time;
+	// Each slot's events, in the order they were put in it
+	private final ScheduledEvent[] heads = new ScheduledEvent[WHEEL_SIZE];
+	private final ScheduledEvent[] tails = new ScheduledEvent[WHEEL_SIZE];
+	// Events due in the slot being run, reused every slot
+	private final List<ScheduledEvent> dueEvents = new ArrayList<>();
+	private final Map<TimeEvent<?>, ScheduledEvent> scheduled = new IdentityHashMap<>();
+	private final Map<Tickable, List<ScheduledEvent>> byTickable = new IdentityHashMap<>();
 
 	/**
 	 * Initializes this manager to have no events registered.
 	 */
 	public EventManager() {
-		events = new ArrayList<>();
+		// Nothing registered
 	}
 
 	/**
-	 * Registers the given event with the given entity
+	 * Registers the given event with the given entity. An event already registered is moved to the given entity,
+	 * keeping its progress, rather than running twice.
 	 */
 	public void registerEvent(Tickable tickable, TimeEvent<? extends Tickable> event) {
-		events.add(new EventPair(tickable, (TimeEvent<Tickable>) event));
+		EventManager previous = event.getEventManager();
+		if (previous != null) {
+			previous.remove(previous.scheduled.get(event));
+		}
+		ScheduledEvent scheduledEvent = new ScheduledEvent(tickable, (TimeEvent<Tickable>) event);
+		scheduledEvent.due = time + event.getProgress();
+		scheduled.put(event, scheduledEvent);
+		byTickable.computeIfAbsent(tickable, t -> new ArrayList<>(2)).add(scheduledEvent);
+		event.setEventManager(this);
+		link(scheduledEvent);
 	}
 
 	/**
 	 * Unregisters the given event associated with the given entity
 	 */
 	public void unregisterEvent(Tickable tickable, TimeEvent<? extends Tickable> event) {
-		for (Iterator<EventPair> iterator = events.iterator(); iterator.hasNext();) {
-			EventPair eventPair = iterator.next();
-			if (eventPair.tickable == tickable && eventPair.event == event) {
-				iterator.remove();
-				return; // only removes 1 event
-			}
+		ScheduledEvent scheduledEvent = scheduled.get(event);
+		if (scheduledEvent != null && scheduledEvent.tickable == tickable) {
+			remove(scheduledEvent);
 		}
 	}
 
@@ -60,10 +89,10 @@ public class EventManager extends Manager implements TickableManager, ForWorld {
 	 * Unregisters all events associated with entity
 	 */
 	public void unregisterAll(Tickable tickable) {
-		for (Iterator<EventPair> iterator = events.iterator(); iterator.hasNext();) {
-			EventPair eventPair = iterator.next();
-			if (eventPair.tickable == tickable) {
-				iterator.remove();
+		List<ScheduledEvent> events = byTickable.remove(tickable);
+		if (events != null) {
+			for (ScheduledEvent scheduledEvent : events) {
+				detach(scheduledEvent);
 			}
 		}
 	}
@@ -72,22 +101,10 @@ public class EventManager extends Manager implements TickableManager, ForWorld {
 	 * Ticks all registered events. Completed events will be automatically unregistered
 	 */
 	private void tickAll(long deltaTime) {
-		List<EventPair> finishedEvents = new ArrayList<>();
-		for (int i = 0; i < events.size(); i++) {
-			EventPair eventPair = events.get(i);
-			eventPair.event.decreaseProgress(deltaTime, eventPair.tickable);
-
-			//Gets remaining time before player respawns
-			if(eventPair.tickable instanceof Player){
-				Gui respawnGui =GameManager.get().getManager(GuiManager.class).getGui(RespawnGui.class);
-				((RespawnGui)respawnGui).setCount(eventPair.event.getProgress());
-			}
-			if (eventPair.event.isCompleted()) {
-				finishedEvents.add(eventPair);
-			}
-		}
-		for (EventPair eventPair : finishedEvents) {
-			unregisterEvent(eventPair.tickable, eventPair.event);
+		long end = time + deltaTime;
+		while (time < end) {
+			time++;
+			runSlot((int) (time & WHEEL_MASK));
 		}
 	}
 
@@ -95,11 +112,159 @@ public class EventManager extends Manager implements TickableManager, ForWorld {
 	 * Unregisters all events registerd with this manager
 	 */
 	public void unregisterAll() {
-		events = new ArrayList<>();
+		for (ScheduledEvent scheduledEvent : new ArrayList<>(scheduled.values())) {
+			detach(scheduledEvent);
+		}
+		byTickable.clear();
 	}
 
 	@Override
 	public void onTick(long i) {
 		tickAll(i);
 	}
+
+	/**
+	 * @return the time on this manager's clock, the total of the time it has been ticked by
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * @return the number of events registered
+	 */
+	public int getEventCount() {
+		return scheduled.size();
+	}
+
+	/**
+	 * Gets the progress of an event registered with this manager. Called by the event, which leaves its progress to
+	 * the manager while it is registered.
+	 *
+	 * @param event
+	 *            a registered event
+	 * @return the time until the event is due
+	 */
+	public long getProgress(TimeEvent<?> event) {
+		return scheduled.get(event).due - time;
+	}
+
+	/**
+	 * Sets the progress of an event registered with this manager, moving it in the schedule.
+	 *
+	 * @param event
+	 *            a registered event
+	 * @param progress
+	 *            the time until the event is due
+	 */
+	public void setProgress(TimeEvent<?> event, long progress) {
+		ScheduledEvent scheduledEvent = scheduled.get(event);
+		scheduledEvent.due = time + progress;
+		// Events that are running are put back in the wheel once they finish
+		if (scheduledEvent.linked) {
+			unlink(scheduledEvent);
+			link(scheduledEvent);
+		}
+	}
+
+	/**
+	 * Unregisters an event, removing it from the wheel and its tickable's events
+	 */
+	private void remove(ScheduledEvent scheduledEvent) {
+		List<ScheduledEvent> events = byTickable.get(scheduledEvent.tickable);
+		events.remove(scheduledEvent);
+		if (events.isEmpty()) {
+			byTickable.remove(scheduledEvent.tickable);
+		}
+		detach(scheduledEvent);
+	}
+
+	/**
+	 * Removes an event from the wheel and hands its progress back to it. Doesn't touch the index by tickable
+	 */
+	private void detach(ScheduledEvent scheduledEvent) {
+		if (scheduledEvent.linked) {
+			unlink(scheduledEvent);
+		}
+		scheduled.remove(scheduledEvent.event);
+		scheduledEvent.registered = false;
+		scheduledEvent.event.setEventManager(null);
+		scheduledEvent.event.setProgress((int) (scheduledEvent.due - time));
+	}
+
+	// ----------     Timing wheel     ---------- //
+
+	/**
+	 * Runs the events in a slot that are due, leaving those due on a later turn of the wheel
+	 */
+	private void runSlot(int slot) {
+		for (ScheduledEvent e = heads[slot]; e != null; e = e.next) {
+			if (e.due <= time) {
+				dueEvents.add(e);
+			}
+		}
+		if (dueEvents.isEmpty()) {
+			return;
+		}
+		for (ScheduledEvent e : dueEvents) {
+			unlink(e);
+		}
+		for (int i = 0; i < dueEvents.size(); i++) {
+			ScheduledEvent next = dueEvents.get(i);
+			// Unless an earlier action unregistered it
+			if (next.registered) {
+				run(next);
+			}
+		}
+		dueEvents.clear();
+	}
+
+	private void run(ScheduledEvent next) {
+		next.event.action(next.tickable);
+		// Unless the action unregistered it
+		if (next.registered) {
+			if (next.event.isDoReset()) {
+				// Runs again this tick if it was due more than a reset ago
+				next.due += Math.max(1, next.event.getResetAmount());
+				link(next);
+			} else {
+				next.due = time;
+				remove(next);
+			}
+		}
+	}
+
+	/**
+	 * Puts an event at the end of the slot it is due in. Events already due go in the next slot
+	 */
+	private void link(ScheduledEvent scheduledEvent) {
+		int slot = (int) (Math.max(scheduledEvent.due, time + 1) & WHEEL_MASK);
+		scheduledEvent.slot = slot;
+		scheduledEvent.previous = tails[slot];
+		scheduledEvent.next = null;
+		if (tails[slot] == null) {
+			heads[slot] = scheduledEvent;
+		} else {
+			tails[slot].next = scheduledEvent;
+		}
+		tails[slot] = scheduledEvent;
+		scheduledEvent.linked = true;
+	}
+
+	private void unlink(ScheduledEvent scheduledEvent) {
+		int slot = scheduledEvent.slot;
+		if (scheduledEvent.previous == null) {
+			heads[slot] = scheduledEvent.next;
+		} else {
+			scheduledEvent.previous.next = scheduledEvent.next;
+		}
+		if (scheduledEvent.next == null) {
+			tails[slot] = scheduledEvent.previous;
+		} else {
+			scheduledEvent.next.previous = scheduledEvent.previous;
+		}
+		scheduledEvent.previous = null;
+		scheduledEvent.next = null;
+		scheduledEvent.linked = false;
+	}
 }
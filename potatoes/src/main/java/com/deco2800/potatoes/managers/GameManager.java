@@ -6,9 +6,11 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Game manager manages all the components of the game.
@@ -21,7 +23,18 @@ public class GameManager implements TickableManager {
 
 	private static GameManager instance = null;
 
+	// Each type of manager gets the next index the first time it is looked up or added
+	private static final AtomicInteger typeCount = new AtomicInteger();
+	private static final ClassValue<Integer> typeIndex = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return typeCount.getAndIncrement();
+		}
+	};
+
 	private List<Manager> managers = new ArrayList<>();
+	// The first manager of each type in managers, by type index, so looking one up doesn't search the list
+	private Manager[] managersByType = new Manager[16];
 
 	private World gameWorld;
 	
@@ -55,10 +68,11 @@ public class GameManager implements TickableManager {
 	 */
 	public void addManager(Manager manager) {
 		managers.add(manager);
+		index(manager);
 	}
 
 	/**
-	 * Retrives a manager from the list.
+	 * Retrives a manager from the list, looking it up by type rather than searching the list.
 	 * If the manager does not exist one will be created, added to the list and returned
 	 * @param type The class type (ie SoundManager.class)
 	 * @return A Manager component of the requested type
@@ -66,10 +80,9 @@ public class GameManager implements TickableManager {
 	@SuppressWarnings("unchecked")
 	public <M extends Manager> M getManager(Class<M> type) {
 		/* Check if the manager exists */
-		for (Manager m : managers) {
-			if (m.getClass() == type) {
-				return (M) m;
-			}
+		int index = typeIndex.get(type);
+		if (index < managersByType.length && managersByType[index] != null) {
+			return (M) managersByType[index];
 		}
 
 		/* Otherwise create one */
@@ -81,10 +94,8 @@ public class GameManager implements TickableManager {
 		}
 
 		/* And then return it */
-		for (Manager m : managers) {
-			if (m.getClass() == type) {
-				return (M) m;
-			}
+		if (index < managersByType.length && managersByType[index] != null) {
+			return (M) managersByType[index];
 		}
 		LOGGER.warn("GameManager.get returned null! It shouldn't have!");
 		return null;
@@ -115,6 +126,7 @@ public class GameManager implements TickableManager {
 			for (Manager manager : world.getManagers()) {
 				managers.add(manager);
 			}
+			reindex();
 		}
 		gameWorld = world;
 		
@@ -165,6 +177,32 @@ public class GameManager implements TickableManager {
 	 */
 	public void clearManagers() {
 		managers.clear();
+		Arrays.fill(managersByType, null);
+		// Nothing that acquired textures is left to release them
+		TextureManager.releaseAllTextures();
+	}
+
+	/**
+	 * Adds a manager to the index by type, unless there is already one of its type
+	 */
+	private void index(Manager manager) {
+		int index = typeIndex.get(manager.getClass());
+		if (index >= managersByType.length) {
+			managersByType = Arrays.copyOf(managersByType, Math.max(index + 1, managersByType.length * 2));
+		}
+		if (managersByType[index] == null) {
+			managersByType[index] = manager;
+		}
+	}
+
+	/**
+	 * Rebuilds the index by type from the list of managers
+	 */
+	private void reindex() {
+		Arrays.fill(managersByType, null);
+		for (Manager manager : managers) {
+			index(manager);
+		}
 	}
 
 	/**
@@ -1,8 +1,11 @@
 package com.deco2800.potatoes.managers;
 
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.deco2800.potatoes.renderering.particles.Particle;
 import com.deco2800.potatoes.renderering.particles.ParticleEmitter;
+import com.deco2800.potatoes.renderering.particles.ParticlePool;
+import com.deco2800.potatoes.renderering.particles.ParticleTextureCache;
+import com.deco2800.potatoes.renderering.particles.types.ParticleType;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -12,6 +15,11 @@ import static com.deco2800.potatoes.util.MathUtil.compareFloat;
 
 public class ParticleManager extends Manager implements TickableManager {
 
+    // Most particles alive at once across every emitter, unless changed with setParticleLimit(...)
+    public static final int DEFAULT_PARTICLE_LIMIT = 200000;
+    // How far off screen (in pixels) an emitter can be and still count as on screen, as its particles spread out
+    private static final float SCREEN_MARGIN = 200.0f;
+
     public class EmitterContainer {
         public ParticleEmitter emitter;
         public float maxLifeTime;
@@ -23,19 +31,28 @@ public class ParticleManager extends Manager implements TickableManager {
     // Emitters currently active
     private List<EmitterContainer> emitters;
 
-    private List<Particle> particlePool;
+    // Storage for every particle, grows as needed
+    private ParticlePool particlePool;
+
+    // Sprites for particles without a texture, shared between emitters
+    private ParticleTextureCache textureCache;
 
     /**
      * Initializes the particle manager.
      */
     public ParticleManager() {
-        emitters = new ArrayList<>();
+        this(new ParticleTextureCache());
+    }
 
-        // Initialize our pool of particles
-        particlePool = new ArrayList<>();
-        for (int i = 0; i < 1000000; ++i) {
-            particlePool.add(new Particle());
-        }
+    /**
+     * Initializes the particle manager with the given sprite cache.
+     * @param textureCache cache for the sprites of particles without a texture
+     */
+    public ParticleManager(ParticleTextureCache textureCache) {
+        emitters = new ArrayList<>();
+        particlePool = new ParticlePool();
+        particlePool.setLimit(DEFAULT_PARTICLE_LIMIT);
+        this.textureCache = textureCache;
     }
 
     /**
@@ -48,20 +65,26 @@ public class ParticleManager extends Manager implements TickableManager {
         EmitterContainer con = new EmitterContainer();
         con.maxLifeTime = lifeTime;
         con.emitter = e;
+        e.acquireSprites(textureCache);
         emitters.add(con);
     }
 
     /**
-     * Ticks all active particle emitters and their particles
+     * Ticks all active particle emitters and their particles.
+     *
+     * Before each emitter is ticked its spawn rates are scaled, by the priority of each particle type, how close the
+     * number of live particles is to the limit, and whether the emitter is on screen.
      * @param deltaTime tick delta
      */
     @Override
     public void onTick(long deltaTime) {
         Iterator<EmitterContainer> emitterIterator = emitters.iterator();
+        OrthographicCamera camera = GameManager.get().getManager(CameraManager.class).getCamera();
 
         while (emitterIterator.hasNext()) {
             EmitterContainer e = emitterIterator.next();
 
+            scaleSpawnRates(e.emitter, camera);
             e.emitter.onTick(deltaTime, particlePool);
 
             if (!compareFloat(e.maxLifeTime, 0.0f)) {
@@ -72,6 +95,7 @@ public class ParticleManager extends Manager implements TickableManager {
             if (e.toRemove || (e.currentLifeTime >= e.maxLifeTime && !compareFloat(e.maxLifeTime, 0))) {
                 e.toRemove = true;
                 if (!e.emitter.hasParticles()) {
+                    e.emitter.releaseSprites(textureCache);
                     emitterIterator.remove();
                 }
 
@@ -80,17 +104,51 @@ public class ParticleManager extends Manager implements TickableManager {
         }
     }
 
+    /**
+     * Sets the spawn scale of each of the emitter's particle types
+     * @param emitter the emitter about to be ticked
+     * @param camera the camera, or null if there isn't one
+     */
+    private void scaleSpawnRates(ParticleEmitter emitter, OrthographicCamera camera) {
+        float load = particlePool.getLimit() == 0 ? 1.0f
+                : (float) particlePool.getLiveCount() / particlePool.getLimit();
+        boolean emitterOnScreen = isOnScreen(emitter.getOriginX(), emitter.getOriginY(), camera);
+        for (ParticleType type : emitter.getParticleTypes()) {
+            boolean onScreen = emitterOnScreen || !type.spawnsAtOrigin();
+            type.setSpawnScale(type.getPriority().getSpawnScale(load, onScreen));
+        }
+    }
+
+    /**
+     * @return if the point (in screen coordinates) is within SCREEN_MARGIN of the camera's view. Always true without
+     *         a camera
+     */
+    private static boolean isOnScreen(float x, float y, OrthographicCamera camera) {
+        if (camera == null) {
+            return true;
+        }
+        float halfWidth = camera.viewportWidth * camera.zoom / 2 + SCREEN_MARGIN;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2 + SCREEN_MARGIN;
+        return Math.abs(x - camera.position.x) <= halfWidth && Math.abs(y - camera.position.y) <= halfHeight;
+    }
+
     /**
      * Draw's all particles
      * @param batch batch to draw with (will ensure the state of the batch is returned to normal after)
      */
     public void draw(SpriteBatch batch) {
         // batch begin here so we batch all emitters together for efficiency!
-        batch.begin();
+        // (unless the caller is already drawing with it, then carry on in the same batch)
+        boolean begun = !batch.isDrawing();
+        if (begun) {
+            batch.begin();
+        }
         for (EmitterContainer emitter : emitters) {
             emitter.emitter.draw(batch);
         }
-        batch.end();
+        if (begun) {
+            batch.end();
+        }
     }
 
     /**
@@ -126,6 +184,7 @@ public class ParticleManager extends Manager implements TickableManager {
 
             if (e == emitter) {
                 e.forceStop();
+                e.releaseSprites(textureCache);
                 emitterIterator.remove();
                 return;
             }
@@ -138,4 +197,61 @@ public class ParticleManager extends Manager implements TickableManager {
     public List<EmitterContainer> getEmitters() {
         return emitters;
     }
+
+    /**
+     * @return the pool all particles are stored in
+     */
+    public ParticlePool getParticlePool() {
+        return particlePool;
+    }
+
+    /**
+     * @return the most particles alive at once
+     */
+    public int getParticleLimit() {
+        return particlePool.getLimit();
+    }
+
+    /**
+     * Sets the most particles alive at once. Spawning is cut back as the number of live particles nears this.
+     * @param limit the new limit, between 0 and ParticlePool.MAX_PARTICLES
+     */
+    public void setParticleLimit(int limit) {
+        particlePool.setLimit(limit);
+    }
+
+    /**
+     * @return the number of particles currently alive
+     */
+    public int getLiveParticles() {
+        return particlePool.getLiveCount();
+    }
+
+    /**
+     * @return the number of particles spawned since this manager was created
+     */
+    public long getSpawnedParticles() {
+        return particlePool.getSpawnedCount();
+    }
+
+    /**
+     * @return the number of particles not spawned due to load or being off screen
+     */
+    public long getCulledParticles() {
+        return particlePool.getCulledCount();
+    }
+
+    /**
+     * @return the number of particles not spawned because the particle limit was reached
+     */
+    public long getDroppedParticles() {
+        return particlePool.getDroppedCount();
+    }
+
+    /**
+     * @return the cache of sprites for particles without a texture
+     */
+    public ParticleTextureCache getTextureCache() {
+        return textureCache;
+    }
 }
@@ -1,44 +1,106 @@
 package com.deco2800.potatoes.managers;
 
+import com.badlogic.gdx.utils.IntArray;
+import com.deco2800.potatoes.collisions.Box2D;
 import com.deco2800.potatoes.collisions.Shape2D;
 import com.deco2800.potatoes.collisions.Point2D;
 import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.entities.enemies.PathAndTarget;
+import com.deco2800.potatoes.observers.StaticEntityObserver;
+import com.deco2800.potatoes.util.FlowField;
 import com.deco2800.potatoes.util.Line;
 import com.deco2800.potatoes.util.MinimumSpanningTree;
+import com.deco2800.potatoes.util.ObstacleIndex;
 import com.deco2800.potatoes.util.Path;
+import com.deco2800.potatoes.util.PathRequest;
 import com.deco2800.potatoes.worlds.World;
+import com.deco2800.potatoes.worlds.terrain.Terrain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 
 
 /**
  * Object to manage the creation and allocation of paths for enemies to follow.
  */
-public class PathManager extends Manager implements ForWorld {
-    /* The PathManager stores a minimum spanning tree, representing all the internode connections that can be used to
-     * create paths. This is represented as a hashmap in memory, where the keys are nodes, and the values are the
-     * parent nodes of the keys within the minimum spanning tree.
-     *
-     * This tree is centered around the node storing the player's location for now, though in future that will be
-     * expanded so that multiple different goals can be set.
+public class PathManager extends Manager implements TickableManager, ForWorld, StaticEntityObserver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PathManager.class);
+
+    /* The PathManager stores a graph of random nodes, with edges between every pair of nodes that can see each
+     * other. Paths are found by connecting the start and goal to the graph and searching it with A*. Edge weights
+     * are cached, and only recalculated near static entities as they are added and removed.
      */
-    private Map<Point2D, Point2D> spanningTree;
     private MinimumSpanningTree treeMaker;
     private ArrayDeque<Point2D> nodes;
-    private ArrayDeque<Point2D> path;
     private static final int NUMBER_OF_RANDOM_NODES = 100;
 
+    // The world whose static entities are being watched, and an index of them for checking lines of sight.
+    private World observedWorld;
+    private ObstacleIndex obstacles;
+
+    /* Enemies mostly head for the same few goals, so rather than a path each, they share a flow field per goal over
+     * the world grid. The fields share one array of cell costs, taken from the terrain and the static entities in
+     * the world, which is kept up to date as static entities are added and removed. A goal's field is dropped when
+     * the goal is removed from the world, and only the most recently used fields are kept, so goals that are no
+     * longer targeted don't hold on to a field that has to be updated forever.
+     */
+    public static final int MAX_FLOW_FIELDS = 16;
+    private Map<AbstractEntity, FlowField> flowFields;
+    // Goals with a flow field, least recently used first.
+    private List<AbstractEntity> flowFieldGoals;
+    private float[] cellCosts;
+    // Number of static entities covering each cell.
+    private int[] cellBlockers;
+    // Cells whose costs have changed since the flow fields were last updated.
+    private IntArray changedCells;
+
+    /* Paths can also be requested rather than generated straight away. Requests are queued, then solved by a pool of
+     * worker threads, each searching its own copy of a snapshot of the graph and obstacles. The snapshot is replaced
+     * whenever the obstacles change. Solved paths are handed back to the requester on a later tick. Without worker
+     * threads, requests are solved on the game thread each tick until the tick's time budget is used up.
+     *
+     * Managers are never torn down when their world is left, so the worker threads are shared by every PathManager,
+     * sized for whichever one last handed them requests, and stop when they have been idle for a while.
+     */
+    private static final float DEFAULT_TICK_BUDGET = 2;
+    private static final int DEFAULT_WORKER_THREADS = 1;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 10;
+    private static final ThreadPoolExecutor WORKERS = createWorkers();
+    private float tickBudget = DEFAULT_TICK_BUDGET;
+    private int workerThreads = DEFAULT_WORKER_THREADS;
+    private MinimumSpanningTree snapshot;
+    // Each worker's copy of the snapshot it last searched.
+    private final ThreadLocal<MinimumSpanningTree[]> workerGraphs = new ThreadLocal<>();
+    // Requests waiting to be solved, only used on the game thread.
+    private Queue<PathRequest> queuedRequests;
+    // Requests which have been solved, waiting to be delivered.
+    private Queue<PathRequest> solvedRequests;
+    // Number of requests made but not yet delivered or dropped.
+    private int queueDepth;
+    private long deliveredRequests;
+    private long totalLatency;
+    private long maxLatency;
+
 
     /**
      * Basic constructor.
      */
     public PathManager() {
-        spanningTree = new HashMap<>();
         nodes = new ArrayDeque<>();
-        path = new ArrayDeque<>();
+        flowFields = new IdentityHashMap<>();
+        flowFieldGoals = new ArrayList<>();
+        changedCells = new IntArray();
+        queuedRequests = new ArrayDeque<>();
+        solvedRequests = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -48,7 +110,8 @@ public class PathManager extends Manager implements ForWorld {
 
     public void initialise() {
 
-        World world = GameManager.get().getWorld();
+        watchWorld();
+        World world = observedWorld;
 
         nodes.clear();
         // Add place holder nodes at positions 0 and 1
@@ -67,6 +130,7 @@ public class PathManager extends Manager implements ForWorld {
 
         // Create a new minimum spanning tree
         treeMaker = new MinimumSpanningTree(nodes.size());
+        treeMaker.setObstacles(obstacles);
         // Add the nodes to the vertexList.
         int i = 0;
         for (Point2D node: nodes) {
@@ -76,6 +140,7 @@ public class PathManager extends Manager implements ForWorld {
         // Calculate edge weights in graph matrix
         // based on static enemies.
         treeMaker.initGraphWeightMatrix();
+        snapshot = null;
     }
 
     /**
@@ -91,49 +156,466 @@ public class PathManager extends Manager implements ForWorld {
         Point2D replaceStart = new Point2D(start.getX(), start.getY());
         Point2D replaceGoal = new Point2D(goal.getX(), goal.getY());
 
-        path.clear();
-        Point2D next;
         // Create line between start and goal.
         Line line = new Line(start.getX(), start.getY(), goal.getX(), goal.getY());
         // Check if this line has a clear path.
         if (!collides(line)) {
             // line is not obstructed.
-            //path.add(replaceStart);
+            ArrayDeque<Point2D> path = new ArrayDeque<>();
             path.add(replaceGoal);
             return new Path(path);
         }
-        // Check if the spanning tree has been initialise.
-        if (spanningTree.size() == 0) {
+        // Check if the graph has been initialised (collides has made sure it is for this world).
+        if (treeMaker == null) {
             initialise();
         }
-        // build the minimum spanning tree from the graph - and set the spanningTree variable
-        spanningTree = treeMaker.createTree(replaceGoal, replaceStart);
-        // Add the starting point to the path.
+        // Find the shortest path through the graph, ending at the goal.
+        return new Path(treeMaker.findPath(replaceGoal, replaceStart));
+    }
+
+    /**
+     * Requests a path to be found in the background, instead of waiting for it like {@code generatePath}. Once it is
+     * ready, on a later tick, the path is given to the receiver, unless the receiver has been given another request
+     * since.
+     *
+     * @param start The starting point of the entity - where the path is going to begin.
+     * @param goal  The goal of the entity - where the path is going to end.
+     * @param receiver Where to put the path, which is also given this request. May be null.
+     * @return The request, which holds the path once it has been found.
+     */
+    public PathRequest requestPath(Shape2D start, Shape2D goal, PathAndTarget receiver) {
+        PathRequest request = new PathRequest(start, goal, receiver);
+        if (receiver != null) {
+            receiver.setPathRequest(request);
+        }
+        queuedRequests.add(request);
+        queueDepth++;
+        return request;
+    }
+
+    /**
+     * Solves or hands off the queued path requests, and delivers any paths that are ready.
+     *
+     * @param i The current tick.
+     */
+    @Override
+    public void onTick(long i) {
+        long deadline = System.nanoTime() + (long) (tickBudget * 1000000);
+        if (!queuedRequests.isEmpty()) {
+            if (workerThreads > 0) {
+                submitRequests();
+            } else {
+                solveRequests(deadline);
+            }
+        }
+        deliverRequests();
+    }
+
+    /**
+     * Solves queued requests on the game thread until the deadline has passed, always solving at least one.
+     */
+    private void solveRequests(long deadline) {
+        while (!queuedRequests.isEmpty()) {
+            PathRequest request = queuedRequests.poll();
+            if (!isWanted(request)) {
+                continue;
+            }
+            ensureGraph();
+            request.setPath(solve(treeMaker, request));
+            solvedRequests.add(request);
+            if (System.nanoTime() >= deadline) {
+                return;
+            }
+        }
+    }
 
-        // Add extra path points as needed.
-        // Set next as the value returned from start as
-        // the key to spanningTree.
-        next = spanningTree.get(start);
-        while (next != null && !next.equals(goal)) {
-            path.add(next);
-            next = spanningTree.get(next);
+    /**
+     * Hands every queued request to the worker threads, along with the current snapshot of the graph.
+     */
+    private void submitRequests() {
+        resizeWorkers(workerThreads);
+        if (snapshot == null) {
+            ensureGraph();
+            // Made on the game thread from masks captured by the obstacle index, so workers never read entities
+            snapshot = new MinimumSpanningTree(treeMaker);
+        }
+        MinimumSpanningTree template = snapshot;
+        while (!queuedRequests.isEmpty()) {
+            PathRequest request = queuedRequests.poll();
+            if (isWanted(request)) {
+                WORKERS.execute(() -> {
+                    request.setPath(solve(workerGraph(template), request));
+                    solvedRequests.add(request);
+                });
+            }
         }
-        path.add(replaceGoal);
-        return new Path(path);
+    }
+
+    /**
+     * Creates the shared pool of daemon worker threads, which don't keep any threads while idle.
+     */
+    private static ThreadPoolExecutor createWorkers() {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(DEFAULT_WORKER_THREADS, DEFAULT_WORKER_THREADS,
+                WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "path-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        workers.allowCoreThreadTimeOut(true);
+        return workers;
+    }
+
+    /**
+     * Sets the number of shared worker threads. Requests already handed to them are still solved.
+     */
+    private static synchronized void resizeWorkers(int threads) {
+        if (WORKERS.getMaximumPoolSize() == threads) {
+            return;
+        }
+        // The core size can never be more than the maximum
+        if (threads > WORKERS.getMaximumPoolSize()) {
+            WORKERS.setMaximumPoolSize(threads);
+            WORKERS.setCorePoolSize(threads);
+        } else {
+            WORKERS.setCorePoolSize(threads);
+            WORKERS.setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * @return The number of worker threads currently running, shared by every PathManager
+     */
+    public static int getRunningWorkerThreads() {
+        return WORKERS.getPoolSize();
+    }
+
+    /**
+     * Returns true if the request still has someone waiting for it, otherwise it is dropped.
+     */
+    private boolean isWanted(PathRequest request) {
+        PathAndTarget receiver = request.getReceiver();
+        if (receiver != null && receiver.getPathRequest() != request) {
+            queueDepth--;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the calling worker thread's copy of the given snapshot, copying it if the snapshot has changed.
+     */
+    private MinimumSpanningTree workerGraph(MinimumSpanningTree template) {
+        MinimumSpanningTree[] graphs = workerGraphs.get();
+        if (graphs == null || graphs[0] != template) {
+            graphs = new MinimumSpanningTree[] { template, new MinimumSpanningTree(template) };
+            workerGraphs.set(graphs);
+        }
+        return graphs[1];
+    }
+
+    /**
+     * Finds the path for a request through the given graph. If that fails, the path just heads straight for the goal.
+     */
+    private static Path solve(MinimumSpanningTree graph, PathRequest request) {
+        Point2D start = request.getStart();
+        Point2D goal = request.getGoal();
+        try {
+            if (!graph.checkLineClash(new Line(start, goal))) {
+                ArrayDeque<Point2D> path = new ArrayDeque<>();
+                path.add(goal);
+                return new Path(path);
+            }
+            return new Path(graph.findPath(goal, start));
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to find path", e);
+            ArrayDeque<Point2D> path = new ArrayDeque<>();
+            path.add(goal);
+            return new Path(path);
+        }
+    }
+
+    /**
+     * Hands the solved paths to their receivers and records how long they took.
+     */
+    private void deliverRequests() {
+        PathRequest request;
+        while ((request = solvedRequests.poll()) != null) {
+            queueDepth--;
+            long latency = System.nanoTime() - request.getRequestTime();
+            deliveredRequests++;
+            totalLatency += latency;
+            maxLatency = Math.max(maxLatency, latency);
+
+            PathAndTarget receiver = request.getReceiver();
+            if (receiver != null && receiver.getPathRequest() == request) {
+                receiver.setPath(request.getPath());
+                receiver.setTarget(null);
+                receiver.setPathRequest(null);
+            }
+        }
+    }
+
+    /**
+     * Makes sure the graph has been built for the current world.
+     */
+    private void ensureGraph() {
+        watchWorld();
+        if (treeMaker == null) {
+            initialise();
+        }
+    }
+
+    /**
+     * Sets the time the game thread may spend solving requests each tick, when there are no worker threads.
+     *
+     * @param milliseconds The budget per tick.
+     */
+    public void setTickBudget(float milliseconds) {
+        tickBudget = milliseconds;
+    }
+
+    /**
+     * @return The time the game thread may spend solving requests each tick, in milliseconds
+     */
+    public float getTickBudget() {
+        return tickBudget;
+    }
+
+    /**
+     * Sets the number of worker threads requests are solved on. With none, requests are solved on the game thread.
+     * Requests already handed to the workers are still delivered.
+     *
+     * @param threads The number of worker threads, at least 0.
+     */
+    public void setWorkerThreads(int threads) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Number of worker threads can't be negative");
+        }
+        workerThreads = threads;
+    }
+
+    /**
+     * @return The number of worker threads requests are solved on
+     */
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * @return The number of requests waiting to be solved or delivered
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @return The number of requests delivered so far
+     */
+    public long getDeliveredRequests() {
+        return deliveredRequests;
+    }
+
+    /**
+     * @return The average time from requesting a path to it being delivered, in milliseconds
+     */
+    public float getAverageLatency() {
+        return deliveredRequests == 0 ? 0 : totalLatency / 1e6f / deliveredRequests;
+    }
+
+    /**
+     * @return The longest time from requesting a path to it being delivered, in milliseconds
+     */
+    public float getMaxLatency() {
+        return maxLatency / 1e6f;
     }
 
     private boolean collides(Line line) {
-        boolean output = false;
-
-        for (AbstractEntity e : GameManager.get().getWorld().getEntities().values()) {
-            if (e.isStatic() &&
-                    0 > e.getMask().distance(line.getEndPointOne().getX(), line.getEndPointOne().getY(), 
-                        line.getEndPointTwo().getX(), line.getEndPointTwo().getY())) {
-                output = true;
-                break;
+        watchWorld();
+        return obstacles.blocksLine(line);
+    }
+
+    /**
+     * Starts watching the static entities in the current world, if it has changed since this was last called. Any
+     * graphs or fields for the previous world are thrown away.
+     */
+    private void watchWorld() {
+        World world = GameManager.get().getWorld();
+        if (world == observedWorld) {
+            return;
+        }
+        if (observedWorld != null) {
+            observedWorld.removeStaticEntityObserver(this);
+        }
+        observedWorld = world;
+        treeMaker = null;
+        snapshot = null;
+
+        List<AbstractEntity> staticEntities = new ArrayList<>();
+        for (AbstractEntity entity : world.getEntities().values()) {
+            if (entity.isStatic() && entity.isSolid()) {
+                staticEntities.add(entity);
+            }
+        }
+        obstacles = new ObstacleIndex();
+        obstacles.addAll(staticEntities);
+        initialiseFlowFields(world, staticEntities);
+        world.addStaticEntityObserver(this);
+    }
+
+    /**
+     * Gets the flow field leading to the given goal in the current world, creating it if needed. The field follows
+     * the goal if it has moved since it was last requested.
+     *
+     * @param goal The entity to find routes to.
+     * @return The flow field for the goal, which should not be kept between ticks.
+     */
+    public FlowField getFlowField(AbstractEntity goal) {
+        watchWorld();
+        World world = observedWorld;
+        if (changedCells.size > 0) {
+            for (FlowField field : flowFields.values()) {
+                field.update(changedCells);
+            }
+            changedCells.clear();
+        }
+
+        FlowField field = flowFields.get(goal);
+        if (field == null) {
+            if (flowFields.size() >= MAX_FLOW_FIELDS) {
+                removeFlowField(flowFieldGoals.get(0));
+            }
+            field = new FlowField(world.getWidth(), world.getLength(), cellCosts);
+            flowFields.put(goal, field);
+            flowFieldGoals.add(goal);
+        } else if (flowFieldGoals.get(flowFieldGoals.size() - 1) != goal) {
+            removeFlowFieldGoal(goal);
+            flowFieldGoals.add(goal);
+        }
+        field.setGoal(goal.getMask());
+        return field;
+    }
+
+    /**
+     * Forgets the flow field for the given goal, for when it is no longer a target.
+     */
+    public void removeFlowField(AbstractEntity goal) {
+        if (flowFields.remove(goal) != null) {
+            removeFlowFieldGoal(goal);
+        }
+    }
+
+    /**
+     * Removes the goal from the flow field goals. Entities are compared by identity, as their equality changes when
+     * they move.
+     */
+    private void removeFlowFieldGoal(AbstractEntity goal) {
+        for (int i = 0; i < flowFieldGoals.size(); i++) {
+            if (flowFieldGoals.get(i) == goal) {
+                flowFieldGoals.remove(i);
+                return;
             }
         }
+    }
 
-        return output;
+    @Override
+    public void notifyStaticEntityAdded(AbstractEntity entity) {
+        if (observedWorld == null) {
+            return;
+        }
+        obstacles.add(entity);
+        snapshot = null;
+        if (treeMaker != null) {
+            treeMaker.updateEdgesNear(entity.getMask());
+        }
+        updateBlockers(entity, 1);
+    }
+
+    @Override
+    public void notifyStaticEntityRemoved(AbstractEntity entity) {
+        if (observedWorld == null) {
+            return;
+        }
+        obstacles.remove(entity);
+        snapshot = null;
+        if (treeMaker != null) {
+            treeMaker.updateEdgesNear(entity.getMask());
+        }
+        updateBlockers(entity, -1);
+    }
+
+    @Override
+    public void notifyEntityRemoved(AbstractEntity entity) {
+        // Nothing can head for it any more
+        removeFlowField(entity);
+    }
+
+    /**
+     * Sets up the cell costs for the given world from its terrain and static entities.
+     */
+    private void initialiseFlowFields(World world, List<AbstractEntity> staticEntities) {
+        flowFields.clear();
+        flowFieldGoals.clear();
+        changedCells.clear();
+
+        int width = world.getWidth();
+        int length = world.getLength();
+        cellCosts = new float[width * length];
+        cellBlockers = new int[width * length];
+        for (int y = 0; y < length; y++) {
+            for (int x = 0; x < width; x++) {
+                cellCosts[y * width + x] = terrainCost(world, x, y);
+            }
+        }
+        for (AbstractEntity entity : staticEntities) {
+            updateBlockers(entity, 1);
+        }
+        // The fields are built after this, so nothing has changed yet
+        changedCells.clear();
+    }
+
+    /**
+     * Returns the cost of moving through the terrain at a cell, infinite if it can't be walked on.
+     */
+    private static float terrainCost(World world, int x, int y) {
+        Terrain terrain = world.getTerrain(x, y);
+        float moveScale = terrain == null ? 1 : terrain.getMoveScale();
+        return moveScale > 0 ? 1 / moveScale : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Adds change to the number of blockers on each cell covered by the entity, updating the costs of any cells
+     * that become blocked or unblocked.
+     */
+    private void updateBlockers(AbstractEntity entity, int change) {
+        World world = observedWorld;
+        int width = world.getWidth();
+        int length = world.getLength();
+        Shape2D mask = entity.getMask();
+        Optional<Box2D> bounds = mask.getBoundingBox();
+        float halfX = bounds.isPresent() ? bounds.get().getXLength() / 2 : 0;
+        float halfY = bounds.isPresent() ? bounds.get().getYLength() / 2 : 0;
+        // Cells only touched by the edge of the entity aren't blocked
+        int minX = Math.max((int) Math.floor(mask.getX() - halfX), 0);
+        int minY = Math.max((int) Math.floor(mask.getY() - halfY), 0);
+        int maxX = Math.min(Math.max((int) Math.ceil(mask.getX() + halfX) - 1, minX), width - 1);
+        int maxY = Math.min(Math.max((int) Math.ceil(mask.getY() + halfY) - 1, minY), length - 1);
+
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                int cell = y * width + x;
+                if (change < 0 && cellBlockers[cell] == 0) {
+                    // Wasn't counted when it was added, e.g. it was made static afterwards
+                    continue;
+                }
+                cellBlockers[cell] += change;
+                if (cellBlockers[cell] == 1 && change > 0) {
+                    cellCosts[cell] = Float.POSITIVE_INFINITY;
+                    changedCells.add(cell);
+                } else if (cellBlockers[cell] == 0 && change < 0) {
+                    cellCosts[cell] = terrainCost(world, x, y);
+                    changedCells.add(cell);
+                }
+            }
+        }
     }
 }
@@ -6,10 +6,23 @@ import org.slf4j.LoggerFactory;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * SoundManager
  * Required to play sounds in the game engine.
+ * <p>
+ * Sound effects are decoded once and kept until dispose(). Only a few of each
+ * can play at once, the oldest being stopped to make room for a new one, and
+ * the same effect played more than once in a frame is only played once.
  * @Author Tim Hadwen
  */
 
@@ -29,18 +42,190 @@ public class SoundManager extends Manager {
 	private Music music;
 
 	/**
-	 * Plays sound effects file at resources/sounds/soundString.
+	 * Sound effects played during the game, loaded by preloadSounds() so the first time each plays doesn't stall
+	 */
+	public static final String[] GAME_SOUNDS = {"attack.wav", "damage.wav", "death.wav", "interact.wav",
+			"harvesting.mp3", "tankEnemyFootstep.wav", "seedResourceDestroyed.wav", "foodResourceDestroyed.wav",
+			"respawnEvent.wav", "warpSound.wav", "menu_blip.wav", "/walking/walk1.wav", "/walking/walk2.wav",
+			"/walking/walk3.wav", "/walking/walk4.wav"};
+
+	/**
+	 * How many of the same sound effect can play at once, unless set otherwise with setVoiceLimit(...)
+	 */
+	public static final int DEFAULT_VOICE_LIMIT = 4;
+
+	/**
+	 * libGDX can't tell when a sound has finished, so each is assumed to have after this long. Most effects are
+	 * shorter
+	 */
+	private static final long VOICE_MILLIS = 1500;
+
+	// Decoded sound effects, by file. Null for those that couldn't be loaded
+	private final Map<String, Sound> sounds = new HashMap<>();
+	private final Map<String, Integer> voiceLimits = new HashMap<>();
+	// Voices of each sound that may still be playing, oldest first
+	private final Map<String, Deque<Voice>> voices = new HashMap<>();
+	// Sounds played this frame, any more plays of which are left out
+	private final Set<String> playedThisFrame = new HashSet<>();
+	private long frame = -1;
+
+	private int cacheHits;
+	private int cacheMisses;
+	private int coalescedPlays;
+	private int droppedVoices;
+
+	/**
+	 * A sound effect playing
+	 */
+	private static class Voice {
+		private final long id;
+		private final long startTime;
+
+		private Voice(long id, long startTime) {
+			this.id = id;
+			this.startTime = startTime;
+		}
+	}
+
+	/**
+	 * Plays sound effects file at resources/sounds/soundString. If it has already been played this frame, it isn't
+	 * played again, and if too many of it are playing the oldest is stopped.
 	 */
 	public void playSound(String soundString) {
-		LOGGER.info("Playing sound effect");
+		if (Gdx.graphics != null && Gdx.graphics.getFrameId() != frame) {
+			frame = Gdx.graphics.getFrameId();
+			playedThisFrame.clear();
+		}
+		if (!playedThisFrame.add(soundString)) {
+			coalescedPlays++;
+			return;
+		}
+
+		Sound sound = getSound(soundString);
+		if (sound == null) {
+			return;
+		}
+		long now = TimeUtils.millis();
+		Deque<Voice> playing = voices.computeIfAbsent(soundString, s -> new ArrayDeque<>());
+		while (!playing.isEmpty() && now - playing.peekFirst().startTime > VOICE_MILLIS) {
+			playing.removeFirst();
+		}
+		if (playing.size() >= getVoiceLimit(soundString)) {
+			// Steal the oldest voice
+			sound.stop(playing.removeFirst().id);
+			droppedVoices++;
+		}
+		long id = sound.play(effectsVolume);
+		if (id == -1) {
+			// Every voice the sound device has is in use
+			droppedVoices++;
+		} else {
+			playing.addLast(new Voice(id, now));
+		}
+	}
+
+	/**
+	 * Decodes sound effects now, rather than the first time they are played.
+	 *
+	 * @param soundStrings files in resources/sounds
+	 */
+	public void preloadSounds(String... soundStrings) {
+		for (String soundString : soundStrings) {
+			if (!sounds.containsKey(soundString)) {
+				loadSound(soundString);
+			}
+		}
+	}
+
+	/**
+	 * Gets a decoded sound effect, loading it if it hasn't been
+	 */
+	private Sound getSound(String soundString) {
+		if (sounds.containsKey(soundString)) {
+			cacheHits++;
+			return sounds.get(soundString);
+		}
+		cacheMisses++;
+		return loadSound(soundString);
+	}
+
+	private Sound loadSound(String soundString) {
+		Sound sound = null;
 		try {
-			Sound sound = Gdx.audio.newSound(Gdx.files.internal("sounds/" + soundString));
-			sound.play(effectsVolume);
+			LOGGER.info("Loading sound effect " + soundString);
+			sound = Gdx.audio.newSound(Gdx.files.internal("sounds/" + soundString));
 		}
-		catch (NullPointerException ex) {
-			LOGGER.warn("Failed to play sound effect");
+		catch (NullPointerException | GdxRuntimeException ex) {
+			LOGGER.warn("Failed to load sound effect " + soundString);
 			// Sound doesn't exist, or we have no sound device (i.e. on jenkins)
 		}
+		// Failures are kept too, so they aren't tried again every time
+		sounds.put(soundString, sound);
+		return sound;
+	}
+
+	/**
+	 * Sets how many of a sound effect can play at once.
+	 *
+	 * @param soundString file in resources/sounds
+	 * @param limit       the most voices of the sound, at least 1
+	 */
+	public void setVoiceLimit(String soundString, int limit) {
+		voiceLimits.put(soundString, Math.max(1, limit));
+	}
+
+	/**
+	 * Gets how many of a sound effect can play at once.
+	 */
+	public int getVoiceLimit(String soundString) {
+		return voiceLimits.getOrDefault(soundString, DEFAULT_VOICE_LIMIT);
+	}
+
+	/**
+	 * Gets how many times a sound effect played was already loaded.
+	 */
+	public int getCacheHits() {
+		return cacheHits;
+	}
+
+	/**
+	 * Gets how many times a sound effect played had to be loaded first.
+	 */
+	public int getCacheMisses() {
+		return cacheMisses;
+	}
+
+	/**
+	 * Gets how many plays were left out, as the same sound had already been played that frame.
+	 */
+	public int getCoalescedPlays() {
+		return coalescedPlays;
+	}
+
+	/**
+	 * Gets how many voices were stopped to make room for another, or couldn't be played at all.
+	 */
+	public int getDroppedVoices() {
+		return droppedVoices;
+	}
+
+	/**
+	 * Frees the decoded sound effects and the music. Sounds played after this are loaded again.
+	 */
+	public void dispose() {
+		LOGGER.info("Disposing sounds: " + cacheHits + " cache hits, " + cacheMisses + " misses, "
+				+ coalescedPlays + " plays coalesced, " + droppedVoices + " voices dropped");
+		for (Sound sound : sounds.values()) {
+			if (sound != null) {
+				sound.dispose();
+			}
+		}
+		sounds.clear();
+		voices.clear();
+		if (music != null) {
+			music.dispose();
+			music = null;
+		}
 	}
 
 	/**
@@ -48,6 +233,9 @@ public class SoundManager extends Manager {
 	 */
 	public void playMusic(String musicString){
 		LOGGER.info("Playing music.");
+		if (music != null) {
+			music.dispose();
+		}
 		music = Gdx.audio.newMusic(Gdx.files.internal("sounds/" + musicString));
 		if (music != null) {
 			music.setVolume(musicVolume);
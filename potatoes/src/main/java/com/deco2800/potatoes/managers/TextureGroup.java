@@ -0,0 +1,229 @@
+package com.deco2800.potatoes.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A set of textures only needed some of the time, such as one type of enemy's animations, which the TextureManager
+ * loads in the background once they are needed and can unload again once nothing is using them.
+ *
+ * The region for each id stays the same object when the group is unloaded and loaded again, so anything holding on to
+ * one draws the reloaded texture.
+ */
+class TextureGroup {
+
+    private final String name;
+    // Files of the textures, by id
+    private final Map<String, String> files = new LinkedHashMap<>();
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+    private final List<Texture> textures = new ArrayList<>();
+    private boolean loaded;
+    // If the group's textures are waiting to be loaded
+    private boolean queued;
+    private long bytes;
+    private int references;
+
+    /**
+     * Creates an empty, unloaded group.
+     *
+     * @param name the name of the group, as given by TextureManager.getTextureGroup(...)
+     */
+    TextureGroup(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds a texture to the group.
+     *
+     * @param id       Texture id
+     * @param filename Filename within the assets folder
+     */
+    void add(String id, String filename) {
+        files.put(id, filename);
+    }
+
+    /**
+     * Queues the group's textures to be loaded in the background, from its atlas if it has been packed, or else their
+     * own files. The group is loaded once the queue has uploaded every one of them. Nothing is done if the group is
+     * loaded or already queued.
+     *
+     * @param queue    the queue to load the textures with
+     * @param onLoaded called on the render thread once the group has been loaded
+     */
+    void queue(TextureLoadQueue queue, Runnable onLoaded) {
+        if (loaded || queued) {
+            return;
+        }
+        queued = true;
+        Map<String, TextureRegion> loadedRegions = new HashMap<>();
+        List<TextureAtlas.TextureAtlasData.Page> pages = new ArrayList<>();
+        FileHandle atlas = Gdx.files.internal(TextureManager.getAtlasFile(name));
+        TextureAtlas.TextureAtlasData data = null;
+        Set<String> packed = new HashSet<>();
+        if (atlas.exists()) {
+            data = new TextureAtlas.TextureAtlasData(atlas, atlas.parent(), false);
+            for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+                pages.add(page);
+            }
+            for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+                packed.add(region.name);
+            }
+        }
+        // Unpacked files are loaded once, however many ids they have
+        Map<String, String> unpacked = new LinkedHashMap<>();
+        for (String file : files.values()) {
+            String region = TextureManager.getRegionName(file);
+            if (!packed.contains(region)) {
+                unpacked.putIfAbsent(region, file);
+            }
+        }
+
+        int[] remaining = { pages.size() + unpacked.size() };
+        Runnable uploaded = () -> {
+            remaining[0]--;
+            if (remaining[0] == 0) {
+                setRegions(loadedRegions);
+                onLoaded.run();
+            }
+        };
+        for (TextureAtlas.TextureAtlasData.Page page : pages) {
+            TextureAtlas.TextureAtlasData atlasData = data;
+            queue.add(page.textureFile, false, texture -> {
+                addTexture(texture);
+                for (TextureAtlas.TextureAtlasData.Region region : atlasData.getRegions()) {
+                    if (region.page == page) {
+                        loadedRegions.put(region.name, new TextureRegion(texture, region.left, region.top,
+                                region.width, region.height));
+                    }
+                }
+                uploaded.run();
+            });
+        }
+        for (Map.Entry<String, String> file : unpacked.entrySet()) {
+            queue.add(Gdx.files.internal(file.getValue()), false, texture -> {
+                loadedRegions.put(file.getKey(), new TextureRegion(addTexture(texture)));
+                uploaded.run();
+            });
+        }
+        if (pages.isEmpty() && unpacked.isEmpty()) {
+            setRegions(loadedRegions);
+            onLoaded.run();
+        }
+    }
+
+    /**
+     * Points the region for each id at its loaded texture, and marks the group loaded
+     */
+    private void setRegions(Map<String, TextureRegion> loadedRegions) {
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            TextureRegion loadedRegion = loadedRegions.get(TextureManager.getRegionName(file.getValue()));
+            TextureRegion region = regions.get(file.getKey());
+            if (region == null) {
+                regions.put(file.getKey(), new TextureRegion(loadedRegion));
+            } else {
+                region.setRegion(loadedRegion);
+            }
+        }
+        queued = false;
+        loaded = true;
+    }
+
+    private Texture addTexture(Texture texture) {
+        textures.add(texture);
+        bytes += TextureManager.getTextureBytes(texture);
+        return texture;
+    }
+
+    /**
+     * Disposes of the group's textures. Its regions are kept, to be reused once it is loaded again.
+     */
+    void unload() {
+        for (Texture texture : textures) {
+            texture.dispose();
+        }
+        textures.clear();
+        bytes = 0;
+        loaded = false;
+    }
+
+    /**
+     * Adds a reference to the group, which keeps it from being unloaded.
+     */
+    void acquire() {
+        references++;
+    }
+
+    /**
+     * Removes a reference added by acquire().
+     *
+     * @return false if the group had no references to remove
+     */
+    boolean release() {
+        if (references == 0) {
+            return false;
+        }
+        references--;
+        return true;
+    }
+
+    /**
+     * Removes every reference to the group.
+     */
+    void clearReferences() {
+        references = 0;
+    }
+
+    /**
+     * @return the name of the group
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @param id Texture id
+     * @return the region for the id, or null if the group isn't loaded
+     */
+    TextureRegion getRegion(String id) {
+        return loaded ? regions.get(id) : null;
+    }
+
+    /**
+     * @return true if the group's textures are waiting to be loaded
+     */
+    boolean isQueued() {
+        return queued;
+    }
+
+    /**
+     * @return true if the group's textures are loaded
+     */
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @return the estimated size of the group's loaded textures
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the number of references to the group
+     */
+    int getReferences() {
+        return references;
+    }
+}
@@ -0,0 +1,183 @@
+package com.deco2800.potatoes.managers;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Loads textures for the TextureManager without blocking the render thread for long.
+ *
+ * Image files are decoded into pixmaps on background threads, in the order they were added, so files added first are
+ * ready first. Uploading a pixmap to the GPU has to happen on the render thread, so update(...) uploads decoded
+ * images for up to a given time each frame, and leaves the rest for later frames.
+ */
+public class TextureLoadQueue {
+
+    private static final int DECODE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    /**
+     * A file being decoded, and what to do with it once it has been uploaded
+     */
+    private static class Job {
+        private final FileHandle file;
+        private final Future<Pixmap> pixmap;
+        private final boolean menu;
+        private final long size;
+        private final Consumer<Texture> onLoaded;
+
+        private Job(FileHandle file, Future<Pixmap> pixmap, boolean menu, Consumer<Texture> onLoaded) {
+            this.file = file;
+            this.pixmap = pixmap;
+            this.menu = menu;
+            this.size = file.length();
+            this.onLoaded = onLoaded;
+        }
+    }
+
+    // Started by the first file added, and shut down once every file has been loaded
+    private ExecutorService decoders;
+    // Jobs not yet uploaded, in the order they were added
+    private final List<Job> jobs = new ArrayList<>();
+    private int menuJobs;
+    // Sizes of the files, to measure progress by
+    private long totalSize;
+    private long loadedSize;
+
+    /**
+     * Creates an empty queue. It starts its own decoding threads once files are added, and stops them again once they
+     * have all been loaded.
+     */
+    public TextureLoadQueue() {
+        // Nothing to load yet
+    }
+
+    /**
+     * Adds a file to load, and starts decoding it once the files added before it have started.
+     *
+     * @param file     the image file
+     * @param menu     if the main menu needs this texture
+     * @param onLoaded called on the render thread with the texture, once it has been uploaded
+     */
+    public void add(FileHandle file, boolean menu, Consumer<Texture> onLoaded) {
+        if (decoders == null) {
+            decoders = Executors.newFixedThreadPool(DECODE_THREADS, r -> {
+                Thread thread = new Thread(r, "Texture decoder");
+                // Don't keep the game running if it quits while loading
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        Job job = new Job(file, decoders.submit(() -> new Pixmap(file)), menu, onLoaded);
+        jobs.add(job);
+        totalSize += job.size;
+        if (menu) {
+            menuJobs++;
+        }
+    }
+
+    /**
+     * Uploads decoded textures, in the order they were added, until there are no more decoded yet or the time is up.
+     * Must be called on the render thread.
+     *
+     * @param millis how long to spend uploading. At least one decoded texture is uploaded, however long it takes
+     * @return true if every texture has been loaded
+     */
+    public boolean update(int millis) {
+        long end = TimeUtils.millis() + millis;
+        Iterator<Job> it = jobs.iterator();
+        while (it.hasNext()) {
+            Job job = it.next();
+            // Later files may have finished decoding first, but wait for this one so the menu's are uploaded first
+            if (!job.pixmap.isDone()) {
+                break;
+            }
+            it.remove();
+            upload(job);
+            if (TimeUtils.millis() >= end) {
+                break;
+            }
+        }
+        if (jobs.isEmpty()) {
+            stopDecoders();
+        }
+        return isDone();
+    }
+
+    /**
+     * Loads every texture left, blocking until they have all been decoded. Must be called on the render thread.
+     */
+    public void finish() {
+        for (Job job : jobs) {
+            upload(job);
+        }
+        jobs.clear();
+        stopDecoders();
+    }
+
+    private void stopDecoders() {
+        if (decoders != null) {
+            decoders.shutdown();
+            decoders = null;
+        }
+    }
+
+    private void upload(Job job) {
+        Pixmap pixmap;
+        try {
+            pixmap = job.pixmap.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted loading " + job.file, e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Couldn't load " + job.file, e.getCause());
+        }
+        // The same as loading the texture from its file, but with the pixmap already decoded. The pixmap is
+        // disposed once uploaded
+        job.onLoaded.accept(new Texture(new FileTextureData(job.file, pixmap, null, false)));
+        loadedSize += job.size;
+        if (job.menu) {
+            menuJobs--;
+        }
+    }
+
+    /**
+     * @return true if every texture has been loaded
+     */
+    public boolean isDone() {
+        return jobs.isEmpty();
+    }
+
+    /**
+     * @return true if the decoding threads are running, which they are from when files are added until they have all
+     *         been loaded
+     */
+    public boolean isDecoding() {
+        return decoders != null;
+    }
+
+    /**
+     * @return true if every texture needed by the main menu has been loaded
+     */
+    public boolean isMenuLoaded() {
+        return menuJobs == 0;
+    }
+
+    /**
+     * @return the fraction of the texture files loaded, by size
+     */
+    public float getProgress() {
+        return totalSize == 0 ? 1 : (float) loadedSize / totalSize;
+    }
+}
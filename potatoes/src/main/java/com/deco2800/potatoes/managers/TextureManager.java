@@ -1,15 +1,30 @@
 package com.deco2800.potatoes.managers;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.TimeUtils;
 
 import com.deco2800.potatoes.entities.Direction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Texture manager acts as a cache between the file system and the renderers.
@@ -17,9 +32,9 @@ import java.util.Map;
  * file reads from being completed during rendering.
  * <p>
  * With this in mind don't load textures you're not going to use.
- * Textures that are not used should probably (at some point) be removed
- * from the list and then read from disk when needed again using some type
- * of reference counting
+ * Textures only needed some of the time, like each enemy's animations, are
+ * kept in groups which are read from disk when first drawn, and unloaded
+ * again once no longer referenced if they take up too much memory
  *
  * @Author Tim Hadwen
  */
@@ -33,326 +48,868 @@ public class TextureManager extends Manager {
     private static Map<String, TextureRegion> textureMap = new HashMap<String, TextureRegion>();
 
     /**
-     * Loads all the textures.
+     * The file of every texture loaded by loadTextures(), in the order they are added
+     */
+    private static Map<String, String> textureFiles = new LinkedHashMap<>();
+
+    /**
+     * The atlases written by AtlasPacker, relative to the working directory. Textures the main menu needs are packed
+     * separately, so they can be loaded first.
+     */
+    public static final String MENU_ATLAS_FILE = "resources/atlas/menu.atlas";
+    public static final String ATLAS_FILE = "resources/atlas/textures.atlas";
+
+    /**
+     * Drawn for ids without a texture
+     */
+    private static final String FALLBACK_TEXTURE = "spacman_ded";
+
+    /**
+     * Files of the open water tiles, which the world draws repeated beyond the edges of the map
+     */
+    private static final Pattern REPEATED_TEXTURES = Pattern.compile("resources/tiles/water[0-9]+\\.png");
+
+    /**
+     * Regions of the packed atlases by name, added as their pages are loaded
+     */
+    private static Map<String, TextureRegion> atlasRegions = new HashMap<>();
+
+    /**
+     * Textures still being loaded, or null if loading hasn't started or has finished
+     */
+    private static TextureLoadQueue loading;
+    private static boolean loadingStarted;
+    private static long loadingStartTime;
+
+    /**
+     * Names of the groups of textures only loaded when needed, see getTextureGroup(...)
+     */
+    public static final String ENEMY_GROUP = "enemies/";
+    public static final String WORLD_GROUP = "worlds/";
+
+    /**
+     * How much the groups of textures can take up before those no longer in use are unloaded
+     */
+    public static final long DEFAULT_RESIDENCY_BUDGET = 256L * 1024 * 1024;
+
+    /**
+     * Groups of textures by name, and the group of each id in one
+     */
+    private static Map<String, TextureGroup> textureGroups = new LinkedHashMap<>();
+    private static Map<String, TextureGroup> groupsById = new HashMap<>();
+
+    /**
+     * Loaded groups without any references, least recently used first. These are unloaded, oldest first, once the
+     * groups take up more than the budget.
+     */
+    private static Map<String, TextureGroup> unusedGroups = new LinkedHashMap<>();
+    // Loads groups in the background once they are needed, see updateGroupLoading(...)
+    private static TextureLoadQueue groupLoading = new TextureLoadQueue();
+    // Groups which are needed but not yet queued. Finding their files needs the game running, so they are queued by
+    // updateGroupLoading(...) on the render thread
+    private static Set<TextureGroup> requestedGroups = new LinkedHashSet<>();
+    private static long residencyBudget = DEFAULT_RESIDENCY_BUDGET;
+
+    /**
+     * Size of the textures loaded that aren't in a group, which stay loaded
+     */
+    private static long permanentBytes;
+
+    /**
+     * Texture ids interned as frame ids, numbered from 0 in the order they are first asked for, see getFrameId(...)
+     */
+    private static Map<String, Integer> frameIds = new HashMap<>();
+    private static List<String> frameNames = new ArrayList<>();
+
+    /**
+     * The region of each frame id, once it has been looked up, and its group if it has one. Only ids with a texture
+     * are kept, so ids looked up before their texture is added still get it
+     */
+    private static TextureRegion[] frameRegions = new TextureRegion[0];
+    private static TextureGroup[] frameGroups = new TextureGroup[0];
+
+    /**
+     * Loads all the textures, from the atlases where they have been packed into them. Waits for any textures still
+     * being loaded by startLoading().
      */
     public static void loadTextures() {
-        saveTexture("tree", "resources/trees/Basic.png");
-        saveTexture("spacman", "resources/placeholderassets/spacman.png");
-        saveTexture("spacman_red", "resources/placeholderassets/spacman_red.png");
-        saveTexture("spacman_blue", "resources/placeholderassets/spacman_blue.png");
-        saveTexture("spacman_blue_2", "resources/placeholderassets/spacman_blue_2.png");
-        saveTexture("spacman_green", "resources/placeholderassets/spacman_green.png");
-        saveTexture("spacman_ded", "resources/placeholderassets/spacman_ded.png");
-        saveTexture("selected", "resources/placeholderassets/selected.png");
-        saveTexture("selected_black", "resources/placeholderassets/selected_black.png");
-        saveTexture("squirrel", "resources/placeholderassets/squirrel.png");
-        saveTexture("squirrel_right", "resources/placeholderassets/squirrel_right.png");
-        saveTexture("potate", "resources/placeholderassets/potate.png");
-        saveTexture("projectile", "resources/placeholderassets/projectile.png");
-        saveTexture("europeanhattedsquirrel", "resources/placeholderassets/europeanhattedsquirrel.png");
-        saveTexture("pronograde", "resources/placeholderassets/pronograde.png");  //Moose placeholder
-        saveTexture("progress_bar", "resources/placeholderassets/progress_bar.png");
-        saveTexture("ring", "resources/placeholderassets/ring.png");
-        saveTexture("tankBear", "resources/enemies/bear/bear_SW.png");
-        saveTexture("speedyRaccoon", "resources/placeholderassets/raccoon.png");
-        saveTexture("enemyGate", "resources/placeholderassets/enemyGate.png");
-        saveTexture("enemyCave_SE", "resources/enemies/enemyCave_SE.png");
-        saveTexture("enemyCave_S", "resources/enemies/enemyCave_S.png");
-        saveTexture("enemyCave_N", "resources/enemies/enemyCave_N.png");
-        saveTexture("enemyCave_W", "resources/enemies/enemyCave_W.png");
-        saveTexture("enemyCave_E", "resources/enemies/enemyCave_E.png");
-        saveTexture("enemyCave_SW", "resources/enemies/enemyCave_SW.png");
-        saveTexture("enemyCave_WS", "resources/enemies/enemyCave_WS.png");
-        saveTexture("healthBarBlue", "resources/healthproperties/health-bar-blue.png");
-        saveTexture("healthBarRed", "resources/healthproperties/health-bar-red.png");
-        saveTexture("healthBarGreen", "resources/healthproperties/health-bar-green.png");
-        saveTexture("caveIcon", "resources/healthproperties/icon-healthbar-cav.png");
-        saveTexture("wizardIcon", "resources/healthproperties/icon-healthbar-wiz.png");
-        saveTexture("archerIcon", "resources/healthproperties/icon-healthbar-arc.png");
-        saveTexture("portalIcon", "resources/healthproperties/icon-healthbar-potato.png");
-        saveTexture("nicer_terrain", "resources/placeholderassets/nicer_terrain.png");
-        saveTexture("acorn1", "resources/Projectiles/acorn1.png");
-        saveTexture("leaves1", "resources/Projectiles/leaves1.png");
-        saveTexture("leaves","resources/Projectiles/leaves.png");
-        saveTexture("acorn","resources/Projectiles/acorn.png");
-        saveTexture("axe","resources/Projectiles/axe1.png");
-
-        saveTexture("arrow","resources/Projectiles/arrow1.png");
-        saveTexture("water","resources/Projectiles/water.png");
-        saveTexture("ice","resources/Projectiles/icetreeProjectiles/ice1.png");
-        saveTexture("fire","resources/Projectiles/fire.png");
+        startLoading();
+        finishLoading();
+    }
+
+    /**
+     * Starts loading all the textures in the background. The textures the main menu needs are loaded first, then
+     * the rest. updateLoading(...) must be called each frame to finish loading them.
+     */
+    public static void startLoading() {
+        if (loadingStarted) {
+            return;
+        }
+        loadingStarted = true;
+        loadingStartTime = TimeUtils.millis();
+        loading = new TextureLoadQueue();
+
+        // Ids of the textures loaded from each file. Those in groups are loaded once they are needed
+        Map<String, List<String>> ids = new LinkedHashMap<>();
+        for (Map.Entry<String, String> file : getTextureFiles().entrySet()) {
+            if (!groupsById.containsKey(file.getKey())) {
+                ids.computeIfAbsent(file.getValue(), f -> new ArrayList<>()).add(file.getKey());
+            }
+        }
+        Set<String> packed = new HashSet<>();
+        queueAtlas(MENU_ATLAS_FILE, true, ids, packed);
+        queueFiles(true, ids, packed);
+        queueAtlas(ATLAS_FILE, false, ids, packed);
+        queueFiles(false, ids, packed);
+    }
+
+    /**
+     * Queues the pages of an atlas, if it has been built.
+     *
+     * @param packed the names of the regions in the atlas are added to this
+     */
+    private static void queueAtlas(String atlasFile, boolean menu, Map<String, List<String>> ids,
+            Set<String> packed) {
+        FileHandle atlas = Gdx.files.internal(atlasFile);
+        if (!atlas.exists()) {
+            return;
+        }
+        TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(atlas, atlas.parent(), false);
+        // Ids of the textures packed into each region. Repeated textures are loaded from their own files, even if an
+        // older atlas has them
+        Map<String, List<String>> regionIds = new HashMap<>();
+        Set<String> repeated = new HashSet<>();
+        for (Map.Entry<String, List<String>> file : ids.entrySet()) {
+            if (isRepeatedTexture(file.getKey())) {
+                repeated.add(getRegionName(file.getKey()));
+            } else {
+                regionIds.put(getRegionName(file.getKey()), file.getValue());
+            }
+        }
+        for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+            if (!repeated.contains(region.name)) {
+                packed.add(region.name);
+            }
+        }
+        for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+            loading.add(page.textureFile, menu, texture -> {
+                permanentBytes += getTextureBytes(texture);
+                for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+                    if (region.page == page) {
+                        TextureRegion textureRegion = new TextureRegion(texture, region.left, region.top,
+                                region.width, region.height);
+                        atlasRegions.put(region.name, textureRegion);
+                        for (String id : regionIds.getOrDefault(region.name, Collections.emptyList())) {
+                            textureMap.putIfAbsent(id, textureRegion);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Queues the files that weren't packed into an atlas, either the main menu's or the rest
+     */
+    private static void queueFiles(boolean menu, Map<String, List<String>> ids, Set<String> packed) {
+        for (Map.Entry<String, List<String>> file : ids.entrySet()) {
+            if (isMenuTexture(file.getKey()) == menu && !packed.contains(getRegionName(file.getKey()))) {
+                loading.add(Gdx.files.internal(file.getKey()), menu, texture -> {
+                    permanentBytes += getTextureBytes(texture);
+                    TextureRegion region = new TextureRegion(texture);
+                    for (String id : file.getValue()) {
+                        textureMap.putIfAbsent(id, region);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Loads textures that have been decoded in the background, for up to the given time. Must be called on the
+     * render thread.
+     *
+     * @param millis how long to spend loading
+     * @return true if every texture has been loaded
+     */
+    public static boolean updateLoading(int millis) {
+        if (loading != null && loading.update(millis)) {
+            finishLoading();
+        }
+        return loading == null;
+    }
+
+    /**
+     * Loads every texture left, waiting for them to be decoded.
+     */
+    public static void finishLoading() {
+        if (loading == null) {
+            return;
+        }
+        loading.finish();
+        loading = null;
         saveFromSpriteSheet("nicer_terrain", new String[][] {{"ground_1", "grass", "w1"}});
+        LOGGER.info("Loaded textures in " + TimeUtils.timeSinceMillis(loadingStartTime) + " ms");
+        LOGGER.info(getResidencyReport());
+    }
+
+    /**
+     * @return true if the textures the main menu needs have been loaded, or loading hasn't been started
+     */
+    public static boolean isMenuLoaded() {
+        return loading == null || loading.isMenuLoaded();
+    }
+
+    /**
+     * @return the fraction of the textures loaded so far, by file size
+     */
+    public static float getLoadingProgress() {
+        return loading == null ? 1 : loading.getProgress();
+    }
+
+    /**
+     * Checks if the main menu draws a texture, so it should be loaded before the others. These are the menu's own
+     * images, the players shown in the character select, and the fallback texture.
+     *
+     * @param filename Filename within the assets folder
+     * @return true if the texture is needed by the main menu
+     */
+    public static boolean isMenuTexture(String filename) {
+        return filename.startsWith("resources/menu/")
+                || filename.startsWith("resources/player/") && filename.contains("/idle/")
+                || filename.equals(getTextureFiles().get(FALLBACK_TEXTURE));
+    }
+
+    /**
+     * Checks if a texture is drawn repeated over an area bigger than itself by wrapping its texture, as the background
+     * beyond the edges of the map is. A texture shared with others in an atlas page would repeat the whole page, so
+     * these are never packed.
+     *
+     * @param filename Filename within the assets folder
+     * @return true if the texture needs a texture of its own
+     */
+    public static boolean isRepeatedTexture(String filename) {
+        return REPEATED_TEXTURES.matcher(filename).matches();
+    }
+
+    /**
+     * Gets the files of every texture loaded by loadTextures(), without loading them.
+     *
+     * @return map of texture ids to file names, in the order they are loaded
+     */
+    public static Map<String, String> getTextureFiles() {
+        if (textureFiles.isEmpty()) {
+            registerTextures();
+            registerGroups();
+        }
+        return Collections.unmodifiableMap(textureFiles);
+    }
+
+    /**
+     * Puts each texture that belongs to a group into it
+     */
+    private static void registerGroups() {
+        for (Map.Entry<String, String> file : textureFiles.entrySet()) {
+            String group = getTextureGroup(file.getValue());
+            if (group != null) {
+                TextureGroup textureGroup = textureGroups.computeIfAbsent(group, TextureGroup::new);
+                textureGroup.add(file.getKey(), file.getValue());
+                groupsById.put(file.getKey(), textureGroup);
+            }
+        }
+    }
+
+    /**
+     * Gets the group a texture belongs to, if it is only needed some of the time. These are each type of enemy's
+     * textures, in a folder of their own, which are only needed while that enemy is alive, and the portal of each
+     * world, which is only drawn in that world. Textures in a group aren't loaded with the rest, but when they are
+     * first drawn, and can be unloaded again once the group is no longer in use.
+     *
+     * @param filename Filename within the assets folder
+     * @return the name of the texture's group, or null if it should always be loaded
+     */
+    public static String getTextureGroup(String filename) {
+        String enemies = "resources/enemies/";
+        if (filename.startsWith(enemies) && filename.indexOf('/', enemies.length()) > 0) {
+            return ENEMY_GROUP + filename.substring(enemies.length(), filename.indexOf('/', enemies.length()));
+        }
+        String portal = "_Portal.png";
+        if (filename.startsWith("resources/portals/") && filename.endsWith(portal)) {
+            String world = filename.substring("resources/portals/".length(), filename.length() - portal.length());
+            return WORLD_GROUP + world.toLowerCase();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the file of the atlas a group of textures is packed into by AtlasPacker.
+     *
+     * @param group the name of the group
+     * @return the atlas file
+     */
+    public static String getAtlasFile(String group) {
+        return "resources/atlas/" + group.replace('/', '_') + ".atlas";
+    }
+
+    /**
+     * Adds a reference to a group of textures, so it won't be unloaded until the reference is released. The group is
+     * loaded in the background from the next call to updateGroupLoading(...) if it isn't loaded.
+     *
+     * @param group the name of the group, as from getTextureGroup(...). Nothing is done if it is null, or there is no
+     *              group with the name
+     */
+    public static void acquireTextures(String group) {
+        getTextureFiles();
+        TextureGroup textureGroup = group == null ? null : textureGroups.get(group);
+        if (textureGroup != null) {
+            textureGroup.acquire();
+            unusedGroups.remove(group);
+            requestGroup(textureGroup);
+        }
+    }
+
+    /**
+     * Releases a reference added by acquireTextures(...). Once a group has no references, it may be unloaded to keep
+     * the groups within the budget, least recently used first.
+     *
+     * @param group the name of the group
+     */
+    public static void releaseTextures(String group) {
+        TextureGroup textureGroup = group == null ? null : textureGroups.get(group);
+        if (textureGroup == null) {
+            return;
+        }
+        if (!textureGroup.release()) {
+            LOGGER.warn("Textures of " + group + " released more often than acquired");
+        } else if (textureGroup.getReferences() == 0 && textureGroup.isLoaded()) {
+            unusedGroups.put(group, textureGroup);
+            unloadUnusedGroups();
+        }
+    }
+
+    /**
+     * Drops every reference to the groups of textures, for when the game is reset and nothing that acquired them is
+     * left to release them. Groups are then unloaded as they would be once released, to stay within the budget.
+     */
+    public static void releaseAllTextures() {
+        for (TextureGroup group : textureGroups.values()) {
+            group.clearReferences();
+            if (group.isLoaded()) {
+                unusedGroups.put(group.getName(), group);
+            }
+        }
+        unloadUnusedGroups();
+    }
+
+    /**
+     * Unloads every group of textures and forgets the regions drawn by frame id, so tests don't depend on which
+     * groups earlier tests left loaded or acquired.
+     */
+    static void resetTextureGroups() {
+        requestedGroups.clear();
+        groupLoading.finish();
+        for (TextureGroup group : textureGroups.values()) {
+            group.clearReferences();
+            group.unload();
+        }
+        unusedGroups.clear();
+        Arrays.fill(frameRegions, null);
+        Arrays.fill(frameGroups, null);
+    }
+
+    /**
+     * Marks a group of textures as needed, to be queued by the next call to updateGroupLoading(...) unless it is
+     * loaded by then.
+     */
+    private static void requestGroup(TextureGroup group) {
+        if (!group.isLoaded() && !group.isQueued()) {
+            requestedGroups.add(group);
+        }
+    }
+
+    /**
+     * Queues a group of textures to be loaded, unless it is loaded or already queued. Once loaded, if nothing is
+     * using it, it is the most recently used of the unused groups.
+     */
+    private static void queueGroup(TextureGroup group) {
+        long start = TimeUtils.millis();
+        group.queue(groupLoading, () -> {
+            LOGGER.info("Loaded textures of " + group.getName() + " (" + formatBytes(group.getBytes()) + ") in "
+                    + TimeUtils.timeSinceMillis(start) + " ms");
+            // Before marking it unused, so it isn't unloaded straight away
+            unloadUnusedGroups();
+            if (group.getReferences() == 0) {
+                unusedGroups.put(group.getName(), group);
+            }
+        });
+    }
+
+    /**
+     * Queues the groups needed since this was last called, then uploads the textures of groups that have been decoded
+     * in the background, for up to the given time. Must be called on the render thread, each frame.
+     *
+     * @param millis how long to spend uploading
+     * @return true if no groups are waiting to be loaded
+     */
+    public static boolean updateGroupLoading(int millis) {
+        if (!requestedGroups.isEmpty()) {
+            for (TextureGroup group : requestedGroups) {
+                queueGroup(group);
+            }
+            requestedGroups.clear();
+        }
+        return groupLoading.update(millis);
+    }
+
+    /**
+     * @param group the name of the group
+     * @return true if the group's textures are loaded
+     */
+    public static boolean isGroupLoaded(String group) {
+        TextureGroup textureGroup = textureGroups.get(group);
+        return textureGroup != null && textureGroup.isLoaded();
+    }
+
+    /**
+     * Unloads groups without references, least recently used first, until the groups are within the budget
+     */
+    private static void unloadUnusedGroups() {
+        Iterator<TextureGroup> it = unusedGroups.values().iterator();
+        while (getGroupBytes() > residencyBudget && it.hasNext()) {
+            TextureGroup group = it.next();
+            it.remove();
+            LOGGER.info("Unloading textures of " + group.getName() + " (" + formatBytes(group.getBytes()) + ")");
+            group.unload();
+        }
+    }
+
+    /**
+     * Sets how much the groups of textures can take up before those not in use are unloaded. Groups in use are never
+     * unloaded, even if they take up more.
+     *
+     * @param bytes the budget, in estimated bytes of video memory
+     */
+    public static void setResidencyBudget(long bytes) {
+        residencyBudget = bytes;
+        unloadUnusedGroups();
+    }
+
+    /**
+     * @return how much the groups of textures can take up before those not in use are unloaded
+     */
+    public static long getResidencyBudget() {
+        return residencyBudget;
+    }
+
+    /**
+     * @return the estimated size of every texture loaded, in bytes of video memory
+     */
+    public static long getResidentBytes() {
+        return permanentBytes + getGroupBytes();
+    }
+
+    /**
+     * @param group the name of a group of textures
+     * @return the estimated size of the group's textures if it is loaded, or 0
+     */
+    public static long getResidentBytes(String group) {
+        TextureGroup textureGroup = textureGroups.get(group);
+        return textureGroup == null ? 0 : textureGroup.getBytes();
+    }
+
+    private static long getGroupBytes() {
+        long bytes = 0;
+        for (TextureGroup group : textureGroups.values()) {
+            bytes += group.getBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Describes how much the loaded textures take up, and which groups of textures are loaded and in use.
+     *
+     * @return the report, one line for the totals and one for each loaded group
+     */
+    public static String getResidencyReport() {
+        StringBuilder report = new StringBuilder("Textures loaded: " + formatBytes(getResidentBytes()) + ", "
+                + formatBytes(getGroupBytes()) + " in groups of a budget of " + formatBytes(residencyBudget));
+        for (TextureGroup group : textureGroups.values()) {
+            if (group.isLoaded()) {
+                report.append("\n  ").append(group.getName()).append(": ").append(formatBytes(group.getBytes()))
+                        .append(", ").append(group.getReferences()).append(" references");
+            }
+        }
+        return report.toString();
+    }
+
+    private static String formatBytes(long bytes) {
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Estimates how much video memory a texture takes up, from its size and format.
+     *
+     * @param texture a loaded texture
+     * @return the estimated size in bytes
+     */
+    static long getTextureBytes(Texture texture) {
+        Pixmap.Format format = texture.getTextureData().getFormat();
+        int pixelBytes;
+        if (format == Pixmap.Format.Alpha || format == Pixmap.Format.Intensity) {
+            pixelBytes = 1;
+        } else if (format == Pixmap.Format.LuminanceAlpha || format == Pixmap.Format.RGB565
+                || format == Pixmap.Format.RGBA4444) {
+            pixelBytes = 2;
+        } else if (format == Pixmap.Format.RGB888) {
+            pixelBytes = 3;
+        } else {
+            pixelBytes = 4;
+        }
+        return (long) texture.getWidth() * texture.getHeight() * pixelBytes;
+    }
+
+    /**
+     * Gets the name of a file's region in the atlas, which is its path in the resources folder without the extension.
+     *
+     * @param filename Filename within the assets folder
+     * @return name of the region packed from the file
+     */
+    public static String getRegionName(String filename) {
+        String name = filename.startsWith("resources/") ? filename.substring("resources/".length()) : filename;
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
+    /**
+     * Adds the file of a texture to be loaded.
+     *
+     * @param id       Texture id
+     * @param filename Filename within the assets folder
+     */
+    private static void addTexture(String id, String filename) {
+        textureFiles.putIfAbsent(id, filename);
+    }
+
+    /**
+     * Lists the file of every texture.
+     */
+    private static void registerTextures() {
+        addTexture("tree", "resources/trees/Basic.png");
+        addTexture("spacman", "resources/placeholderassets/spacman.png");
+        addTexture("spacman_red", "resources/placeholderassets/spacman_red.png");
+        addTexture("spacman_blue", "resources/placeholderassets/spacman_blue.png");
+        addTexture("spacman_blue_2", "resources/placeholderassets/spacman_blue_2.png");
+        addTexture("spacman_green", "resources/placeholderassets/spacman_green.png");
+        addTexture("spacman_ded", "resources/placeholderassets/spacman_ded.png");
+        addTexture("selected", "resources/placeholderassets/selected.png");
+        addTexture("selected_black", "resources/placeholderassets/selected_black.png");
+        addTexture("squirrel", "resources/placeholderassets/squirrel.png");
+        addTexture("squirrel_right", "resources/placeholderassets/squirrel_right.png");
+        addTexture("potate", "resources/placeholderassets/potate.png");
+        addTexture("projectile", "resources/placeholderassets/projectile.png");
+        addTexture("europeanhattedsquirrel", "resources/placeholderassets/europeanhattedsquirrel.png");
+        addTexture("pronograde", "resources/placeholderassets/pronograde.png");  //Moose placeholder
+        addTexture("progress_bar", "resources/placeholderassets/progress_bar.png");
+        addTexture("ring", "resources/placeholderassets/ring.png");
+        addTexture("tankBear", "resources/enemies/bear/bear_SW.png");
+        addTexture("speedyRaccoon", "resources/placeholderassets/raccoon.png");
+        addTexture("enemyGate", "resources/placeholderassets/enemyGate.png");
+        addTexture("enemyCave_SE", "resources/enemies/enemyCave_SE.png");
+        addTexture("enemyCave_S", "resources/enemies/enemyCave_S.png");
+        addTexture("enemyCave_N", "resources/enemies/enemyCave_N.png");
+        addTexture("enemyCave_W", "resources/enemies/enemyCave_W.png");
+        addTexture("enemyCave_E", "resources/enemies/enemyCave_E.png");
+        addTexture("enemyCave_SW", "resources/enemies/enemyCave_SW.png");
+        addTexture("enemyCave_WS", "resources/enemies/enemyCave_WS.png");
+        addTexture("healthBarBlue", "resources/healthproperties/health-bar-blue.png");
+        addTexture("healthBarRed", "resources/healthproperties/health-bar-red.png");
+        addTexture("healthBarGreen", "resources/healthproperties/health-bar-green.png");
+        addTexture("caveIcon", "resources/healthproperties/icon-healthbar-cav.png");
+        addTexture("wizardIcon", "resources/healthproperties/icon-healthbar-wiz.png");
+        addTexture("archerIcon", "resources/healthproperties/icon-healthbar-arc.png");
+        addTexture("portalIcon", "resources/healthproperties/icon-healthbar-potato.png");
+        addTexture("nicer_terrain", "resources/placeholderassets/nicer_terrain.png");
+        addTexture("acorn1", "resources/Projectiles/acorn1.png");
+        addTexture("leaves1", "resources/Projectiles/leaves1.png");
+        addTexture("leaves","resources/Projectiles/leaves.png");
+        addTexture("acorn","resources/Projectiles/acorn.png");
+        addTexture("axe","resources/Projectiles/axe1.png");
+
+        addTexture("arrow","resources/Projectiles/arrow1.png");
+        addTexture("water","resources/Projectiles/water.png");
+        addTexture("ice","resources/Projectiles/icetreeProjectiles/ice1.png");
+        addTexture("fire","resources/Projectiles/fire.png");
         
 
         /* Seed Resource Tree Sprites */
-        saveTexture("seed_resource_tree", "resources/resourceTrees/seedTree.png"); // Default Sprite
+        addTexture("seed_resource_tree", "resources/resourceTrees/seedTree.png"); // Default Sprite
         
         // Seed Grow Animation
         for (int i = 1; i < 44; i++) {
-        		saveTexture("seedtree_grow_" + i, "resources/resourceTrees/seed/grow/seedtree_grow_" + String.format("%04d", i) + ".png");
+        		addTexture("seedtree_grow_" + i, "resources/resourceTrees/seed/grow/seedtree_grow_" + String.format("%04d", i) + ".png");
         }
         
         // Seed Produce Animation
         for (int i = 1; i < 32; i++) {
-        		saveTexture("seedtree_produce_" + i, "resources/resourceTrees/seed/produce/seedtree_produce_" + String.format("%04d", i) + ".png");
+        		addTexture("seedtree_produce_" + i, "resources/resourceTrees/seed/produce/seedtree_produce_" + String.format("%04d", i) + ".png");
         }
         
         /* Food Resource Tree Sprites */
-        saveTexture("food_resource_tree", "resources/resourceTrees/foodTree.png"); // Default Sprite
+        addTexture("food_resource_tree", "resources/resourceTrees/foodTree.png"); // Default Sprite
         
         // Food Grow Animation
         for (int i = 1; i < 51; i++) {
-        		saveTexture("foodtree_grow_" + i, "resources/resourceTrees/food/grow/foodtree_grow_" + String.format("%04d", i) + ".png");
+        		addTexture("foodtree_grow_" + i, "resources/resourceTrees/food/grow/foodtree_grow_" + String.format("%04d", i) + ".png");
         }
         
         // Food Produce Animation
         for (int i = 1; i < 36; i++) {
-        		saveTexture("foodtree_produce_" + i, "resources/resourceTrees/food/produce/foodtree_produce_" + String.format("%04d", i) + ".png");
+        		addTexture("foodtree_produce_" + i, "resources/resourceTrees/food/produce/foodtree_produce_" + String.format("%04d", i) + ".png");
         }
         
         /* Pine Resource Tree Sprites */
-        saveTexture("pine_resource_tree", "resources/resourceTrees/pineTree.png"); // Default Sprite
+        addTexture("pine_resource_tree", "resources/resourceTrees/pineTree.png"); // Default Sprite
         
         // Pine Grow Animation
         for (int i = 1; i < 44; i++) {
-    			saveTexture("pinetree_grow_" + i, "resources/resourceTrees/pine/grow/pinetree_grow_" + String.format("%04d", i) + ".png");
+    			addTexture("pinetree_grow_" + i, "resources/resourceTrees/pine/grow/pinetree_grow_" + String.format("%04d", i) + ".png");
         }
         
         // Pine Produce Animation
         for (int i = 1; i < 36; i++) {
-        		saveTexture("pinetree_produce_" + i, "resources/resourceTrees/pine/produce/pinetree_produce_" + String.format("%04d", i) + ".png");
+        		addTexture("pinetree_produce_" + i, "resources/resourceTrees/pine/produce/pinetree_produce_" + String.format("%04d", i) + ".png");
         }
 
         // Projectiles TODO: fix
         for (int i = 1; i < 4; i++) {
-            saveTexture("aoe" + i, "resources/Projectiles/aoe" + i + ".png");
-            saveTexture("rocket" + i, "resources/Projectiles/rocket" + i + ".png");
-            saveTexture("explosion" + i, "resources/Projectiles/explosion" + i + ".png");
-            saveTexture("chilli" + i, "resources/Projectiles/chilliproj" + i + ".png");
+            addTexture("aoe" + i, "resources/Projectiles/aoe" + i + ".png");
+            addTexture("rocket" + i, "resources/Projectiles/rocket" + i + ".png");
+            addTexture("explosion" + i, "resources/Projectiles/explosion" + i + ".png");
+            addTexture("chilli" + i, "resources/Projectiles/chilliproj" + i + ".png");
 
         }
         for (int i = 1; i < 6; i++) {
-            saveTexture("start" + i, "resources/Projectiles/start" + i + ".png");
+            addTexture("start" + i, "resources/Projectiles/start" + i + ".png");
         }
         for (int i = 1; i < 5; i++) {
-            saveTexture("leaves" + i, "resources/Projectiles/leaves" + i + ".png");
+            addTexture("leaves" + i, "resources/Projectiles/leaves" + i + ".png");
         }
         for (int i = 1; i < 5; i++) {
-            saveTexture("mines" + i, "resources/Projectiles/mine" + i + ".png");
+            addTexture("mines" + i, "resources/Projectiles/mine" + i + ".png");
         }
 
         // Tree Attack Textures
-        saveTexture("lightningDesert", "resources/Projectiles/lightningDesert.png");
-        saveTexture("lightningFire", "resources/Projectiles/lightningFire.png");
-        saveTexture("lightningForrest", "resources/Projectiles/lightningForrest.png");
-        saveTexture("lightningIce", "resources/Projectiles/lightningIce.png");
-        saveTexture("lightningWater", "resources/Projectiles/lightningWater.png");
+        addTexture("lightningDesert", "resources/Projectiles/lightningDesert.png");
+        addTexture("lightningFire", "resources/Projectiles/lightningFire.png");
+        addTexture("lightningForrest", "resources/Projectiles/lightningForrest.png");
+        addTexture("lightningIce", "resources/Projectiles/lightningIce.png");
+        addTexture("lightningWater", "resources/Projectiles/lightningWater.png");
 
         // Particles
-        saveTexture("snowflake", "resources/particles/snowflake.png");
-        saveTexture("duck", "resources/particles/duck.png");
+        addTexture("snowflake", "resources/particles/snowflake.png");
+        addTexture("duck", "resources/particles/duck.png");
 
         // GUI
-        saveTexture("tree_shop", "resources/menu/tree_menu.png");
-        saveTexture("backgroundMainMenu", "resources/menu/tutorial/backgroundMainMenu.png");
-        saveTexture("gameOverScreen", "resources/healthproperties/Game-OverV2.11.png");
-        saveTexture("gameOverRestart", "resources/healthproperties/restartButton.png");
-        saveTexture("gameOverExit", "resources/healthproperties/exitButton.png");
-        saveTexture("resumePauseMenu", "resources/menu/pauseMenu/resumePauseMenu.png");
-        saveTexture("optionsPauseMenu", "resources/menu/pauseMenu/optionsPauseMenu.png");
-        saveTexture("savePauseMenu", "resources/menu/pauseMenu/savePauseMenu.png");
-        saveTexture("exitPauseMenu", "resources/menu/pauseMenu/exitPauseMenu.png");
-        saveTexture("tutorialPauseMenu", "resources/menu/pauseMenu/tutorialPauseMenu.png");
-        saveTexture("backgroundOptionsMenu", "resources/menu/pauseMenu/backgroundOptionsMenu.png");
-
-        saveTexture("startMainMenu", "resources/menu/startMainMenu.png");
-        saveTexture("optionsMainMenu", "resources/menu/optionsMainMenu.png");
-        saveTexture("exitMainMenu", "resources/menu/exitMainMenu.png");
-        saveTexture("singleplayerMainMenu", "resources/menu/singleplayerMainMenu.png");
-        saveTexture("multiplayerMainMenu", "resources/menu/multiplayerMainMenu.png");
-        saveTexture("backMainMenu", "resources/menu/backMainMenu.png");
-        saveTexture("clientMainMenu", "resources/menu/clientMainMenu.png");
-        saveTexture("hostMainMenu", "resources/menu/hostMainMenu.png");
-        saveTexture("connectMainMenu", "resources/menu/connectMainMenu.png");
-        saveTexture("menuButtonPlaceholder", "resources/placeholderassets/menuButtonPlaceholder.png");
+        addTexture("tree_shop", "resources/menu/tree_menu.png");
+        addTexture("backgroundMainMenu", "resources/menu/tutorial/backgroundMainMenu.png");
+        addTexture("gameOverScreen", "resources/healthproperties/Game-OverV2.11.png");
+        addTexture("gameOverRestart", "resources/healthproperties/restartButton.png");
+        addTexture("gameOverExit", "resources/healthproperties/exitButton.png");
+        addTexture("resumePauseMenu", "resources/menu/pauseMenu/resumePauseMenu.png");
+        addTexture("optionsPauseMenu", "resources/menu/pauseMenu/optionsPauseMenu.png");
+        addTexture("savePauseMenu", "resources/menu/pauseMenu/savePauseMenu.png");
+        addTexture("exitPauseMenu", "resources/menu/pauseMenu/exitPauseMenu.png");
+        addTexture("tutorialPauseMenu", "resources/menu/pauseMenu/tutorialPauseMenu.png");
+        addTexture("backgroundOptionsMenu", "resources/menu/pauseMenu/backgroundOptionsMenu.png");
+
+        addTexture("startMainMenu", "resources/menu/startMainMenu.png");
+        addTexture("optionsMainMenu", "resources/menu/optionsMainMenu.png");
+        addTexture("exitMainMenu", "resources/menu/exitMainMenu.png");
+        addTexture("singleplayerMainMenu", "resources/menu/singleplayerMainMenu.png");
+        addTexture("multiplayerMainMenu", "resources/menu/multiplayerMainMenu.png");
+        addTexture("backMainMenu", "resources/menu/backMainMenu.png");
+        addTexture("clientMainMenu", "resources/menu/clientMainMenu.png");
+        addTexture("hostMainMenu", "resources/menu/hostMainMenu.png");
+        addTexture("connectMainMenu", "resources/menu/connectMainMenu.png");
+        addTexture("menuButtonPlaceholder", "resources/placeholderassets/menuButtonPlaceholder.png");
 
         // Tutorial Title Buttons
-        saveTexture("initialGameplayButton", "resources/menu/tutorial/initialGameplayButton.png");
-        saveTexture("treesButton", "resources/menu/tutorial/treesButton.png");
-        saveTexture("enemiesButton", "resources/menu/tutorial/enemiesButton.png");
-        saveTexture("healthButton", "resources/menu/tutorial/healthButton.png");
-        saveTexture("portalsButton", "resources/menu/tutorial/portalsButton.png");
-        saveTexture("controlsButton", "resources/menu/tutorial/controlsButton.png");
-        saveTexture("optionsBackButton", "resources/menu/pauseMenu/optionsBackButton.png");
+        addTexture("initialGameplayButton", "resources/menu/tutorial/initialGameplayButton.png");
+        addTexture("treesButton", "resources/menu/tutorial/treesButton.png");
+        addTexture("enemiesButton", "resources/menu/tutorial/enemiesButton.png");
+        addTexture("healthButton", "resources/menu/tutorial/healthButton.png");
+        addTexture("portalsButton", "resources/menu/tutorial/portalsButton.png");
+        addTexture("controlsButton", "resources/menu/tutorial/controlsButton.png");
+        addTexture("optionsBackButton", "resources/menu/pauseMenu/optionsBackButton.png");
 
         // Tutorial
-        saveTexture("tutorial1", "resources/menu/tutorial/Tutorial1.png");
-        saveTexture("tutorial2", "resources/menu/tutorial/Tutorial2.png");
-        saveTexture("tutorial3", "resources/menu/tutorial/Tutorial3.png");
-        saveTexture("tutorial4", "resources/menu/tutorial/Tutorial4.png");
-        saveTexture("tutorial5", "resources/menu/tutorial/Tutorial5.png");
-        saveTexture("tutorial6", "resources/menu/tutorial/Tutorial6.png");
-        saveTexture("tutorial7", "resources/menu/tutorial/Tutorial7.png");
-        saveTexture("controls", "resources/menu/tutorial/Controls.png");
+        addTexture("tutorial1", "resources/menu/tutorial/Tutorial1.png");
+        addTexture("tutorial2", "resources/menu/tutorial/Tutorial2.png");
+        addTexture("tutorial3", "resources/menu/tutorial/Tutorial3.png");
+        addTexture("tutorial4", "resources/menu/tutorial/Tutorial4.png");
+        addTexture("tutorial5", "resources/menu/tutorial/Tutorial5.png");
+        addTexture("tutorial6", "resources/menu/tutorial/Tutorial6.png");
+        addTexture("tutorial7", "resources/menu/tutorial/Tutorial7.png");
+        addTexture("controls", "resources/menu/tutorial/Controls.png");
 
         // Tree growing animation, should maybe be moved to TextureRegion later
         for (int i = 1; i < 8; i++) {
-            saveTexture("basictree_grow" + i, "resources/trees/Grow" + i + ".png");
+            addTexture("basictree_grow" + i, "resources/trees/Grow" + i + ".png");
         }
 //        //damage tree:lightning
         for (int i = 1; i < 10; i++) {
-            saveTexture("lightning_tree" + i, "resources/trees/lightning" + i + ".png");
-            saveTexture("lightning_being_damaged" + i, "resources/trees/lightningBeingDamaged" + i + ".png");
-            saveTexture("lightning_damaged" + i, "resources/trees/lightningDamaged" + i + ".png");
+            addTexture("lightning_tree" + i, "resources/trees/lightning" + i + ".png");
+            addTexture("lightning_being_damaged" + i, "resources/trees/lightningBeingDamaged" + i + ".png");
+            addTexture("lightning_damaged" + i, "resources/trees/lightningDamaged" + i + ".png");
             if (i < 5) {
-                saveTexture("fire_tree" + i, "resources/trees/fire" + i + ".png");
-                saveTexture("ice-break" + i, "resources/trees/ICE-break" + i + ".png");
+                addTexture("fire_tree" + i, "resources/trees/fire" + i + ".png");
+                addTexture("ice-break" + i, "resources/trees/ICE-break" + i + ".png");
             }
 
             if (i < 9) {
-                saveTexture("lightning_damaged_being_damaged" + i, "resources/trees/lightningDamagedBeingDamaged" + i + ".png");
-                saveTexture("ice_being_damaged" + i, "resources/trees/ICE-beingDamaged" + i + ".png");
+                addTexture("lightning_damaged_being_damaged" + i, "resources/trees/lightningDamagedBeingDamaged" + i + ".png");
+                addTexture("ice_being_damaged" + i, "resources/trees/ICE-beingDamaged" + i + ".png");
             }
             if (i < 8) {
-                saveTexture("lightning_dead" + i, "resources/trees/lightningDead" + i + ".png");
-                saveTexture("ice_tree" + i, "resources/trees/ice" + i + ".png");
+                addTexture("lightning_dead" + i, "resources/trees/lightningDead" + i + ".png");
+                addTexture("ice_tree" + i, "resources/trees/ice" + i + ".png");
             }
             if (i < 4) {
-                saveTexture("acorn_tree" + i, "resources/trees/acorn" + i + ".png");
-                saveTexture("acorn_tree_damaged" + i, "resources/trees/acornDamaged" + i + ".png");
+                addTexture("acorn_tree" + i, "resources/trees/acorn" + i + ".png");
+                addTexture("acorn_tree_damaged" + i, "resources/trees/acornDamaged" + i + ".png");
             }
             if (i < 6) {
-                saveTexture("acorn_tree_damage_being_damaged" + i, "resources/trees/acornDamagedBeingDamaged" + i + ".png");
+                addTexture("acorn_tree_damage_being_damaged" + i, "resources/trees/acornDamagedBeingDamaged" + i + ".png");
 
             }
-            saveTexture("acorn_tree_dead" + i, "resources/trees/acornDead" + i + ".png");
+            addTexture("acorn_tree_dead" + i, "resources/trees/acornDead" + i + ".png");
 
         }
 
 
-        saveTexture("cactusTree", "resources/trees/cactusTree.png");
-        saveTexture("coralTree", "resources/trees/coralTree.png");
-        saveTexture("defenseTree", "resources/trees/defenseTree.png");
+        addTexture("cactusTree", "resources/trees/cactusTree.png");
+        addTexture("coralTree", "resources/trees/coralTree.png");
+        addTexture("defenseTree", "resources/trees/defenseTree.png");
         //damage tree:ice
 
         //damage tree:acorn
 
 
         //enemies
-        saveTexture("swipe1", "resources/enemies/swipe1.png");
-        saveTexture("swipe2", "resources/enemies/swipe2.png");
-        saveTexture("swipe3", "resources/enemies/swipe3.png");
-        saveTexture("swipe4", "resources/enemies/swipe4.png");
-        saveTexture("swipe5", "resources/enemies/swipe5.png");
-        saveTexture("empty", "resources/enemies/empty.png");
-        saveTexture("DamagedGroundTemp1", "resources/enemies/DamagedGroundTemp1.png");
-        saveTexture("DamagedGroundTemp2", "resources/enemies/DamagedGroundTemp2.png");
-        saveTexture("DamagedGroundTemp3", "resources/enemies/DamagedGroundTemp3.png");
-        saveTexture("TankFootstepTemp1", "resources/enemies/TankFootstepTemp1.png");
-        saveTexture("TankFootstepTemp2", "resources/enemies/TankFootstepTemp2.png");
-        saveTexture("TankFootstepTemp3", "resources/enemies/TankFootstepTemp3.png");
-        saveTexture("Healing1", "resources/enemies/Healing1.png");
-        saveTexture("Healing2", "resources/enemies/Healing2.png");
-        saveTexture("Healing3", "resources/enemies/Healing3.png");
+        addTexture("swipe1", "resources/enemies/swipe1.png");
+        addTexture("swipe2", "resources/enemies/swipe2.png");
+        addTexture("swipe3", "resources/enemies/swipe3.png");
+        addTexture("swipe4", "resources/enemies/swipe4.png");
+        addTexture("swipe5", "resources/enemies/swipe5.png");
+        addTexture("empty", "resources/enemies/empty.png");
+        addTexture("DamagedGroundTemp1", "resources/enemies/DamagedGroundTemp1.png");
+        addTexture("DamagedGroundTemp2", "resources/enemies/DamagedGroundTemp2.png");
+        addTexture("DamagedGroundTemp3", "resources/enemies/DamagedGroundTemp3.png");
+        addTexture("TankFootstepTemp1", "resources/enemies/TankFootstepTemp1.png");
+        addTexture("TankFootstepTemp2", "resources/enemies/TankFootstepTemp2.png");
+        addTexture("TankFootstepTemp3", "resources/enemies/TankFootstepTemp3.png");
+        addTexture("Healing1", "resources/enemies/Healing1.png");
+        addTexture("Healing2", "resources/enemies/Healing2.png");
+        addTexture("Healing3", "resources/enemies/Healing3.png");
         //Squirrel
-        saveTexture("squirrel_E", "resources/enemies/squirrel/idle/squirrel_E.png");
-        saveTexture("squirrel_N", "resources/enemies/squirrel/idle/squirrel_N.png");
-        saveTexture("squirrel_NE", "resources/enemies/squirrel/idle/squirrel_NE.png");
-        saveTexture("squirrel_NW", "resources/enemies/squirrel/idle/squirrel_NW.png");
-        saveTexture("squirrel_S", "resources/enemies/squirrel/idle/squirrel_S.png");
-        saveTexture("squirrel_SE", "resources/enemies/squirrel/idle/squirrel_SE.png");
-        saveTexture("squirrel_SW", "resources/enemies/squirrel/idle/squirrel_SW.png");
-        saveTexture("squirrel_W", "resources/enemies/squirrel/idle/squirrel_W.png");
+        addTexture("squirrel_E", "resources/enemies/squirrel/idle/squirrel_E.png");
+        addTexture("squirrel_N", "resources/enemies/squirrel/idle/squirrel_N.png");
+        addTexture("squirrel_NE", "resources/enemies/squirrel/idle/squirrel_NE.png");
+        addTexture("squirrel_NW", "resources/enemies/squirrel/idle/squirrel_NW.png");
+        addTexture("squirrel_S", "resources/enemies/squirrel/idle/squirrel_S.png");
+        addTexture("squirrel_SE", "resources/enemies/squirrel/idle/squirrel_SE.png");
+        addTexture("squirrel_SW", "resources/enemies/squirrel/idle/squirrel_SW.png");
+        addTexture("squirrel_W", "resources/enemies/squirrel/idle/squirrel_W.png");
         //Raccoon
-        saveTexture("raccoon_E", "resources/enemies/raccoon/idle/raccoon_E.png");
-        saveTexture("raccoon_N", "resources/enemies/raccoon/idle/raccoon_N.png");
-        saveTexture("raccoon_NE", "resources/enemies/raccoon/idle/raccoon_NE.png");
-        saveTexture("raccoon_NW", "resources/enemies/raccoon/idle/raccoon_NW.png");
-        saveTexture("raccoon_S", "resources/enemies/raccoon/idle/raccoon_S.png");
-        saveTexture("raccoon_SE", "resources/enemies/raccoon/idle/raccoon_SE.png");
-        saveTexture("raccoon_SW", "resources/enemies/raccoon/idle/raccoon_SW.png");
-        saveTexture("raccoon_W", "resources/enemies/raccoon/idle/raccoon_W.png");
+        addTexture("raccoon_E", "resources/enemies/raccoon/idle/raccoon_E.png");
+        addTexture("raccoon_N", "resources/enemies/raccoon/idle/raccoon_N.png");
+        addTexture("raccoon_NE", "resources/enemies/raccoon/idle/raccoon_NE.png");
+        addTexture("raccoon_NW", "resources/enemies/raccoon/idle/raccoon_NW.png");
+        addTexture("raccoon_S", "resources/enemies/raccoon/idle/raccoon_S.png");
+        addTexture("raccoon_SE", "resources/enemies/raccoon/idle/raccoon_SE.png");
+        addTexture("raccoon_SW", "resources/enemies/raccoon/idle/raccoon_SW.png");
+        addTexture("raccoon_W", "resources/enemies/raccoon/idle/raccoon_W.png");
         //Bear
-        saveTexture("bear_E", "resources/enemies/bear/bear_E.png");
-        saveTexture("bear_N", "resources/enemies/bear/bear_N.png");
-        saveTexture("bear_NE", "resources/enemies/bear/bear_NE.png");
-        saveTexture("bear_NW", "resources/enemies/bear/bear_NW.png");
-        saveTexture("bear_S", "resources/enemies/bear/bear_S.png");
-        saveTexture("bear_SE", "resources/enemies/bear/bear_SE.png");
-        saveTexture("bear_SW", "resources/enemies/bear/bear_SW.png");
-        saveTexture("bear_W", "resources/enemies/bear/bear_W.png");
+        addTexture("bear_E", "resources/enemies/bear/bear_E.png");
+        addTexture("bear_N", "resources/enemies/bear/bear_N.png");
+        addTexture("bear_NE", "resources/enemies/bear/bear_NE.png");
+        addTexture("bear_NW", "resources/enemies/bear/bear_NW.png");
+        addTexture("bear_S", "resources/enemies/bear/bear_S.png");
+        addTexture("bear_SE", "resources/enemies/bear/bear_SE.png");
+        addTexture("bear_SW", "resources/enemies/bear/bear_SW.png");
+        addTexture("bear_W", "resources/enemies/bear/bear_W.png");
         //Moose
-        saveTexture("moose_E", "resources/enemies/moose/moose_E.png");
-        saveTexture("moose_N", "resources/enemies/moose/moose_N.png");
-        saveTexture("moose_NE", "resources/enemies/moose/moose_NE.png");
-        saveTexture("moose_NW", "resources/enemies/moose/moose_NW.png");
-        saveTexture("moose_S", "resources/enemies/moose/moose_S.png");
-        saveTexture("moose_SE", "resources/enemies/moose/moose_SE.png");
-        saveTexture("moose_SW", "resources/enemies/moose/moose_SW.png");
-        saveTexture("moose_W", "resources/enemies/moose/moose_W.png");
+        addTexture("moose_E", "resources/enemies/moose/moose_E.png");
+        addTexture("moose_N", "resources/enemies/moose/moose_N.png");
+        addTexture("moose_NE", "resources/enemies/moose/moose_NE.png");
+        addTexture("moose_NW", "resources/enemies/moose/moose_NW.png");
+        addTexture("moose_S", "resources/enemies/moose/moose_S.png");
+        addTexture("moose_SE", "resources/enemies/moose/moose_SE.png");
+        addTexture("moose_SW", "resources/enemies/moose/moose_SW.png");
+        addTexture("moose_W", "resources/enemies/moose/moose_W.png");
 
         //Portals
-        saveTexture("desert_portal", "resources/portals/Desert_Portal.png");
-        saveTexture("iceland_portal", "resources/portals/Iceland_Portal.png");
-        saveTexture("volcano_portal", "resources/portals/Volcano_Portal.png");
-        saveTexture("forest_portal", "resources/portals/Forest_Portal.png");
-        saveTexture("sea_portal", "resources/portals/Sea_Portal.png");
+        addTexture("desert_portal", "resources/portals/Desert_Portal.png");
+        addTexture("iceland_portal", "resources/portals/Iceland_Portal.png");
+        addTexture("volcano_portal", "resources/portals/Volcano_Portal.png");
+        addTexture("forest_portal", "resources/portals/Forest_Portal.png");
+        addTexture("sea_portal", "resources/portals/Sea_Portal.png");
 
         //Resources
-        saveTexture("seed", "resources/resourceEntities/seed.png");
-        saveTexture("food", "resources/resourceEntities/food.png");
+        addTexture("seed", "resources/resourceEntities/seed.png");
+        addTexture("food", "resources/resourceEntities/food.png");
 
-        saveTexture("tumbleweed", "resources/resourceEntities/tumbleweed.png");
-        saveTexture("cactusThorn", "resources/resourceEntities/cactusThorn.png");
-        saveTexture("pricklyPear", "resources/resourceEntities/pricklyPear.png");
+        addTexture("tumbleweed", "resources/resourceEntities/tumbleweed.png");
+        addTexture("cactusThorn", "resources/resourceEntities/cactusThorn.png");
+        addTexture("pricklyPear", "resources/resourceEntities/pricklyPear.png");
 
-        saveTexture("snowBall", "resources/resourceEntities/snowBall.png");
-        saveTexture("sealSkin", "resources/resourceEntities/sealSkin.png");
-        saveTexture("iceCrystal", "resources/resourceEntities/iceCrystal.png");
+        addTexture("snowBall", "resources/resourceEntities/snowBall.png");
+        addTexture("sealSkin", "resources/resourceEntities/sealSkin.png");
+        addTexture("iceCrystal", "resources/resourceEntities/iceCrystal.png");
 
-        saveTexture("coal", "resources/resourceEntities/coal.png");
-        saveTexture("bones", "resources/resourceEntities/bones.png");
-        saveTexture("obsidian", "resources/resourceEntities/obsidian.png");
-        saveTexture("pinecone", "resources/resourceEntities/pinecone.png");
-        saveTexture("fishMeat", "resources/resourceEntities/fishMeat.png");
-        saveTexture("pearl", "resources/resourceEntities/pearl.png");
-        saveTexture("treasure", "resources/resourceEntities/treasure.png");
+        addTexture("coal", "resources/resourceEntities/coal.png");
+        addTexture("bones", "resources/resourceEntities/bones.png");
+        addTexture("obsidian", "resources/resourceEntities/obsidian.png");
+        addTexture("pinecone", "resources/resourceEntities/pinecone.png");
+        addTexture("fishMeat", "resources/resourceEntities/fishMeat.png");
+        addTexture("pearl", "resources/resourceEntities/pearl.png");
+        addTexture("treasure", "resources/resourceEntities/treasure.png");
 
         //
 
-        saveTexture("flash_red_left", "resources/placeholderassets/spacman_blue_2_1.png");
-        saveTexture("flash_red_right", "resources/placeholderassets/spacman_blue_damage_1.png");
+        addTexture("flash_red_left", "resources/placeholderassets/spacman_blue_2_1.png");
+        addTexture("flash_red_right", "resources/placeholderassets/spacman_blue_damage_1.png");
 
-        saveTexture("N", "resources/player/debug/N.png");
-        saveTexture("NE", "resources/player/debug/NE.png");
-        saveTexture("E", "resources/player/debug/E.png");
-        saveTexture("SE", "resources/player/debug/SE.png");
-        saveTexture("S", "resources/player/debug/S.png");
-        saveTexture("SW", "resources/player/debug/SW.png");
-        saveTexture("W", "resources/player/debug/W.png");
-        saveTexture("NW", "resources/player/debug/NW.png");
+        addTexture("N", "resources/player/debug/N.png");
+        addTexture("NE", "resources/player/debug/NE.png");
+        addTexture("E", "resources/player/debug/E.png");
+        addTexture("SE", "resources/player/debug/SE.png");
+        addTexture("S", "resources/player/debug/S.png");
+        addTexture("SW", "resources/player/debug/SW.png");
+        addTexture("W", "resources/player/debug/W.png");
+        addTexture("NW", "resources/player/debug/NW.png");
 
         // Add all wizard sprites
         for (Direction direction : Direction.values()) {
 
             String textureNameIdle = "wizard_idle_" + direction.name() + "_1";
-            saveTexture(textureNameIdle, "resources/player/wizard/idle/" + textureNameIdle + ".png");
+            addTexture(textureNameIdle, "resources/player/wizard/idle/" + textureNameIdle + ".png");
             String textureNameDamaged = "wizard_damaged_" + direction.name() + "_1";
-            saveTexture(textureNameDamaged, "resources/player/wizard/damaged/" + textureNameDamaged + ".png");
+            addTexture(textureNameDamaged, "resources/player/wizard/damaged/" + textureNameDamaged + ".png");
 
             for (int i = 1; i <= 4; i++) {
                 String textureNameAttack = "wizard_attack_" + direction.name() + "_" + i;
-                saveTexture(textureNameAttack, "resources/player/wizard/attack/" + textureNameAttack + ".png");
+                addTexture(textureNameAttack, "resources/player/wizard/attack/" + textureNameAttack + ".png");
             }
 
             for (int i = 1; i <= 6; i++) {
                 String textureNameAttack = "wizard_interact_" + direction.name() + "_" + i;
-                saveTexture(textureNameAttack, "resources/player/wizard/interact/" + textureNameAttack + ".png");
+                addTexture(textureNameAttack, "resources/player/wizard/interact/" + textureNameAttack + ".png");
             }
 
             for (int i = 1; i <= 17; i++) {
                 String textureNameDeath = "wizard_death_" + direction.name() + "_" + i;
-                saveTexture(textureNameDeath, "resources/player/wizard/death/" + textureNameDeath + ".png");
+                addTexture(textureNameDeath, "resources/player/wizard/death/" + textureNameDeath + ".png");
             }
 
         }
@@ -361,29 +918,29 @@ public class TextureManager extends Manager {
         for (Direction direction : Direction.values()) {
 
             String textureNameIdle = "caveman_idle_" + direction.name() + "_1";
-            saveTexture(textureNameIdle, "resources/player/caveman/idle/" + textureNameIdle + ".png");
+            addTexture(textureNameIdle, "resources/player/caveman/idle/" + textureNameIdle + ".png");
 
             String textureNameDamaged = "caveman_damaged_" + direction.name() + "_1";
-            saveTexture(textureNameDamaged, "resources/player/caveman/damaged/" + textureNameDamaged + ".png");
+            addTexture(textureNameDamaged, "resources/player/caveman/damaged/" + textureNameDamaged + ".png");
 
             for (int i = 1; i <= 5; i++) {
                 String textureNameAttack = "caveman_attack_" + direction.name() + "_" + i;
-                saveTexture(textureNameAttack, "resources/player/caveman/attack/" + textureNameAttack + ".png");
+                addTexture(textureNameAttack, "resources/player/caveman/attack/" + textureNameAttack + ".png");
             }
 
             for (int i = 1; i <= 8; i++) {
                 String textureNameWalk = "caveman_walk_" + direction.name() + "_" + i;
-                saveTexture(textureNameWalk, "resources/player/caveman/walk/" + textureNameWalk + ".png");
+                addTexture(textureNameWalk, "resources/player/caveman/walk/" + textureNameWalk + ".png");
             }
 
             for (int i = 1; i <= 3; i++) {
                 String textureNameDeath = "caveman_death_" + direction.name() + "_" + i;
-                saveTexture(textureNameDeath, "resources/player/caveman/death/" + textureNameDeath + ".png");
+                addTexture(textureNameDeath, "resources/player/caveman/death/" + textureNameDeath + ".png");
             }
 
             for (int i = 1; i <= 5; i++) {
                 String textureNameInteract = "caveman_interact_" + direction.name() + "_" + i;
-                saveTexture(textureNameInteract, "resources/player/caveman/interact/" + textureNameInteract + ".png");
+                addTexture(textureNameInteract, "resources/player/caveman/interact/" + textureNameInteract + ".png");
             }
 
         }
@@ -392,26 +949,26 @@ public class TextureManager extends Manager {
         for (Direction direction : Direction.values()) {
 
             String textureNameIdle = "archer_idle_" + direction.name() + "_1";
-            saveTexture(textureNameIdle, "resources/player/archer/idle/" + textureNameIdle + ".png");
+            addTexture(textureNameIdle, "resources/player/archer/idle/" + textureNameIdle + ".png");
 
             for (int i = 1; i <= 5; i++) {
                 String textureNameAttack = "archer_attack_" + direction.name() + "_" + i;
-                saveTexture(textureNameAttack, "resources/player/archer/attack/" + textureNameAttack + ".png");
+                addTexture(textureNameAttack, "resources/player/archer/attack/" + textureNameAttack + ".png");
             }
 
             for (int i = 1; i <= 8; i++) {
                 String textureNameWalk = "archer_walk_" + direction.name() + "_" + i;
-                saveTexture(textureNameWalk, "resources/player/archer/walk/" + textureNameWalk + ".png");
+                addTexture(textureNameWalk, "resources/player/archer/walk/" + textureNameWalk + ".png");
             }
 
             for (int i = 1; i <= 7; i++) {
                 String textureNameDeath = "archer_death_" + direction.name() + "_" + i;
-                saveTexture(textureNameDeath, "resources/player/archer/death/" + textureNameDeath + ".png");
+                addTexture(textureNameDeath, "resources/player/archer/death/" + textureNameDeath + ".png");
             }
 
             for (int i = 1; i <= 5; i++) {
                 String textureNameInteract = "archer_interact_" + direction.name() + "_" + i;
-                saveTexture(textureNameInteract, "resources/player/archer/interact/" + textureNameInteract + ".png");
+                addTexture(textureNameInteract, "resources/player/archer/interact/" + textureNameInteract + ".png");
             }
         }
 
@@ -419,86 +976,87 @@ public class TextureManager extends Manager {
         // Maybe just load everything from this directory
 
         for (File file : new File("resources/tiles/").listFiles()) {
-            saveTexture(file.getName().replaceFirst(".png", ""), file.getPath());
+            addTexture(file.getName().replaceFirst(".png", ""), file.getPath());
         }
 
 
         // CollisionMask debug
-        saveTexture("POINT_HIGHLIGHT", "resources/collisionmasks/Point2D_highlight.png");
-        saveTexture("CIRCLE_HIGHLIGHT", "resources/collisionmasks/Circle2D_highlight.png");
-        saveTexture("BOX_HIGHLIGHT", "resources/collisionmasks/Box2D_highlight.png");
+        addTexture("POINT_HIGHLIGHT", "resources/collisionmasks/Point2D_highlight.png");
+        addTexture("CIRCLE_HIGHLIGHT", "resources/collisionmasks/Circle2D_highlight.png");
+        addTexture("BOX_HIGHLIGHT", "resources/collisionmasks/Box2D_highlight.png");
 
-        saveTexture("turbofish", "resources/rustyfish/turbofish.png");
-        saveTexture("rustacean", "resources/rustyfish/rustacean.png");
-        saveTexture("boatman", "resources/rustyfish/boatman.png");
+        addTexture("turbofish", "resources/rustyfish/turbofish.png");
+        addTexture("rustacean", "resources/rustyfish/rustacean.png");
+        addTexture("boatman", "resources/rustyfish/boatman.png");
 
 
         //bear walk texture
         for (int i = 1; i < 9; i++) {
-            saveTexture("bear_walk_E_" + i, "resources/enemies/bear/walk/bear_walk_E_" + i + ".png");
-            saveTexture("bear_walk_N_" + i, "resources/enemies/bear/walk/bear_walk_N_" + i + ".png");
-            saveTexture("bear_walk_NE_" + i, "resources/enemies/bear/walk/bear_walk_NE_" + i + ".png");
-            saveTexture("bear_walk_NW_" + i, "resources/enemies/bear/walk/bear_walk_NW_" + i + ".png");
-            saveTexture("bear_walk_S_" + i, "resources/enemies/bear/walk/bear_walk_S_" + i + ".png");
-            saveTexture("bear_walk_SE_" + i, "resources/enemies/bear/walk/bear_walk_SE_" + i + ".png");
-            saveTexture("bear_walk_SW_" + i, "resources/enemies/bear/walk/bear_walk_SW_" + i + ".png");
-            saveTexture("bear_walk_W_" + i, "resources/enemies/bear/walk/bear_walk_W_" + i + ".png");
+            addTexture("bear_walk_E_" + i, "resources/enemies/bear/walk/bear_walk_E_" + i + ".png");
+            addTexture("bear_walk_N_" + i, "resources/enemies/bear/walk/bear_walk_N_" + i + ".png");
+            addTexture("bear_walk_NE_" + i, "resources/enemies/bear/walk/bear_walk_NE_" + i + ".png");
+            addTexture("bear_walk_NW_" + i, "resources/enemies/bear/walk/bear_walk_NW_" + i + ".png");
+            addTexture("bear_walk_S_" + i, "resources/enemies/bear/walk/bear_walk_S_" + i + ".png");
+            addTexture("bear_walk_SE_" + i, "resources/enemies/bear/walk/bear_walk_SE_" + i + ".png");
+            addTexture("bear_walk_SW_" + i, "resources/enemies/bear/walk/bear_walk_SW_" + i + ".png");
+            addTexture("bear_walk_W_" + i, "resources/enemies/bear/walk/bear_walk_W_" + i + ".png");
         }
 
         for(int i =1;i<8;i++){
             //bear attack texture
-            saveTexture("bear_attack_E_"+i,"resources/enemies/bear/attack/bear_attack_E_"+i+".png");
-            saveTexture("bear_attack_N_"+i,"resources/enemies/bear/attack/bear_attack_N_"+i+".png");
-            saveTexture("bear_attack_NE_"+i,"resources/enemies/bear/attack/bear_attack_NE_"+i+".png");
-            saveTexture("bear_attack_NW_"+i,"resources/enemies/bear/attack/bear_attack_NW_"+i+".png");
-            saveTexture("bear_attack_S_"+i,"resources/enemies/bear/attack/bear_attack_S_"+i+".png");
-            saveTexture("bear_attack_SE_"+i,"resources/enemies/bear/attack/bear_attack_SE_"+i+".png");
-            saveTexture("bear_attack_SW_"+i,"resources/enemies/bear/attack/bear_attack_SW_"+i+".png");
-            saveTexture("bear_attack_W_"+i,"resources/enemies/bear/attack/bear_attack_W_"+i+".png");
+            addTexture("bear_attack_E_"+i,"resources/enemies/bear/attack/bear_attack_E_"+i+".png");
+            addTexture("bear_attack_N_"+i,"resources/enemies/bear/attack/bear_attack_N_"+i+".png");
+            addTexture("bear_attack_NE_"+i,"resources/enemies/bear/attack/bear_attack_NE_"+i+".png");
+            addTexture("bear_attack_NW_"+i,"resources/enemies/bear/attack/bear_attack_NW_"+i+".png");
+            addTexture("bear_attack_S_"+i,"resources/enemies/bear/attack/bear_attack_S_"+i+".png");
+            addTexture("bear_attack_SE_"+i,"resources/enemies/bear/attack/bear_attack_SE_"+i+".png");
+            addTexture("bear_attack_SW_"+i,"resources/enemies/bear/attack/bear_attack_SW_"+i+".png");
+            addTexture("bear_attack_W_"+i,"resources/enemies/bear/attack/bear_attack_W_"+i+".png");
             //squirrel attack texture
-            saveTexture("squirrel_attack_E_"+i,"resources/enemies/squirrel/attack/squirrel_attack_E_"+i+".png");
-            saveTexture("squirrel_attack_N_"+i,"resources/enemies/squirrel/attack/squirrel_attack_N_"+i+".png");
-            saveTexture("squirrel_attack_NE_"+i,"resources/enemies/squirrel/attack/squirrel_attack_NE_"+i+".png");
-            saveTexture("squirrel_attack_NW_"+i,"resources/enemies/squirrel/attack/squirrel_attack_NW_"+i+".png");
-            saveTexture("squirrel_attack_S_"+i,"resources/enemies/squirrel/attack/squirrel_attack_S_"+i+".png");
-            saveTexture("squirrel_attack_SE_"+i,"resources/enemies/squirrel/attack/squirrel_attack_SE_"+i+".png");
-            saveTexture("squirrel_attack_SW_"+i,"resources/enemies/squirrel/attack/squirrel_attack_SW_"+i+".png");
-            saveTexture("squirrel_attack_W_"+i,"resources/enemies/squirrel/attack/squirrel_attack_W_"+i+".png");
+            addTexture("squirrel_attack_E_"+i,"resources/enemies/squirrel/attack/squirrel_attack_E_"+i+".png");
+            addTexture("squirrel_attack_N_"+i,"resources/enemies/squirrel/attack/squirrel_attack_N_"+i+".png");
+            addTexture("squirrel_attack_NE_"+i,"resources/enemies/squirrel/attack/squirrel_attack_NE_"+i+".png");
+            addTexture("squirrel_attack_NW_"+i,"resources/enemies/squirrel/attack/squirrel_attack_NW_"+i+".png");
+            addTexture("squirrel_attack_S_"+i,"resources/enemies/squirrel/attack/squirrel_attack_S_"+i+".png");
+            addTexture("squirrel_attack_SE_"+i,"resources/enemies/squirrel/attack/squirrel_attack_SE_"+i+".png");
+            addTexture("squirrel_attack_SW_"+i,"resources/enemies/squirrel/attack/squirrel_attack_SW_"+i+".png");
+            addTexture("squirrel_attack_W_"+i,"resources/enemies/squirrel/attack/squirrel_attack_W_"+i+".png");
             //squirrel walk texture
-            saveTexture("squirrel_walk_E_"+i,"resources/enemies/squirrel/walk/squirrel_walk_E_"+i+".png");
-            saveTexture("squirrel_walk_N_"+i,"resources/enemies/squirrel/walk/squirrel_walk_N_"+i+".png");
-            saveTexture("squirrel_walk_NE_"+i,"resources/enemies/squirrel/walk/squirrel_walk_NE_"+i+".png");
-            saveTexture("squirrel_walk_NW_"+i,"resources/enemies/squirrel/walk/squirrel_walk_NW_"+i+".png");
-            saveTexture("squirrel_walk_S_"+i,"resources/enemies/squirrel/walk/squirrel_walk_S_"+i+".png");
-            saveTexture("squirrel_walk_SE_"+i,"resources/enemies/squirrel/walk/squirrel_walk_SE_"+i+".png");
-            saveTexture("squirrel_walk_SW_"+i,"resources/enemies/squirrel/walk/squirrel_walk_SW_"+i+".png");
-            saveTexture("squirrel_walk_W_"+i,"resources/enemies/squirrel/walk/squirrel_walk_W_"+i+".png");
+            addTexture("squirrel_walk_E_"+i,"resources/enemies/squirrel/walk/squirrel_walk_E_"+i+".png");
+            addTexture("squirrel_walk_N_"+i,"resources/enemies/squirrel/walk/squirrel_walk_N_"+i+".png");
+            addTexture("squirrel_walk_NE_"+i,"resources/enemies/squirrel/walk/squirrel_walk_NE_"+i+".png");
+            addTexture("squirrel_walk_NW_"+i,"resources/enemies/squirrel/walk/squirrel_walk_NW_"+i+".png");
+            addTexture("squirrel_walk_S_"+i,"resources/enemies/squirrel/walk/squirrel_walk_S_"+i+".png");
+            addTexture("squirrel_walk_SE_"+i,"resources/enemies/squirrel/walk/squirrel_walk_SE_"+i+".png");
+            addTexture("squirrel_walk_SW_"+i,"resources/enemies/squirrel/walk/squirrel_walk_SW_"+i+".png");
+            addTexture("squirrel_walk_W_"+i,"resources/enemies/squirrel/walk/squirrel_walk_W_"+i+".png");
             //squirrel death texture
-            saveTexture("squirrel_death_E_"+i,"resources/enemies/squirrel/death/squirrel_death_E_"+i+".png");
-            saveTexture("squirrel_death_N_"+i,"resources/enemies/squirrel/death/squirrel_death_N_"+i+".png");
-            saveTexture("squirrel_death_NE_"+i,"resources/enemies/squirrel/death/squirrel_death_NE_"+i+".png");
-            saveTexture("squirrel_death_NW_"+i,"resources/enemies/squirrel/death/squirrel_death_NW_"+i+".png");
-            saveTexture("squirrel_death_S_"+i,"resources/enemies/squirrel/death/squirrel_death_S_"+i+".png");
-            saveTexture("squirrel_death_SE_"+i,"resources/enemies/squirrel/death/squirrel_death_SE_"+i+".png");
-            saveTexture("squirrel_death_SW_"+i,"resources/enemies/squirrel/death/squirrel_death_SW_"+i+".png");
-            saveTexture("squirrel_death_W_"+i,"resources/enemies/squirrel/death/squirrel_death_W_"+i+".png");
+            addTexture("squirrel_death_E_"+i,"resources/enemies/squirrel/death/squirrel_death_E_"+i+".png");
+            addTexture("squirrel_death_N_"+i,"resources/enemies/squirrel/death/squirrel_death_N_"+i+".png");
+            addTexture("squirrel_death_NE_"+i,"resources/enemies/squirrel/death/squirrel_death_NE_"+i+".png");
+            addTexture("squirrel_death_NW_"+i,"resources/enemies/squirrel/death/squirrel_death_NW_"+i+".png");
+            addTexture("squirrel_death_S_"+i,"resources/enemies/squirrel/death/squirrel_death_S_"+i+".png");
+            addTexture("squirrel_death_SE_"+i,"resources/enemies/squirrel/death/squirrel_death_SE_"+i+".png");
+            addTexture("squirrel_death_SW_"+i,"resources/enemies/squirrel/death/squirrel_death_SW_"+i+".png");
+            addTexture("squirrel_death_W_"+i,"resources/enemies/squirrel/death/squirrel_death_W_"+i+".png");
         }
         for(int i =1;i<7;i++){
-            saveTexture("bear_death_E_"+i,"resources/enemies/bear/death/bear_death_E_"+i+".png");
-            saveTexture("bear_death_N_"+i,"resources/enemies/bear/death/bear_death_N_"+i+".png");
-            saveTexture("bear_death_NE_"+i,"resources/enemies/bear/death/bear_death_NE_"+i+".png");
-            saveTexture("bear_death_NW_"+i,"resources/enemies/bear/death/bear_death_NW_"+i+".png");
-            saveTexture("bear_death_S_"+i,"resources/enemies/bear/death/bear_death_S_"+i+".png");
-            saveTexture("bear_death_SE_"+i,"resources/enemies/bear/death/bear_death_SE_"+i+".png");
-            saveTexture("bear_death_SW_"+i,"resources/enemies/bear/death/bear_death_SW_"+i+".png");
-            saveTexture("bear_death_W_"+i,"resources/enemies/bear/death/bear_death_W_"+i+".png");
+            addTexture("bear_death_E_"+i,"resources/enemies/bear/death/bear_death_E_"+i+".png");
+            addTexture("bear_death_N_"+i,"resources/enemies/bear/death/bear_death_N_"+i+".png");
+            addTexture("bear_death_NE_"+i,"resources/enemies/bear/death/bear_death_NE_"+i+".png");
+            addTexture("bear_death_NW_"+i,"resources/enemies/bear/death/bear_death_NW_"+i+".png");
+            addTexture("bear_death_S_"+i,"resources/enemies/bear/death/bear_death_S_"+i+".png");
+            addTexture("bear_death_SE_"+i,"resources/enemies/bear/death/bear_death_SE_"+i+".png");
+            addTexture("bear_death_SW_"+i,"resources/enemies/bear/death/bear_death_SW_"+i+".png");
+            addTexture("bear_death_W_"+i,"resources/enemies/bear/death/bear_death_W_"+i+".png");
         }
 
     }
 
 
     /**
-     * Gets a texture object for a given string id
+     * Gets a texture object for a given string id. Textures packed into the atlas share a page with others, so this
+     * is the whole page. Use getTextureRegion(...) to draw them.
      *
      * @param id Texture identifier
      * @return Texture for given id
@@ -514,11 +1072,114 @@ public class TextureManager extends Manager {
      * @return TextureRegion for given id
      */
     public TextureRegion getTextureRegion(String id) {
-        if (textureMap.containsKey(id)) {
-            return textureMap.get(id);
-        } else {
-            return textureMap.get("spacman_ded");
+        TextureRegion region = textureMap.get(id);
+        if (region != null) {
+            return region;
         }
+        TextureGroup group = groupsById.get(id);
+        if (group == null) {
+            return textureMap.get(FALLBACK_TEXTURE);
+        }
+        if (!group.isLoaded()) {
+            // Drawn as the fallback until it has been loaded
+            requestGroup(group);
+            return textureMap.get(FALLBACK_TEXTURE);
+        }
+        return group.getRegion(id);
+    }
+
+    /**
+     * Gets a texture region by its frame id, as from getFrameId(...). Unlike looking it up by its string id, this is
+     * an array lookup once the frame has been drawn before.
+     *
+     * @param frame Frame id
+     * @return TextureRegion for the frame
+     */
+    public TextureRegion getTextureRegion(int frame) {
+        if (frame < 0) {
+            return textureMap.get(FALLBACK_TEXTURE);
+        }
+        TextureRegion region = frame < frameRegions.length ? frameRegions[frame] : null;
+        // Groups that have been unloaded are loaded again by looking up the id
+        if (region != null && (frameGroups[frame] == null || frameGroups[frame].isLoaded())) {
+            return region;
+        }
+        String id = frameNames.get(frame);
+        region = getTextureRegion(id);
+        TextureGroup group = groupsById.get(id);
+        // Not the fallback drawn while a group is loading
+        if (textureMap.containsKey(id) || group != null && group.isLoaded()) {
+            if (frame >= frameRegions.length) {
+                frameRegions = Arrays.copyOf(frameRegions, frameNames.size());
+                frameGroups = Arrays.copyOf(frameGroups, frameNames.size());
+            }
+            frameRegions[frame] = region;
+            frameGroups[frame] = group;
+        }
+        return region;
+    }
+
+    /**
+     * Interns a texture id as a frame id, so animations can store and draw their frames without building or hashing
+     * strings each tick. The same id always gives the same frame id, whether or not it has a texture yet.
+     *
+     * @param id Texture identifier
+     * @return the frame id, or -1 if id is null
+     */
+    public static int getFrameId(String id) {
+        if (id == null) {
+            return -1;
+        }
+        Integer frame = frameIds.get(id);
+        if (frame == null) {
+            frame = frameNames.size();
+            frameIds.put(id, frame);
+            frameNames.add(id);
+        }
+        return frame;
+    }
+
+    /**
+     * Gets the texture id a frame id was interned from.
+     *
+     * @param frame Frame id
+     * @return the texture id, the same string each time
+     */
+    public static String getFrameName(int frame) {
+        return frame < 0 ? null : frameNames.get(frame);
+    }
+
+    /**
+     * Interns the frame ids of an animation drawn in each direction, with ids named
+     * {@code <prefix>_<direction>_<frame number>}, numbered from 1.
+     *
+     * @param prefix start of the ids, such as "bear_walk"
+     * @param frames number of frames in the animation
+     * @return the frame ids by the ordinal of the direction, then frame number - 1
+     */
+    public static int[][] getDirectionalFrameIds(String prefix, int frames) {
+        int[][] ids = new int[Direction.values().length][frames];
+        for (Direction direction : Direction.values()) {
+            for (int i = 0; i < frames; i++) {
+                ids[direction.ordinal()][i] = getFrameId(prefix + "_" + direction.name() + "_" + (i + 1));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Interns the frame ids of a still texture drawn in each direction, with ids named
+     * {@code <prefix>_<direction>}.
+     *
+     * @param prefix start of the ids, such as "squirrel"
+     * @return the frame ids by the ordinal of the direction
+     */
+    public static int[] getDirectionalFrameIds(String prefix) {
+        int[] ids = new int[Direction.values().length];
+        for (Direction direction : Direction.values()) {
+            ids[direction.ordinal()] = getFrameId(prefix + "_" + direction.name());
+        }
+        return ids;
     }
 
     /**
@@ -538,10 +1199,12 @@ public class TextureManager extends Manager {
                 textureMap.put(spriteNames[y][x], new TextureRegion(region, x * width, y * height, width, height));
             }
         }
+        // Frames may have been drawn with the textures replaced
+        Arrays.fill(frameRegions, null);
     }
 
     /**
-     * Saves a texture with a given id
+     * Saves a texture with a given id, using its region in the atlas if it has been packed
      *
      * @param id       Texture id
      * @param filename Filename within the assets folder
@@ -549,7 +1212,12 @@ public class TextureManager extends Manager {
     public static void saveTexture(String id, String filename) {
         LOGGER.info("Saving texture" + id + " with Filename " + filename);
         if (!textureMap.containsKey(id)) {
-            textureMap.put(id, new TextureRegion(new Texture(filename)));
+            TextureRegion region = atlasRegions.get(getRegionName(filename));
+            if (region == null) {
+                region = new TextureRegion(new Texture(filename));
+                permanentBytes += getTextureBytes(region.getTexture());
+            }
+            textureMap.put(id, region);
         }
     }
 }
@@ -132,6 +132,12 @@ public class WaveManager extends Manager implements TickableManager, ForWorld {
     	
     	// Terrain to add the resource to
     	Terrain terrain;
+
+    	// Resources for each world, added in one batch at the end
+    	List<List<ResourceEntity>> newResources = new ArrayList<>();
+    	for (int k = 0; k < worlds.length; k++) {
+    		newResources.add(new ArrayList<>());
+    	}
     	
     	// Iterate over the three different resources
     	for (int i = 0; i < 3; i ++) {
@@ -150,7 +156,7 @@ public class WaveManager extends Manager implements TickableManager, ForWorld {
         			if (terrain.getMoveScale() > 0) {
         				// Add the resource to the world. Offset the resource array index to the
         				// resources relevant to each world.
-        				worlds[k].addEntity(new ResourceEntity(xPos, yPos, resources[i + 3 * k]));
+        				newResources.get(k).add(new ResourceEntity(xPos, yPos, resources[i + 3 * k]));
         			}
         			
     			}			  			    			
@@ -158,6 +164,10 @@ public class WaveManager extends Manager implements TickableManager, ForWorld {
     		}
     	
     	}
+
+    	for (int k = 0; k < worlds.length; k++) {
+    		worlds[k].addEntities(newResources.get(k));
+    	}
     	
     }
 
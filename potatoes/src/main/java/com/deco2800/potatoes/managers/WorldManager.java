@@ -30,6 +30,8 @@ public class WorldManager extends Manager implements TickableManager {
 	private float[][][] randomGridEdges;
 
 	private boolean worldCached = false;
+	// The type of the world last set, which holds on to its textures
+	private WorldType worldType;
 
 	/**
 	 * Initializes the world manager and generates random grids to use for
@@ -81,9 +83,7 @@ public class WorldManager extends Manager implements TickableManager {
 	private void addDefaultEntities(World world, WorldType key) {
 		// Temporary, entities are already added to forest world in game screen
 		if (true || key != ForestWorld.get()) {
-			for (AbstractEntity entity : key.getEntities()) {
-				world.addEntity(entity);
-			}
+			world.addEntities(key.getEntities());
 		}
 
 	}
@@ -93,13 +93,19 @@ public class WorldManager extends Manager implements TickableManager {
 	 * access is attempted
 	 */
 	public void deleteWorld(WorldType key) {
-		worlds.remove(key);
+		World world = worlds.remove(key);
+		if (world != null) {
+			world.removeAllEntities();
+		}
 	}
 
 	/**
 	 * Deletes all worlds
 	 */
 	public void clearWorlds() {
+		for (World world : worlds.values()) {
+			world.removeAllEntities();
+		}
 		worlds.clear();
 	}
 
@@ -111,6 +117,12 @@ public class WorldManager extends Manager implements TickableManager {
 		// GameManager.setWorld will probably need to be updated. Some managers need to
 		// be reloaded, etc.
 		GameManager.get().setWorld(getWorld(key));
+		// Acquired before releasing, so setting the same world again doesn't let its textures be unloaded
+		TextureManager.acquireTextures(key.getTextureGroup());
+		if (worldType != null) {
+			TextureManager.releaseTextures(worldType.getTextureGroup());
+		}
+		worldType = key;
 	}
 
 	/**
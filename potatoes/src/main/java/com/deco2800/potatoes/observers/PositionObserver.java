@@ -0,0 +1,26 @@
+package com.deco2800.potatoes.observers;
+
+import com.deco2800.potatoes.collisions.Shape2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+
+/**
+ * Observer for entities changing position. {@link #notifyPositionChanged(AbstractEntity)} is only
+ * called on the first change after the entity's position was last acknowledged with
+ * {@link AbstractEntity#clearPositionChanged()}, so it is called at most once per entity between
+ * updates. {@link #notifyMoved(AbstractEntity, Shape2D)} is called after every change.
+ */
+public interface PositionObserver {
+
+	void notifyPositionChanged(AbstractEntity entity);
+
+	/**
+	 * Called after each change to an entity's position, for anything that must always know where
+	 * the entity is.
+	 *
+	 * @param entity	The entity that moved
+	 * @param mask		The entity's mask at its new position. This is the entity's own mask, so it
+	 *               	must not be changed or kept.
+	 */
+	void notifyMoved(AbstractEntity entity, Shape2D mask);
+
+}
@@ -0,0 +1,18 @@
+package com.deco2800.potatoes.observers;
+
+import com.deco2800.potatoes.entities.AbstractEntity;
+
+/**
+ * Observer for static, solid entities being added to or removed from a world, such as trees being planted or
+ * destroyed. These are the entities that paths have to go around. Observers are also told when any other entity is
+ * removed, as it may have been something paths were heading for.
+ */
+public interface StaticEntityObserver {
+
+	void notifyStaticEntityAdded(AbstractEntity entity);
+
+	void notifyStaticEntityRemoved(AbstractEntity entity);
+
+	void notifyEntityRemoved(AbstractEntity entity);
+
+}
@@ -0,0 +1,175 @@
+package com.deco2800.potatoes.renderering;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.deco2800.potatoes.managers.TextureManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Packs the textures loaded by the TextureManager into the pages of texture atlases, which the TextureManager loads
+ * instead of the separate files. Run with gradlew packTextures, from the potatoes directory.
+ *
+ * Each region is named by TextureManager.getRegionName(...) of the file it was packed from. Images bigger than
+ * MAX_PACKED_SIZE in either direction are left out, as they would fill most of a page by themselves, and are loaded
+ * from their own files. So are textures drawn repeated by wrapping, see TextureManager.isRepeatedTexture(...).
+ */
+public class AtlasPacker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AtlasPacker.class);
+
+    public static final int PAGE_SIZE = 4096;
+    public static final int MAX_PACKED_SIZE = 1024;
+    // Pixels between regions, with the edges of each image copied into them so filtering doesn't bleed
+    private static final int PADDING = 2;
+    // How much more area than the images themselves a page needs to fit them
+    private static final double PACKING_SLACK = 1.25;
+
+    private AtlasPacker() {
+        // Run from main
+    }
+
+    /**
+     * Packs every texture listed by the TextureManager. Those the main menu needs go in TextureManager.MENU_ATLAS_FILE,
+     * so they can be loaded first, and those in a group go in the group's own atlas, so they can be loaded and
+     * unloaded together. The rest go in TextureManager.ATLAS_FILE.
+     *
+     * @param args Command line arguments (not used)
+     * @throws IOException if the atlases can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        GdxNativesLoader.load();
+        Set<String> menuFiles = new LinkedHashSet<>();
+        Set<String> files = new LinkedHashSet<>();
+        Map<String, Set<String>> groupFiles = new LinkedHashMap<>();
+        for (String file : TextureManager.getTextureFiles().values()) {
+            if (TextureManager.isRepeatedTexture(file)) {
+                continue;
+            }
+            String group = TextureManager.getTextureGroup(file);
+            if (group != null) {
+                groupFiles.computeIfAbsent(group, g -> new LinkedHashSet<>()).add(file);
+            } else {
+                (TextureManager.isMenuTexture(file) ? menuFiles : files).add(file);
+            }
+        }
+        int pages = pack(menuFiles, new FileHandle(TextureManager.MENU_ATLAS_FILE))
+                + pack(files, new FileHandle(TextureManager.ATLAS_FILE));
+        for (Map.Entry<String, Set<String>> group : groupFiles.entrySet()) {
+            // A group of one texture is loaded from its own file just as well
+            if (group.getValue().size() > 1) {
+                pages += pack(group.getValue(), new FileHandle(TextureManager.getAtlasFile(group.getKey())));
+            }
+        }
+        LOGGER.info("Packed textures into " + pages + " pages");
+    }
+
+    /**
+     * Packs images into an atlas. The pages are written next to the atlas file, named after it.
+     *
+     * @param files  files of the images to pack
+     * @param atlas  atlas file to write
+     * @return the number of pages written
+     * @throws IOException if the atlas can't be written
+     */
+    public static int pack(Collection<String> files, FileHandle atlas) throws IOException {
+        List<Pixmap> images = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String file : files) {
+            Pixmap image = new Pixmap(new FileHandle(file));
+            if (image.getWidth() > MAX_PACKED_SIZE || image.getHeight() > MAX_PACKED_SIZE) {
+                LOGGER.info("Not packing " + file + ", it is " + image.getWidth() + "x" + image.getHeight());
+                image.dispose();
+            } else {
+                images.add(image);
+                names.add(TextureManager.getRegionName(file));
+            }
+        }
+
+        int pageSize = getPageSize(images);
+        PixmapPacker packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, PADDING, true,
+                new PixmapPacker.GuillotineStrategy());
+        // Tallest first packs the skylines more tightly
+        Integer[] order = new Integer[images.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> images.get(b).getHeight() - images.get(a).getHeight());
+        for (int i : order) {
+            packer.pack(names.get(i), images.get(i));
+            images.get(i).dispose();
+        }
+
+        atlas.parent().mkdirs();
+        try (Writer writer = atlas.writer(false, "UTF-8")) {
+            int index = 0;
+            for (PixmapPacker.Page page : packer.getPages()) {
+                index++;
+                FileHandle pageFile = atlas.sibling(atlas.nameWithoutExtension() + index + ".png");
+                PixmapIO.writePNG(pageFile, page.getPixmap());
+                writePage(writer, pageFile.name(), page);
+            }
+        }
+        int pages = packer.getPages().size;
+        packer.dispose();
+        return pages;
+    }
+
+    /**
+     * Gets the size of the pages to pack images into. This is PAGE_SIZE, unless they would fit on a smaller page, so a
+     * few images don't fill a whole page of empty space.
+     */
+    private static int getPageSize(List<Pixmap> images) {
+        long area = 0;
+        int largest = 0;
+        for (Pixmap image : images) {
+            int width = image.getWidth() + PADDING * 2;
+            int height = image.getHeight() + PADDING * 2;
+            area += (long) width * height;
+            largest = Math.max(largest, Math.max(width, height));
+        }
+        // Some room to spare, as the images won't fit together perfectly
+        int size = Math.max(largest, (int) Math.ceil(Math.sqrt(area * PACKING_SLACK)));
+        return Math.min(PAGE_SIZE, MathUtils.nextPowerOfTwo(size));
+    }
+
+    /**
+     * Writes a page and its regions in the libGDX atlas format
+     */
+    private static void writePage(Writer writer, String pageFile, PixmapPacker.Page page) throws IOException {
+        writer.write("\n" + pageFile + "\n");
+        writer.write("size: " + page.getPixmap().getWidth() + "," + page.getPixmap().getHeight() + "\n");
+        writer.write("format: RGBA8888\n");
+        // Nearest, the same as textures loaded from their own file
+        writer.write("filter: Nearest,Nearest\n");
+        writer.write("repeat: none\n");
+        for (String name : page.getRects().keys()) {
+            Rectangle rect = page.getRects().get(name);
+            int width = (int) rect.width;
+            int height = (int) rect.height;
+            writer.write(name + "\n");
+            writer.write("  rotate: false\n");
+            writer.write("  xy: " + (int) rect.x + ", " + (int) rect.y + "\n");
+            writer.write("  size: " + width + ", " + height + "\n");
+            writer.write("  orig: " + width + ", " + height + "\n");
+            writer.write("  offset: 0, 0\n");
+            writer.write("  index: -1\n");
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.deco2800.potatoes.renderering;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.renderers.BatchTiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
@@ -37,7 +37,7 @@ public class Render2D implements Renderer {
 
         for (AbstractEntity e : renderables) {
             TextureManager reg = GameManager.get().getManager(TextureManager.class);
-            Texture tex = reg.getTexture(e.getTexture());
+            TextureRegion tex = reg.getTextureRegion(e.getTexture());
             batch.draw(tex, e.getPosY()*COORDINATEMULTIPLIER, e.getPosZ()*COORDINATEMULTIPLIER, e.getXRenderLength()*COORDINATEMULTIPLIER, e.getYRenderLength()*COORDINATEMULTIPLIER);
 
         }
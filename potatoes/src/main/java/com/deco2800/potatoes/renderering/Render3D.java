@@ -39,11 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 /**
  * A simple isometric renderer for DECO2800 games
@@ -63,12 +59,29 @@ public class Render3D implements Renderer {
 	private SpriteCache cache;
 	private SpriteCacheBatch spriteCacheBatch;
 	private BatchTiledMapRenderer tiledMap;
-	private SortedMap<AbstractEntity, Integer> rendEntities;
+	private VisibleEntityList rendEntities = new VisibleEntityList();
+	private RenderCommandList commands = new RenderCommandList();
+	// Counters for the last frame
+	private int drawCommands;
+	private int renderCalls;
+	private int textureSwitches;
+	// Part of a progress bar to draw, reused every draw
+	private final TextureRegion barPart = new TextureRegion();
+	private World rendWorld;
+	private Box2D viewArea = new Box2D(0, 0, 0, 0);
+	// The base portal whose health is shown on the HUD, and the world it was looked for in
+	private BasePortal hudPortal;
+	private World hudPortalWorld;
+	// How far through the simulation step after the last one this frame is, see setInterpolation(...)
+	private float interpolation = 1;
 
 	private int tileWidth;
 	private int tileHeight;
 	private static final String TILE_WIDTH =  "tilewidth";
 	private static final String TILE_HEIGHT =  "tileheight";
+	// Distance outside the view (in world units) that entities are still drawn from, as sprites, shadows and
+	// effects can extend well past their position
+	private static final float CULL_MARGIN = 10;
 
 	/**
 	 * Renders onto a batch, given a renderables with entities It is expected that
@@ -79,7 +92,7 @@ public class Render3D implements Renderer {
 	 */
 	@Override
 	public void render(SpriteBatch batch) {
-		//IMPORTANT: each subroutine opens and closes the batch itself
+		//IMPORTANT: each subroutine opens and closes the batch itself, entities are all drawn in submitCommands
 
 		// Created here because constructor is run in tests
 		if (shapeRenderer == null) {
@@ -98,27 +111,25 @@ public class Render3D implements Renderer {
 		this.tileWidth = (int) world.getMap().getProperties().get(TILE_WIDTH);
 		this.tileHeight = (int) world.getMap().getProperties().get(TILE_HEIGHT);
 
-		//get entities sorted back to front, for drawing order
+		//get entities in view sorted back to front, for drawing order
 		getRenderedEntitiesSorted();
 
 		//get shading colour for day night cycle
 		Color shading = GameManager.get().getManager(GameTimeManager.class).getColour();
 
 
+		int renderCallsBefore = batch.totalRenderCalls;
+		drawCommands = 0;
+		textureSwitches = 0;
+
 		batch.setColor(shading);		// 		set world shading
 		renderMap();					// 		rend tiles
 		renderCursor();					//		highlighted cursor, communicates with treeShopGui
-		renderShadows();				// 		CollisionMasks of entities as shadows
-		renderEntities();				// 		entities normal
-		renderProjectiles();			// 		entities projectile
-		renderEffects();				// 		effect entities
-
-		GameManager.get().getManager(ParticleManager.class).draw(batch);	//rend particles
+		buildCommands();				//		one pass over the entities for everything drawn for them
+		submitCommands(shading);		//		shadows, entities, projectiles, effects, particles, text & displays
+		renderHud();					//		player & portal health
 
-		// text & displays
-		batch.setColor(Color.WHITE);	// clear shading
-		renderTreeResources();			// rend tree resource count
-		renderProgressBars();			// 		progress bars
+		renderCalls = batch.totalRenderCalls - renderCallsBefore;
 
 		// tree shop radial menu
 		GameManager.get().getManager(GuiManager.class).getGui(TreeShopGui.class).render();
@@ -131,36 +142,76 @@ public class Render3D implements Renderer {
 	}
 
 	/**
-	 * @return a list of entities sorted in render order (back to front)
+	 * Sprites of moving entities are drawn part way between where they were before the last step and where they are
+	 * now, so they move smoothly whatever the frame rate.
 	 */
-	private void getRenderedEntitiesSorted() {
-		Map<Integer, AbstractEntity> renderables = GameManager.get().getWorld().getEntities();
-
-		/* Tree map so we sort our entities properly */
-		rendEntities = new TreeMap<>(new Comparator<AbstractEntity>() {
-			@Override
-			public int compare(AbstractEntity abstractEntity, AbstractEntity t1) {
-				int val = abstractEntity.compareTo(t1);
-				if (abstractEntity instanceof Effect) {
-					val = -1;
-				}
-				// Hacky fix so TreeMap doesn't throw away duplicate values. I.e. Renderables in
-				// the exact same location
-				// Since TreeMap's think when the comparator result is 0 the objects are
-				// duplicates, we just make that
-				// impossible to occur.
-				if (val == 0) {
-					val = 1;
-				}
+	@Override
+	public void setInterpolation(float alpha) {
+		interpolation = alpha;
+	}
 
-				return val;
-			}
-		});
+	/**
+	 * @return the number of draw commands (sprites, shadows, effects and text) in the last frame
+	 */
+	public int getDrawCommands() {
+		return drawCommands;
+	}
 
-		/* Gets a list of all entities in the renderables */
-		for (Map.Entry<Integer, AbstractEntity> e : renderables.entrySet()) {
-			rendEntities.put(e.getValue(), e.getKey());
+	/**
+	 * @return the number of times the world sprite batch was flushed to the GPU in the last frame
+	 */
+	public int getRenderCalls() {
+		return renderCalls;
+	}
+
+	/**
+	 * @return the number of times the texture changed between draw commands in the last frame
+	 */
+	public int getTextureSwitches() {
+		return textureSwitches;
+	}
+
+	/**
+	 * Updates the list of entities in view of the camera, sorted in render order (back to front)
+	 */
+	private void getRenderedEntitiesSorted() {
+		World world = GameManager.get().getWorld();
+		if (world != rendWorld) {
+			rendEntities.clear();
+			rendWorld = world;
 		}
+		rendEntities.update(world, getViewArea());
+	}
+
+	/**
+	 * Finds the area of the world in view of the camera, including a margin around it.
+	 *
+	 * @return a box in world coordinates containing everything in view
+	 */
+	private Box2D getViewArea() {
+		OrthographicCamera camera = GameManager.get().getManager(CameraManager.class).getCamera();
+		float halfWidth = camera.viewportWidth * camera.zoom / 2;
+		float halfHeight = camera.viewportHeight * camera.zoom / 2;
+
+		float minX = Float.POSITIVE_INFINITY;
+		float minY = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY;
+		float maxY = Float.NEGATIVE_INFINITY;
+		// The screen is a diamond in world coordinates, so take the box around its corners
+		for (int corner = 0; corner < 4; corner++) {
+			float screenX = camera.position.x + (corner % 2 == 0 ? -halfWidth : halfWidth);
+			float screenY = camera.position.y + (corner < 2 ? -halfHeight : halfHeight);
+			Vector2 worldPos = screenToWorldCoordinates(screenX, screenY);
+			minX = Math.min(minX, worldPos.x);
+			minY = Math.min(minY, worldPos.y);
+			maxX = Math.max(maxX, worldPos.x);
+			maxY = Math.max(maxY, worldPos.y);
+		}
+		viewArea.setX((minX + maxX) / 2);
+		viewArea.setY((minY + maxY) / 2);
+		viewArea.setXLength(maxX - minX + 2 * CULL_MARGIN);
+		viewArea.setYLength(maxY - minY + 2 * CULL_MARGIN);
+		return viewArea;
 	}
 
 	/**
@@ -247,193 +298,273 @@ public class Render3D implements Renderer {
 	}
 
 	/**
-	 * Renders non-Projectile, non-Effect entities.
-	 * Does not consider rotate images */
-	private void renderEntities() {
+	 * Goes through the entities in view once, adding commands for everything to draw for them, then sorts the
+	 * commands into drawing order */
+	private void buildCommands() {
 		TextureManager texMan = GameManager.get().getManager(TextureManager.class);
+		ProgressBarManager progressValues = GameManager.get().getManager(ProgressBarManager.class);
+		Player player = GameManager.get().getManager(PlayerManager.class).getPlayer();
 
+		commands.clear();
+		for (AbstractEntity e : rendEntities.getEntities()) {
+			// CollisionMasks of entities as shadows
+			if (e.hasShadow()) {
+				commands.add(RenderCommandList.Layer.SHADOW, null, e);
+			}
 
-		batch.begin();
-		for (Map.Entry<AbstractEntity, Integer> entity : rendEntities.entrySet()) {
-			AbstractEntity e = entity.getKey();
-
-			// skip projectiles & effects
-			if (e instanceof Projectile || e instanceof Effect)
-				continue;
-
-			// get texture
-			Texture tex = texMan.getTexture(e.getTexture());
-
-			Vector2 isoPosition = worldToScreenCoordinates(e.getPosX(), e.getPosY(), e.getPosZ());
-
-			// We want to keep the aspect ratio of the image so...
-			float aspect = (float) tex.getWidth() / (float) tileWidth;
+			if (e instanceof Projectile || e instanceof Effect) {
+				commands.add(RenderCommandList.Layer.PROJECTILE, getFrameRegion(texMan, e), e);
+				if (e instanceof Effect) {
+					commands.add(RenderCommandList.Layer.EFFECT, null, e);
+				}
+			} else {
+				commands.add(RenderCommandList.Layer.ENTITY, texMan.getTextureRegion(e.getTextureFrame()), e);
+			}
 
-			float offsetX;
-			float offsetY;
-			offsetX = tileWidth * e.getXRenderLength() / 2 - aspect * e.getXRenderOffset();
-			offsetY = tileWidth * e.getXRenderLength() / 4 - aspect * e.getYRenderOffset();
+			if (e instanceof ResourceTree && ((ResourceTree) e).getGatherCount() > 0) {
+				commands.add(RenderCommandList.Layer.RESOURCE_COUNT, null, e);
+			}
 
-			batch.draw(tex,
-					isoPosition.x - offsetX, isoPosition.y - offsetY,		// x, y
-					tileWidth * e.getXRenderLength(), 						// width
-					tex.getHeight() / aspect * e.getYRenderLength());		// height
+			if (e != player && showsProgressBar(progressValues, e)) {
+				ProgressBar progressBar = ((HasProgressBar) e).getProgressBar();
+				// Allow entities to return null if they don't want to display their progress bar
+				if (progressBar != null) {
+					commands.add(RenderCommandList.Layer.PROGRESS_BAR, texMan.getTextureRegion(progressBar.getTexture()), e);
+				}
+			}
 		}
-		batch.end();
+		commands.sort();
 	}
 
 	/**
-	 * Renders Projectile entities */
-	private void renderProjectiles() {
-		TextureManager texMan = GameManager.get().getManager(TextureManager.class);
-
-		batch.begin();
-		for (Map.Entry<AbstractEntity, Integer> entity : rendEntities.entrySet()) {
-			AbstractEntity e = entity.getKey();
-
-			// skip projectiles & effects
-			if (!(e instanceof Projectile)&&!(e instanceof Effect))
-				continue;
+	 * Gets the texture region of an entity, or its current animation frame if it is animated */
+	private static TextureRegion getFrameRegion(TextureManager texMan, AbstractEntity e) {
+		if (e instanceof Animated) {
+			return texMan.getTextureRegion(((Animated) e).getFrameId());
+		}
+		return texMan.getTextureRegion(e.getTextureFrame());
+	}
 
-			// get texture
-			Texture tex;
-			if (e instanceof Animated) {
-				tex = texMan.getTexture(((Animated) e).getAnimation().getFrame());
-			} else {
-				tex = texMan.getTexture(e.getTexture());
+	/**
+	 * Checks whether the progress bar of an entity should be shown, according to the progress bar settings */
+	private static boolean showsProgressBar(ProgressBarManager progressValues, AbstractEntity e) {
+		// Progress Bar for Goal Potato.
+		if (e instanceof BasePortal) {
+			if (!progressValues.showPotatoProgress()) {
+				return false;
 			}
-
-			Vector2 isoPosition = worldToScreenCoordinates(e.getPosX(), e.getPosY(), e.getPosZ());
-
-			// We want to keep the aspect ratio of the image so...
-			float aspect = (float) tex.getWidth() / (float) tileWidth;
-
-			float offsetX;
-			float offsetY;
-			offsetX = tileWidth * e.getXRenderLength() / 2 - aspect * e.getXRenderOffset();
-			offsetY = tileWidth * e.getXRenderLength() / 2 - aspect * e.getYRenderOffset();
-
-
-			batch.draw(tex,
-					isoPosition.x - offsetX, isoPosition.y - offsetY,		// x, y
-					offsetX, offsetY, 										// originX, originY
-					tileWidth * e.getXRenderLength(), 						// width
-					tex.getHeight() / aspect * e.getYRenderLength(),		// height
-					1, 1, - e.rotationAngle(), 0, 0,						// scaleX, scaleY, rotation,  srcX, srcY
-					tex.getWidth(), tex.getHeight(), false, false);			// srcWidth, srcHeight, flipX, flipY
-
+		// Progress Bars for enemy entities.
+		} else if (e instanceof EnemyEntity) {
+			if (!progressValues.showEnemiesProgress()) {
+				return false;
+			}
+		// Progress Bars for allies [Trees, Portals].
+		} else if (!progressValues.showAlliesProgress()) {
+			return false;
 		}
-		batch.end();
+		return e instanceof HasProgressBar && ((HasProgress) e).showProgress();
 	}
 
 	/**
-	 * Renders progress bars above entities */
-	private void renderProgressBars() {
-		ProgressBarManager progressValues = GameManager.get().getManager(ProgressBarManager.class);
-		TextureManager reg = GameManager.get().getManager(TextureManager.class);
+	 * Draws the commands in order. Shadows are drawn with the shape renderer, and everything else in one pass of the
+	 * sprite batch, with particles drawn after the effects.
+	 *
+	 * @param shading
+	 *            The colour entities in the world are shaded
+	 */
+	private void submitCommands(Color shading) {
+		int i = 0;
+		if (commands.size() > 0 && commands.getLayer(0) == RenderCommandList.Layer.SHADOW) {
+			//start drawing & set fill transparent grey
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+			shapeRenderer.setColor(new Color(0, 0, 0, 0.3f));
+			for (; i < commands.size() && commands.getLayer(i) == RenderCommandList.Layer.SHADOW; i++) {
+				commands.getEntity(i).getShadow().renderShape(shapeRenderer);
+				drawCommands++;
+			}
+			//stop drawing
+			shapeRenderer.end();
+			Gdx.gl.glDisable(GL20.GL_BLEND);
+		}
 
-		Color currentShade = batch.getColor();
-		
-		Player player = GameManager.get().getManager(PlayerManager.class).getPlayer();
-		BasePortal portal = null;
-		
+		batch.setColor(shading);
 		batch.begin();
-		
-		for (Map.Entry<AbstractEntity, Integer> entity : rendEntities.entrySet()) {
-			AbstractEntity e = entity.getKey();
-
-			// Progress Bars for players.
-			if (e.equals(GameManager.get().getManager(PlayerManager.class).getPlayer())) {
-				continue;
-			}
-			
-			// Progress Bar for Goal Potato.
-			if (!progressValues.showPotatoProgress() && e instanceof BasePortal) {
-				continue;
+		boolean particlesDrawn = false;
+		Texture lastTexture = null;
+		for (; i < commands.size(); i++) {
+			RenderCommandList.Layer layer = commands.getLayer(i);
+			if (!particlesDrawn && layer.compareTo(RenderCommandList.Layer.EFFECT) > 0) {
+				drawParticles();
+				particlesDrawn = true;
 			}
 
-			// Progress Bars for allies [Trees, Portals].
-			if (!progressValues.showAlliesProgress() && !(e instanceof EnemyEntity)
-					&& !e.equals(GameManager.get().getManager(PlayerManager.class).getPlayer()) 
-							&& !(e instanceof BasePortal)) {
-				continue;
+			TextureRegion region = commands.getRegion(i);
+			Texture tex = commands.getTexture(i);
+			if (tex != null && tex != lastTexture) {
+				textureSwitches++;
+				lastTexture = tex;
 			}
-			// Progress Bars for enemy entities.
-			if (!progressValues.showEnemiesProgress() && (e instanceof EnemyEntity)) {
-				continue;
+			AbstractEntity e = commands.getEntity(i);
+			switch (layer) {
+				case ENTITY:
+					drawEntity(e, region);
+					break;
+				case PROJECTILE:
+					drawProjectile(e, region);
+					break;
+				case EFFECT:
+					((Effect) e).drawEffect(batch);
+					// Effects may draw with any texture
+					lastTexture = null;
+					break;
+				case RESOURCE_COUNT:
+					drawResourceCount((ResourceTree) e);
+					lastTexture = null;
+					break;
+				case PROGRESS_BAR:
+					drawProgressBar(e, region);
+					break;
+				default:
+					break;
 			}
+			drawCommands++;
+		}
+		if (!particlesDrawn) {
+			drawParticles();
+		}
+		batch.end();
+		batch.setColor(Color.WHITE);
+	}
 
-			if (e instanceof BasePortal) {
-				portal = (BasePortal) e;
-			}
-			
-			if (e instanceof HasProgressBar && ((HasProgress) e).showProgress()) {
+	/**
+	 * Draws the particles, then clears the world shading for the text & displays drawn after them */
+	private void drawParticles() {
+		GameManager.get().getManager(ParticleManager.class).draw(batch);
+		batch.setColor(Color.WHITE);
+	}
 
-				Vector2 isoPosition = worldToScreenCoordinates(e.getPosX(), e.getPosY(), e.getPosZ());
+	/**
+	 * Draws a non-Projectile, non-Effect entity.
+	 * Does not consider rotate images */
+	private void drawEntity(AbstractEntity e, TextureRegion tex) {
+		Vector2 isoPosition = worldToScreenCoordinates(e.getRenderX(interpolation), e.getRenderY(interpolation),
+				e.getPosZ());
+
+		// We want to keep the aspect ratio of the image so...
+		float aspect = (float) tex.getRegionWidth() / (float) tileWidth;
+
+		float offsetX;
+		float offsetY;
+		offsetX = tileWidth * e.getXRenderLength() / 2 - aspect * e.getXRenderOffset();
+		offsetY = tileWidth * e.getXRenderLength() / 4 - aspect * e.getYRenderOffset();
+
+		batch.draw(tex,
+				isoPosition.x - offsetX, isoPosition.y - offsetY,		// x, y
+				tileWidth * e.getXRenderLength(), 						// width
+				tex.getRegionHeight() / aspect * e.getYRenderLength());	// height
+	}
 
-				ProgressBar progressBar = ((HasProgressBar) e).getProgressBar();
-	
-				// Allow entities to return null if they don't want to display their progress bar
-				if (progressBar != null) {
+	/**
+	 * Draws a Projectile or Effect entity, rotated */
+	private void drawProjectile(AbstractEntity e, TextureRegion tex) {
+		Vector2 isoPosition = worldToScreenCoordinates(e.getRenderX(interpolation), e.getRenderY(interpolation),
+				e.getPosZ());
+
+		// We want to keep the aspect ratio of the image so...
+		float aspect = (float) tex.getRegionWidth() / (float) tileWidth;
+
+		float offsetX;
+		float offsetY;
+		offsetX = tileWidth * e.getXRenderLength() / 2 - aspect * e.getXRenderOffset();
+		offsetY = tileWidth * e.getXRenderLength() / 2 - aspect * e.getYRenderOffset();
+
+
+		batch.draw(tex,
+				isoPosition.x - offsetX, isoPosition.y - offsetY,		// x, y
+				offsetX, offsetY, 										// originX, originY
+				tileWidth * e.getXRenderLength(), 						// width
+				tex.getRegionHeight() / aspect * e.getYRenderLength(),	// height
+				1, 1, - e.rotationAngle());								// scaleX, scaleY, rotation
+	}
 
-					Texture barTexture = reg.getTexture(progressBar.getTexture());
-					
-					// sets colour palette
-					batch.setColor(progressBar.getColour(((HasProgress) e).getProgressRatio()));
-
-					// draws the progress bar
-					Texture entityTexture = reg.getTexture(e.getTexture());
-					float aspect = (float) entityTexture.getWidth() / (float) tileWidth;
-
-					float barRatio = ((HasProgress) e).getProgressRatio();
-					float maxBarWidth = tileWidth * e.getXRenderLength() * progressBar.getWidthScale();
-					float barWidth = maxBarWidth * barRatio;
-					float barBackgroundWidth = maxBarWidth * (1 - barRatio);
-
-					// x co-ordinate,
-					// finds the overlap length of the bar and moves it half as much left
-					float barX = isoPosition.x
-							- tileWidth * e.getXRenderLength() * (progressBar.getWidthScale()) / 2;
-					// y co-ordinate
-					// If height is specified, use it, otherwise estimate the right height
-					float barY = isoPosition.y + entityTexture.getHeight() / aspect * e.getYRenderLength();
-					float endX = barX + barWidth;
-					// We haven't implemented rounded corners, but when we do:
-					// float greyBarX = endX + endWidth;
-
-					// draw half of bar that represents current health
-					batch.draw(barTexture, barX, barY,                        // texture, x, y
-							barWidth, maxBarWidth / 8, 0, 0,                // width, height srcX, srcY
-							(int) (barTexture.getWidth() * barRatio),        // srcWidth
-							barTexture.getHeight(),                            // srcHeight
-							false, false);                                    // flipX, flipY
-
-					// draw shadow half of bar that represents health lost
-					batch.setColor(0.5f, 0.5f, 0.5f, 1f);
-					batch.draw(barTexture, endX, barY,                            // texture, x, y
-							barBackgroundWidth, maxBarWidth / 8,                // width, height
-							(int) (barTexture.getWidth() * barRatio), 0,        // srcX, srcY
-							(int) (barTexture.getWidth() * (1 - barRatio)),        // srcWidth
-							barTexture.getHeight(),                                // srcHeight
-							false, false);                                        // flipX, flipY
+	/**
+	 * Draws the progress bar above an entity */
+	private void drawProgressBar(AbstractEntity e, TextureRegion barTexture) {
+		TextureManager reg = GameManager.get().getManager(TextureManager.class);
+		Vector2 isoPosition = worldToScreenCoordinates(e.getRenderX(interpolation), e.getRenderY(interpolation),
+				e.getPosZ());
+
+		ProgressBar progressBar = ((HasProgressBar) e).getProgressBar();
+
+		// sets colour palette
+		batch.setColor(progressBar.getColour(((HasProgress) e).getProgressRatio()));
+
+		// draws the progress bar
+		TextureRegion entityTexture = reg.getTextureRegion(e.getTextureFrame());
+		float aspect = (float) entityTexture.getRegionWidth() / (float) tileWidth;
+
+		float barRatio = ((HasProgress) e).getProgressRatio();
+		float maxBarWidth = tileWidth * e.getXRenderLength() * progressBar.getWidthScale();
+		float barWidth = maxBarWidth * barRatio;
+		float barBackgroundWidth = maxBarWidth * (1 - barRatio);
+
+		// x co-ordinate,
+		// finds the overlap length of the bar and moves it half as much left
+		float barX = isoPosition.x
+				- tileWidth * e.getXRenderLength() * (progressBar.getWidthScale()) / 2;
+		// y co-ordinate
+		// If height is specified, use it, otherwise estimate the right height
+		float barY = isoPosition.y + entityTexture.getRegionHeight() / aspect * e.getYRenderLength();
+		float endX = barX + barWidth;
+		// We haven't implemented rounded corners, but when we do:
+		// float greyBarX = endX + endWidth;
+
+		drawBar(batch, barTexture, barRatio, barX, barY, endX, barWidth, barBackgroundWidth, maxBarWidth / 8);
+	}
+
+	/**
+	 * Draws a progress bar, with the part representing what's left in the current colour and the rest shaded grey
+	 *
+	 * @param barRatio
+	 *            The fraction of the bar that is left
+	 * @param endX
+	 *            Where the part that is left ends, and the grey part starts
+	 */
+	private void drawBar(SpriteBatch batch, TextureRegion barTexture, float barRatio, float barX, float barY,
+			float endX, float barWidth, float barBackgroundWidth, float barHeight) {
+		int leftWidth = (int) (barTexture.getRegionWidth() * barRatio);
+		// draw half of bar that represents current health
+		barPart.setRegion(barTexture, 0, 0, leftWidth, barTexture.getRegionHeight());
+		batch.draw(barPart, barX, barY, barWidth, barHeight);
+
+		// draw shadow half of bar that represents health lost
+		batch.setColor(0.5f, 0.5f, 0.5f, 1f);
+		barPart.setRegion(barTexture, leftWidth, 0,
+				(int) (barTexture.getRegionWidth() * (1 - barRatio)), barTexture.getRegionHeight());
+		batch.draw(barPart, endX, barY, barBackgroundWidth, barHeight);
+	}
 
+	/**
+	 * Renders the player and base portal health on the HUD */
+	private void renderHud() {
+		ProgressBarManager progressValues = GameManager.get().getManager(ProgressBarManager.class);
+		TextureManager reg = GameManager.get().getManager(TextureManager.class);
 
-				}
-			}
+		Player player = GameManager.get().getManager(PlayerManager.class).getPlayer();
+		BasePortal portal = findPortal();
 
-		}
-		batch.end();
 		hudBatch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 		hudBatch.begin();
 		// Draw player health HUD and progress bar.
 		if (player != null && progressValues.showPlayerProgress()) {
 			// Get texture
 			ProgressBar progressBar = player.getProgressBar();
-			Texture iconTexture = reg.getTexture(progressBar.getLayoutTexture());
-			Texture barTexture =  reg.getTexture(progressBar.getTexture());
+			TextureRegion iconTexture = reg.getTextureRegion(progressBar.getLayoutTexture());
+			TextureRegion barTexture =  reg.getTextureRegion(progressBar.getTexture());
 			// Render the player health HUD
 			hudBatch.setColor(Color.WHITE);
-			hudBatch.draw(iconTexture, 25+75, Gdx.graphics.getHeight()-134/2-75 + 60, 638/2, 134/2, 0, 0, iconTexture.getWidth(), iconTexture.getHeight(), false, false);
+			hudBatch.draw(iconTexture, 25+75, Gdx.graphics.getHeight()-134/2-75 + 60, 638/2, 134/2);
 			
 			// Draw the player HealthBar
 			float barRatio = player.getProgressRatio();
@@ -443,32 +574,19 @@ public class Render3D implements Renderer {
 			float barX = 93+75;
 			float barY = Gdx.graphics.getHeight()-134/2-73.5f + 60;
 			float endX = barX + barWidth;
-			// Draw amount of health left.
-			hudBatch.draw(barTexture, barX, barY,                        // texture, x, y
-					barWidth, maxBarWidth / 8, 0, 0,                // width, height srcX, srcY
-					(int) (barTexture.getWidth() * barRatio),        // srcWidth
-					barTexture.getHeight(),                            // srcHeight
-					false, false);                                    // flipX, flipY
-			// Draw amount of health lost.
-			hudBatch.setColor(0.5f, 0.5f, 0.5f, 1f);
-			hudBatch.draw(barTexture, endX, barY,                            // texture, x, y
-					barBackgroundWidth, maxBarWidth / 8,                // width, height
-					(int) (barTexture.getWidth() * barRatio), 0,        // srcX, srcY
-					(int) (barTexture.getWidth() * (1 - barRatio)),        // srcWidth
-					barTexture.getHeight(),                                // srcHeight
-					false, false);  
+			// Draw amount of health left, then amount of health lost.
+			drawBar(hudBatch, barTexture, barRatio, barX, barY, endX, barWidth, barBackgroundWidth, maxBarWidth / 8);
 		}
 		// portal
 		if (portal != null && progressValues.showPotatoProgress()) {
 			// Get texture
 			ProgressBar progressBar = portal.getProgressBar();
-			Texture iconTexture = reg.getTexture(progressBar.getLayoutTexture());
-			Texture barTexture =  reg.getTexture(progressBar.getTexture());
+			TextureRegion iconTexture = reg.getTextureRegion(progressBar.getLayoutTexture());
+			TextureRegion barTexture =  reg.getTextureRegion(progressBar.getTexture());
 			// Render the player health HUD
 			hudBatch.setColor(Color.WHITE);
 			hudBatch.draw(iconTexture, Gdx.graphics.getWidth() - (25+75)-75 - 638/2.55f, 
-					Gdx.graphics.getHeight()-134/2-75 + 60, 638/2, 134/2, 0, 0, iconTexture.getWidth(),
-					iconTexture.getHeight(), false, false);
+					Gdx.graphics.getHeight()-134/2-75 + 60, 638/2, 134/2);
 			
 			// Draw the player HealthBar
 			float barRatio = portal.getProgressRatio();
@@ -478,29 +596,35 @@ public class Render3D implements Renderer {
 			float barX = Gdx.graphics.getWidth() - (93+80) - 638/2.55f;
 			float barY = Gdx.graphics.getHeight()-134/2-73.5f + 60;
 			float endX = barX + barWidth;
-			// Draw amount of health left.
-			hudBatch.draw(barTexture, barX, barY,                        // texture, x, y
-					barWidth, maxBarWidth / 8, 0, 0,                // width, height srcX, srcY
-					(int) (barTexture.getWidth() * barRatio),        // srcWidth
-					barTexture.getHeight(),                            // srcHeight
-					false, false);                                    // flipX, flipY
-			// Draw amount of health lost.
-			hudBatch.setColor(0.5f, 0.5f, 0.5f, 1f);
-			hudBatch.draw(barTexture, endX, barY,                            // texture, x, y
-					barBackgroundWidth, maxBarWidth / 8,                // width, height
-					(int) (barTexture.getWidth() * barRatio), 0,        // srcX, srcY
-					(int) (barTexture.getWidth() * (1 - barRatio)),        // srcWidth
-					barTexture.getHeight(),                                // srcHeight
-					false, false);  
+			// Draw amount of health left, then amount of health lost.
+			drawBar(hudBatch, barTexture, barRatio, barX, barY, endX, barWidth, barBackgroundWidth, maxBarWidth / 8);
 		}
 		hudBatch.end();
-		batch.setColor(currentShade);
 	}
 
 	/**
-	 * Renders tree resource count */
-	private void renderTreeResources(){
+	 * Finds the base portal in the current world, which may be off screen. Only looks through the whole world
+	 * when the world has changed or the portal has been removed.
+	 *
+	 * @return the base portal, or null if there isn't one
+	 */
+	private BasePortal findPortal() {
+		World world = GameManager.get().getWorld();
+		if (world != hudPortalWorld || hudPortal != null && !world.hasEntity(hudPortal)) {
+			hudPortal = null;
+			hudPortalWorld = world;
+			for (AbstractEntity e : world.getEntities().values()) {
+				if (e instanceof BasePortal) {
+					hudPortal = (BasePortal) e;
+				}
+			}
+		}
+		return hudPortal;
+	}
 
+	/**
+	 * Draws the resource count of a tree */
+	private void drawResourceCount(ResourceTree e) {
 		//initialise font
 		if (font == null) {
 			font = new BitmapFont();
@@ -508,61 +632,11 @@ public class Render3D implements Renderer {
 		font.getData().setScale(3.0f);
 		font.setColor(Color.GREEN);
 
+		Vector2 isoPosition = worldToScreenCoordinates(e.getPosX(), e.getPosY(), e.getPosZ());
 
-		batch.begin();
-		for (Map.Entry<AbstractEntity, Integer> entity : rendEntities.entrySet()) {
-			AbstractEntity e = entity.getKey();
-
-			if (e instanceof ResourceTree && ((ResourceTree) e).getGatherCount() > 0) {
-
-				Vector2 isoPosition = worldToScreenCoordinates(e.getPosX(), e.getPosY(), e.getPosZ());
-
-				font.draw(batch, String.format("%s", ((ResourceTree) e).getGatherCount()),
-						isoPosition.x, isoPosition.y + 100);
-			}
-		}
-		batch.end();
+		font.draw(batch, String.format("%s", e.getGatherCount()), isoPosition.x, isoPosition.y + 100);
 	}
 
-	/**
-	 * Renders 'Effect' rendEntities */
-	private void renderEffects() {
-		batch.begin();
-
-		for (Map.Entry<AbstractEntity, Integer> entity : rendEntities.entrySet()) {
-			AbstractEntity e = entity.getKey();
-
-			if (e instanceof Effect) {
-				((Effect) e).drawEffect(batch);
-			}
-		}
-		batch.end();
-	}
-
-	/**
-	 * Renders the CollisionMasks of entities as shadows */
-	private void renderShadows() {
-
-		//start drawing & set fill transparent grey
-		Gdx.gl.glEnable(GL20.GL_BLEND);
-		shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-		shapeRenderer.setColor(new Color(0, 0, 0, 0.3f));
-
-		//Loop through entities
-		for (Map.Entry<AbstractEntity, Integer> entity : rendEntities.entrySet()) {
-
-			AbstractEntity e = entity.getKey();
-
-			if (e.hasShadow()) {
-				Shape2D shadow = e.getShadow();
-				shadow.renderShape(shapeRenderer);
-			}
-		}
-
-		//stop drawing
-		shapeRenderer.end();
-		Gdx.gl.glDisable(GL20.GL_BLEND);
-	}
 
 	/**
 	 * Renders the collisionMasks of entities */
@@ -688,6 +762,35 @@ public class Render3D implements Renderer {
 		return new Vector2(isoX, isoY + z * zScale);
 	}
 
+	/**
+	 * Transforms screen coordinates used for rendering to world coordinates, at z = 0. Reverses
+	 * worldToScreenCoordinates.
+	 *
+	 * @param x
+	 *            x coord on the screen
+	 * @param y
+	 *            y coord on the screen
+	 * @return a Vector2 with the world coordinates
+	 */
+	public static Vector2 screenToWorldCoordinates(float x, float y) {
+		int worldLength = GameManager.get().getWorld().getLength();
+		int worldWidth = GameManager.get().getWorld().getWidth();
+
+		int tileWidth = (int) GameManager.get().getWorld().getMap().getProperties().get(TILE_WIDTH);
+		int tileHeight = (int) GameManager.get().getWorld().getMap().getProperties().get(TILE_HEIGHT);
+
+		float baseX = tileWidth * (worldWidth - 1) / 2f;
+		float baseY = -tileHeight * (worldLength - 1) / 2f;
+
+		// cartX - cartY and cartX + cartY
+		float difference = (x - baseX) * 2 / tileWidth;
+		float sum = (y - baseY) * 2 / tileHeight;
+		float cartX = (sum + difference) / 2;
+		float cartY = (sum - difference) / 2;
+
+		return new Vector2(cartX, worldWidth - 1 - cartY);
+	}
+
 	/**
 	 * Transforms world coordinates to screen coordinates for rendering.
 	 *
@@ -0,0 +1,158 @@
+package com.deco2800.potatoes.renderering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.potatoes.entities.AbstractEntity;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The things to draw in a frame, collected in a single pass over the entities and then sorted into the order they
+ * should be drawn in.
+ *
+ * Commands are sorted by layer first. Within layers where overlapping draws must stay back to front, commands keep
+ * the order they were added in. Other layers are grouped by texture, so the batch switches texture (and flushes)
+ * as few times as possible. Regions packed into the same atlas page share a texture, so are grouped together.
+ */
+public class RenderCommandList {
+
+	/**
+	 * The layers of a frame, in the order they are drawn.
+	 */
+	public enum Layer {
+		SHADOW(false),
+		ENTITY(true),
+		PROJECTILE(false),
+		EFFECT(true),
+		RESOURCE_COUNT(true),
+		PROGRESS_BAR(false);
+
+		private final boolean depthOrdered;
+
+		Layer(boolean depthOrdered) {
+			this.depthOrdered = depthOrdered;
+		}
+
+		/**
+		 * @return true if commands in this layer must be drawn in the order they were added
+		 */
+		public boolean isDepthOrdered() {
+			return depthOrdered;
+		}
+	}
+
+	private static final int INDEX_BITS = 32;
+	private static final int TEXTURE_BITS = 24;
+	private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+	// Sort key of each command: layer, then texture (for layers that aren't depth ordered), then the order added.
+	// The low bits are the index of the command in the arrays below.
+	private long[] keys = new long[256];
+	private Layer[] layers = new Layer[256];
+	private TextureRegion[] regions = new TextureRegion[256];
+	private AbstractEntity[] entities = new AbstractEntity[256];
+	private int size;
+
+	// Small ids for textures, so they fit in the sort keys. Kept between frames.
+	private final Map<Texture, Integer> textureIds = new IdentityHashMap<>();
+
+	/**
+	 * Removes every command, keeping the space they used.
+	 */
+	public void clear() {
+		Arrays.fill(regions, 0, size, null);
+		Arrays.fill(entities, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Adds a command to draw something for an entity.
+	 *
+	 * @param layer
+	 *            The layer to draw in
+	 * @param region
+	 *            The texture region that will be drawn, or null if it isn't known
+	 * @param entity
+	 *            The entity to draw
+	 */
+	public void add(Layer layer, TextureRegion region, AbstractEntity entity) {
+		if (size == keys.length) {
+			int capacity = 2 * size;
+			keys = Arrays.copyOf(keys, capacity);
+			layers = Arrays.copyOf(layers, capacity);
+			regions = Arrays.copyOf(regions, capacity);
+			entities = Arrays.copyOf(entities, capacity);
+		}
+		long textureId = layer.isDepthOrdered() || region == null ? 0 : textureId(region.getTexture());
+		keys[size] = (long) layer.ordinal() << (INDEX_BITS + TEXTURE_BITS) | textureId << INDEX_BITS | size;
+		layers[size] = layer;
+		regions[size] = region;
+		entities[size] = entity;
+		size++;
+	}
+
+	private long textureId(Texture texture) {
+		Integer id = textureIds.get(texture);
+		if (id == null) {
+			if (textureIds.size() >= (1 << TEXTURE_BITS) - 1) {
+				// Textures have been reloaded many times, start the ids again
+				textureIds.clear();
+			}
+			id = textureIds.size() + 1;
+			textureIds.put(texture, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Sorts the commands into drawing order. The getters then return commands in this order.
+	 */
+	public void sort() {
+		Arrays.sort(keys, 0, size);
+	}
+
+	/**
+	 * @return the number of commands
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the layer of the ith command to draw
+	 */
+	public Layer getLayer(int i) {
+		return layers[index(i)];
+	}
+
+	/**
+	 * @return the texture region of the ith command to draw, null if it wasn't given
+	 */
+	public TextureRegion getRegion(int i) {
+		return regions[index(i)];
+	}
+
+	/**
+	 * @return the texture of the ith command to draw, which may be shared by other regions, null if it wasn't given
+	 */
+	public Texture getTexture(int i) {
+		TextureRegion region = regions[index(i)];
+		return region == null ? null : region.getTexture();
+	}
+
+	/**
+	 * @return the entity of the ith command to draw
+	 */
+	public AbstractEntity getEntity(int i) {
+		return entities[index(i)];
+	}
+
+	private int index(int i) {
+		if (i < 0 || i >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return (int) (keys[i] & INDEX_MASK);
+	}
+}
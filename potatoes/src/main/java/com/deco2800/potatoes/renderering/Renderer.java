@@ -17,6 +17,15 @@ public interface Renderer {
      */
     void render(SpriteBatch batch);
 
+    /**
+     * Sets how far the game is through the simulation step after the last one, for renderers that draw moving
+     * objects between their last two positions. Does nothing by default.
+     * @param alpha From 0 (the positions before the last step) to 1 (the current positions)
+     */
+    default void setInterpolation(float alpha) {
+        // Drawn at the current positions
+    }
+
     /**
      * Retuns the correct renderer for tiles in the given engine
      */
@@ -0,0 +1,117 @@
+package com.deco2800.potatoes.renderering;
+
+import com.deco2800.potatoes.collisions.Shape2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.worlds.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The entities in view, sorted back to front for drawing.
+ *
+ * The list is kept between frames. Each frame, entities that have left the view are dropped and new ones are added
+ * to the end, then the list is insertion sorted. Entities move very little between frames, so the list is nearly
+ * sorted already, and sorting it is close to O(visible entities).
+ */
+public class VisibleEntityList {
+
+	private final List<AbstractEntity> entities = new ArrayList<>();
+	// Depth keys of the entities, in the same order. Entities are drawn in decreasing order of depth, then tieBreak
+	private float[] depths = new float[64];
+	private float[] tieBreaks = new float[64];
+
+	// Reused between frames so that updating doesn't allocate
+	private final List<AbstractEntity> found = new ArrayList<>();
+	// By identity, as entity equality depends on position
+	private final Set<AbstractEntity> listed = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Set<AbstractEntity> inView = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Updates the list to hold the entities in the given area of the world, sorted back to front.
+	 *
+	 * @param world
+	 *            The world to find entities in
+	 * @param view
+	 *            The area of the world in view, in world coordinates
+	 */
+	public void update(World world, Shape2D view) {
+		found.clear();
+		world.getEntitiesInArea(view, found);
+
+		inView.clear();
+		for (int i = 0; i < found.size(); i++) {
+			AbstractEntity entity = found.get(i);
+			inView.add(entity);
+			if (listed.add(entity)) {
+				entities.add(entity);
+			}
+		}
+
+		// Drop entities that have left the view, keeping the order of the rest
+		int kept = 0;
+		for (int i = 0; i < entities.size(); i++) {
+			AbstractEntity entity = entities.get(i);
+			if (inView.contains(entity)) {
+				entities.set(kept++, entity);
+			} else {
+				listed.remove(entity);
+			}
+		}
+		entities.subList(kept, entities.size()).clear();
+
+		sort();
+	}
+
+	/**
+	 * Insertion sorts the entities by their depth, calculated once for each entity.
+	 */
+	private void sort() {
+		int size = entities.size();
+		if (depths.length < size) {
+			depths = Arrays.copyOf(depths, Math.max(size, 2 * depths.length));
+			tieBreaks = Arrays.copyOf(tieBreaks, depths.length);
+		}
+		for (int i = 0; i < size; i++) {
+			AbstractEntity entity = entities.get(i);
+			// Screen y and x, up to scale and offset. Entities higher up the screen are further back
+			depths[i] = entity.getPosX() - entity.getPosY();
+			tieBreaks[i] = entity.getPosX() + entity.getPosY();
+		}
+
+		for (int i = 1; i < size; i++) {
+			AbstractEntity entity = entities.get(i);
+			float depth = depths[i];
+			float tieBreak = tieBreaks[i];
+			int j = i - 1;
+			while (j >= 0 && (depths[j] < depth || depths[j] == depth && tieBreaks[j] < tieBreak)) {
+				entities.set(j + 1, entities.get(j));
+				depths[j + 1] = depths[j];
+				tieBreaks[j + 1] = tieBreaks[j];
+				j--;
+			}
+			entities.set(j + 1, entity);
+			depths[j + 1] = depth;
+			tieBreaks[j + 1] = tieBreak;
+		}
+	}
+
+	/**
+	 * @return the entities in view, back to front. The list is reused, so it should not be kept between frames
+	 */
+	public List<AbstractEntity> getEntities() {
+		return entities;
+	}
+
+	/**
+	 * Empties the list, e.g. when the world changes.
+	 */
+	public void clear() {
+		entities.clear();
+		listed.clear();
+	}
+}
@@ -1,11 +0,0 @@
-package com.deco2800.potatoes.renderering.particles;
-
-import com.badlogic.gdx.math.Vector2;
-
-public class Particle {
-    public boolean alive = false;
-    public float lifeTime;
-    public float x, y;
-    public float rotation;
-    public Vector2 vector = new Vector2();
-}
@@ -1,8 +1,6 @@
 package com.deco2800.potatoes.renderering.particles;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.deco2800.potatoes.renderering.particles.types.ParticleType;
 
@@ -35,22 +33,6 @@ public class ParticleEmitter {
         this.active = true;
 
         for (ParticleType particleType : particleTypes) {
-
-            // If our type has no texture. Assume we want a square
-            if (particleType.texture == null) {
-                Pixmap p = new Pixmap(particleType.getSizeX(), particleType.getSizeY(), Pixmap.Format.RGB888);
-                p.setColor(particleType.getColor());
-                // Fill box with pixels
-                for (int pX = 0; pX < particleType.getSizeX(); ++pX) {
-                    for (int pY = 0; pY < particleType.getSizeY(); ++pY) {
-                        p.drawPixel(pX, pY);
-                    }
-                }
-                Texture t = new Texture(p);
-
-                particleType.texture = t;
-            }
-
             this.particleTypes.add(particleType);
         }
     }
@@ -62,7 +44,7 @@ public class ParticleEmitter {
      * @param deltaTime the tick time
      * @param particlePool the pool of particles to use 
      */
-    public void onTick(double deltaTime, List<Particle> particlePool) {
+    public void onTick(double deltaTime, ParticlePool particlePool) {
         // Tick particles
         for (ParticleType particleType : particleTypes) {
             particleType.onTick(deltaTime, particlePool, originX, originY, active);
@@ -71,7 +53,7 @@ public class ParticleEmitter {
         // Check if any particles exist
         hasParticles = false;
         for (ParticleType particleType : particleTypes) {
-            if (particleType.particles.size() != 0) {
+            if (particleType.getParticleCount() != 0) {
                 hasParticles = true;
                 break;
             }
@@ -93,6 +75,35 @@ public class ParticleEmitter {
 
     }
 
+    /**
+     * Gives particle types without a texture a shared sprite from the cache to draw with. Called when the emitter is
+     * added to the particle manager
+     * @param cache cache to get sprites from
+     */
+    public void acquireSprites(ParticleTextureCache cache) {
+        for (ParticleType particleType : particleTypes) {
+            // If our type has no texture. Assume we want a rectangle of its colour
+            if (particleType.texture == null && particleType.getSprite() == null) {
+                particleType.setSprite(cache.acquire(particleType.getColor(), particleType.getSizeX(),
+                        particleType.getSizeY()));
+            }
+        }
+    }
+
+    /**
+     * Returns the sprites from acquireSprites(...) to the cache. Called when the emitter is removed from the particle
+     * manager
+     * @param cache cache the sprites came from
+     */
+    public void releaseSprites(ParticleTextureCache cache) {
+        for (ParticleType particleType : particleTypes) {
+            if (particleType.getSprite() != null) {
+                cache.release(particleType.getSprite());
+                particleType.setSprite(null);
+            }
+        }
+    }
+
     public List<ParticleType> getParticleTypes() {
         return particleTypes;
     }
@@ -107,6 +118,20 @@ public class ParticleEmitter {
         originY = y;
     }
 
+    /**
+     * @return x coord of the origin
+     */
+    public float getOriginX() {
+        return originX;
+    }
+
+    /**
+     * @return y coord of the origin
+     */
+    public float getOriginY() {
+        return originY;
+    }
+
     /**
      * Gracefully stops this emitter (it stops producing more particles)
      * When no particles exist the hasParticles flag will be set to false
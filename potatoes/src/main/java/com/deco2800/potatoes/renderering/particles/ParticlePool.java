@@ -0,0 +1,150 @@
+package com.deco2800.potatoes.renderering.particles;
+
+import java.util.Arrays;
+
+/**
+ * Storage for every particle, shared by all emitters. Particles are stored as parallel arrays indexed by particle,
+ * rather than as objects, so updating them is a tight loop over primitives.
+ *
+ * Free indices are kept on a stack, so obtaining and freeing a particle is O(1). The arrays start small and grow as
+ * more particles are alive at once. Growing replaces the arrays, so they should be read from the pool again after
+ * calling obtain().
+ *
+ * The pool also holds the limit on live particles, and counts how many particles were spawned, culled (skipped to
+ * save work) and dropped (skipped because the pool was at its limit), for profiling.
+ */
+public class ParticlePool {
+    public static final int MAX_PARTICLES = 1000000;
+    private static final int INITIAL_CAPACITY = 256;
+
+    public float[] x = new float[0];
+    public float[] y = new float[0];
+    public float[] vx = new float[0];
+    public float[] vy = new float[0];
+    public float[] lifeTime = new float[0];
+    public float[] rotation = new float[0];
+
+    // Stack of free indices
+    private int[] free = new int[0];
+    private int freeCount;
+
+    private int limit = MAX_PARTICLES;
+    private long spawned;
+    private long culled;
+    private long dropped;
+
+    /**
+     * Obtains an unused particle, growing the pool if every particle is in use. The particle's values are left as
+     * they were, so should all be set by the caller.
+     * @return the index of the particle in the arrays
+     * @throws IllegalStateException if MAX_PARTICLES are already in use
+     */
+    public int obtain() {
+        if (freeCount == 0) {
+            grow();
+        }
+        spawned++;
+        return free[--freeCount];
+    }
+
+    /**
+     * Returns a particle to the pool. It must not be freed twice.
+     * @param index index of the particle
+     */
+    public void free(int index) {
+        free[freeCount++] = index;
+    }
+
+    private void grow() {
+        int capacity = x.length;
+        if (capacity >= MAX_PARTICLES) {
+            throw new IllegalStateException("Too many particles, limit is " + MAX_PARTICLES);
+        }
+        int newCapacity = Math.min(Math.max(INITIAL_CAPACITY, capacity * 2), MAX_PARTICLES);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        vx = Arrays.copyOf(vx, newCapacity);
+        vy = Arrays.copyOf(vy, newCapacity);
+        lifeTime = Arrays.copyOf(lifeTime, newCapacity);
+        rotation = Arrays.copyOf(rotation, newCapacity);
+        free = Arrays.copyOf(free, newCapacity);
+        // Only grown when empty, so the new indices are the whole stack
+        for (int i = newCapacity - 1; i >= capacity; --i) {
+            free[freeCount++] = i;
+        }
+    }
+
+    /**
+     * @return if the number of particles in use has reached the limit
+     */
+    public boolean isFull() {
+        return getLiveCount() >= limit;
+    }
+
+    /**
+     * @return the most particles that should be in use at once
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Sets the most particles that should be in use at once. Particles already in use over the limit aren't freed.
+     * @param limit the new limit, between 0 and MAX_PARTICLES
+     */
+    public void setLimit(int limit) {
+        if (limit < 0 || limit > MAX_PARTICLES) {
+            throw new IllegalArgumentException("Particle limit must be between 0 and " + MAX_PARTICLES);
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * Records that a particle wasn't spawned to save work
+     */
+    public void countCulled() {
+        culled++;
+    }
+
+    /**
+     * Records that a particle wasn't spawned because the pool was full
+     */
+    public void countDropped() {
+        dropped++;
+    }
+
+    /**
+     * @return the number of particles obtained from the pool
+     */
+    public long getSpawnedCount() {
+        return spawned;
+    }
+
+    /**
+     * @return the number of particles culled
+     */
+    public long getCulledCount() {
+        return culled;
+    }
+
+    /**
+     * @return the number of particles dropped
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * @return the number of particles in use
+     */
+    public int getLiveCount() {
+        return x.length - freeCount;
+    }
+
+    /**
+     * @return the number of particles that can be in use before the pool has to grow
+     */
+    public int getCapacity() {
+        return x.length;
+    }
+}
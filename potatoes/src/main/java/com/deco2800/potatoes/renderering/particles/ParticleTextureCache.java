@@ -0,0 +1,152 @@
+package com.deco2800.potatoes.renderering.particles;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sprites for particle types without a texture of their own (plain coloured rectangles).
+ *
+ * Every sprite shares one white texture, which is stretched to the sprite's size and tinted with its colour at draw
+ * time, so no texture is uploaded when an emitter is created. Sprites are shared between particle types with the same
+ * colour and size, and counted by reference. The white texture is disposed when the last sprite is released, and
+ * created again when one is next needed.
+ */
+public class ParticleTextureCache {
+
+    /**
+     * A coloured rectangle to draw particles with.
+     */
+    public static class Sprite {
+        private final long key;
+        private final TextureRegion region;
+        private final Color color;
+        private final int width, height;
+        private int references;
+
+        private Sprite(long key, TextureRegion region, Color color, int width, int height) {
+            this.key = key;
+            this.region = region;
+            this.color = new Color(color);
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * @return the white region to draw, tinted with getColor()
+         */
+        public TextureRegion getRegion() {
+            return region;
+        }
+
+        /**
+         * @return the colour to tint the region with
+         */
+        public Color getColor() {
+            return color;
+        }
+
+        /**
+         * @return width to draw the region at, in pixels
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * @return height to draw the region at, in pixels
+         */
+        public int getHeight() {
+            return height;
+        }
+    }
+
+    private final Supplier<Texture> textureFactory;
+    private final Map<Long, Sprite> sprites = new HashMap<>();
+    private Texture white;
+    private TextureRegion whiteRegion;
+
+    /**
+     * Creates a cache that makes its white texture from a pixmap.
+     */
+    public ParticleTextureCache() {
+        this(ParticleTextureCache::createWhiteTexture);
+    }
+
+    /**
+     * Creates a cache that gets its white texture from the given factory.
+     * @param textureFactory creates a plain white texture. Called again if the texture has been disposed
+     */
+    public ParticleTextureCache(Supplier<Texture> textureFactory) {
+        this.textureFactory = textureFactory;
+    }
+
+    private static Texture createWhiteTexture() {
+        Pixmap p = new Pixmap(1, 1, Pixmap.Format.RGB888);
+        p.setColor(Color.WHITE);
+        p.fill();
+        Texture t = new Texture(p);
+        p.dispose();
+        return t;
+    }
+
+    /**
+     * Gets the sprite for the given colour and size, adding a reference to it. Each call should be matched by a call
+     * to release(...).
+     * @param color colour of the sprite. Alpha is ignored, as particles have their own fade
+     * @param sizeX width in pixels
+     * @param sizeY height in pixels
+     * @return the shared sprite
+     */
+    public Sprite acquire(Color color, int sizeX, int sizeY) {
+        long key = (long) Color.rgb888(color) << 32 | (sizeX & 0xFFFFL) << 16 | sizeY & 0xFFFFL;
+        Sprite sprite = sprites.get(key);
+        if (sprite == null) {
+            if (white == null) {
+                white = textureFactory.get();
+                whiteRegion = new TextureRegion(white);
+            }
+            sprite = new Sprite(key, whiteRegion, color, sizeX, sizeY);
+            sprites.put(key, sprite);
+        }
+        sprite.references++;
+        return sprite;
+    }
+
+    /**
+     * Removes a reference to a sprite. Once nothing references any sprite the white texture is disposed.
+     * @param sprite a sprite from acquire(...)
+     */
+    public void release(Sprite sprite) {
+        if (sprites.get(sprite.key) != sprite || sprite.references == 0) {
+            throw new IllegalArgumentException("Sprite is not held from this cache");
+        }
+        if (--sprite.references == 0) {
+            sprites.remove(sprite.key);
+            if (sprites.isEmpty()) {
+                white.dispose();
+                white = null;
+                whiteRegion = null;
+            }
+        }
+    }
+
+    /**
+     * @return the number of different sprites in use
+     */
+    public int size() {
+        return sprites.size();
+    }
+
+    /**
+     * @return if the white texture is currently loaded
+     */
+    public boolean isLoaded() {
+        return white != null;
+    }
+}
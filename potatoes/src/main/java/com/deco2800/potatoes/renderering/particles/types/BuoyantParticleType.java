@@ -2,12 +2,8 @@ package com.deco2800.potatoes.renderering.particles.types;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.Vector2;
-import com.deco2800.potatoes.renderering.particles.Particle;
+import com.deco2800.potatoes.renderering.particles.ParticlePool;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Random;
 
 public class BuoyantParticleType extends ParticleType {
@@ -31,7 +27,6 @@ public class BuoyantParticleType extends ParticleType {
         this.setSizeX(sizeX);
         this.setSizeY(sizeY);
         this.setColor(color);
-        particles = new ArrayList<>();
     }
 
     /**
@@ -47,10 +42,19 @@ public class BuoyantParticleType extends ParticleType {
         this.setLifeTime(lifeTime);
         this.cycleDelta = cycleDelta;
         this.rate = rate;
-        particles = new ArrayList<>();
         this.texture = texture;
     }
 
+    /**
+     * Buoyant logic (adjust direction of velocity to be up)
+     */
+    @Override
+    protected void updateVelocity(ParticlePool particlePool, int p) {
+        float vx = particlePool.vx[p];
+        float vy = particlePool.vy[p];
+        particlePool.vx[p] = 0.0f;
+        particlePool.vy[p] = (float) Math.sqrt(vx * vx + vy * vy);
+    }
 
     /**
      * Tick's the particles associated with this type
@@ -62,27 +66,8 @@ public class BuoyantParticleType extends ParticleType {
      * @param active       should this spawn new particles?
      */
     @Override
-    public void onTick(double deltaTime, List<Particle> particlePool, float originX, float originY, boolean active) {
-        // Tick particles
-        Iterator<Particle> iter = this.particles.iterator();
-        while (iter.hasNext()) {
-            Particle p = iter.next();
-            // Tick particles
-            p.x += p.vector.x * deltaTime;
-            p.y += p.vector.y * deltaTime;
-            p.lifeTime -= deltaTime;
-            p.rotation += this.getRotationSpeed() - this.getRotationSpeed()  * 2.0f * (p.hashCode() % 2);
-
-            // Buoyant logic (adjust direction of vector to be up)
-            p.vector.setAngle(90.0f);
-
-            // Delete expired
-            if (p.lifeTime <= 0.0f) {
-                p.alive = false;
-                iter.remove();
-            }
-        }
-
+    public void onTick(double deltaTime, ParticlePool particlePool, float originX, float originY, boolean active) {
+        updateParticles(deltaTime, particlePool);
 
         // Check if new particles are needed
         if (active) {
@@ -91,44 +76,17 @@ public class BuoyantParticleType extends ParticleType {
                 this.currentCycleTime -= this.cycleDelta;
                 // How many produced this cycle
                 int count = 0;
-                while (this.particles.size() < this.number) {
+                while (this.particleCount < this.number) {
                     if (count == this.rate) {
                         break;
                     }
-                    Particle newP = null;
-
-                    // Find particle
-                    for (Particle p : particlePool) {
-                        if (!p.alive) {
-                            newP = p;
-                            break;
-                        }
-                    }
-
-                    // Add it
-                    if (newP == null) {
-                        throw new IllegalStateException("Ayyyyyy too many particles");
-                    } else {
-                        newP.alive = true;
-                        newP.x = originX;
-                        newP.y = originY;
+                    float min = this.getSpeedVarianceMin();
+                    float max = this.getSpeedVarianceMax();
+                    float factor = (random.nextFloat() * (max - min) + min) * this.getSpeed();
+                    float direction = random.nextFloat() * 360;
 
-                        float min = this.getSpeedVarianceMin();
-                        float max = this.getSpeedVarianceMax();
-                        float factor = (random.nextFloat() * (max - min) + min) * this.getSpeed();
-                        float direction = random.nextFloat() * 360;
-
-                        // Gen normalized vec and scale it by factor
-                        newP.vector = new Vector2(
-                                (float) Math.sin(Math.toRadians(direction)),
-                                (float) Math.cos(Math.toRadians(direction))).nor().scl(factor);
-
-                        newP.lifeTime = this.getLifeTime();
-                        newP.rotation = random.nextFloat();
-
-                        this.particles.add(newP);
-                        count++;
-                    }
+                    spawn(particlePool, originX, originY, direction, factor, random.nextFloat());
+                    count++;
                 }
             }
         }
@@ -1,11 +1,9 @@
 package com.deco2800.potatoes.renderering.particles.types;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.deco2800.potatoes.renderering.particles.Particle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.potatoes.renderering.particles.ParticlePool;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Random;
 
 import static com.deco2800.potatoes.util.MathUtil.compareFloat;
@@ -26,12 +24,32 @@ public class GlobalEmitterType extends ParticleType {
         this.setLifeTime(lifeTime);
         this.cycleDelta = cycleDelta;
         this.rate = rate;
-        particles = new ArrayList<>();
         this.texture = texture;
         setRotationSpeed(5.0f);
         setSpeed(0.1f);
     }
 
+    /**
+     * Creates a particle with the given texture region
+     * @param number maximum number of particles to produce
+     * @param lifeTime lifetime of a single particle (in ms)
+     * @param cycleDelta how long till a cycle (i.e. when we emit particles). (in ms)
+     * @param rate the rate particles should be produced per cycle
+     * @param region texture region to use for the particle
+     */
+    public GlobalEmitterType(int number, float lifeTime, float cycleDelta, int rate, TextureRegion region) {
+        this(number, lifeTime, cycleDelta, rate, region.getTexture());
+        setTextureRegion(region);
+    }
+
+    /**
+     * Particles are spread over the whole world rather than starting at the emitter
+     */
+    @Override
+    public boolean spawnsAtOrigin() {
+        return false;
+    }
+
     /**
      * Tick's the particles associated with this type
      *
@@ -42,24 +60,8 @@ public class GlobalEmitterType extends ParticleType {
      * @param active       should this spawn new particles?
      */
     @Override
-    public void onTick(double deltaTime, List<Particle> particlePool, float originX, float originY, boolean active) {
-        // Tick particles
-        Iterator<Particle> iter = this.particles.iterator();
-        while (iter.hasNext()) {
-            Particle p = iter.next();
-            // Tick particles
-            p.x += p.vector.x * deltaTime;
-            p.y += p.vector.y * deltaTime;
-            p.lifeTime -= deltaTime;
-            p.rotation += this.getRotationSpeed() - this.getRotationSpeed()  * 2.0f * (p.hashCode() % 2);
-
-            // Delete expired
-            if (p.lifeTime <= 0.0f) {
-                p.alive = false;
-                iter.remove();
-            }
-        }
-
+    public void onTick(double deltaTime, ParticlePool particlePool, float originX, float originY, boolean active) {
+        updateParticles(deltaTime, particlePool);
 
         // Check if new particles are needed
         if (active) {
@@ -68,47 +70,21 @@ public class GlobalEmitterType extends ParticleType {
                 this.currentCycleTime -= this.cycleDelta;
                 // How many produced this cycle
                 int count = 0;
-                while (this.particles.size() < this.number) {
+                while (this.particleCount < this.number) {
                     if (count == this.rate) {
                         break;
                     }
-                    Particle newP = null;
-
-                    // Find particle
-                    for (Particle p : particlePool) {
-                        if (!p.alive) {
-                            newP = p;
-                            break;
-                        }
-                    }
+                    // lol
+                    float x = random.nextFloat() * 40000 - 20000;
+                    float y = random.nextFloat() * 40000 - 20000;
 
-                    // Add it
-                    if (newP == null) {
-                        throw new IllegalStateException("Ayyyyyy too many particles");
-                    } else {
-                        newP.alive = true;
-                        // lol
-                        newP.x = random.nextFloat() * 40000 - 20000;
-                        newP.y = random.nextFloat() * 40000 - 20000;
+                    float min = this.getSpeedVarianceMin();
+                    float max = this.getSpeedVarianceMax();
+                    float factor = (random.nextFloat() * (max - min) + min) * this.getSpeed();
+                    float direction = random.nextFloat() * (this.getUpperAngleBound() - this.getLowerAngleBound());
 
-                        float min = this.getSpeedVarianceMin();
-                        float max = this.getSpeedVarianceMax();
-                        float factor = (random.nextFloat() * (max - min) + min) * this.getSpeed();
-
-
-                        float direction = random.nextFloat() * (this.getUpperAngleBound() - this.getLowerAngleBound());
-
-                        // Gen normalized vec and scale it by factor
-                        newP.vector.set(
-                                (float) Math.sin(Math.toRadians(direction)),
-                                (float) Math.cos(Math.toRadians(direction))).nor().scl(factor);
-
-                        newP.lifeTime = this.getLifeTime();
-                        newP.rotation = random.nextFloat();
-
-                        this.particles.add(newP);
-                        count++;
-                    }
+                    spawn(particlePool, x, y, direction, factor, random.nextFloat());
+                    count++;
                 }
                 if (compareFloat(this.cycleDelta, 0.0f)) {
                     break;
@@ -3,11 +3,61 @@ package com.deco2800.potatoes.renderering.particles.types;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.deco2800.potatoes.renderering.particles.Particle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.deco2800.potatoes.renderering.particles.ParticlePool;
+import com.deco2800.potatoes.renderering.particles.ParticleTextureCache;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public abstract class ParticleType {
+    /**
+     * How important a type's particles are, deciding how they are cut back when there are too many particles.
+     */
+    public enum Priority {
+        // Decoration, like footsteps. Cut back early and not spawned off screen
+        LOW(0.25f, 0.0f),
+        // Most effects
+        NORMAL(0.5f, 0.25f),
+        // Effects the player needs to see. Only limited by the particle limit
+        HIGH(1.0f, 0.5f);
+
+        private final float throttleLoad;
+        private final float offScreenScale;
+
+        Priority(float throttleLoad, float offScreenScale) {
+            this.throttleLoad = throttleLoad;
+            this.offScreenScale = offScreenScale;
+        }
+
+        /**
+         * Gets the fraction of particles to spawn. Above the throttle load the fraction falls linearly, reaching zero
+         * when the pool is full.
+         * @param load live particles as a fraction of the particle limit
+         * @param onScreen if the particles would be on screen
+         * @return fraction of particles to spawn, between 0 and 1
+         */
+        public float getSpawnScale(float load, boolean onScreen) {
+            float scale = 1.0f;
+            if (load > throttleLoad) {
+                scale = Math.max(0.0f, (1.0f - load) / (1.0f - throttleLoad));
+            }
+            return onScreen ? scale : scale * offScreenScale;
+        }
+    }
+
+    // Above this many particles, updates are split into chunks run in parallel
+    public static final int PARALLEL_THRESHOLD = 50000;
+    private static final int CHUNK_SIZE = 16384;
+
+    // Floats per sprite in a SpriteBatch (4 vertices of x, y, colour, u, v) and sprites per draw call
+    private static final int SPRITE_SIZE = 20;
+    private static final int SPRITES_PER_DRAW = 1000;
+    // Shared by every type, as drawing only happens on the render thread
+    private static final float[] vertices = new float[SPRITE_SIZE * SPRITES_PER_DRAW];
+
     private Color color;
     private int sizeX, sizeY;
     public int number, rate;
@@ -30,18 +80,41 @@ public abstract class ParticleType {
     // Not functional yet. Will implement when/if needed
     private float fadeInPercent = 0.1f;
     public Texture texture;
+    // Part of the texture to draw, or null to draw all of it
+    private TextureRegion region;
+
+    // Drawn instead when there is no texture, set by the emitter's manager
+    private ParticleTextureCache.Sprite sprite;
+
+    // Pool the particles of this type are stored in, set on the first tick
+    protected ParticlePool pool;
+
+    // Indices in the pool of the active particles of this type
+    protected int[] particles = new int[16];
+    protected int particleCount;
 
-    // List of active particles of this type
-    public List<Particle> particles;
+    private int parallelThreshold = PARALLEL_THRESHOLD;
+
+    private Priority priority = Priority.NORMAL;
+    // Fraction of particles to spawn, set by the manager each tick
+    private float spawnScale = 1.0f;
+    private float spawnCredit;
+
+    /**
+     * @return the number of active particles of this type
+     */
+    public int getParticleCount() {
+        return particleCount;
+    }
 
     /**
      * Removes all particles from being tracked
      */
     public void cleanup() {
-        for (Particle particle : particles) {
-            particle.alive = false;
+        for (int i = 0; i < particleCount; ++i) {
+            pool.free(particles[i]);
         }
-        particles.clear();
+        particleCount = 0;
     }
 
     /**
@@ -53,35 +126,344 @@ public abstract class ParticleType {
      * @param originY origin point for new particles
      * @param active should this spawn new particles?
      */
-    public abstract void onTick(double deltaTime, List<Particle> particlePool, float originX, float originY,
+    public abstract void onTick(double deltaTime, ParticlePool particlePool, float originX, float originY,
                                 boolean active);
 
+    /**
+     * Moves, rotates and ages every particle of this type. Expired particles are returned to the pool and the rest
+     * are compacted to the front of the particle list.
+     *
+     * Each particle is updated independently, so with more than getParallelThreshold() particles the update is split
+     * into chunks run on the common fork/join pool.
+     * @param deltaTime delta to use
+     * @param particlePool pool the particles are stored in
+     */
+    protected void updateParticles(double deltaTime, ParticlePool particlePool) {
+        this.pool = particlePool;
+        if (particleCount > parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new Integration(particlePool, (float) deltaTime, 0, particleCount));
+        } else {
+            integrate(particlePool, (float) deltaTime, 0, particleCount);
+        }
+
+        // Delete expired
+        float[] life = particlePool.lifeTime;
+        int kept = 0;
+        for (int i = 0; i < particleCount; ++i) {
+            int p = particles[i];
+            if (life[p] <= 0.0f) {
+                particlePool.free(p);
+            } else {
+                particles[kept++] = p;
+            }
+        }
+        particleCount = kept;
+    }
+
+    /**
+     * Moves, rotates and ages the particles from the given range of the particle list.
+     */
+    private void integrate(ParticlePool particlePool, float deltaTime, int from, int to) {
+        float[] x = particlePool.x;
+        float[] y = particlePool.y;
+        float[] vx = particlePool.vx;
+        float[] vy = particlePool.vy;
+        float[] life = particlePool.lifeTime;
+        float[] rot = particlePool.rotation;
+
+        for (int i = from; i < to; ++i) {
+            int p = particles[i];
+            x[p] += vx[p] * deltaTime;
+            y[p] += vy[p] * deltaTime;
+            life[p] -= deltaTime;
+            // Half the particles spin each way
+            rot[p] += (p & 1) == 0 ? rotationSpeed : -rotationSpeed;
+            updateVelocity(particlePool, p);
+        }
+    }
+
+    /**
+     * Integrates a range of the particle list, splitting it in half until it is at most CHUNK_SIZE particles.
+     */
+    private class Integration extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ParticlePool particlePool;
+        private final float deltaTime;
+        private final int from, to;
+
+        Integration(ParticlePool particlePool, float deltaTime, int from, int to) {
+            this.particlePool = particlePool;
+            this.deltaTime = deltaTime;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                integrate(particlePool, deltaTime, from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Integration(particlePool, deltaTime, from, mid),
+                        new Integration(particlePool, deltaTime, mid, to));
+            }
+        }
+    }
+
+    /**
+     * @return if particles start at the emitter, so aren't seen when it is off screen
+     */
+    public boolean spawnsAtOrigin() {
+        return true;
+    }
+
+    /**
+     * @return how important this type's particles are
+     */
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * @param priority how important this type's particles are
+     */
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * @return the fraction of particles being spawned
+     */
+    public float getSpawnScale() {
+        return spawnScale;
+    }
+
+    /**
+     * @param spawnScale the fraction of particles to spawn, between 0 and 1
+     */
+    public void setSpawnScale(float spawnScale) {
+        this.spawnScale = spawnScale;
+    }
+
+    /**
+     * @return the number of particles above which updates run in parallel
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * @param parallelThreshold the number of particles above which updates run in parallel
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Called for each particle every tick after it has moved, to let a type steer its particles. May be called from
+     * several threads at once for different particles, so should only change the given particle
+     * @param particlePool pool the particle is stored in
+     * @param p index of the particle
+     */
+    protected void updateVelocity(ParticlePool particlePool, int p) {
+        // Particles go straight by default
+    }
+
+    /**
+     * Creates a new particle of this type, moving in the given direction. Only the spawn scale's fraction of calls
+     * create a particle, and none do while the pool is full.
+     * @param particlePool pool to fetch the particle from
+     * @param x starting position
+     * @param y starting position
+     * @param direction direction of travel in degrees, clockwise from up
+     * @param factor speed of the particle
+     * @param initialRotation starting rotation of the particle
+     */
+    protected void spawn(ParticlePool particlePool, float x, float y, float direction, float factor,
+                         float initialRotation) {
+        this.pool = particlePool;
+        spawnCredit += spawnScale;
+        if (spawnCredit < 1.0f) {
+            particlePool.countCulled();
+            return;
+        }
+        spawnCredit -= 1.0f;
+        if (particlePool.isFull()) {
+            particlePool.countDropped();
+            return;
+        }
+
+        int p = particlePool.obtain();
+        particlePool.x[p] = x;
+        particlePool.y[p] = y;
+        particlePool.vx[p] = (float) Math.sin(Math.toRadians(direction)) * factor;
+        particlePool.vy[p] = (float) Math.cos(Math.toRadians(direction)) * factor;
+        particlePool.lifeTime[p] = this.lifeTime;
+        particlePool.rotation[p] = initialRotation;
+
+        if (particleCount == particles.length) {
+            particles = Arrays.copyOf(particles, particleCount * 2);
+        }
+        particles[particleCount++] = p;
+    }
+
     /**
      * Draws the particles associated with this type. The batch should have begun before this is called.
+     *
+     * The sprites' vertices are written straight into an array and handed to the batch a thousand at a time, instead
+     * of setting the batch colour and drawing each particle separately.
      * @param batch batch to draw withh
      */
     public void draw(SpriteBatch batch) {
-        for (Particle p : this.particles) {
-            Color col = batch.getColor();
+        if (particleCount == 0) {
+            return;
+        }
+        Color col = batch.getColor();
+        float r = col.r;
+        float g = col.g;
+        float b = col.b;
+        Texture drawTexture;
+        int width, height;
+        // Texture coordinates of the left, right, bottom and top edges
+        float u, u2, v, v2;
+        if (this.region != null) {
+            drawTexture = this.region.getTexture();
+            width = this.region.getRegionWidth();
+            height = this.region.getRegionHeight();
+            u = this.region.getU();
+            u2 = this.region.getU2();
+            v = this.region.getV2();
+            v2 = this.region.getV();
+        } else if (this.texture != null) {
+            drawTexture = this.texture;
+            width = this.texture.getWidth();
+            height = this.texture.getHeight();
+            u = 0;
+            u2 = 1;
+            v = 1;
+            v2 = 0;
+        } else if (sprite != null) {
+            TextureRegion region = sprite.getRegion();
+            drawTexture = region.getTexture();
+            width = sprite.getWidth();
+            height = sprite.getHeight();
+            u = region.getU();
+            u2 = region.getU2();
+            v = region.getV2();
+            v2 = region.getV();
+            // Tint the white sprite with our colour
+            r *= sprite.getColor().r;
+            g *= sprite.getColor().g;
+            b *= sprite.getColor().b;
+        } else {
+            // Not added to a manager, so there is nothing to draw with
+            return;
+        }
+
+        // Corners relative to the centre of rotation
+        float left = -(width / 2);
+        float bottom = -(height / 2);
+        float right = left + width;
+        float top = bottom + height;
+
+        float fadeOutThreshold = this.lifeTime * this.fadeOutPercent;
+        float[] x = pool.x;
+        float[] y = pool.y;
+        float[] life = pool.lifeTime;
+        float[] rot = pool.rotation;
+        int idx = 0;
+        for (int i = 0; i < particleCount; ++i) {
+            int p = particles[i];
             float alpha = 1.0f;
 
-            float fadeOutThreshold = this.lifeTime * this.fadeOutPercent;
-            if (p.lifeTime < fadeOutThreshold) {
-                alpha = p.lifeTime / fadeOutThreshold;
+            if (life[p] < fadeOutThreshold) {
+                alpha = life[p] / fadeOutThreshold;
             }
 
             if (alpha > this.alphaCeil) { 
                 alpha = this.alphaCeil; 
             }
+            float color = Color.toFloatBits(r, g, b, alpha);
+
+            float cos = MathUtils.cosDeg(rot[p]);
+            float sin = MathUtils.sinDeg(rot[p]);
+            float originX = x[p] - left;
+            float originY = y[p] - bottom;
+
+            // Bottom left, top left, top right, then bottom right
+            float x1 = cos * left - sin * bottom;
+            float y1 = sin * left + cos * bottom;
+            float x2 = cos * left - sin * top;
+            float y2 = sin * left + cos * top;
+            float x3 = cos * right - sin * top;
+            float y3 = sin * right + cos * top;
+
+            vertices[idx] = originX + x1;
+            vertices[idx + 1] = originY + y1;
+            vertices[idx + 2] = color;
+            vertices[idx + 3] = u;
+            vertices[idx + 4] = v;
+
+            vertices[idx + 5] = originX + x2;
+            vertices[idx + 6] = originY + y2;
+            vertices[idx + 7] = color;
+            vertices[idx + 8] = u;
+            vertices[idx + 9] = v2;
+
+            vertices[idx + 10] = originX + x3;
+            vertices[idx + 11] = originY + y3;
+            vertices[idx + 12] = color;
+            vertices[idx + 13] = u2;
+            vertices[idx + 14] = v2;
 
-            batch.setColor(col.r, col.g, col.b, alpha);
-            batch.draw(this.texture, p.x, p.y, this.texture.getWidth() / 2, this.texture.getHeight() / 2,
-                    this.texture.getWidth(), this.texture.getHeight(),
-                    1.0f, 1.0f, p.rotation,
-                    0, 0, this.texture.getWidth(), this.texture.getHeight(),
-                    false, false);
+            vertices[idx + 15] = originX + x1 + x3 - x2;
+            vertices[idx + 16] = originY + y3 - y2 + y1;
+            vertices[idx + 17] = color;
+            vertices[idx + 18] = u2;
+            vertices[idx + 19] = v;
+
+            idx += SPRITE_SIZE;
+            if (idx == vertices.length) {
+                batch.draw(drawTexture, vertices, 0, idx);
+                idx = 0;
+            }
         }
+        if (idx > 0) {
+            batch.draw(drawTexture, vertices, 0, idx);
+        }
+    }
+
+    /**
+     * @return the part of the texture drawn, or null if all of it is drawn
+     */
+    public TextureRegion getTextureRegion() {
+        return region;
     }
+
+    /**
+     * Draws a region of a texture, such as a texture packed into an atlas, instead of the whole texture
+     * @param region region to draw
+     */
+    public void setTextureRegion(TextureRegion region) {
+        this.region = region;
+        this.texture = region.getTexture();
+    }
+
+    /**
+     * @return the sprite drawn when this type has no texture, or null if it hasn't been given one
+     */
+    public ParticleTextureCache.Sprite getSprite() {
+        return sprite;
+    }
+
+    /**
+     * @param sprite the sprite to draw when this type has no texture
+     */
+    public void setSprite(ParticleTextureCache.Sprite sprite) {
+        this.sprite = sprite;
+    }
+
     //return speed
     public float getSpeed(){
         return this.speed;
@@ -116,7 +498,7 @@ public abstract class ParticleType {
     }
     //return size Y
     public int getSizeY(){
-        return this.sizeX;
+        return this.sizeY;
     }
     //set size Y
     public void setSizeY(int sizeY){
@@ -11,6 +11,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextField;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.deco2800.potatoes.RocketPotatoes;
 import com.deco2800.potatoes.cheats.CheatList;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.entities.EventProgress;
 import com.deco2800.potatoes.entities.Tickable;
 import com.deco2800.potatoes.entities.trees.*;
 import com.deco2800.potatoes.gui.*;
@@ -19,12 +21,16 @@ import com.deco2800.potatoes.managers.*;
 import com.deco2800.potatoes.observers.KeyDownObserver;
 import com.deco2800.potatoes.observers.ScrollObserver;
 import com.deco2800.potatoes.renderering.Render3D;
-import com.deco2800.potatoes.renderering.Renderable;
 import com.deco2800.potatoes.renderering.Renderer;
+import com.deco2800.potatoes.util.FixedTimestep;
 import com.deco2800.potatoes.waves.EnemyWave;
 import com.deco2800.potatoes.worlds.*;
 import com.deco2800.potatoes.worlds.terrain.Terrain;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /* "Feral Chase" Kevin MacLeod (incompetech.com)
  * Licensed under Creative Commons: By Attribution 3.0 License
  * http://creativecommons.org/licenses/by/3.0/
@@ -57,10 +63,22 @@ public class GameScreen implements Screen {
 	private InputManager inputManager;
 	private WaveManager waveManager;
 	private ProgressBarManager progressBarManager;
+	private RespawnGui respawnGui;
 
 	private SpriteBatch batch;
 
+	/**
+	 * Length of a simulation step in milliseconds. Everything is ticked once a step, however long frames take, as
+	 * much of the game counts steps rather than time. About a step a frame at 60 frames per second.
+	 */
+	public static final long STEP_MILLIS = 16;
+	// The most steps run to catch up on one frame at normal speed. Longer frames slow the game down instead
+	private static final int MAX_CATCH_UP_STEPS = 5;
+	// Time each frame spends uploading textures of enemies and worlds loaded in the background
+	private static final int GROUP_LOADING_MILLIS = 4;
+
 	private double tickrate = 1;
+	private FixedTimestep timestep = new FixedTimestep(STEP_MILLIS, MAX_CATCH_UP_STEPS);
 
 	private int maxShopRange;
 
@@ -96,6 +114,7 @@ public class GameScreen implements Screen {
 
 		/* Create a sound manager for the whole game */
 		soundManager = GameManager.get().getManager(SoundManager.class);
+		soundManager.preloadSounds(SoundManager.GAME_SOUNDS);
 
 		/* Create a mouse handler for the game */
 		mouseHandler = new MouseHandler();
@@ -163,7 +182,8 @@ public class GameScreen implements Screen {
 		// Make our wave information window
 		guiManager.addGui(new WavesGui(guiManager.getStage()));
 
-		guiManager.addGui(new RespawnGui(guiManager.getStage(),this));
+		respawnGui = new RespawnGui(guiManager.getStage(), this);
+		guiManager.addGui(respawnGui);
 		
 		// Make our TutorialGui
 		guiManager.addGui(new TutorialGui(guiManager.getStage(), this));
@@ -279,6 +299,9 @@ public class GameScreen implements Screen {
 
 	    	boolean oldTreeSpread = true;
 
+	    	// Trees to add, added in one batch at the end
+	    	List<AbstractTree> newTrees = new ArrayList<>();
+
 	    	// Iterate over the trees
 	    	for (int i = 0; i < trees.length; i ++) {
 	    		for (int j = 0; j < amount; j++) {
@@ -294,13 +317,14 @@ public class GameScreen implements Screen {
 						    AbstractTree newTree = trees[i].createCopy();
 						    newTree.setPosX(xPos);
 						    newTree.setPosY(yPos);
-						    world.addEntity(newTree);
+						    newTrees.add(newTree);
 					    }
 				    } else {
 	    				world.addToPlantable(trees[i].createCopy());
 				    }
 	    		}
 	    	}
+	    	world.addEntities(newTrees);
 
 	}
 	
@@ -321,8 +345,12 @@ public class GameScreen implements Screen {
 	}
 
 	private void tickGame(long timeDelta) {
-		// Tick other stuff maybe
-		for (Renderable e : GameManager.get().getWorld().getEntities().values()) {
+		Collection<AbstractEntity> entities = GameManager.get().getWorld().getEntities().values();
+		// Where everything was before this step, for drawing between steps
+		for (AbstractEntity e : entities) {
+			e.savePosition();
+		}
+		for (AbstractEntity e : entities) {
 			if (e instanceof Tickable) {
 				((Tickable) e).onTick(timeDelta);
 			}
@@ -388,15 +416,10 @@ public class GameScreen implements Screen {
 	}
 	
 	private void updateRespawnGUI(){
-
-		Gui respawnGui = guiManager.getGui(RespawnGui.class);
-
-		if(playerManager.getPlayer().isDead()) {
-			int count = ((RespawnGui) respawnGui).returnCount();
-			int display =(int) Math.round(count/1000.0) + 1;
-			((RespawnGui) respawnGui).returnTimer().setText(Integer.toString(display));
+		EventProgress respawn = playerManager.getPlayer().getRespawnProgress();
+		if (playerManager.getPlayer().isDead() && respawn != null) {
+			respawnGui.update(respawn);
 		}
-
 	}
 
 	/**
@@ -410,13 +433,17 @@ public class GameScreen implements Screen {
 		 */
 
 		/*
-		 * Tickrate = 100Hz
+		 * Run as many fixed length steps as the time since the last frame covers
 		 */
-
 		if (!GameManager.get().isPaused()) {
-			tickGame((int)(delta * 1000 * tickrate));
+			int steps = timestep.advance(delta * 1000 * tickrate);
+			for (int i = 0; i < steps; i++) {
+				tickGame(STEP_MILLIS);
+			}
 		}
-		
+		renderer.setInterpolation(timestep.getAlpha());
+		TextureManager.updateGroupLoading(GROUP_LOADING_MILLIS);
+
 
 		/*
 		 * Update the camera
@@ -494,8 +521,25 @@ public class GameScreen implements Screen {
 		// Don't need this at the moment
 	}
 
+	/**
+	 * Runs the game for the given amount of game time as fast as possible, without drawing anything or waiting for
+	 * frames. Used to soak and performance test the game headless, see GameSimulationBenchmark.
+	 *
+	 * @param millis
+	 *            Game time to run for, in milliseconds
+	 * @return the number of steps run
+	 */
+	public long simulate(long millis) {
+		long steps = millis / STEP_MILLIS;
+		for (long i = 0; i < steps; i++) {
+			tickGame(STEP_MILLIS);
+		}
+		return steps;
+	}
+
 	public void exitToMenu() {
 		soundManager.stopMusic();
+		soundManager.dispose();
 		GameManager.get().clearManagers();
 		game.setScreen(new MainMenuScreen(game));
 		dispose();
@@ -637,6 +681,8 @@ public class GameScreen implements Screen {
 			tickrate = 0;
 		}
 		this.tickrate = tickrate;
+		// Faster games run more steps a frame
+		timestep.setMaxSteps((int) Math.ceil(MAX_CATCH_UP_STEPS * Math.max(1, tickrate)));
 	}
 
 }
@@ -5,8 +5,9 @@ import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.deco2800.potatoes.RocketPotatoes;
@@ -17,6 +18,8 @@ import com.deco2800.potatoes.managers.TextureManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ManagementFactory;
+
 /*
  * "Call to Adventure" Kevin MacLeod (incompetech.com)
  * Licensed under Creative Commons: By Attribution 3.0 License
@@ -32,6 +35,10 @@ public class MainMenuScreen implements Screen {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MainMenuScreen.class);
 
+    // Time to spend uploading textures each frame while they load
+    private static final int LOADING_MILLIS = 10;
+    private static final int LOADING_BAR_HEIGHT = 6;
+
     private SpriteBatch batch;
     private Stage stage;
 
@@ -39,6 +46,7 @@ public class MainMenuScreen implements Screen {
     private OrthographicCamera camera;
     private SoundManager soundManager;
     private TextureManager textureManager;
+    private ShapeRenderer loadingBar;
 
 
     public MainMenuScreen(RocketPotatoes game) {
@@ -50,13 +58,13 @@ public class MainMenuScreen implements Screen {
 
         soundManager = GameManager.get().getManager(SoundManager.class);
         textureManager = GameManager.get().getManager(TextureManager.class);
-        TextureManager.loadTextures();
+        // The menu is set up once its textures have loaded, while the rest keep loading
+        TextureManager.startLoading();
         stage = new Stage(new ScreenViewport());
+        loadingBar = new ShapeRenderer();
 
         soundManager.playMusic("Call to Adventure.mp3");
 
-        setupGui();
-
         // Setup input handling
         InputMultiplexer inputMultiplexer = new InputMultiplexer();
         inputMultiplexer.addProcessor(stage);
@@ -86,16 +94,45 @@ public class MainMenuScreen implements Screen {
         Gdx.graphics.setTitle("DECO2800 " + this.getClass().getCanonicalName() +  " - FPS: " +
                 Gdx.graphics.getFramesPerSecond());
 
+        boolean loaded = TextureManager.updateLoading(LOADING_MILLIS);
+        if (mainMenuGui == null) {
+            if (!TextureManager.isMenuLoaded()) {
+                drawLoadingBar();
+                return;
+            }
+            setupGui();
+            mainMenuGui.resize(stage);
+            LOGGER.info("Main menu interactive " + (System.currentTimeMillis()
+                    - ManagementFactory.getRuntimeMXBean().getStartTime()) + " ms after starting");
+        }
+
         // Draw/update gui
         stage.act();
         stage.getBatch().begin();
-        Texture t = textureManager.getTexture("backgroundMainMenu");
-        stage.getBatch().draw(t, 0 - (int)(t.getWidth() / 2.0) + (int)(stage.getWidth() / 2.0),  0 - (int)(t.getHeight() / 2.0) + (int)(stage.getHeight() / 2.0), t.getWidth(), t.getHeight());
+        TextureRegion t = textureManager.getTextureRegion("backgroundMainMenu");
+        stage.getBatch().draw(t, 0 - (int)(t.getRegionWidth() / 2.0) + (int)(stage.getWidth() / 2.0),  0 - (int)(t.getRegionHeight() / 2.0) + (int)(stage.getHeight() / 2.0), t.getRegionWidth(), t.getRegionHeight());
 
 
         stage.getBatch().end();
         
         stage.draw();
+
+        if (!loaded) {
+            drawLoadingBar();
+        }
+    }
+
+    /**
+     * Draws how much of the textures have loaded, along the bottom of the screen
+     */
+    private void drawLoadingBar() {
+        loadingBar.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        loadingBar.begin(ShapeRenderer.ShapeType.Filled);
+        loadingBar.setColor(0.2f, 0.2f, 0.2f, 1);
+        loadingBar.rect(0, 0, Gdx.graphics.getWidth(), LOADING_BAR_HEIGHT);
+        loadingBar.setColor(0.9f, 0.7f, 0.2f, 1);
+        loadingBar.rect(0, 0, Gdx.graphics.getWidth() * TextureManager.getLoadingProgress(), LOADING_BAR_HEIGHT);
+        loadingBar.end();
     }
 
     /**
@@ -111,7 +148,9 @@ public class MainMenuScreen implements Screen {
 
         stage.getViewport().update(width, height, true);
 
-        mainMenuGui.resize(stage);
+        if (mainMenuGui != null) {
+            mainMenuGui.resize(stage);
+        }
     }
 
     /**
@@ -160,6 +199,8 @@ public class MainMenuScreen implements Screen {
      */
     public void startSinglePlayer() {
         soundManager.stopMusic();
+        // The game needs every texture
+        TextureManager.finishLoading();
         game.setScreen(new GameScreen(game));
     }
 
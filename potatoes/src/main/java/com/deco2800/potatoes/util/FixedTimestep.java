@@ -0,0 +1,111 @@
+package com.deco2800.potatoes.util;
+
+/**
+ * Turns the variable time between frames into a whole number of fixed length simulation steps.
+ *
+ * Time is added to an accumulator each frame and taken out a step at a time, so the game runs the
+ * same number of steps per second whatever the frame rate. What is left over, less than a step, is
+ * carried to the next frame and given by getAlpha(), for drawing between the last two steps.
+ *
+ * At most maxSteps are run for one frame. If a frame takes longer than that to catch up on, the
+ * rest of its time is dropped, so the game slows down rather than running ever more steps to catch
+ * up on ever longer frames.
+ */
+public class FixedTimestep {
+    private final long stepMillis;
+    private int maxSteps;
+    private double accumulator;
+    private long steps;
+    private double droppedMillis;
+
+    /**
+     * Creates a timestep with no time accumulated.
+     *
+     * @param stepMillis
+     *          The length of a step, in milliseconds. Must be positive.
+     * @param maxSteps
+     *          The most steps run for one frame. Must be positive.
+     */
+    public FixedTimestep(long stepMillis, int maxSteps) {
+        if (stepMillis <= 0) {
+            throw new IllegalArgumentException("Step length must be positive: " + stepMillis);
+        }
+        this.stepMillis = stepMillis;
+        setMaxSteps(maxSteps);
+    }
+
+    /**
+     * Adds the time since the last frame and takes out the steps to run for it.
+     *
+     * @param elapsedMillis
+     *          Time since the last frame, in milliseconds. Negative times are ignored.
+     * @return The number of steps to run, between 0 and the maximum
+     */
+    public int advance(double elapsedMillis) {
+        accumulator += Math.max(0, elapsedMillis);
+        int due = (int) Math.min(maxSteps, Math.floor(accumulator / stepMillis));
+        accumulator -= due * stepMillis;
+        if (accumulator >= stepMillis) {
+            droppedMillis += accumulator - accumulator % stepMillis;
+            accumulator %= stepMillis;
+        }
+        steps += due;
+        return due;
+    }
+
+    /**
+     * @return How far the accumulated time is into the next step, from 0 (just after the last step) to
+     *          1 (the next step is due)
+     */
+    public float getAlpha() {
+        return (float) (accumulator / stepMillis);
+    }
+
+    /**
+     * Discards the accumulated time, e.g. after the game has been paused.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    /**
+     * @return The length of a step, in milliseconds
+     */
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    /**
+     * @return The most steps run for one frame
+     */
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    /**
+     * Sets the most steps run for one frame.
+     *
+     * @param maxSteps
+     *          The most steps to run for one frame. Must be positive.
+     */
+    public void setMaxSteps(int maxSteps) {
+        if (maxSteps <= 0) {
+            throw new IllegalArgumentException("Maximum steps must be positive: " + maxSteps);
+        }
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * @return The total number of steps taken out by advance(...)
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * @return The total time dropped because frames were too long to catch up on, in milliseconds
+     */
+    public double getDroppedMillis() {
+        return droppedMillis;
+    }
+}
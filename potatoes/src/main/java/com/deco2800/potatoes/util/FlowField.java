@@ -0,0 +1,302 @@
+package com.deco2800.potatoes.util;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Shape2D;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Grid of the cheapest routes to a single goal, shared by every entity heading there.
+ *
+ * The field stores, for each cell of the world grid, the cost of getting from that cell to the goal and which
+ * neighbouring cell to go through next. Building the field runs Dijkstra's algorithm out from the goal over the
+ * 8-connected grid, after which finding the direction to move from any position is O(1).
+ *
+ * The cost of each cell is read from an array shared with the owner of the field, which is expected to tell the
+ * field when cells change, so only the routes through those cells are recomputed.
+ */
+public class FlowField {
+    private static final float DIAGONAL = (float) Math.sqrt(2);
+    private static final float UNREACHABLE = Float.POSITIVE_INFINITY;
+    // Offsets to the 8 neighbours of a cell, orthogonal neighbours first.
+    private static final int[] NEIGHBOUR_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] NEIGHBOUR_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+    // Status of cells while finding the routes affected by an update.
+    private static final byte UNKNOWN = 0;
+    private static final byte VALID = 1;
+    private static final byte INVALID = 2;
+
+    private final int width;
+    private final int length;
+    // Cost of moving one unit within each cell, UNREACHABLE if the cell can't be entered. Owned by the caller.
+    private final float[] costs;
+    // Cost of getting from each cell to the goal.
+    private final float[] distances;
+    // The neighbouring cell to move to from each cell, -1 if there isn't one.
+    private final int[] next;
+    private final IndexedMinHeap frontier;
+
+    private Shape2D goal;
+    // Inclusive range of cells covered by the goal.
+    private int goalMinX;
+    private int goalMinY;
+    private int goalMaxX;
+    private int goalMaxY;
+
+    /**
+     * Creates a field with no goal.
+     *
+     * @param width
+     *          The number of cells in x.
+     * @param length
+     *          The number of cells in y.
+     * @param costs
+     *          The cost of moving one unit within each cell, indexed by y * width + x. Infinite for cells which
+     *          can't be entered. This array is read, not copied, whenever the field is rebuilt or updated.
+     */
+    public FlowField(int width, int length, float[] costs) {
+        if (costs.length != width * length) {
+            throw new IllegalArgumentException("Costs must have one entry per cell");
+        }
+        this.width = width;
+        this.length = length;
+        this.costs = costs;
+        distances = new float[width * length];
+        next = new int[width * length];
+        frontier = new IndexedMinHeap(width * length);
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(next, -1);
+        goalMinX = goalMinY = 0;
+        goalMaxX = goalMaxY = -1;
+    }
+
+    /**
+     * Sets the goal of the field. The field is only rebuilt if the goal covers different cells than before.
+     *
+     * @param goal
+     *          The shape entities using this field are trying to reach.
+     */
+    public void setGoal(Shape2D goal) {
+        this.goal = goal;
+        int minX;
+        int minY;
+        int maxX;
+        int maxY;
+        Optional<Box2D> bounds = goal.getBoundingBox();
+        if (bounds.isPresent()) {
+            Box2D box = bounds.get();
+            minX = (int) Math.floor(box.getX() - box.getXLength() / 2);
+            minY = (int) Math.floor(box.getY() - box.getYLength() / 2);
+            maxX = (int) Math.floor(box.getX() + box.getXLength() / 2);
+            maxY = (int) Math.floor(box.getY() + box.getYLength() / 2);
+        } else {
+            minX = maxX = (int) Math.floor(goal.getX());
+            minY = maxY = (int) Math.floor(goal.getY());
+        }
+        if (minX == goalMinX && minY == goalMinY && maxX == goalMaxX && maxY == goalMaxY) {
+            return;
+        }
+        goalMinX = minX;
+        goalMinY = minY;
+        goalMaxX = maxX;
+        goalMaxY = maxY;
+        rebuild();
+    }
+
+    /**
+     * @return The goal of the field
+     */
+    public Shape2D getGoal() {
+        return goal;
+    }
+
+    /**
+     * Recomputes the field from scratch.
+     */
+    public void rebuild() {
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(next, -1);
+        frontier.clear();
+        for (int y = Math.max(goalMinY, 0); y <= Math.min(goalMaxY, length - 1); ++y) {
+            for (int x = Math.max(goalMinX, 0); x <= Math.min(goalMaxX, width - 1); ++x) {
+                distances[y * width + x] = 0;
+                frontier.offer(y * width + x, 0);
+            }
+        }
+        propagate();
+    }
+
+    /**
+     * Updates the field after the costs of some cells have changed. Only the cells whose route to the goal went
+     * through a changed cell, and cells which can now take a cheaper route, are recomputed.
+     *
+     * @param changedCells
+     *          The indices of the cells whose costs changed.
+     */
+    public void update(IntArray changedCells) {
+        if (goal == null) {
+            return;
+        }
+        // Routes through a changed cell may have got more expensive, so forget them
+        byte[] invalid = findRoutesThrough(changedCells);
+        for (int cell = 0; cell < invalid.length; ++cell) {
+            if (invalid[cell] == INVALID) {
+                distances[cell] = UNREACHABLE;
+                next[cell] = -1;
+            }
+        }
+
+        // Then search again from the edge of the forgotten area, which also finds routes through opened cells
+        frontier.clear();
+        for (int cell = 0; cell < invalid.length; ++cell) {
+            if (invalid[cell] != INVALID) {
+                continue;
+            }
+            int x = cell % width;
+            int y = cell / width;
+            for (int i = 0; i < NEIGHBOUR_X.length; ++i) {
+                int neighbour = cellAt(x + NEIGHBOUR_X[i], y + NEIGHBOUR_Y[i]);
+                if (neighbour >= 0 && invalid[neighbour] != INVALID && distances[neighbour] != UNREACHABLE) {
+                    frontier.offer(neighbour, distances[neighbour]);
+                }
+            }
+        }
+        propagate();
+    }
+
+    /**
+     * Marks every cell whose route to the goal passes through or next to one of the given cells (including those
+     * cells) as INVALID, and every other cell as VALID. Goal cells are always VALID.
+     */
+    private byte[] findRoutesThrough(IntArray changedCells) {
+        byte[] status = new byte[width * length];
+        for (int i = 0; i < changedCells.size; ++i) {
+            int x = changedCells.get(i) % width;
+            int y = changedCells.get(i) / width;
+            // Neighbours too, as diagonal moves past the changed cell may no longer be allowed
+            for (int neighbourY = y - 1; neighbourY <= y + 1; ++neighbourY) {
+                for (int neighbourX = x - 1; neighbourX <= x + 1; ++neighbourX) {
+                    int cell = cellAt(neighbourX, neighbourY);
+                    if (cell >= 0 && !isGoalCell(neighbourX, neighbourY)) {
+                        status[cell] = INVALID;
+                    }
+                }
+            }
+        }
+        IntArray route = new IntArray();
+        for (int cell = 0; cell < status.length; ++cell) {
+            // Follow the route until a cell with a known status, then give the whole route that status
+            int current = cell;
+            while (status[current] == UNKNOWN && next[current] >= 0) {
+                route.add(current);
+                current = next[current];
+            }
+            byte result = status[current] == INVALID ? INVALID : VALID;
+            if (status[current] == UNKNOWN) {
+                status[current] = VALID;
+            }
+            for (int i = 0; i < route.size; ++i) {
+                status[route.get(i)] = result;
+            }
+            route.clear();
+        }
+        return status;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the cells in the frontier, lowering the distance of any cell that can be
+     * reached more cheaply.
+     */
+    private void propagate() {
+        while (!frontier.isEmpty()) {
+            int cell = frontier.poll();
+            int x = cell % width;
+            int y = cell / width;
+            for (int i = 0; i < NEIGHBOUR_X.length; ++i) {
+                int neighbour = cellAt(x + NEIGHBOUR_X[i], y + NEIGHBOUR_Y[i]);
+                if (neighbour < 0 || costs[neighbour] == UNREACHABLE) {
+                    continue;
+                }
+                float step = 1;
+                if (i >= 4) {
+                    // Don't cut corners past cells that can't be entered
+                    if (isBlocked(x + NEIGHBOUR_X[i], y) || isBlocked(x, y + NEIGHBOUR_Y[i])) {
+                        continue;
+                    }
+                    step = DIAGONAL;
+                }
+                float distance = distances[cell] + step * costs[neighbour];
+                if (distance < distances[neighbour]) {
+                    distances[neighbour] = distance;
+                    next[neighbour] = cell;
+                    frontier.offer(neighbour, distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the cost of getting from the given position to the goal, or infinity if the goal can't be reached
+     * from there.
+     */
+    public float getDistance(float x, float y) {
+        int cell = cellAt((int) Math.floor(x), (int) Math.floor(y));
+        return cell < 0 ? UNREACHABLE : distances[cell];
+    }
+
+    /**
+     * Returns the angle (in radians, anticlockwise from positive x) an entity at the given position should move in
+     * to follow the field towards the goal.
+     *
+     * @return The angle to move in, or NaN if there is no route to the goal from this position.
+     */
+    public float getAngle(float x, float y) {
+        int cellX = (int) Math.floor(x);
+        int cellY = (int) Math.floor(y);
+        int cell = cellAt(cellX, cellY);
+        if (cell < 0 || goal == null) {
+            return Float.NaN;
+        }
+        if (isGoalCell(cellX, cellY)) {
+            return (float) Math.atan2(goal.getY() - y, goal.getX() - x);
+        }
+
+        int target = next[cell];
+        if (target < 0) {
+            // Entities can end up in cells that can't be entered, so get back to the closest one that can
+            float closest = UNREACHABLE;
+            for (int i = 0; i < NEIGHBOUR_X.length; ++i) {
+                int neighbour = cellAt(cellX + NEIGHBOUR_X[i], cellY + NEIGHBOUR_Y[i]);
+                if (neighbour >= 0 && distances[neighbour] < closest) {
+                    closest = distances[neighbour];
+                    target = neighbour;
+                }
+            }
+            if (target < 0) {
+                return Float.NaN;
+            }
+        }
+        return (float) Math.atan2(target / width + 0.5f - y, target % width + 0.5f - x);
+    }
+
+    private boolean isGoalCell(int x, int y) {
+        return x >= goalMinX && x <= goalMaxX && y >= goalMinY && y <= goalMaxY;
+    }
+
+    private boolean isBlocked(int x, int y) {
+        int cell = cellAt(x, y);
+        return cell < 0 || costs[cell] == UNREACHABLE;
+    }
+
+    /**
+     * Returns the index of the cell at (x, y), or -1 if it is outside the grid.
+     */
+    private int cellAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= length) {
+            return -1;
+        }
+        return y * width + x;
+    }
+}
@@ -3,9 +3,12 @@ package com.deco2800.potatoes.util;
 import com.deco2800.potatoes.managers.GameManager;
 
 import java.awt.Point;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -109,6 +112,134 @@ public class GridUtil {
 		}
 	}
 
+	/**
+	 * Flood fills a grid of passable cells from the given cell, joined by north,
+	 * south, east and west directions. The grid is stored in a single array, with
+	 * the cell at x, y at index x * height + y. Nothing is filled if the start
+	 * cell isn't passable.
+	 *
+	 * @param passable
+	 *            whether each cell can be part of the flood fill area
+	 * @param width
+	 *            the width of the grid
+	 * @param height
+	 *            the height of the grid
+	 * @param start
+	 *            the index of the cell to start at
+	 * @param filled
+	 *            the flood fill area, by index. Can be initially set to cells that
+	 *            will be ignored.
+	 * @return the number of cells added to filled
+	 */
+	public static int floodFill(boolean[] passable, int width, int height, int start, BitSet filled) {
+		if (!passable[start] || filled.get(start)) {
+			return 0;
+		}
+		IntQueue queue = new IntQueue(width + height);
+		filled.set(start);
+		queue.add(start);
+		int count = 1;
+		while (!queue.isEmpty()) {
+			int cell = queue.poll();
+			int x = cell / height;
+			int y = cell - x * height;
+			for (int[] offset : DIAMOND_SAMPLES) {
+				int newX = x + offset[0];
+				int newY = y + offset[1];
+				int next = newX * height + newY;
+				if (newX >= 0 && newX < width && newY >= 0 && newY < height && passable[next] && !filled.get(next)) {
+					filled.set(next);
+					queue.add(next);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Labels the connected areas of passable cells in a grid, where cells are
+	 * joined by north, south, east and west directions. The grid is stored the same
+	 * way as for floodFill(passable, width, height, start, filled).
+	 *
+	 * @param passable
+	 *            whether each cell can be part of an area
+	 * @param width
+	 *            the width of the grid
+	 * @param height
+	 *            the height of the grid
+	 * @param labels
+	 *            set to the label of the area each cell is in, numbered from 1 in
+	 *            order of their first cell, or 0 for cells that aren't passable
+	 * @return the number of areas
+	 */
+	public static int labelComponents(boolean[] passable, int width, int height, int[] labels) {
+		Arrays.fill(labels, 0, width * height, 0);
+		IntQueue queue = new IntQueue(width + height);
+		int label = 0;
+		for (int start = 0; start < width * height; start++) {
+			if (!passable[start] || labels[start] != 0) {
+				continue;
+			}
+			label++;
+			labels[start] = label;
+			queue.add(start);
+			while (!queue.isEmpty()) {
+				int cell = queue.poll();
+				int x = cell / height;
+				int y = cell - x * height;
+				for (int[] offset : DIAMOND_SAMPLES) {
+					int newX = x + offset[0];
+					int newY = y + offset[1];
+					int next = newX * height + newY;
+					if (newX >= 0 && newX < width && newY >= 0 && newY < height && passable[next]
+							&& labels[next] == 0) {
+						labels[next] = label;
+						queue.add(next);
+					}
+				}
+			}
+		}
+		return label;
+	}
+
+	/**
+	 * A queue of ints in a ring buffer, which grows when it is full
+	 */
+	private static class IntQueue {
+		private int[] values;
+		private int head;
+		private int size;
+
+		private IntQueue(int capacity) {
+			values = new int[Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1];
+		}
+
+		private void add(int value) {
+			if (size == values.length) {
+				int[] grown = new int[values.length * 2];
+				for (int i = 0; i < size; i++) {
+					grown[i] = values[(head + i) & (values.length - 1)];
+				}
+				values = grown;
+				head = 0;
+			}
+			values[(head + size) & (values.length - 1)] = value;
+			size++;
+		}
+
+		private int poll() {
+			int value = values[head];
+			head = (head + 1) & (values.length - 1);
+			size--;
+			return value;
+		}
+
+		private boolean isEmpty() {
+			return size == 0;
+		}
+	}
+
 	/**
 	 * Blends the 2 grid given together and returns the result. The grids must be
 	 * the same size.
@@ -175,20 +306,29 @@ public class GridUtil {
 	 * @return same as the result parameter
 	 */
 	public static float[][] diamondSquareAlgorithm(float[][] result, int gridSize, float roughness, float roughScale) {
+		return diamondSquareAlgorithm(result, gridSize, roughness, roughScale, GameManager.get().getRandom());
+	}
+
+	/**
+	 * Same as diamondSquareAlgorithm(result, gridSize, roughness, roughScale), taking its random numbers from the
+	 * given random instead of the game's
+	 */
+	public static float[][] diamondSquareAlgorithm(float[][] result, int gridSize, float roughness, float roughScale,
+			Random random) {
 		int size = gridSize / 2;
 		float rough = roughness;
 		while (size > 0) {
 			for (int x = size; x < result.length; x += size) {
 				for (int y = size; y < result[0].length; y += size) {
 					// Confusingly named diamond step
-					sampleStep(result, SQUARE_SAMPLES, x, y, size, (float) (rough * GameManager.get().getRandom().nextDouble()));
+					sampleStep(result, SQUARE_SAMPLES, x, y, size, (float) (rough * random.nextDouble()));
 				}
 			}
 			for (int x = 0; x < result.length - size; x += size) {
 				for (int y = 0; y < result[0].length - size; y += size) {
 					// Square step
-					sampleStep(result, DIAMOND_SAMPLES, x + size, y, size, (float) (rough * (GameManager.get().getRandom().nextDouble() * 2 - 1)));
-					sampleStep(result, DIAMOND_SAMPLES, x, y + size, size, (float) (rough * (GameManager.get().getRandom().nextDouble() * 2 - 1)));
+					sampleStep(result, DIAMOND_SAMPLES, x + size, y, size, (float) (rough * (random.nextDouble() * 2 - 1)));
+					sampleStep(result, DIAMOND_SAMPLES, x, y + size, size, (float) (rough * (random.nextDouble() * 2 - 1)));
 				}
 			}
 			// Reduce variance and size
@@ -197,12 +337,12 @@ public class GridUtil {
 		}
 		// Hacky fix, reiterate over edges
 		for (int x = 0; x < result.length; x++) {
-			sampleStep(result, DIAMOND_SAMPLES, x, 0, 1, (float) (rough * GameManager.get().getRandom().nextDouble()));
-			sampleStep(result, DIAMOND_SAMPLES, x, result.length - 1, 1, (float) (rough * GameManager.get().getRandom().nextDouble()));
+			sampleStep(result, DIAMOND_SAMPLES, x, 0, 1, (float) (rough * random.nextDouble()));
+			sampleStep(result, DIAMOND_SAMPLES, x, result.length - 1, 1, (float) (rough * random.nextDouble()));
 		}
 		for (int y = 0; y < result.length; y++) {
-			sampleStep(result, DIAMOND_SAMPLES, 0, y, 1, (float) (rough * GameManager.get().getRandom().nextDouble()));
-			sampleStep(result, DIAMOND_SAMPLES, result.length - 1, y, 1, (float) (rough * GameManager.get().getRandom().nextDouble()));
+			sampleStep(result, DIAMOND_SAMPLES, 0, y, 1, (float) (rough * random.nextDouble()));
+			sampleStep(result, DIAMOND_SAMPLES, result.length - 1, y, 1, (float) (rough * random.nextDouble()));
 		}
 		return result;
 	}
@@ -224,10 +364,19 @@ public class GridUtil {
 	 * @return The random heightmap
 	 */
 	public static float[][] smoothDiamondSquareAlgorithm(float[][] grid, float roughness, int iterations) {
+		return smoothDiamondSquareAlgorithm(grid, roughness, iterations, GameManager.get().getRandom());
+	}
+
+	/**
+	 * Same as smoothDiamondSquareAlgorithm(grid, roughness, iterations), taking its random numbers from the given
+	 * random instead of the game's
+	 */
+	public static float[][] smoothDiamondSquareAlgorithm(float[][] grid, float roughness, int iterations,
+			Random random) {
 		// Normalize and diamond square repeatedly, with the output the seed for the
 		// next iteration
 		for (int i = 0; i < iterations; i++) {
-			normalize(diamondSquareAlgorithm(grid, grid.length, roughness, roughness));
+			normalize(diamondSquareAlgorithm(grid, grid.length, roughness, roughness, random));
 		}
 		// For some reason the result sometimes isn't normalized
 		normalize(grid);
@@ -241,11 +390,20 @@ public class GridUtil {
 	 * @see smoothDiamondSquareAlgorithm(grid, roughness, iterations)
 	 */
 	public static float[][] smoothDiamondSquareAlgorithm(float[][] grid, float edge, float roughness, int iterations) {
+		return smoothDiamondSquareAlgorithm(grid, edge, roughness, iterations, GameManager.get().getRandom());
+	}
+
+	/**
+	 * Same as smoothDiamondSquareAlgorithm(grid, edge, roughness, iterations), taking its random numbers from the
+	 * given random instead of the game's
+	 */
+	public static float[][] smoothDiamondSquareAlgorithm(float[][] grid, float edge, float roughness, int iterations,
+			Random random) {
 		// Normalize and diamond square repeatedly, with the output the seed for the
 		// next iteration
 		for (int i = 0; i < iterations; i++) {
 			setEdges(grid, edge);
-			normalize(diamondSquareAlgorithm(grid, grid.length, roughness, roughness));
+			normalize(diamondSquareAlgorithm(grid, grid.length, roughness, roughness, random));
 		}
 		// For some reason the result sometimes isn't normalized
 		normalize(grid);
@@ -254,10 +412,17 @@ public class GridUtil {
 	}
 
 	public static float[][] seedGrid(int size) {
+		return seedGrid(size, GameManager.get().getRandom());
+	}
+
+	/**
+	 * Creates a square grid of the given size filled with random values from the given random
+	 */
+	public static float[][] seedGrid(int size, Random random) {
 		float[][] result = new float[size][size];
 		for (int x = 0; x < result.length; x++) {
 			for (int y = 0; y < result[x].length; y++) {
-				result[x][y] = (float) GameManager.get().getRandom().nextDouble();
+				result[x][y] = (float) random.nextDouble();
 			}
 		}
 		return result;
@@ -0,0 +1,163 @@
+package com.deco2800.potatoes.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of the integers 0 to capacity - 1, each with a float priority.
+ *
+ * Unlike PriorityQueue, the position of every index in the heap is tracked, so the priority of
+ * an index already in the heap can be lowered in O(log n) (decrease-key). This makes it suitable
+ * for graph searches such as Dijkstra or A*, where each vertex is in the heap at most once. Apart
+ * from construction, nothing allocates.
+ */
+public class IndexedMinHeap {
+    // Indices in heap order, heap[0] is the minimum.
+    private final int[] heap;
+    // Position of each index within heap, or -1 if it isn't in the heap.
+    private final int[] positions;
+    // Priority of each index, only meaningful while it's in the heap.
+    private final float[] priorities;
+    private int size;
+
+    /**
+     * Creates an empty heap which can hold the indices 0 to capacity - 1.
+     *
+     * @param capacity
+     *          The number of indices the heap can hold.
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new float[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Removes every index from the heap.
+     */
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * @return The number of indices in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if the heap holds no indices
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return True if the given index is in the heap
+     */
+    public boolean contains(int index) {
+        return positions[index] >= 0;
+    }
+
+    /**
+     * Adds an index to the heap with the given priority, or lowers its priority if it is already
+     * in the heap with a higher one. Otherwise nothing changes.
+     *
+     * @param index
+     *          The index being added.
+     * @param priority
+     *          The priority of the index, lower priorities are polled first.
+     * @return
+     *          True if the heap was changed.
+     */
+    public boolean offer(int index, float priority) {
+        int position = positions[index];
+        if (position < 0) {
+            position = size++;
+            heap[position] = index;
+            positions[index] = position;
+        } else if (priority >= priorities[index]) {
+            return false;
+        }
+        priorities[index] = priority;
+        siftUp(position);
+        return true;
+    }
+
+    /**
+     * @return The index with the lowest priority, without removing it
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the index with the lowest priority. Ties are broken arbitrarily.
+     *
+     * @return The index with the lowest priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int poll() {
+        int min = peek();
+        positions[min] = -1;
+        --size;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * @return The priority of an index in the heap
+     */
+    public float getPriority(int index) {
+        return priorities[index];
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        float priority = priorities[index];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (priorities[heap[parent]] <= priority) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(index, position);
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        float priority = priorities[index];
+        while (2 * position + 1 < size) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && priorities[heap[child + 1]] < priorities[heap[child]]) {
+                ++child;
+            }
+            if (priorities[heap[child]] >= priority) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(index, position);
+    }
+
+    private void place(int index, int position) {
+        heap[position] = index;
+        positions[index] = position;
+    }
+}
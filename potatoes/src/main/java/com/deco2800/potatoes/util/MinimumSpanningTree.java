@@ -1,10 +1,11 @@
 package com.deco2800.potatoes.util;
 
 import java.util.*;
+import com.deco2800.potatoes.collisions.Box2D;
 import com.deco2800.potatoes.collisions.Point2D;
+import com.deco2800.potatoes.collisions.Shape2D;
 import com.deco2800.potatoes.entities.AbstractEntity;
 import com.deco2800.potatoes.managers.GameManager;
-import static com.deco2800.potatoes.util.MathUtil.compareFloat;
 
 
 /**
@@ -16,8 +17,12 @@ import static com.deco2800.potatoes.util.MathUtil.compareFloat;
 public class MinimumSpanningTree {
     /**
      * MinimumSpanningTree takes {@code Point2D} as vertices to a weighted graph in the form of an adjacency matrix.
-     * It uses the Prim–Dijkstra algorithm to return a MST in the form of an {@code HashMap} of {@code Point2D} leading
-     * back to goal {@code Point2D}.
+     * It uses Dijkstra's algorithm to return a shortest path tree in the form of an {@code HashMap} of
+     * {@code Point2D} leading back to goal {@code Point2D}, or A* to find a single path from start to goal.
+     *
+     * Edges between the static vertices are copied out of the matrix into a compact adjacency list, so searches
+     * only visit unobstructed edges. The search frontier is an {@code IndexedMinHeap}, so each vertex is in it at
+     * most once and has its distance lowered in place.
      */
 
     //------------------ Nested Vertex Class --------------------
@@ -97,32 +102,6 @@ public class MinimumSpanningTree {
         }
     }
 
-    public class VertexPriority implements Comparator<Vertex> {
-
-        /**
-         * Compares {@code Vertex} for order.  Returns a negative integer,
-         * zero, or a positive integer as the first argument is less than, equal
-         * to, or greater than the second.
-         *
-         * @param o1 the first object to be compared.
-         * @param o2 the second object to be compared.
-         * @return a negative integer, zero, or a positive integer as the
-         * first argument is less than, equal to, or greater than the
-         * second.
-         */
-        @Override
-        public int compare(Vertex o1, Vertex o2) {
-
-            if (o1.equals(o2)) {
-                return 0;
-            }
-            if (compareFloat(o1.getLeastEdge(), o2.getLeastEdge())) {
-                return o1.getAddress() < o2.getAddress() ? -1 : 1;
-            }
-            return o1.getLeastEdge() < o2.getLeastEdge() ? -1 : 1;
-        }
-    }
-
     //------------------ end of nested classes ---------------------
 
     // Value to inflate edge weights.
@@ -132,20 +111,54 @@ public class MinimumSpanningTree {
     // Number of vertices
     private int size;
     private List<Vertex> vertexList;
-    private Map<Integer, Vertex> cloud;
-    private PriorityQueue<Vertex> outside;
+    // Unobstructed edges between static vertices (address 2 and up), as an adjacency list. The edges of vertex i
+    // are edgeTargets[edgeStarts[i]] to edgeTargets[edgeStarts[i + 1] - 1]. Null when it needs rebuilding.
+    private int[] edgeStarts;
+    private int[] edgeTargets;
+    private float[] edgeWeights;
+    // Search state, reused between searches.
+    private IndexedMinHeap frontier;
+    private float[] distances;
+    private int[] parents;
+    private boolean[] settled;
+    // Index of the obstacles edges are checked against, null to check every entity in the world.
+    private ObstacleIndex obstacles;
 
     public MinimumSpanningTree(int size) {
 
         this.size = size;
         this.graph = new float[size][size];
         this.vertexList = new ArrayList<>();
-        this.outside = new PriorityQueue<>(size, new VertexPriority());
-        this.cloud = new HashMap<>();
+        this.frontier = new IndexedMinHeap(size);
+        this.distances = new float[size];
+        this.parents = new int[size];
+        this.settled = new boolean[size];
 
     }
 
 
+    /**
+     * Creates a copy of another tree with the same vertices and edge weights, which can be searched independently of
+     * the original. The copy has its own copy of the original's obstacle index, if it has one.
+     *
+     * @param other The tree to copy.
+     */
+    public MinimumSpanningTree(MinimumSpanningTree other) {
+
+        this(other.getSize());
+        for (Vertex vertex : other.getVertexList()) {
+            Point2D entry = vertex.getEntry();
+            this.addVertex(new Point2D(entry.getX(), entry.getY()), vertex.getAddress());
+        }
+        for (int i = 0; i < this.getSize(); i++) {
+            System.arraycopy(other.graph[i], 0, this.graph[i], 0, this.getSize());
+        }
+        if (other.obstacles != null) {
+            this.obstacles = other.obstacles.copy();
+        }
+    }
+
+
     public void addVertex(Point2D entry, int address) {
 
         // Check address is valid.
@@ -174,31 +187,6 @@ public class MinimumSpanningTree {
     }
 
 
-    private void updateLeastEdges() {
-
-        float temp;
-        int address;
-        for (int i = 0; i < this.getSize(); i++) {
-            temp = this.getGraphEntry(i, i);
-            address = i;
-            for (int j = 0; j < this.getSize(); j++) {
-                if (cloud.containsKey(j) && temp > getGraphEntry(i, j)) {
-                   temp = getGraphEntry(i, j);
-                   address = j;
-                }
-            }
-            this.vertexList.get(i).setLeastEdge(temp);
-            this.vertexList.get(i).setLeastEdgeAddress(address);
-        }
-    }
-
-    private void initOutside() {
-
-        for (int i = 0; i < this.getSize(); i++) {
-            outside.add(vertexList.get(i));
-        }
-    }
-
     /**
      * Add the start and goal position to the weighted graph matrix so a complete minimum spanning tree can be made.
      *
@@ -207,33 +195,13 @@ public class MinimumSpanningTree {
      */
     public void addStartGoal(Point2D goal, Point2D start) {
 
-        // Line representing edge between vertices.
-        Line edge;
         // Add start and goal vertices
         insertVertex(goal, 0);
         insertVertex(start, 1);
 
         for (int i = 0; i < 2; i++) {
             for (int j = 0; j < this.getSize(); j++) {
-                // Inflate weight for edges between vertices and themselves.
-                if (i == j) {
-                    this.putGraphEntry(LARGE_WEIGHT, i, j);
-                    continue;
-                }
-                // Create edge line between vertices.
-                edge = new Line(vertexList.get(i).getEntry(), vertexList.get(j).getEntry());
-                // Check for obstructed edges
-                if (checkLineClash(edge)) {
-                    // Obstruction found
-                    this.putGraphEntry(LARGE_WEIGHT, i, j);
-                    // Reflect value
-                    this.putGraphEntry(LARGE_WEIGHT, j, i);
-                    continue;
-                }
-                // No obstructions
-                this.putGraphEntry(edge.getDistance(), i, j);
-                // Reflect value
-                this.putGraphEntry(edge.getDistance(), j, i);
+                updateEdge(i, j);
             }
         }
     }
@@ -246,43 +214,115 @@ public class MinimumSpanningTree {
      */
     public void initGraphWeightMatrix() {
 
-        // Line representing edge between vertices.
-        Line edge;
         // Iterate through edge weight matrix graph and check for clashes.
         // If no clashes occur, add edge weight as the distance between vertices.
         // Start at position 2 as position 0 and 1 are placeholders for the start
         // and goal locations that will be added later.
         for (int i = 2; i < this.getSize(); i++) {
-            for (int j = 2; j < this.getSize(); j++) {
-                // Matrix is symmetric so skip over bottom half and reflect
-                // values latter.
-                if (j < i) {
-                    continue;
+            // Matrix is symmetric so skip over bottom half, updateEdge reflects values.
+            for (int j = i; j < this.getSize(); j++) {
+                updateEdge(i, j);
+            }
+        }
+        buildAdjacency();
+    }
+
+    /**
+     * Recalculates the weights of the edges between static vertices that pass near the given area, after an
+     * obstacle there has been added or removed. Other edges keep their cached weights.
+     *
+     * @param area The area covered by the obstacle that changed.
+     */
+    public void updateEdgesNear(Shape2D area) {
+
+        Optional<Box2D> bounds = area.getBoundingBox();
+        float halfX = bounds.isPresent() ? bounds.get().getXLength() / 2 : 0;
+        float halfY = bounds.isPresent() ? bounds.get().getYLength() / 2 : 0;
+        float minX = area.getX() - halfX;
+        float maxX = area.getX() + halfX;
+        float minY = area.getY() - halfY;
+        float maxY = area.getY() + halfY;
+
+        for (int i = 2; i < this.getSize(); i++) {
+            Point2D from = vertexList.get(i).getEntry();
+            for (int j = i + 1; j < this.getSize(); j++) {
+                Point2D to = vertexList.get(j).getEntry();
+                // Only edges whose corridor (bounding box) reaches the area can have changed
+                if (Math.max(from.getX(), to.getX()) >= minX && Math.min(from.getX(), to.getX()) <= maxX
+                        && Math.max(from.getY(), to.getY()) >= minY && Math.min(from.getY(), to.getY()) <= maxY) {
+                    updateEdge(i, j);
                 }
-                // Inflate weight for edges between vertices and themselves.
-                if (i == j) {
-                    this.putGraphEntry(LARGE_WEIGHT, i, j);
-                    continue;
+            }
+        }
+    }
+
+    /**
+     * Sets the weight of the edge between two vertices (in both directions) to their distance apart, or inflates it
+     * if the edge is obstructed or joins a vertex to itself.
+     */
+    private void updateEdge(int i, int j) {
+
+        // Inflate weight for edges between vertices and themselves.
+        if (i == j) {
+            this.putGraphEntry(LARGE_WEIGHT, i, j);
+            return;
+        }
+        // Create edge line between vertices.
+        Line edge = new Line(vertexList.get(i).getEntry(), vertexList.get(j).getEntry());
+        // Check for obstructed edges
+        float weight = checkLineClash(edge) ? LARGE_WEIGHT : edge.getDistance();
+        this.putGraphEntry(weight, i, j);
+        // Reflect value
+        this.putGraphEntry(weight, j, i);
+    }
+
+    /**
+     * Copies the unobstructed edges between static vertices out of the matrix into the adjacency list.
+     */
+    private void buildAdjacency() {
+        edgeStarts = new int[this.getSize() + 1];
+        int count = 0;
+        for (int i = 0; i < this.getSize(); i++) {
+            edgeStarts[i] = count;
+            for (int j = 2; i >= 2 && j < this.getSize(); j++) {
+                if (i != j && graph[i][j] != LARGE_WEIGHT) {
+                    count++;
                 }
-                // Create edge line between vertices.
-                edge = new Line(vertexList.get(i).getEntry(), vertexList.get(j).getEntry());
-                // Check for obstructed edges
-                if (checkLineClash(edge)) {
-                    // Obstruction found
-                    putGraphEntry(LARGE_WEIGHT, i, j);
-                    continue;
+            }
+        }
+        edgeStarts[this.getSize()] = count;
+
+        edgeTargets = new int[count];
+        edgeWeights = new float[count];
+        count = 0;
+        for (int i = 2; i < this.getSize(); i++) {
+            for (int j = 2; j < this.getSize(); j++) {
+                if (i != j && graph[i][j] != LARGE_WEIGHT) {
+                    edgeTargets[count] = j;
+                    edgeWeights[count] = graph[i][j];
+                    count++;
                 }
-                // No obstructions
-                putGraphEntry(edge.getDistance(), i, j);
             }
         }
     }
 
+    /**
+     * Sets the index used to check for obstacles. Without one, every static entity in the world is checked.
+     *
+     * @param obstacles The index of the static obstacles in the world, or null.
+     */
+    public void setObstacles(ObstacleIndex obstacles) {
+        this.obstacles = obstacles;
+    }
+
     /**
      * Takes a {@code Line} object and tests it against a list of Lines to check if any intersect.
      * @return true in edge intersects with any lines in obstacles; false otherwise.
      */
     public boolean checkLineClash(Line line) {
+        if (obstacles != null) {
+            return obstacles.blocksLine(line);
+        }
         boolean output = false;
 
         for (AbstractEntity e : GameManager.get().getWorld().getEntities().values()) {
@@ -309,6 +349,10 @@ public class MinimumSpanningTree {
             throw new IndexOutOfBoundsException();
         }
         this.graph[row][col] = entry;
+        // Edges to the start and goal are read straight from the matrix
+        if (row >= 2 && col >= 2) {
+            edgeStarts = null;
+        }
     }
 
     /**
@@ -326,28 +370,104 @@ public class MinimumSpanningTree {
         return this.graph[row][col];
     }
 
+    /**
+     * Finds the shortest path from every vertex back to the goal.
+     *
+     * @param goal The target position of the tree.
+     * @param start The position of entity calling the tree.
+     * @return A map from each vertex that can reach the goal to the next vertex on its way there.
+     */
     public HashMap<Point2D, Point2D> createTree(Point2D goal, Point2D start) {
 
         HashMap<Point2D, Point2D> tree = new HashMap<>();
-        Vertex temp;
         this.addStartGoal(goal, start);
-        cloud.clear();
-        // Add the goal vertex (index 0 of vertexList) to the cloud to begin MST.
-        cloud.put(0, this.getVertexList().get(0));
-        updateLeastEdges();
-        // Remove starting vertex from outside as it's the first
-        // entry added to the cloud.
-        initOutside();
-        outside.remove(this.getVertexList().get(0));
-
-        while (!outside.isEmpty()) {
-            temp = outside.poll();
-            cloud.put(temp.getAddress(), temp);
-            tree.put(temp.getEntry(), this.getVertexList().get(temp.getLeastEdgeAddress()).getEntry());
-            updateLeastEdges();
+        search(-1);
+        for (int i = 1; i < this.getSize(); i++) {
+            if (parents[i] >= 0) {
+                tree.put(vertexList.get(i).getEntry(), vertexList.get(parents[i]).getEntry());
+            }
         }
         return tree;
     }
 
+    /**
+     * Finds the shortest path from start to goal through the graph with A*, stopping as soon as the start is
+     * reached.
+     *
+     * @param goal The target position of the path.
+     * @param start The position of entity calling the path.
+     * @return The points to visit in order, not including start but ending with goal. If the goal can't be reached
+     * only the goal is returned.
+     */
+    public ArrayDeque<Point2D> findPath(Point2D goal, Point2D start) {
+
+        ArrayDeque<Point2D> path = new ArrayDeque<>();
+        this.addStartGoal(goal, start);
+        // Searching back from the goal means following parents from the start gives the path in order
+        search(1);
+        for (int next = parents[1]; next > 0; next = parents[next]) {
+            path.add(vertexList.get(next).getEntry());
+        }
+        path.add(goal);
+        return path;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm out from the goal (address 0) until the target address is reached, filling in
+     * distances and parents. Estimated distances to the target are used to search towards it first (A*).
+     *
+     * @param target The address to stop at, or -1 to search the whole graph.
+     */
+    private void search(int target) {
+
+        if (edgeStarts == null) {
+            buildAdjacency();
+        }
+        Point2D aim = target < 0 ? null : vertexList.get(target).getEntry();
+        Arrays.fill(distances, LARGE_WEIGHT);
+        Arrays.fill(parents, -1);
+        Arrays.fill(settled, false);
+        frontier.clear();
+
+        distances[0] = 0;
+        frontier.offer(0, 0);
+        while (!frontier.isEmpty()) {
+            int current = frontier.poll();
+            settled[current] = true;
+            if (current == target) {
+                return;
+            }
+            if (current < 2) {
+                // The start and goal have no adjacency list, check every edge
+                for (int i = 0; i < this.getSize(); i++) {
+                    relax(current, i, graph[current][i], aim);
+                }
+            } else {
+                for (int i = edgeStarts[current]; i < edgeStarts[current + 1]; i++) {
+                    relax(current, edgeTargets[i], edgeWeights[i], aim);
+                }
+                relax(current, 0, graph[current][0], aim);
+                relax(current, 1, graph[current][1], aim);
+            }
+        }
+    }
+
+    /**
+     * Updates the distance to a vertex if it is shorter to get there through the edge from current.
+     */
+    private void relax(int current, int next, float weight, Point2D aim) {
+
+        if (settled[next] || weight == LARGE_WEIGHT) {
+            return;
+        }
+        float distance = distances[current] + weight;
+        if (distance < distances[next]) {
+            distances[next] = distance;
+            parents[next] = current;
+            float estimate = aim == null ? 0 : vertexList.get(next).getEntry().distance(aim);
+            frontier.offer(next, distance + estimate);
+        }
+    }
+
 
 }
@@ -0,0 +1,141 @@
+package com.deco2800.potatoes.util;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Shape2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index of the static obstacles in a world, for checking whether straight lines between points are clear.
+ *
+ * Obstacles are kept in an RTree of their masks, so checking a line only tests the obstacles near it rather than
+ * every entity in the world. Entities are tracked by identity, as their equality depends on their mask. Each mask is
+ * copied when its obstacle is added, so the index never reads the entities again and copies can be made and queried
+ * on other threads.
+ */
+public class ObstacleIndex {
+    // Stops lines along an axis having a zero size query box.
+    private static final float QUERY_PADDING = 0.01f;
+
+    private RTree<Integer> masks;
+    private Map<AbstractEntity, Integer> ids;
+    private int nextId;
+
+    // Reused between queries so that they don't allocate.
+    private final Box2D query = new Box2D(0, 0, 0, 0);
+    private final List<Integer> candidates = new ArrayList<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public ObstacleIndex() {
+        masks = new RTree<>();
+        ids = new IdentityHashMap<>();
+    }
+
+    /**
+     * Creates a separate index of the same obstacles, e.g. for another thread to query. Queries reuse state held by
+     * the index, so an index must only be used by one thread at a time.
+     *
+     * @return A new index containing the obstacles in this one.
+     */
+    public ObstacleIndex copy() {
+        ObstacleIndex copy = new ObstacleIndex();
+        Map<Integer, Shape2D> shapes = new HashMap<>();
+        for (Integer id : ids.values()) {
+            // The captured masks are never changed, so they can be shared
+            shapes.put(id, masks.find(id));
+        }
+        copy.masks.insertAll(shapes);
+        copy.ids.putAll(ids);
+        copy.nextId = nextId;
+        return copy;
+    }
+
+    /**
+     * Adds many obstacles to the index at once, which is much faster than adding them one at a time.
+     *
+     * @param obstacles
+     *          The entities to add. Entities already in the index are ignored.
+     */
+    public void addAll(Collection<AbstractEntity> obstacles) {
+        Map<Integer, Shape2D> added = new HashMap<>();
+        for (AbstractEntity obstacle : obstacles) {
+            if (!ids.containsKey(obstacle)) {
+                ids.put(obstacle, nextId);
+                added.put(nextId++, obstacle.getMask().copy());
+            }
+        }
+        masks.insertAll(added);
+    }
+
+    /**
+     * Adds an obstacle to the index.
+     *
+     * @param obstacle
+     *          The entity to add. Nothing happens if it is already in the index.
+     */
+    public void add(AbstractEntity obstacle) {
+        if (!ids.containsKey(obstacle)) {
+            ids.put(obstacle, nextId);
+            masks.insert(nextId++, obstacle.getMask().copy());
+        }
+    }
+
+    /**
+     * Removes an obstacle from the index, if it is in the index.
+     *
+     * @param obstacle
+     *          The entity to remove.
+     */
+    public void remove(AbstractEntity obstacle) {
+        Integer id = ids.remove(obstacle);
+        if (id != null) {
+            masks.remove(id);
+        }
+    }
+
+    /**
+     * @return The number of obstacles in the index
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Checks whether any obstacle is in the way of the straight line between two points.
+     *
+     * @return True if the line overlaps an obstacle.
+     */
+    public boolean blocksLine(float x1, float y1, float x2, float y2) {
+        query.setX((x1 + x2) / 2);
+        query.setY((y1 + y2) / 2);
+        query.setXLength(Math.abs(x2 - x1) + QUERY_PADDING);
+        query.setYLength(Math.abs(y2 - y1) + QUERY_PADDING);
+
+        candidates.clear();
+        masks.findOverlapping(query, candidates);
+        for (int i = 0; i < candidates.size(); ++i) {
+            if (masks.find(candidates.get(i)).distance(x1, y1, x2, y2) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any obstacle is in the way of a line.
+     *
+     * @return True if the line overlaps an obstacle.
+     */
+    public boolean blocksLine(Line line) {
+        return blocksLine(line.getEndPointOne().getX(), line.getEndPointOne().getY(), line.getEndPointTwo().getX(),
+                line.getEndPointTwo().getY());
+    }
+}
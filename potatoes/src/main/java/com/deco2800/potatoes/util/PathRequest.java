@@ -0,0 +1,83 @@
+package com.deco2800.potatoes.util;
+
+import com.deco2800.potatoes.collisions.Point2D;
+import com.deco2800.potatoes.collisions.Shape2D;
+import com.deco2800.potatoes.entities.enemies.PathAndTarget;
+
+/**
+ * A request for a path which is solved in the background, and handed to the requester's {@code PathAndTarget} once
+ * it is ready. The start and goal are copied when the request is made, so the path is for where things were then.
+ */
+public class PathRequest {
+    private final Point2D start;
+    private final Point2D goal;
+    private final PathAndTarget receiver;
+    private final long requestTime;
+    // Written by whichever thread solves the request
+    private volatile Path path;
+
+    /**
+     * Creates a new request.
+     *
+     * @param start The shape whose position the path starts from.
+     * @param goal The shape whose position the path should reach.
+     * @param receiver Where to put the path once it is ready, may be null.
+     */
+    public PathRequest(Shape2D start, Shape2D goal, PathAndTarget receiver) {
+        this.start = new Point2D(start.getX(), start.getY());
+        this.goal = new Point2D(goal.getX(), goal.getY());
+        this.receiver = receiver;
+        this.requestTime = System.nanoTime();
+    }
+
+    /**
+     * @return the position the path starts from
+     */
+    public Point2D getStart() {
+        return start;
+    }
+
+    /**
+     * @return the position the path should reach
+     */
+    public Point2D getGoal() {
+        return goal;
+    }
+
+    /**
+     * @return where the path is put once it is ready
+     */
+    public PathAndTarget getReceiver() {
+        return receiver;
+    }
+
+    /**
+     * @return the value of {@code System.nanoTime()} when the request was made
+     */
+    public long getRequestTime() {
+        return requestTime;
+    }
+
+    /**
+     * @return true if a path has been found for this request
+     */
+    public boolean isSolved() {
+        return path != null;
+    }
+
+    /**
+     * @return the path found for this request, or null if it hasn't been solved yet
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Sets the path found for this request.
+     *
+     * @param path
+     */
+    public void setPath(Path path) {
+        this.path = path;
+    }
+}
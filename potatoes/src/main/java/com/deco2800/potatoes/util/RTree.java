@@ -1,6 +1,7 @@
 package com.deco2800.potatoes.util;
 
 import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Circle2D;
 import com.deco2800.potatoes.collisions.Shape2D;
 
 import java.util.ArrayList;
@@ -10,13 +11,15 @@ import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.PriorityQueue;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 import static java.lang.Math.ceil;
 import static java.lang.Math.floor;
+import static java.lang.Math.sqrt;
 
 /**
  * Class for storing sets of 2D points, and doing spatial queries on them.
@@ -33,11 +36,17 @@ import static java.lang.Math.floor;
  * non-zero side lengths.
  */
 public class RTree<Key> {
-    // Lookup table from keys to shapes.
-    private Map<Key, Shape2D> forwardLookup;
+    // Lookup table from keys to buckets, which hold the shapes.
+    private Map<Key, Bucket<Key>> forwardLookup;
     // Root node of the RTree itself.
     private Block<Key> root;
 
+    // Reused between queries so that they don't allocate. This makes queries non-reentrant.
+    private final Circle2D radiusQuery = new Circle2D(0, 0, 0);
+    private Object[] nearestKeys = new Object[1];
+    private float[] nearestDistances = new float[1];
+    private int nearestCount;
+
     /**
      * Creates an empty RTree.
      */
@@ -55,25 +64,66 @@ public class RTree<Key> {
      *          The position associated with they key.
      */
     public void insert(Key k, Shape2D position) {
-        forwardLookup.put(k, position);
-        if (root.insert(new Bucket(k, position))) {
+        Bucket<Key> bucket = new Bucket<>(k, position);
+        forwardLookup.put(k, bucket);
+        if (root.insert(bucket)) {
             // split the root
-            List<Block> newRoot = new ArrayList<>();
+            List<Block<Key>> newRoot = new ArrayList<>();
             newRoot.add(root.split());
             newRoot.add(root);
             root = Block.branch(newRoot);
         }
     }
 
+    /**
+     * Inserts many key/position pairs into the RTree at once.
+     *
+     * Small batches are inserted one at a time. Batches at least as large as the existing tree
+     * cause the whole tree to be rebuilt with Sort-Tile-Recursive packing, which is much faster
+     * than splitting nodes as they overflow and gives leaves with less overlap.
+     *
+     * @param entries
+     *          The key/position pairs being inserted. Keys already in the RTree are moved.
+     */
+    public void insertAll(Map<Key, Shape2D> entries) {
+        if (entries.size() < forwardLookup.size()) {
+            for (Map.Entry<Key, Shape2D> entry : entries.entrySet()) {
+                if (forwardLookup.containsKey(entry.getKey())) {
+                    move(entry.getKey(), entry.getValue());
+                } else {
+                    insert(entry.getKey(), entry.getValue());
+                }
+            }
+            return;
+        }
+
+        for (Map.Entry<Key, Shape2D> entry : entries.entrySet()) {
+            Bucket<Key> bucket = forwardLookup.get(entry.getKey());
+            if (bucket == null) {
+                forwardLookup.put(entry.getKey(), new Bucket<>(entry.getKey(), entry.getValue()));
+            } else {
+                bucket.setPosition(entry.getValue());
+            }
+        }
+        root = Block.bulkLoad(new ArrayList<>(forwardLookup.values()));
+    }
+
     /**
      * Moves a key within the RTree to a new position.
      *
+     * If the new position is still inside the bounding rectangle of the leaf holding the key, the
+     * key is updated in place. Otherwise it is removed and re-inserted.
+     *
      * @param k
      *          The key being moved.
      * @param newPosition
      *          The new position to be associated with the key.
      */
     public void move(Key k, Shape2D newPosition) {
+        Bucket<Key> bucket = forwardLookup.get(k);
+        if (bucket != null && bucket.leaf != null && bucket.leaf.updateInPlace(bucket, newPosition)) {
+            return;
+        }
         remove(k);
         insert(k, newPosition);
     }
@@ -85,11 +135,14 @@ public class RTree<Key> {
      *          The key of the key/position pair being removed.
      */
     public void remove(Key k) {
-        Shape2D position = forwardLookup.remove(k);
-        if (position != null) {
-            root.remove(new Bucket<>(k, position));
-            if (root.isBranch() && root.getChildren().size() == 1) {
-                root = (Block<Key>) root.getChildren().get(0);
+        Bucket<Key> bucket = forwardLookup.remove(k);
+        if (bucket != null && bucket.leaf != null) {
+            // The bucket's position may already have moved away from the leaf holding it, so the
+            // leaf is found through the bucket rather than by searching the tree.
+            bucket.leaf.remove(bucket);
+            while (root.isBranch() && root.children.size() == 1) {
+                root = root.children.get(0);
+                root.parent = null;
             }
         }
     }
@@ -103,7 +156,8 @@ public class RTree<Key> {
      *          The position associated with that key within the RTree.
      */
     public Shape2D find(Key k) {
-        return forwardLookup.get(k);
+        Bucket<Key> bucket = forwardLookup.get(k);
+        return bucket == null ? null : bucket.getPosition();
     }
 
     /**
@@ -115,10 +169,10 @@ public class RTree<Key> {
      * @param additionalCheck
      *          The additional requirement for the result
      * @return
-     *          The key that is closest to the position.
+     *          The key that is closest to the position. Null if there are no matching keys.
      */
     public Key findClosest(Shape2D position, Predicate<Key> additionalCheck) {
-        return root.findClosest(position, additionalCheck);
+        return findNearest(position, 1, additionalCheck) == 0 ? null : nearestKey(0);
     }
 
     /**
@@ -128,10 +182,37 @@ public class RTree<Key> {
      * @param position
      *          The position keys are searched near.
      * @return
-     *          The key that is closest to the position.
+     *          The key that is closest to the position. Null if the RTree is empty.
      */
     public Key findClosest(Shape2D position) {
-        return root.findClosest(position, (x) -> true);
+        return findClosest(position, key -> true);
+    }
+
+    /**
+     * Finds the k nearest keys to a given position (by the Shape2D distance method) where the
+     * additionalCheck returns true, and appends them to the output, closest first. Ties are broken
+     * arbitrarily.
+     *
+     * Allocates nothing once the RTree's internal buffers have grown to k, provided the output has
+     * room for the results and the additionalCheck doesn't allocate.
+     *
+     * @param position
+     *          The position keys are searched near.
+     * @param k
+     *          The maximum number of keys to find.
+     * @param additionalCheck
+     *          The additional requirement for the results.
+     * @param output
+     *          The list the keys are appended to.
+     * @return
+     *          The number of keys appended.
+     */
+    public int findNearest(Shape2D position, int k, Predicate<Key> additionalCheck, List<Key> output) {
+        int found = findNearest(position, k, additionalCheck);
+        for (int i = 0; i < found; ++i) {
+            output.add(nearestKey(i));
+        }
+        return found;
     }
 
     /**
@@ -149,6 +230,128 @@ public class RTree<Key> {
         return output;
     }
 
+    /**
+     * Finds the keys within the RTree that overlap the given position (by the Shape2D overlaps
+     * method), and appends them to an existing collection. Allocates nothing as long as the
+     * output has room for the results.
+     *
+     * @param position
+     *          The position that overlaps are checked with.
+     * @param output
+     *          The collection the keys are appended to.
+     */
+    public void findOverlapping(Shape2D position, Collection<Key> output) {
+        root.addAllOverlapping(position, output);
+    }
+
+    /**
+     * Calls the visitor with every key within the RTree that overlaps the given position (by the
+     * Shape2D overlaps method). Allocates nothing as long as the visitor doesn't. The RTree must
+     * not be modified by the visitor.
+     *
+     * @param position
+     *          The position that overlaps are checked with.
+     * @param visitor
+     *          Called with each overlapping key.
+     */
+    public void forEachOverlapping(Shape2D position, Consumer<Key> visitor) {
+        root.visitOverlapping(position, visitor);
+    }
+
+    /**
+     * Finds the keys within the RTree whose positions are within the given distance of the point
+     * (x, y), and appends them to an existing collection. Allocates nothing as long as the output
+     * has room for the results.
+     *
+     * @param x
+     *          The x coordinate of the centre of the search.
+     * @param y
+     *          The y coordinate of the centre of the search.
+     * @param distance
+     *          The maximum distance from the centre.
+     * @param output
+     *          The collection the keys are appended to.
+     */
+    public void findWithinDistance(float x, float y, float distance, Collection<Key> output) {
+        root.addAllOverlapping(radiusQuery(x, y, distance), output);
+    }
+
+    /**
+     * Calls the visitor with every key within the RTree whose position is within the given
+     * distance of the point (x, y). Allocates nothing as long as the visitor doesn't. The RTree
+     * must not be modified by the visitor.
+     *
+     * @param x
+     *          The x coordinate of the centre of the search.
+     * @param y
+     *          The y coordinate of the centre of the search.
+     * @param distance
+     *          The maximum distance from the centre.
+     * @param visitor
+     *          Called with each key in range.
+     */
+    public void forEachWithinDistance(float x, float y, float distance, Consumer<Key> visitor) {
+        root.visitOverlapping(radiusQuery(x, y, distance), visitor);
+    }
+
+    /**
+     * Returns the reusable circle used for distance queries, set to the given values.
+     */
+    private Circle2D radiusQuery(float x, float y, float distance) {
+        radiusQuery.setX(x);
+        radiusQuery.setY(y);
+        radiusQuery.setRadius(distance);
+        return radiusQuery;
+    }
+
+    /**
+     * Runs a k nearest search into nearestKeys and nearestDistances.
+     *
+     * @return The number of keys found
+     */
+    private int findNearest(Shape2D position, int k, Predicate<Key> additionalCheck) {
+        if (nearestKeys.length < k) {
+            nearestKeys = new Object[k];
+            nearestDistances = new float[k];
+        }
+        nearestCount = 0;
+        if (k > 0) {
+            root.addNearest(this, position, k, additionalCheck);
+        }
+        return nearestCount;
+    }
+
+    /**
+     * Returns the i-th nearest key found by the last search. Only keys are stored in nearestKeys.
+     */
+    @SuppressWarnings("unchecked")
+    private Key nearestKey(int i) {
+        return (Key) nearestKeys[i];
+    }
+
+    /**
+     * Returns true if a key at the given distance would be one of the k nearest found so far.
+     */
+    private boolean isNearEnough(float distance, int k) {
+        return nearestCount < k || distance < nearestDistances[nearestCount - 1];
+    }
+
+    /**
+     * Adds a key to the k nearest found so far, keeping them sorted by distance.
+     *
+     * @require isNearEnough(distance, k)
+     */
+    private void addNearest(Key key, float distance, int k) {
+        int i = nearestCount < k ? nearestCount++ : k - 1;
+        while (i > 0 && nearestDistances[i - 1] > distance) {
+            nearestKeys[i] = nearestKeys[i - 1];
+            nearestDistances[i] = nearestDistances[i - 1];
+            --i;
+        }
+        nearestKeys[i] = key;
+        nearestDistances[i] = distance;
+    }
+
     /**
      * Internal block of storage within the RTree.
      * This represents a node within the tree, which either stores a list of child blocks, or a
@@ -167,6 +370,9 @@ public class RTree<Key> {
         private List<Block<Key>> children;
         private List<Bucket<Key>> leafChildren;
 
+        // The branch holding this block, null for the root.
+        private Block<Key> parent;
+
         // A Box2D guaranteed to contain all children of this block.
         private Box2D minimumBoundingRectangle;
 
@@ -183,8 +389,8 @@ public class RTree<Key> {
         /**
          * Creates a new root block.
          */
-        public static Block root() {
-            Block output = new Block(true);
+        public static <Key> Block<Key> root() {
+            Block<Key> output = new Block<>(true);
             output.leafChildren = new ArrayList<>();
             output.minimumBoundingRectangle = null;
             return output;
@@ -196,9 +402,12 @@ public class RTree<Key> {
          * @param children
          *          The children of the block.
          */
-        public static Block leaf(List<Bucket> children) {
-            Block output = new Block(true);
+        public static <Key> Block<Key> leaf(List<Bucket<Key>> children) {
+            Block<Key> output = new Block<>(true);
             output.leafChildren = children;
+            for (Bucket<Key> child : children) {
+                child.leaf = output;
+            }
             output.minimumBoundingRectangle = Box2D.surrounding(children.stream().map(child -> child.position)).get();
             return output;
         }
@@ -209,14 +418,79 @@ public class RTree<Key> {
          * @param children
          *          The children of the block.
          */
-        public static Block branch(List<Block> children) {
-            Block output = new Block(false);
+        public static <Key> Block<Key> branch(List<Block<Key>> children) {
+            Block<Key> output = new Block<>(false);
             output.children = children;
+            for (Block<Key> child : children) {
+                child.parent = output;
+            }
             output.minimumBoundingRectangle = Box2D.surrounding(
                     children.stream().map(child -> child.minimumBoundingRectangle)).get();
             return output;
         }
 
+        /**
+         * Creates a tree holding the given buckets using Sort-Tile-Recursive packing, and returns
+         * its root.
+         *
+         * @param buckets
+         *          The buckets being stored. This list is reordered.
+         */
+        public static <Key> Block<Key> bulkLoad(List<Bucket<Key>> buckets) {
+            if (buckets.size() <= BLOCK_SIZE) {
+                Block<Key> output = root();
+                for (Bucket<Key> bucket : buckets) {
+                    output.insert(bucket);
+                }
+                return output;
+            }
+
+            List<Block<Key>> level = new ArrayList<>();
+            for (List<Bucket<Key>> tile : tile(buckets, bucket -> bucket.getPosition().getX(),
+                    bucket -> bucket.getPosition().getY())) {
+                level.add(Block.leaf(tile));
+            }
+            while (level.size() > BLOCK_SIZE) {
+                List<Block<Key>> parents = new ArrayList<>();
+                for (List<Block<Key>> tile : tile(level, block -> block.minimumBoundingRectangle.getX(),
+                        block -> block.minimumBoundingRectangle.getY())) {
+                    parents.add(Block.branch(tile));
+                }
+                level = parents;
+            }
+            return Block.branch(level);
+        }
+
+        /**
+         * Groups items into nodes of at most BLOCK_SIZE for one level of a Sort-Tile-Recursive
+         * build. The items are sorted by x into vertical slices, then each slice is sorted by y
+         * and cut into nodes. Items are spread evenly, so no node is left underfull.
+         *
+         * @param items
+         *          The items being grouped. This list is reordered.
+         * @require
+         *          items.size() > BLOCK_SIZE
+         */
+        private static <T> List<List<T>> tile(List<T> items, ToDoubleFunction<T> x,
+                ToDoubleFunction<T> y) {
+            int nodeCount = (int) ceil((double) items.size() / BLOCK_SIZE);
+            int sliceCount = (int) ceil(sqrt(nodeCount));
+            List<List<T>> output = new ArrayList<>(nodeCount);
+
+            items.sort(Comparator.comparingDouble(x));
+            for (int i = 0; i < sliceCount; ++i) {
+                List<T> slice = items.subList(i * items.size() / sliceCount,
+                        (i + 1) * items.size() / sliceCount);
+                slice.sort(Comparator.comparingDouble(y));
+                int sliceNodes = (int) ceil((double) slice.size() / BLOCK_SIZE);
+                for (int j = 0; j < sliceNodes; ++j) {
+                    output.add(new ArrayList<>(slice.subList(j * slice.size() / sliceNodes,
+                            (j + 1) * slice.size() / sliceNodes)));
+                }
+            }
+            return output;
+        }
+
         /**
          * Getter, returns whether this node is not a leaf.
          *
@@ -227,13 +501,6 @@ public class RTree<Key> {
             return !isLeaf;
         }
 
-        /**
-         * Getter for children. Does not return a copy, and should only be called on the root node.
-         */
-        public List getChildren() {
-            return isLeaf ? leafChildren : children;
-        }
-
         /**
          * Inserts a bucket into one of the child buckets.
          *
@@ -242,7 +509,7 @@ public class RTree<Key> {
          * @require
          *          This must not be a leaf node.
          */
-        private void insertIntoChildBucket(Bucket b) {
+        private void insertIntoChildBucket(Bucket<Key> b) {
             int selection = -1;
             float cheapest = Float.MAX_VALUE;
             for (int i = 0; i < children.size(); ++i) {
@@ -255,7 +522,9 @@ public class RTree<Key> {
                 }
             }
             if (children.get(selection).insert(b)) {
-                children.add(children.get(selection).split());
+                Block<Key> newChild = children.get(selection).split();
+                newChild.parent = this;
+                children.add(newChild);
             }
 
         }
@@ -269,7 +538,7 @@ public class RTree<Key> {
          * @return
          *          The new block containing ~half of this block's children.
          */
-        private Block splitBranch() { 
+        private Block<Key> splitBranch() { 
             boolean isResultHorizontal = true;
             float cheapest = Float.MAX_VALUE;
             int splitIndex = -1;
@@ -330,7 +599,7 @@ public class RTree<Key> {
                             child -> child.minimumBoundingRectangle.getX()));
             }
 
-            List<Block> newChildren = children.stream().skip(splitIndex).collect(Collectors.toList());
+            List<Block<Key>> newChildren = children.stream().skip(splitIndex).collect(Collectors.toList());
             children = children.stream().limit(splitIndex).collect(Collectors.toList());
 
             minimumBoundingRectangle = 
@@ -348,7 +617,7 @@ public class RTree<Key> {
          * @return
          *          The new block containing ~half of this block's children.
          */
-        private Block splitLeaf() { 
+        private Block<Key> splitLeaf() { 
             boolean isResultHorizontal = true;
             float cheapest = Float.MAX_VALUE;
             int splitIndex = -1;
@@ -409,7 +678,7 @@ public class RTree<Key> {
                             child -> child.getPosition().getX()));
             }
 
-            List<Bucket> newChildren =
+            List<Bucket<Key>> newChildren =
                 leafChildren.stream().skip(splitIndex).collect(Collectors.toList());
             leafChildren = leafChildren.stream().limit(splitIndex).collect(Collectors.toList());
 
@@ -424,7 +693,7 @@ public class RTree<Key> {
          * the children from this block, and return a new block containing these children. If this
          * node is a leaf node, the node returned will also be a leaf node, and vice versa.
          */
-        public Block split() {
+        public Block<Key> split() {
             if (isLeaf) {
                 return splitLeaf();
             } else {
@@ -440,9 +709,10 @@ public class RTree<Key> {
          * @return
          *          True if the node has overflown and needs to be resized.
          */
-        public boolean insert(Bucket b) {
+        public boolean insert(Bucket<Key> b) {
             if (isLeaf) {
                 leafChildren.add(b);
+                b.leaf = this;
                 if (leafChildren.size() <= BLOCK_SIZE) { // do not nead to overflow
                     minimumBoundingRectangle = Box2D.surrounding(
                             Stream.of(minimumBoundingRectangle, b.getPosition())).orElse(null);
@@ -465,72 +735,120 @@ public class RTree<Key> {
          * @require
          *              Either this and other are both leafs, or they are both branches.
          */
-        private void join(Block other) {
+        private void join(Block<Key> other) {
             if (isLeaf) {
                 leafChildren.addAll(other.leafChildren);
+                for (Bucket<Key> child : leafChildren) {
+                    child.leaf = this;
+                }
                 minimumBoundingRectangle = Box2D.surrounding(
                         leafChildren.stream().map(child -> child.getPosition())).get();
             } else {
                 children.addAll(other.children);
+                for (Block<Key> child : other.children) {
+                    child.parent = this;
+                }
                 minimumBoundingRectangle = Box2D.surrounding(
                         children.stream().map(child -> child.minimumBoundingRectangle)).get();
             }
         }
         
         /**
-         * Removes a bucket from this block.
+         * Removes a bucket from this leaf, then shrinks the bounding rectangles of the blocks above
+         * it and joins any that have underflowed with a sibling.
          *
          * @param b
          *          The bucket being removed.
-         * @return
-         *          True if the node has underflowed and needs to be resized.
          * @require
-         *          The bucket b is inside the current minimumBoundingRectangle.
+         *          This is the leaf node containing the bucket.
          */
-        public boolean remove(Bucket b) {
-            if (isLeaf) {
-                if (leafChildren.contains(b)) {
-                    leafChildren.remove(b);
+        public void remove(Bucket<Key> b) {
+            leafChildren.remove(b);
+            b.leaf = null;
+            // a root leaf can be left with too few children to surround
+            minimumBoundingRectangle = Box2D.surrounding(
+                    leafChildren.stream().map(child -> child.getPosition())).orElse(null);
+
+            Block<Key> block = this;
+            while (block.parent != null) {
+                Block<Key> parent = block.parent;
+                if (block.getChildCount() < MIN_RATIO * BLOCK_SIZE && parent.children.size() > 1) {
+                    parent.joinWithSibling(block);
                 }
-                minimumBoundingRectangle = Box2D.surrounding(
-                        leafChildren.stream().map(child -> child.getPosition())).get();
-                return leafChildren.size() < MIN_RATIO * BLOCK_SIZE;
-
-            } else {
-                Block toBeMaybeJoined = null;
-                for (Block child: children) {
-                    if (child.minimumBoundingRectangle.overlaps(b.getPosition())
-                            && child.remove(b)) {
-                        // child has overflown
-                        toBeMaybeJoined = child;
-                        break;
-                    }
-                }
-
-                final Block toBeJoined = toBeMaybeJoined;
+                parent.minimumBoundingRectangle = Box2D.surrounding(
+                        parent.children.stream().map(child -> child.minimumBoundingRectangle)).get();
+                block = parent;
+            }
+        }
 
+        /**
+         * Joins an underflowed child with whichever other child makes the smallest combined
+         * bounding rectangle.
+         *
+         * @param toBeJoined
+         *          The child that has underflowed.
+         * @require
+         *          This is a branch holding toBeJoined and at least one other child.
+         */
+        private void joinWithSibling(Block<Key> toBeJoined) {
+            Block<Key> joinWith = children.stream().filter(child -> child != toBeJoined)
+                .min(Comparator.comparingDouble(child -> {
+                    Box2D newBounds = Box2D.surrounding(Stream.of(child, toBeJoined)
+                            .map(block -> block.minimumBoundingRectangle)).get();
+                    return newBounds.getXLength() + newBounds.getYLength();
+                })).get();
+
+            children.remove(joinWith);
+            toBeJoined.join(joinWith);
+        }
 
-                // handle joining
-                if (toBeJoined != null) {
-                    Block joinWith = children.stream().filter(child -> !child.equals(toBeJoined))
-                        .min(Comparator.comparingDouble(child -> {
-                            Box2D newBounds = Box2D.surrounding(Stream.of(child, toBeJoined)
-                                    .map(block -> block.minimumBoundingRectangle)).get();
-                            return newBounds.getXLength() + newBounds.getYLength();
-                        })).get();
+        /**
+         * Returns the number of blocks or buckets directly inside this block.
+         */
+        private int getChildCount() {
+            return isLeaf ? leafChildren.size() : children.size();
+        }
 
-                    children.remove(joinWith);
-                    toBeJoined.join(joinWith);
-                }
+        /**
+         * Changes the position of a bucket in this leaf without restructuring, if the new position
+         * is still entirely inside this block's bounding rectangle. Parent bounding rectangles
+         * contain this one, so they stay valid too.
+         *
+         * @param b
+         *          The bucket being moved.
+         * @param newPosition
+         *          The new position of the bucket.
+         * @return
+         *          True if the bucket was updated, false if it needs to be re-inserted instead.
+         * @require
+         *          This is the leaf node containing the bucket.
+         */
+        public boolean updateInPlace(Bucket<Key> b, Shape2D newPosition) {
+            if (minimumBoundingRectangle == null || !contains(minimumBoundingRectangle, newPosition)) {
+                return false;
+            }
+            b.setPosition(newPosition);
+            return true;
+        }
 
-                if (children.size() < MIN_RATIO * BLOCK_SIZE) {
-                    return true;
-                } else {
-                    minimumBoundingRectangle = Box2D.surrounding(
-                            children.stream().map(child -> child.minimumBoundingRectangle)).get();
-                    return false;
-                }
+        /**
+         * Returns true iff the shape's bounding box (or the point itself, for shapes without one)
+         * is strictly inside the box.
+         */
+        private static boolean contains(Box2D box, Shape2D shape) {
+            float halfX = 0;
+            float halfY = 0;
+            Optional<Box2D> bounds = shape.getBoundingBox();
+            if (bounds.isPresent()) {
+                halfX = bounds.get().getXLength() / 2;
+                halfY = bounds.get().getYLength() / 2;
             }
+            float boxHalfX = box.getXLength() / 2;
+            float boxHalfY = box.getYLength() / 2;
+            return shape.getX() - halfX > box.getX() - boxHalfX
+                    && shape.getX() + halfX < box.getX() + boxHalfX
+                    && shape.getY() - halfY > box.getY() - boxHalfY
+                    && shape.getY() + halfY < box.getY() + boxHalfY;
         }
 
         /**
@@ -544,57 +862,79 @@ public class RTree<Key> {
          */
         public void addAllOverlapping(Shape2D position, Collection<Key> output) {
             if (isLeaf) {
-                leafChildren.stream()
-                    .filter(child -> child.getPosition().overlaps(position))
-                    .map(child -> child.getKey())
-                    .forEach(key -> output.add(key));
+                for (int i = 0; i < leafChildren.size(); ++i) {
+                    Bucket<Key> child = leafChildren.get(i);
+                    if (child.getPosition().overlaps(position)) {
+                        output.add(child.getKey());
+                    }
+                }
             } else {
-                children.stream()
-                    .filter(child -> child.minimumBoundingRectangle.overlaps(position))
-                    .forEach(child -> child.addAllOverlapping(position, output));
+                for (int i = 0; i < children.size(); ++i) {
+                    Block<Key> child = children.get(i);
+                    if (child.minimumBoundingRectangle.overlaps(position)) {
+                        child.addAllOverlapping(position, output);
+                    }
+                }
             }
         }
 
         /**
-         * Finds the key that is closest to a given position. It is assumed that this method is
-         * only called on the root node.
+         * Calls the visitor with all the keys within this subset of the RTree that overlap the
+         * given position.
          *
          * @param position
-         *              The position whos nearest neighbour is being found.
-         * @return
-         *              The key of the nearest neighbour. Null if the RTree is empty.
+         *              The position that overlaps are checked with.
+         * @param visitor
+         *              Called with each overlapping key.
          */
-        public Key findClosest(Shape2D position, Predicate<Key> additionalCheck) {
-            if (isLeaf && leafChildren.size() == 0) {
-                return null;
+        public void visitOverlapping(Shape2D position, Consumer<Key> visitor) {
+            if (isLeaf) {
+                for (int i = 0; i < leafChildren.size(); ++i) {
+                    Bucket<Key> child = leafChildren.get(i);
+                    if (child.getPosition().overlaps(position)) {
+                        visitor.accept(child.getKey());
+                    }
+                }
+            } else {
+                for (int i = 0; i < children.size(); ++i) {
+                    Block<Key> child = children.get(i);
+                    if (child.minimumBoundingRectangle.overlaps(position)) {
+                        child.visitOverlapping(position, visitor);
+                    }
+                }
             }
+        }
 
-            Key output = null;
-            float currentDistance = Float.MAX_VALUE;
-            PriorityQueue<Block> queue = new PriorityQueue<>(Comparator.comparingDouble(
-                        child -> child.minimumBoundingRectangle.distance(position)));
+        /**
+         * Adds the keys in this subset of the RTree to the tree's k nearest search, skipping any
+         * children too far away to improve on what has been found so far.
+         *
+         * @param tree
+         *              The tree holding the search results.
+         * @param position
+         *              The position whos nearest neighbours are being found.
+         * @param k
+         *              The number of neighbours being found.
+         * @param additionalCheck
+         *              The additional requirement for the results.
+         */
+        public void addNearest(RTree<Key> tree, Shape2D position, int k, Predicate<Key> additionalCheck) {
             if (isLeaf) {
-                queue.add(this);
+                for (int i = 0; i < leafChildren.size(); ++i) {
+                    Bucket<Key> bucket = leafChildren.get(i);
+                    float distance = bucket.getPosition().distance(position);
+                    if (tree.isNearEnough(distance, k) && additionalCheck.test(bucket.getKey())) {
+                        tree.addNearest(bucket.getKey(), distance, k);
+                    }
+                }
             } else {
-                queue.addAll(children);
-            }
-            while (!queue.isEmpty() && queue.peek().minimumBoundingRectangle.distance(position) <
-                    currentDistance) {
-                Block<Key> head = queue.poll();
-
-                if (head.isLeaf) {
-                    for (Bucket<Key> bucket: head.leafChildren) {
-                        if (bucket.getPosition().distance(position) < currentDistance && additionalCheck.test(bucket.getKey())) {
-                            currentDistance = bucket.getPosition().distance(position);
-                            output = bucket.getKey();
-                        }
+                for (int i = 0; i < children.size(); ++i) {
+                    Block<Key> child = children.get(i);
+                    if (tree.isNearEnough(child.minimumBoundingRectangle.distance(position), k)) {
+                        child.addNearest(tree, position, k, additionalCheck);
                     }
-                } else {
-                    queue.addAll(head.children);
                 }
             }
-
-            return output;
         }
     }
 
@@ -604,6 +944,8 @@ public class RTree<Key> {
     private static class Bucket<Key> {
         private Key k;
         private Shape2D position;
+        // The leaf block currently holding this bucket, null if it isn't in the tree.
+        private Block<Key> leaf;
 
         public Bucket(Key k, Shape2D position) {
             this.k = k;
@@ -632,7 +974,7 @@ public class RTree<Key> {
                 return false;
             }
 
-            Bucket<Key> otherBucket = (Bucket<Key>) other;
+            Bucket<?> otherBucket = (Bucket<?>) other;
             // all equality cares about is the key, different position doesn't matter
             return otherBucket.getKey().equals(k);
         }
@@ -0,0 +1,235 @@
+package com.deco2800.potatoes.util;
+
+import com.badlogic.gdx.utils.LongMap;
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Shape2D;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Uniform grid of buckets used as a broad-phase for collision checks.
+ *
+ * Acts as a mapping from instances of generic type Key to the cells their Shape2D's bounding box
+ * covers. All instances of Key are considered to be globally unique within the hash. Unlike the
+ * RTree, moving a key only does any work when it crosses into a different set of cells, which
+ * makes it cheap to keep up to date for entities that move every tick.
+ *
+ * Queries return every key sharing a cell with the query area, so results are candidates only and
+ * still need an exact overlap check.
+ */
+public class SpatialHash<Key> {
+    // Side length of each (square) cell.
+    private final float cellSize;
+    // Buckets, keyed by packed cell coordinates. Empty buckets are kept to avoid churn.
+    private LongMap<List<Entry<Key>>> cells;
+    // Lookup table from keys to the cells they currently occupy.
+    private Map<Key, Entry<Key>> forwardLookup;
+
+    /**
+     * Creates an empty spatial hash.
+     *
+     * @param cellSize
+     *          The side length of each cell. For the game world this should be a tile.
+     */
+    public SpatialHash(float cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        cells = new LongMap<>();
+        forwardLookup = new HashMap<>();
+    }
+
+    /**
+     * Inserts a new key/position pair into the hash. If the key already exists it is moved.
+     *
+     * @param k
+     *          The key of the key/position pair being inserted.
+     * @param position
+     *          The position associated with the key.
+     */
+    public void insert(Key k, Shape2D position) {
+        if (forwardLookup.containsKey(k)) {
+            move(k, position);
+            return;
+        }
+        Entry<Key> entry = new Entry<>(k);
+        entry.setBounds(this, position);
+        forwardLookup.put(k, entry);
+        addToCells(entry);
+    }
+
+    /**
+     * Moves a key within the hash to a new position. Does nothing if the key stays within the
+     * same cells, or if the key is not in the hash.
+     *
+     * @param k
+     *          The key being moved.
+     * @param newPosition
+     *          The new position to be associated with the key.
+     */
+    public void move(Key k, Shape2D newPosition) {
+        Entry<Key> entry = forwardLookup.get(k);
+        if (entry == null) {
+            return;
+        }
+        int oldMinX = entry.minX;
+        int oldMinY = entry.minY;
+        int oldMaxX = entry.maxX;
+        int oldMaxY = entry.maxY;
+        entry.setBounds(this, newPosition);
+        if (oldMinX == entry.minX && oldMinY == entry.minY && oldMaxX == entry.maxX && oldMaxY == entry.maxY) {
+            return;
+        }
+        removeFromCells(entry, oldMinX, oldMinY, oldMaxX, oldMaxY);
+        addToCells(entry);
+    }
+
+    /**
+     * Removes a key from the hash, if it is present.
+     *
+     * @param k
+     *          The key being removed.
+     */
+    public void remove(Key k) {
+        Entry<Key> entry = forwardLookup.remove(k);
+        if (entry != null) {
+            removeFromCells(entry, entry.minX, entry.minY, entry.maxX, entry.maxY);
+        }
+    }
+
+    /**
+     * @return The number of keys in the hash
+     */
+    public int size() {
+        return forwardLookup.size();
+    }
+
+    /**
+     * Finds the keys in the cells covered by the given position, and in the given number of rings
+     * of neighbouring cells around them. Each key is added to the output at most once.
+     *
+     * @param position
+     *          The area being queried.
+     * @param neighbourhood
+     *          The number of extra cells to search on each side of the area. Use 1 to allow for
+     *          keys which may have moved up to a cell since they were last updated.
+     * @param output
+     *          The collection that keys are appended to.
+     */
+    public void addAllNear(Shape2D position, int neighbourhood, Collection<Key> output) {
+        Optional<Box2D> bounds = position.getBoundingBox();
+        int minX;
+        int minY;
+        int maxX;
+        int maxY;
+        if (bounds.isPresent()) {
+            Box2D box = bounds.get();
+            minX = cellOf(box.getX() - box.getXLength() / 2) - neighbourhood;
+            minY = cellOf(box.getY() - box.getYLength() / 2) - neighbourhood;
+            maxX = cellOf(box.getX() + box.getXLength() / 2) + neighbourhood;
+            maxY = cellOf(box.getY() + box.getYLength() / 2) + neighbourhood;
+        } else {
+            minX = cellOf(position.getX()) - neighbourhood;
+            minY = cellOf(position.getY()) - neighbourhood;
+            maxX = cellOf(position.getX()) + neighbourhood;
+            maxY = cellOf(position.getY()) + neighbourhood;
+        }
+
+        for (int cx = minX; cx <= maxX; ++cx) {
+            for (int cy = minY; cy <= maxY; ++cy) {
+                List<Entry<Key>> bucket = cells.get(pack(cx, cy));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size(); ++i) {
+                    Entry<Key> entry = bucket.get(i);
+                    // Only report a key from the first of its cells inside the query, so keys
+                    // spanning multiple cells aren't reported more than once
+                    if (cx == Math.max(entry.minX, minX) && cy == Math.max(entry.minY, minY)) {
+                        output.add(entry.k);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the cell containing the given coordinate.
+     */
+    private int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long pack(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private void addToCells(Entry<Key> entry) {
+        for (int cx = entry.minX; cx <= entry.maxX; ++cx) {
+            for (int cy = entry.minY; cy <= entry.maxY; ++cy) {
+                long cell = pack(cx, cy);
+                List<Entry<Key>> bucket = cells.get(cell);
+                if (bucket == null) {
+                    bucket = new ArrayList<>();
+                    cells.put(cell, bucket);
+                }
+                bucket.add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<Key> entry, int minX, int minY, int maxX, int maxY) {
+        for (int cx = minX; cx <= maxX; ++cx) {
+            for (int cy = minY; cy <= maxY; ++cy) {
+                List<Entry<Key>> bucket = cells.get(pack(cx, cy));
+                if (bucket != null) {
+                    // swap remove, order within a bucket doesn't matter
+                    int index = bucket.indexOf(entry);
+                    if (index >= 0) {
+                        int last = bucket.size() - 1;
+                        bucket.set(index, bucket.get(last));
+                        bucket.remove(last);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A key and the inclusive range of cells it occupies.
+     */
+    private static class Entry<Key> {
+        private final Key k;
+        private int minX;
+        private int minY;
+        private int maxX;
+        private int maxY;
+
+        public Entry(Key k) {
+            this.k = k;
+        }
+
+        /**
+         * Updates the range of cells to those covered by the given position.
+         */
+        public void setBounds(SpatialHash<?> hash, Shape2D position) {
+            Optional<Box2D> bounds = position.getBoundingBox();
+            if (bounds.isPresent()) {
+                Box2D box = bounds.get();
+                minX = hash.cellOf(box.getX() - box.getXLength() / 2);
+                minY = hash.cellOf(box.getY() - box.getYLength() / 2);
+                maxX = hash.cellOf(box.getX() + box.getXLength() / 2);
+                maxY = hash.cellOf(box.getY() + box.getYLength() / 2);
+            } else {
+                minX = maxX = hash.cellOf(position.getX());
+                minY = maxY = hash.cellOf(position.getY());
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.deco2800.potatoes.waves;
 
+import com.deco2800.potatoes.entities.enemies.EnemyEntity;
 import com.deco2800.potatoes.entities.enemies.Moose;
 import com.deco2800.potatoes.entities.enemies.SpeedyEnemy;
 import com.deco2800.potatoes.entities.enemies.Squirrel;
@@ -171,17 +172,25 @@ public class EnemyWave {
     	totalAmount--;	
     }
     
+    /**
+     * Add an enemy to the world, keeping its textures loaded while it is alive
+     */
+    private static void spawn(EnemyEntity enemy) {
+        enemy.acquireTextures();
+        GameManager.get().getWorld().addEntity(enemy);
+    }
+
     /**
      * Add a squirrel to the world
      */
     private static void addSquirrel() {
-        GameManager.get().getWorld().addEntity(new Squirrel(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
+        spawn(new Squirrel(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
                 8f));
-        GameManager.get().getWorld().addEntity(new Squirrel(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
+        spawn(new Squirrel(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
                 - WorldManager.WORLD_SIZE / 8f));
-        GameManager.get().getWorld().addEntity(new Squirrel(WorldManager.WORLD_SIZE / 8f, WorldManager
+        spawn(new Squirrel(WorldManager.WORLD_SIZE / 8f, WorldManager
                 .WORLD_SIZE / 2f));
-        GameManager.get().getWorld().addEntity(new Squirrel(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
+        spawn(new Squirrel(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
                 WorldManager.WORLD_SIZE / 2f));
         totalAmount += 4;
     }
@@ -190,13 +199,13 @@ public class EnemyWave {
      * Add a tank (bear) enemy to the world
      */
     private static void addTank() {
-        GameManager.get().getWorld().addEntity(new TankEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
+        spawn(new TankEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
                 8f));
-        GameManager.get().getWorld().addEntity(new TankEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
+        spawn(new TankEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
                 - WorldManager.WORLD_SIZE / 8f));
-        GameManager.get().getWorld().addEntity(new TankEnemy(WorldManager.WORLD_SIZE / 8f, WorldManager
+        spawn(new TankEnemy(WorldManager.WORLD_SIZE / 8f, WorldManager
                 .WORLD_SIZE / 2f));
-        GameManager.get().getWorld().addEntity(new TankEnemy(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
+        spawn(new TankEnemy(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
                 WorldManager.WORLD_SIZE / 2f));
         totalAmount += 4;
     }
@@ -205,13 +214,13 @@ public class EnemyWave {
      * Add a speedy (raccoon) enemy to the world
      */
     private static void addSpeedy() {
-        GameManager.get().getWorld().addEntity(new SpeedyEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
+        spawn(new SpeedyEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
                 8f));
-        GameManager.get().getWorld().addEntity(new SpeedyEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
+        spawn(new SpeedyEnemy(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
                 - WorldManager.WORLD_SIZE / 8f));
-        GameManager.get().getWorld().addEntity(new SpeedyEnemy(WorldManager.WORLD_SIZE / 8f, WorldManager
+        spawn(new SpeedyEnemy(WorldManager.WORLD_SIZE / 8f, WorldManager
                 .WORLD_SIZE / 2f));
-        GameManager.get().getWorld().addEntity(new SpeedyEnemy(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
+        spawn(new SpeedyEnemy(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
                 WorldManager.WORLD_SIZE / 2f));
         totalAmount += 4;
 
@@ -221,13 +230,13 @@ public class EnemyWave {
      * Add a moose to the world
      */
     private static void addMoose() {
-        GameManager.get().getWorld().addEntity(new Moose(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
+        spawn(new Moose(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE /
                 8f));
-        GameManager.get().getWorld().addEntity(new Moose(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
+        spawn(new Moose(WorldManager.WORLD_SIZE / 2f, WorldManager.WORLD_SIZE
                 - WorldManager.WORLD_SIZE / 8f));
-        GameManager.get().getWorld().addEntity(new Moose(WorldManager.WORLD_SIZE / 8f, WorldManager
+        spawn(new Moose(WorldManager.WORLD_SIZE / 8f, WorldManager
                 .WORLD_SIZE / 2f));
-        GameManager.get().getWorld().addEntity(new Moose(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
+        spawn(new Moose(WorldManager.WORLD_SIZE - WorldManager.WORLD_SIZE / 8f,
                 WorldManager.WORLD_SIZE / 2f));
         totalAmount += 4;
     }
@@ -14,6 +14,7 @@ import com.deco2800.potatoes.worlds.terrain.RandomTerrain;
 import com.deco2800.potatoes.worlds.terrain.Terrain;
 import com.deco2800.potatoes.worlds.terrain.TerrainType;
 import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.TextureManager;
 
 public class ForestWorld extends WorldType {
 	private static final TerrainType FOREST_TERRAIN = new TerrainType(RandomTerrain.GRASS, RandomTerrain.DIRT_NO_PLANT, new Terrain(WATER, 0, false));
@@ -83,4 +84,9 @@ public class ForestWorld extends WorldType {
 	public static ForestWorld get() {
 		return INSTANCE;
 	}
+
+	@Override
+	public String getTextureGroup() {
+		return TextureManager.WORLD_GROUP + "forest";
+	}
 }
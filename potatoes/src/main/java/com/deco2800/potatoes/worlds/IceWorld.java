@@ -7,6 +7,7 @@ import com.deco2800.potatoes.worlds.terrain.RandomTerrain;
 import com.deco2800.potatoes.worlds.terrain.Terrain;
 import com.deco2800.potatoes.worlds.terrain.TerrainType;
 import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.TextureManager;
 
 public class IceWorld extends WorldType {
 	private static final TerrainType iceTerrain = new TerrainType(RandomTerrain.SNOW, RandomTerrain.ICE, Terrain
@@ -30,4 +31,9 @@ public class IceWorld extends WorldType {
 	public static IceWorld get() {
 		return instance;
 	}
+
+	@Override
+	public String getTextureGroup() {
+		return TextureManager.WORLD_GROUP + "iceland";
+	}
 }
@@ -8,6 +8,7 @@ import com.deco2800.potatoes.worlds.terrain.RandomTerrain;
 import com.deco2800.potatoes.worlds.terrain.Terrain;
 import com.deco2800.potatoes.worlds.terrain.TerrainType;
 import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.TextureManager;
 
 public class OceanWorld extends WorldType {
 	private static final TerrainType oceanTerrain = new TerrainType(RandomTerrain.SAND, AnimatedTerrain
@@ -31,4 +32,9 @@ public class OceanWorld extends WorldType {
 	public static OceanWorld get() {
 		return instance;
 	}
+
+	@Override
+	public String getTextureGroup() {
+		return TextureManager.WORLD_GROUP + "sea";
+	}
 }
@@ -7,6 +7,7 @@ import com.deco2800.potatoes.worlds.terrain.RandomTerrain;
 import com.deco2800.potatoes.worlds.terrain.Terrain;
 import com.deco2800.potatoes.worlds.terrain.TerrainType;
 import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.TextureManager;
 
 public class VolcanoWorld extends WorldType {
 	private static final TerrainType volcanoTerrain = new TerrainType(RandomTerrain.DIRT, RandomTerrain.ROCK, new Terrain(WATER, 0, false));
@@ -29,4 +30,9 @@ public class VolcanoWorld extends WorldType {
 	public static VolcanoWorld get() {
 		return instance;
 	}
+
+	@Override
+	public String getTextureGroup() {
+		return TextureManager.WORLD_GROUP + "volcano";
+	}
 }
@@ -2,7 +2,7 @@ package com.deco2800.potatoes.worlds;
 
 import java.awt.Point;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.function.Predicate;
 
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -12,16 +12,19 @@ import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
-import com.deco2800.potatoes.collisions.Circle2D;
 import com.deco2800.potatoes.collisions.Point2D;
+import com.deco2800.potatoes.collisions.Shape2D;
 import com.deco2800.potatoes.entities.AbstractEntity;
 import com.deco2800.potatoes.entities.Selectable;
 import com.deco2800.potatoes.managers.GameManager;
 import com.deco2800.potatoes.managers.Manager;
 import com.deco2800.potatoes.managers.TextureManager;
 import com.deco2800.potatoes.managers.WorldManager;
+import com.deco2800.potatoes.observers.PositionObserver;
+import com.deco2800.potatoes.observers.StaticEntityObserver;
 import com.deco2800.potatoes.renderering.Renderable;
 import com.deco2800.potatoes.util.RTree;
+import com.deco2800.potatoes.util.SpatialHash;
 import com.deco2800.potatoes.worlds.terrain.Terrain;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,7 +35,7 @@ import org.slf4j.LoggerFactory;
  * It provides storage for the WorldEntities and other universal world level
  * items.
  */
-public class World {
+public class World implements PositionObserver {
 	private static final Logger LOGGER = LoggerFactory.getLogger(World.class);
 
 	/**
@@ -40,12 +43,30 @@ public class World {
 	 */
 	private static final int GRID_SIZE = 2;
 
+	/**
+	 * Size of the cells in the collision broad-phase, one tile
+	 */
+	private static final float COLLISION_CELL_SIZE = 1;
+
 	private static final int TILE_WIDTH = 128;
 	private static final int TILE_HEIGHT = 74;
 	private Terrain[][] terrain;
 
 	private Map<Integer, AbstractEntity> entities = new HashMap<>();
+	// Reverse lookup, by identity since entity equality depends on position
+	private Map<AbstractEntity, Integer> entityIds = new IdentityHashMap<>();
+	// Entities that have moved since the last call to updatePositions
+	private List<AbstractEntity> movedEntities = new ArrayList<>();
 	private RTree<Integer> entitiesRtree = new RTree<>();
+	// Every entity, solid or not, for finding everything in an area (e.g. what is on screen)
+	private RTree<Integer> allEntitiesRtree = new RTree<>();
+	// Broad-phase for collisions between solid entities
+	private SpatialHash<Integer> solidEntitiesHash = new SpatialHash<>(COLLISION_CELL_SIZE);
+	// Reused by the spatial queries to avoid allocating every query
+	private List<Integer> queryIds = new ArrayList<>();
+	private Point2D queryPoint = new Point2D();
+	private Class<?> queryType;
+	private final Predicate<Integer> isQueryType = id -> queryType.isAssignableFrom(entities.get(id).getClass());
 	// Current index of the hashmap i.e. the last value we inserted into, for
 	// significantly more efficient insertion)
 	// First 16 index's are reserved for clients
@@ -56,6 +77,8 @@ public class World {
 	// Store managers for this world
 	private Set<Manager> managers = new HashSet<>();
 
+	private List<StaticEntityObserver> staticEntityObservers = new ArrayList<>();
+
 	private Drawable[] background;
 	private Terrain[] backgroundTerrain;
 
@@ -116,6 +139,29 @@ public class World {
 		addToMaps(currentIndex++, entity);
 	}
 
+	/**
+	 * Adds a batch of entities to the world, giving each a new id. This is much faster than
+	 * adding them one at a time when populating a world, as the spatial index is built in one go.
+	 *
+	 * @param newEntities the entities to add
+	 */
+	public void addEntities(Collection<? extends AbstractEntity> newEntities) {
+		Map<Integer, Shape2D> solidMasks = new HashMap<>();
+		Map<Integer, Shape2D> masks = new HashMap<>();
+		for (AbstractEntity entity : newEntities) {
+			int id = currentIndex++;
+			Shape2D mask = entity.getMask();
+			masks.put(id, mask);
+			if (entity.isSolid()) {
+				solidMasks.put(id, mask);
+				solidEntitiesHash.insert(id, mask);
+			}
+			trackEntity(id, entity);
+		}
+		entitiesRtree.insertAll(solidMasks);
+		allEntitiesRtree.insertAll(masks);
+	}
+
 	/**
 	 * Add's an entity at the id (i.e. the index of the ArrayList). This will
 	 * overwrite any existing entity if it is occupied.
@@ -169,25 +215,40 @@ public class World {
 	 * nothing happens
 	 */
 	public void removeEntity(AbstractEntity entity) {
-		for (Map.Entry<Integer, AbstractEntity> e : entities.entrySet()) {
-			if (e.getValue() == entity) {
-				removeFromMaps(e.getKey());
-				return;
-			}
+		Integer id = entityIds.get(entity);
+		if (id != null) {
+			removeFromMaps(id);
 		}
 	}
 
 	/**
+	 * Returns the solid entities within the given distance of a point.
 	 *
-	 * @param x
-	 * @param y
-	 * @param maxDistance
-	 * @return
+	 * @param x The x coordinate to measure the distance from
+	 * @param y The y coordinate to measure the distance from
+	 * @param maxDistance The maximum distance from the point
+	 * @return An iterator over the entities in range
 	 */
 	public Iterator<AbstractEntity> getEntitiesWithinDistance(float x, float y, float maxDistance) {
-		return entitiesRtree.findOverlapping(new Circle2D(x, y, maxDistance)).stream().map((id) -> entities.get(id)).iterator();
+		List<AbstractEntity> output = new ArrayList<>();
+		getEntitiesWithinDistance(x, y, maxDistance, output);
+		return output.iterator();
 	}
 
+	/**
+	 * Adds the solid entities within the given distance of a point to the output. Allocates nothing
+	 * as long as the output has room for the results.
+	 *
+	 * @param x The x coordinate to measure the distance from
+	 * @param y The y coordinate to measure the distance from
+	 * @param maxDistance The maximum distance from the point
+	 * @param output The collection the entities are added to
+	 */
+	public void getEntitiesWithinDistance(float x, float y, float maxDistance, Collection<AbstractEntity> output) {
+		queryIds.clear();
+		entitiesRtree.findWithinDistance(x, y, maxDistance, queryIds);
+		addQueryEntities(output);
+	}
 
 	/**
 	 * Gets the approximate closest entity of the given type to the given position, approximately within the the
@@ -198,30 +259,139 @@ public class World {
 	 * @return The closest entity
 	 */
 	public Optional<AbstractEntity> getClosestEntity(float x, float y, Class<?> type) {
-		return Optional.ofNullable(entities.get(entitiesRtree.findClosest(new Point2D(x, y), (id) -> type.isAssignableFrom(entities.get(id).getClass()))));
+		queryPoint.setX(x);
+		queryPoint.setY(y);
+		queryType = type;
+		Integer id = entitiesRtree.findClosest(queryPoint, isQueryType);
+		queryType = null;
+		return Optional.ofNullable(id == null ? null : entities.get(id));
+	}
+
+	/**
+	 * Adds the entities for the ids in queryIds to the output
+	 */
+	private void addQueryEntities(Collection<AbstractEntity> output) {
+		for (int i = 0; i < queryIds.size(); i++) {
+			AbstractEntity entity = entities.get(queryIds.get(i));
+			if (entity != null) {
+				output.add(entity);
+			}
+		}
+	}
+
+	/**
+	 * Adds every solid entity that might overlap the given area to the output. This only checks the
+	 * collision cells around the area, so the output still needs exact collision checks.
+	 *
+	 * The broad-phase is updated whenever an entity moves, however it was moved, so entities are
+	 * found where they are now. Areas are padded by one cell to also find entities just beyond them.
+	 *
+	 * @param area The area to find entities near
+	 * @param output The collection the entities are added to
+	 */
+	public void getSolidEntitiesNear(Shape2D area, Collection<AbstractEntity> output) {
+		queryIds.clear();
+		solidEntitiesHash.addAllNear(area, 1, queryIds);
+		addQueryEntities(output);
+	}
+
+	/**
+	 * Adds every entity, solid or not, whose mask overlaps the given area to the output. Positions are
+	 * only updated in {@link #updatePositions()}, so entities that moved this tick may be slightly off.
+	 *
+	 * @param area The area to find entities in
+	 * @param output The collection the entities are added to
+	 */
+	public void getEntitiesInArea(Shape2D area, Collection<AbstractEntity> output) {
+		queryIds.clear();
+		allEntitiesRtree.findOverlapping(area, queryIds);
+		addQueryEntities(output);
 	}
 
 	/**
-	 * Could be updated to be run from {@link AbstractEntity#setPosition(float, float)}
+	 * Returns true if the given entity is in this world
+	 */
+	public boolean hasEntity(AbstractEntity entity) {
+		return entityIds.containsKey(entity);
+	}
+
+	/**
+	 * Records that an entity in this world has moved, so it is updated in the next call to
+	 * {@link #updatePositions()}
+	 */
+	@Override
+	public void notifyPositionChanged(AbstractEntity entity) {
+		movedEntities.add(entity);
+	}
+
+	/**
+	 * Keeps the collision broad-phase up to date with an entity in this world that has just moved.
+	 * This only changes the broad-phase when the entity moves into different cells.
+	 */
+	@Override
+	public void notifyMoved(AbstractEntity entity, Shape2D mask) {
+		Integer id = entityIds.get(entity);
+		if (id != null) {
+			solidEntitiesHash.move(id, mask);
+		}
+	}
+
+	/**
+	 * Updates the spatial indexes for the entities that have moved since this was last called.
+	 * The collision broad-phase is already up to date, see {@link #notifyMoved(AbstractEntity, Shape2D)}.
+	 * Entities that stay inside their part of the RTree are updated in place, so this costs about
+	 * O(moved entities).
 	 */
 	public void updatePositions() {
-		for (Entry<Integer, AbstractEntity> entry : entities.entrySet()) {
+		for (int i = 0; i < movedEntities.size(); i++) {
+			AbstractEntity entity = movedEntities.get(i);
+			entity.clearPositionChanged();
+			Integer id = entityIds.get(entity);
+			if (id == null) {
+				// Removed since it moved
+				continue;
+			}
+			Shape2D mask = entity.getMask();
+			allEntitiesRtree.move(id, mask);
 			try {
-				if (!entry.getValue().isStatic() && entry.getValue().getMoveSpeed() > 0) {
-					entitiesRtree.move(entry.getKey(), entry.getValue().getMask());
+				if (entitiesRtree.find(id) != null) {
+					entitiesRtree.move(id, mask);
 				}
 			} catch (NoSuchElementException e) {
 				// This is fine :fire:
 			}
 		}
+		movedEntities.clear();
 	}
 
 	/**
 	 * Adds the entity and associated id to all the maps
 	 */
 	private void addToMaps(int id, AbstractEntity entity) {
-		if (entity.isSolid()) entitiesRtree.insert(id, entity.getMask());
+		if (entities.containsKey(id)) {
+			removeFromMaps(id);
+		}
+		Shape2D mask = entity.getMask();
+		if (entity.isSolid()) {
+			entitiesRtree.insert(id, mask);
+			solidEntitiesHash.insert(id, mask);
+		}
+		allEntitiesRtree.insert(id, mask);
+		trackEntity(id, entity);
+	}
+
+	/**
+	 * Adds the entity and associated id to the lookup maps, and starts observing its position
+	 */
+	private void trackEntity(int id, AbstractEntity entity) {
 		entities.put(id, entity);
+		entityIds.put(entity, id);
+		entity.setPositionObserver(this);
+		if (entity.isStatic() && entity.isSolid()) {
+			for (StaticEntityObserver observer : staticEntityObservers) {
+				observer.notifyStaticEntityAdded(entity);
+			}
+		}
 	}
 
 	/**
@@ -233,7 +403,33 @@ public class World {
 		} catch (NoSuchElementException e) {
 			// This is fine :fire:
 		}
-		entities.remove(id);
+		allEntitiesRtree.remove(id);
+		solidEntitiesHash.remove(id);
+		AbstractEntity entity = entities.remove(id);
+		if (entity != null && Integer.valueOf(id).equals(entityIds.get(entity))) {
+			entityIds.remove(entity);
+			if (entity.getPositionObserver() == this) {
+				entity.setPositionObserver(null);
+			}
+			if (entity.isStatic() && entity.isSolid()) {
+				for (StaticEntityObserver observer : staticEntityObservers) {
+					observer.notifyStaticEntityRemoved(entity);
+				}
+			}
+			for (StaticEntityObserver observer : staticEntityObservers) {
+				observer.notifyEntityRemoved(entity);
+			}
+			entity.onRemovedFromWorld();
+		}
+	}
+
+	/**
+	 * Tells every entity in this world that it has been removed, for when the world is thrown away
+	 */
+	public void removeAllEntities() {
+		for (Integer id : new ArrayList<>(entities.keySet())) {
+			removeFromMaps(id);
+		}
 	}
 
 	private Point getGridPoint(AbstractEntity entity) {
@@ -340,6 +536,22 @@ public class World {
 			return backgroundTerrain[0];
 	}
 
+	/**
+	 * Registers an observer to be told when static, solid entities are added to or removed from this world
+	 * @param observer the observer to add
+	 */
+	public void addStaticEntityObserver(StaticEntityObserver observer) {
+		staticEntityObservers.add(observer);
+	}
+
+	/**
+	 * Stops the given observer being told about static, solid entities
+	 * @param observer the observer to remove
+	 */
+	public void removeStaticEntityObserver(StaticEntityObserver observer) {
+		staticEntityObservers.remove(observer);
+	}
+
 	/**
 	 * Stores the given manager in this world
 	 * @param m the manager to add
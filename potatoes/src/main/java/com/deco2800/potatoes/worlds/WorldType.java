@@ -12,10 +12,15 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Supplier;
 
 /**
@@ -27,6 +32,8 @@ public class WorldType {
 	protected static final String GROUND = "mud_tile_1";
 	protected static final String WATER = "water1";
 	protected static final String GRASS = "grass_tile_1";
+	// Candidate worlds tried before giving up on a valid one
+	private static final int MAX_CANDIDATES = 100000;
 	private static final Point PORTAL_POS = new Point(WorldManager.WORLD_SIZE / 2, WorldManager.WORLD_SIZE / 2);
 
 	private final TerrainType terrain;
@@ -77,6 +84,14 @@ public class WorldType {
 		return terrain;
 	}
 
+	/**
+	 * @return the group of textures only drawn in this type of world, see TextureManager.acquireTextures(...), or
+	 *         null if it has none
+	 */
+	public String getTextureGroup() {
+		return null;
+	}
+
 	/**
 	 * Returns the list of entities that should start in a world of this type
 	 */
@@ -94,38 +109,82 @@ public class WorldType {
 
 	/**
 	 * Generates a grid of terrain based on the given world size. The terrain types
-	 * and world generation is based on the details of this world type
+	 * and world generation is based on the details of this world type. Candidate
+	 * worlds are tried in parallel, see generateWorld(worldSize, parallelism).
 	 */
 	public Terrain[][] generateWorld(int worldSize) {
-		WorldManager wm = GameManager.get().getManager(WorldManager.class);
-		Terrain[][] terrainSet = new Terrain[worldSize][worldSize];
-		boolean validLand = false;
+		return generateWorld(worldSize, ForkJoinPool.commonPool().getParallelism());
+	}
+
+	/**
+	 * Generates a grid of terrain based on the given world size. If the first
+	 * candidate world isn't valid, up to parallelism candidates are then tried at
+	 * once on the common fork/join pool. Each candidate has its own random, seeded
+	 * in turn from a single number taken from the game's random, and the first
+	 * valid candidate in that order is used. The result only depends on the game's
+	 * random, so it is the same for any parallelism.
+	 */
+	public Terrain[][] generateWorld(int worldSize, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		}
+		SplittableRandom seeds = new SplittableRandom(GameManager.get().getRandom().nextLong());
+		long[] batch = new long[parallelism];
+		Terrain[][][] candidates = new Terrain[parallelism][][];
 		int count = 0;
-		while (!validLand) {
-			float[][] water = GridUtil.smoothDiamondSquareAlgorithm(getWaterSeed(worldSize), 0, 0.5f, 2);
-			float[][] height = GridUtil.smoothDiamondSquareAlgorithm(getWaterSeed(worldSize), 0.42f, 2);
-			float[][] grass = GridUtil.smoothDiamondSquareAlgorithm(GridUtil.seedGrid(worldSize), 0.42f, 2);
-			for (int x = 0; x < worldSize; x++) {
-				for (int y = 0; y < worldSize; y++) {
-					terrainSet[x][y] = chooseTerrain(water[x][y], height[x][y], grass[x][y]);
+		while (true) {
+			// The first candidate is usually valid, so it's tried on its own
+			int size = count == 0 ? 1 : Math.min(parallelism, MAX_CANDIDATES - count);
+			for (int i = 0; i < size; i++) {
+				batch[i] = seeds.nextLong();
+			}
+			if (size == 1) {
+				candidates[0] = generateCandidate(worldSize, batch[0]);
+			} else {
+				ForkJoinPool.commonPool().invoke(new Candidates(worldSize, batch, candidates, 0, size));
+			}
+			for (int i = 0; i < size; i++) {
+				if (candidates[i] != null) {
+					return candidates[i];
 				}
 			}
-			validLand = checkValidLand(worldSize, terrainSet);
-			count++;
-			if (count == 50000) {
+			if (count < MAX_CANDIDATES / 2 && count + size >= MAX_CANDIDATES / 2) {
 				// Computers are fast let's make a lot more worlds
 				LOGGER.warn("world gen is taking a long time, valid location is probably very unlikely");
 			}
-			if (count > 100000) {
+			count += size;
+			if (count >= MAX_CANDIDATES) {
 				LOGGER.warn("gave up on valid world");
-				break;
+				return generateTerrain(worldSize, new Random(batch[size - 1]));
+			}
+		}
+	}
+
+	/**
+	 * Generates the terrain for the given seed
+	 * 
+	 * @return the terrain, or null if it isn't valid
+	 */
+	private Terrain[][] generateCandidate(int worldSize, long seed) {
+		Terrain[][] terrainSet = generateTerrain(worldSize, new Random(seed));
+		return checkValidLand(worldSize) ? terrainSet : null;
+	}
+
+	private Terrain[][] generateTerrain(int worldSize, Random random) {
+		Terrain[][] terrainSet = new Terrain[worldSize][worldSize];
+		float[][] water = GridUtil.smoothDiamondSquareAlgorithm(getWaterSeed(worldSize, random), 0, 0.5f, 2, random);
+		float[][] height = GridUtil.smoothDiamondSquareAlgorithm(getWaterSeed(worldSize, random), 0.42f, 2, random);
+		float[][] grass = GridUtil.smoothDiamondSquareAlgorithm(GridUtil.seedGrid(worldSize, random), 0.42f, 2, random);
+		for (int x = 0; x < worldSize; x++) {
+			for (int y = 0; y < worldSize; y++) {
+				terrainSet[x][y] = chooseTerrain(water[x][y], height[x][y], grass[x][y]);
 			}
 		}
 		return terrainSet;
 	}
 
-	private float[][] getWaterSeed(int worldSize) {
-		float[][] result = GridUtil.seedGrid(worldSize);
+	private float[][] getWaterSeed(int worldSize, Random random) {
+		float[][] result = GridUtil.seedGrid(worldSize, random);
 		for (Point p : clearSpots) {
 			if (p.x < worldSize && p.y < worldSize) {
 				result[p.x][p.y] = 1;
@@ -134,27 +193,41 @@ public class WorldType {
 		return result;
 	}
 
-	private boolean checkValidLand(int worldSize, Terrain[][] terrainSet) {
-		boolean validLand = true;
-		Set<Point> filled = new HashSet<>();
-		GridUtil.genericFloodFill(clearSpots.iterator().next(), floodFillCheck(worldSize, terrainSet), new HashSet<>(),
+	private boolean checkValidLand(int worldSize) {
+		Point start = clearSpots.iterator().next();
+		if (!inWorld(start, worldSize)) {
+			return false;
+		}
+		BitSet filled = new BitSet(worldSize * worldSize);
+		int count = GridUtil.floodFill(landGrid(worldSize), worldSize, worldSize, start.x * worldSize + start.y,
 				filled);
+		if (landAmount * worldSize * worldSize > count) {
+			return false;
+		}
 		for (Point point : clearSpots) {
 			// Positions on the map have x and y swapped
-			point = new Point(point.y, point.x);
-			if (!filled.contains(point)) {
-				validLand = false;
-			}
-			if (landAmount * worldSize * worldSize > filled.size()) {
-				validLand = false;
+			if (!inWorld(point, worldSize) || !filled.get(point.y * worldSize + point.x)) {
+				return false;
 			}
 		}
-		return validLand;
+		return true;
+	}
+
+	/**
+	 * Returns the cells the land check can fill, see GridUtil.floodFill(...). Water doesn't stop the fill. It never
+	 * did, as it used to compare texture names with the water terrain, and forest worlds rarely have enough land joined
+	 * up for it to. This mustn't use random terrain textures, which take from the game's random
+	 */
+	private static boolean[] landGrid(int worldSize) {
+		boolean[] land = new boolean[worldSize * worldSize];
+		for (int x = 1; x < worldSize; x++) {
+			Arrays.fill(land, x * worldSize + 1, (x + 1) * worldSize, true);
+		}
+		return land;
 	}
 
-	private Function<Point, Boolean> floodFillCheck(int worldSize, Terrain[][] terrainSet) {
-		return p -> p.x > 0 && p.y > 0 && p.x < worldSize && p.y < worldSize
-				&& !terrainSet[p.x][p.y].getTexture().equals(getTerrain().getWater());
+	private static boolean inWorld(Point point, int worldSize) {
+		return point.x >= 0 && point.y >= 0 && point.x < worldSize && point.y < worldSize;
 	}
 
 	private Terrain chooseTerrain(float water, float height, float grass) {
@@ -168,4 +241,36 @@ public class WorldType {
 		}
 		return spot;
 	}
+
+	/**
+	 * Generates a range of a batch of candidates, splitting it in half until it is a single candidate. Invalid
+	 * candidates are left null.
+	 */
+	private class Candidates extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int worldSize;
+		private final long[] seeds;
+		private final Terrain[][][] results;
+		private final int from, to;
+
+		Candidates(int worldSize, long[] seeds, Terrain[][][] results, int from, int to) {
+			this.worldSize = worldSize;
+			this.seeds = seeds;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				results[from] = generateCandidate(worldSize, seeds[from]);
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new Candidates(worldSize, seeds, results, from, mid),
+						new Candidates(worldSize, seeds, results, mid, to));
+			}
+		}
+	}
 }
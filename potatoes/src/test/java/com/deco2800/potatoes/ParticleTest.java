@@ -1,15 +1,24 @@
 package com.deco2800.potatoes;
 
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.deco2800.potatoes.managers.CameraManager;
 import com.deco2800.potatoes.managers.GameManager;
 import com.deco2800.potatoes.managers.ParticleManager;
 import com.deco2800.potatoes.renderering.particles.ParticleEmitter;
+import com.deco2800.potatoes.renderering.particles.ParticleTextureCache;
+import com.deco2800.potatoes.renderering.particles.types.BasicParticleType;
+import com.deco2800.potatoes.renderering.particles.types.ParticleType;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
-public class ParticleTest {
+public class ParticleTest extends BaseTest {
 
     ParticleManager particleManager;
     ParticleEmitter particleEmitter;
@@ -97,4 +106,115 @@ public class ParticleTest {
         particleEmitter.getParticleTypes();
     }
 
+    @Test
+    public void testSpawnAndExpire() {
+        // 10 particles per 5ms cycle, each living for 20ms
+        ParticleType type = new BasicParticleType(100, 20.0f, 5.0f, 10, mock(Texture.class));
+        particleEmitter = new ParticleEmitter(0, 0, type);
+        particleManager.addParticleEmitter(0.0f, particleEmitter);
+
+        particleManager.onTick(5);
+        assertEquals(10, type.getParticleCount());
+        assertEquals(10, particleManager.getParticlePool().getLiveCount());
+
+        particleManager.onTick(30);
+        // The first particles have expired, and 6 more cycles have passed
+        assertEquals(60, type.getParticleCount());
+        assertEquals(60, particleManager.getParticlePool().getLiveCount());
+
+        particleManager.stopEmitter(particleEmitter);
+        particleManager.onTick(20);
+        assertEquals(0, particleManager.getParticlePool().getLiveCount());
+        assertEquals(true, particleManager.getEmitters().isEmpty());
+    }
+
+    @Test
+    public void testForceStopFreesParticles() {
+        ParticleType type = new BasicParticleType(100, 1000.0f, 5.0f, 10, mock(Texture.class));
+        particleEmitter = new ParticleEmitter(0, 0, type);
+        particleManager.addParticleEmitter(0.0f, particleEmitter);
+        particleManager.onTick(20);
+        assertEquals(40, particleManager.getParticlePool().getLiveCount());
+
+        particleManager.forceStopEmitter(particleEmitter);
+        assertEquals(0, type.getParticleCount());
+        assertEquals(0, particleManager.getParticlePool().getLiveCount());
+    }
+
+    @Test
+    public void testSpritesSharedAndReleased() {
+        Texture white = mock(Texture.class);
+        ParticleTextureCache cache = new ParticleTextureCache(() -> white);
+        particleManager = new ParticleManager(cache);
+
+        ParticleType first = new BasicParticleType(100, 1000.0f, 5.0f, 10, Color.RED, 7, 7);
+        ParticleType second = new BasicParticleType(100, 1000.0f, 5.0f, 10, Color.RED, 7, 7);
+        ParticleEmitter firstEmitter = new ParticleEmitter(0, 0, first);
+        ParticleEmitter secondEmitter = new ParticleEmitter(0, 0, second);
+        particleManager.addParticleEmitter(0.0f, firstEmitter);
+        particleManager.addParticleEmitter(10.0f, secondEmitter);
+        assertEquals(first.getSprite(), second.getSprite());
+        assertEquals(1, cache.size());
+
+        particleManager.forceStopEmitter(firstEmitter);
+        assertEquals(null, first.getSprite());
+        assertEquals(true, cache.isLoaded());
+
+        // The second emitter times out, then releases the last sprite once its particles have expired
+        particleManager.onTick(10);
+        particleManager.onTick(1000);
+        assertEquals(true, particleManager.getEmitters().isEmpty());
+        assertEquals(false, cache.isLoaded());
+        verify(white).dispose();
+    }
+
+    @Test
+    public void testParticleLimit() {
+        particleManager.setParticleLimit(50);
+        ParticleType type = new BasicParticleType(100, 1000.0f, 5.0f, 100, mock(Texture.class));
+        type.setPriority(ParticleType.Priority.HIGH);
+        particleManager.addParticleEmitter(0.0f, new ParticleEmitter(0, 0, type));
+
+        particleManager.onTick(5);
+        assertEquals(50, particleManager.getLiveParticles());
+        assertEquals(50, particleManager.getSpawnedParticles());
+        assertEquals(50, particleManager.getDroppedParticles());
+        assertEquals(0, particleManager.getCulledParticles());
+    }
+
+    @Test
+    public void testLowPriorityThrottled() {
+        particleManager.setParticleLimit(100);
+        ParticleType high = new BasicParticleType(60, 1000.0f, 5.0f, 60, mock(Texture.class));
+        high.setPriority(ParticleType.Priority.HIGH);
+        ParticleType low = new BasicParticleType(10, 1000.0f, 5.0f, 10, mock(Texture.class));
+        low.setPriority(ParticleType.Priority.LOW);
+        particleManager.addParticleEmitter(0.0f, new ParticleEmitter(0, 0, high));
+        particleManager.addParticleEmitter(0.0f, new ParticleEmitter(0, 0, low));
+
+        // With 60% of the limit in use, low priority particles spawn at (1 - 0.6) / (1 - 0.25) of their rate
+        particleManager.onTick(5);
+        assertEquals(60, high.getParticleCount());
+        assertEquals(5, low.getParticleCount());
+        assertEquals(5, particleManager.getCulledParticles());
+        assertEquals(0, particleManager.getDroppedParticles());
+    }
+
+    @Test
+    public void testOffScreenCulled() {
+        GameManager.get().getManager(CameraManager.class).setCamera(new OrthographicCamera(800, 600));
+        ParticleType low = new BasicParticleType(100, 1000.0f, 5.0f, 100, mock(Texture.class));
+        low.setPriority(ParticleType.Priority.LOW);
+        ParticleType normal = new BasicParticleType(100, 1000.0f, 5.0f, 100, mock(Texture.class));
+        ParticleType onScreen = new BasicParticleType(100, 1000.0f, 5.0f, 100, mock(Texture.class));
+        particleManager.addParticleEmitter(0.0f, new ParticleEmitter(5000, 5000, low, normal));
+        particleManager.addParticleEmitter(0.0f, new ParticleEmitter(100, 100, onScreen));
+
+        particleManager.onTick(5);
+        assertEquals(0, low.getParticleCount());
+        assertEquals(25, normal.getParticleCount());
+        assertEquals(100, onScreen.getParticleCount());
+        assertEquals(175, particleManager.getCulledParticles());
+    }
+
 }
@@ -51,6 +51,14 @@ public class Render3DTest extends BaseTest {
 		Render3D.screenToWorldCoordiates(10, 10);
 		
 	}
+
+	@Test
+	public void screenToWorldReversesWorldToScreen() {
+		Vector2 screen = Render3D.worldToScreenCoordinates(12.5f, 30, 0);
+		Vector2 world = Render3D.screenToWorldCoordinates(screen.x, screen.y);
+		assertEquals(12.5f, world.x, 0.001);
+		assertEquals(30, world.y, 0.001);
+	}
 	
 	
 
@@ -0,0 +1,59 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Small timing helpers shared by the benchmarks in this package. The benchmarks are plain main
+ * classes rather than tests, so they don't slow down the test suite. Run them with
+ * {@code gradlew benchmark -Pbench=<ClassName>}.
+ */
+public final class Benchmark {
+
+	private Benchmark() {
+		// Static helpers only
+	}
+
+	/**
+	 * Runs the given task warmup times untimed, then iterations times, and returns the mean time
+	 * taken per run in milliseconds.
+	 */
+	public static double timeMillis(Runnable task, int warmup, int iterations) {
+		for (int i = 0; i < warmup; i++) {
+			task.run();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			task.run();
+		}
+		return (System.nanoTime() - start) / 1e6 / iterations;
+	}
+
+	/**
+	 * Runs the given task iterations times and returns the mean number of bytes allocated per run
+	 * by this thread. The task should already be warmed up, so JIT compilation doesn't count.
+	 */
+	public static double bytesPerRun(Runnable task, int iterations) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long start = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < iterations; i++) {
+			task.run();
+		}
+		return (double) (threads.getThreadAllocatedBytes(thread) - start) / iterations;
+	}
+
+	/**
+	 * Prints a single result row in a consistent format.
+	 */
+	public static void report(String name, int size, double millis) {
+		System.out.println(String.format("%-40s n=%-8d %10.4f ms", name, size, millis));
+	}
+
+	/**
+	 * Prints a single result row with allocation in a consistent format.
+	 */
+	public static void report(String name, int size, double millis, double bytes) {
+		System.out.println(String.format("%-40s n=%-8d %10.4f ms %10.1f B/op", name, size, millis, bytes));
+	}
+}
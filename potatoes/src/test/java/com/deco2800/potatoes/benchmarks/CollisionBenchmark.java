@@ -0,0 +1,81 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.Random;
+
+import com.deco2800.potatoes.collisions.Circle2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.WorldManager;
+import com.deco2800.potatoes.worlds.World;
+
+/**
+ * Measures the cost of one movement tick for every solid mobile entity in a world, using the
+ * collision broad-phase, against the old approach of checking every pair of entities.
+ */
+public class CollisionBenchmark {
+
+	private static final int[] SIZES = { 100, 1000, 10000 };
+
+	private CollisionBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		for (int size : SIZES) {
+			World world = populate(size);
+			AbstractEntity[] entities = world.getEntities().values().toArray(new AbstractEntity[0]);
+
+			Benchmark.report("broad-phase movement", size, Benchmark.timeMillis(() -> {
+				for (AbstractEntity e : entities) {
+					e.onTickMovement();
+				}
+			}, 5, 20));
+
+			Benchmark.report("broad-phase tick with index updates", size, Benchmark.timeMillis(() -> {
+				for (AbstractEntity e : entities) {
+					e.onTickMovement();
+				}
+				world.updatePositions();
+			}, 5, 20));
+
+			// Reference: the narrow phase every entity used to run against every other entity
+			Benchmark.report("all pairs tick", size, Benchmark.timeMillis(() -> {
+				int hits = 0;
+				for (AbstractEntity e : entities) {
+					for (AbstractEntity other : world.getEntities().values()) {
+						if (e != other && e.collidesWith(other)) {
+							hits++;
+						}
+					}
+				}
+				if (hits < 0) {
+					throw new IllegalStateException();
+				}
+			}, 1, size > 1000 ? 1 : 5));
+		}
+	}
+
+	private static World populate(int size) {
+		GameManager.resetState();
+		World world = new World();
+		world.setWidth(WorldManager.WORLD_SIZE);
+		world.setLength(WorldManager.WORLD_SIZE);
+		GameManager.get().setWorld(world);
+
+		Random random = new Random(0);
+		for (int i = 0; i < size; i++) {
+			SolidEntity entity = new SolidEntity(random.nextFloat() * WorldManager.WORLD_SIZE,
+					random.nextFloat() * WorldManager.WORLD_SIZE);
+			entity.setMoveAngle((float) (random.nextFloat() * Math.PI * 2));
+			world.addEntity(entity);
+		}
+		return world;
+	}
+
+	private static class SolidEntity extends AbstractEntity {
+		public SolidEntity(float x, float y) {
+			super(new Circle2D(x, y, 0.4f), true, false, true, 1, 1, 0, 0, "");
+			setMoveSpeed(0.05f);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.deco2800.potatoes.entities.Tickable;
+import com.deco2800.potatoes.entities.TimeEvent;
+import com.deco2800.potatoes.managers.EventManager;
+
+/**
+ * Measures ticking 10^4 to 10^5 registered events, repeating every 0.1 to 2 seconds like tree, enemy and animation
+ * events, and unregistering every event of one tickable. Ticking every event each step, as the event manager used
+ * to, is measured alongside for comparison.
+ */
+public class EventManagerBenchmark {
+
+	private static final int[] EVENTS = { 10000, 30000, 100000 };
+	// Events per tickable, e.g. an enemy's attack, movement and animation
+	private static final int EVENTS_PER_TICKABLE = 4;
+	private static final long STEP_MILLIS = 16;
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 1000;
+
+	private EventManagerBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		for (int count : EVENTS) {
+			Random random = new Random(0);
+			EventManager eventManager = new EventManager();
+			List<Tickable> tickables = new ArrayList<>();
+			List<TimeEvent<Tickable>> events = new ArrayList<>();
+			for (int i = 0; i < count / EVENTS_PER_TICKABLE; i++) {
+				Tickable tickable = time -> { };
+				tickables.add(tickable);
+				for (int j = 0; j < EVENTS_PER_TICKABLE; j++) {
+					TimeEvent<Tickable> event = TimeEvent.createWithSimpleAction(100 + random.nextInt(1900), true,
+							() -> { });
+					event.setProgress(random.nextInt(event.getResetAmount()) + 1);
+					eventManager.registerEvent(tickable, event);
+					events.add(copyOf(event));
+				}
+			}
+
+			Benchmark.report("scheduled tick", count,
+					Benchmark.timeMillis(() -> eventManager.onTick(STEP_MILLIS), WARMUP, ITERATIONS));
+			Benchmark.report("tick every event", count, Benchmark.timeMillis(() -> {
+				// As the event manager did, apart from the respawn GUI
+				List<TimeEvent<Tickable>> finished = new ArrayList<>();
+				for (int i = 0; i < events.size(); i++) {
+					TimeEvent<Tickable> event = events.get(i);
+					event.decreaseProgress(STEP_MILLIS, null);
+					if (event.isCompleted()) {
+						finished.add(event);
+					}
+				}
+			}, WARMUP, ITERATIONS));
+
+			int[] next = { 0 };
+			Benchmark.report("unregister a tickable's events", count, Benchmark.timeMillis(() -> {
+				Tickable tickable = tickables.get(next[0]++ % tickables.size());
+				eventManager.unregisterAll(tickable);
+			}, 0, Math.min(ITERATIONS, tickables.size())));
+		}
+	}
+
+	/**
+	 * Copies an event with the same timing, to tick outside the manager
+	 */
+	private static TimeEvent<Tickable> copyOf(TimeEvent<Tickable> event) {
+		TimeEvent<Tickable> copy = TimeEvent.createWithSimpleAction(event.getResetAmount(), true, () -> { });
+		copy.setProgress(event.getProgress());
+		return copy;
+	}
+}
@@ -0,0 +1,61 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.awt.Point;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import com.deco2800.potatoes.managers.WorldManager;
+import com.deco2800.potatoes.util.GridUtil;
+
+/**
+ * Measures flood filling a world sized grid of land, as the land check does for every candidate world, with the flood
+ * fill of points the check used to use and the flood fill of a passable array. Labelling the connected areas of a
+ * grid of random land is measured alongside.
+ */
+public class FloodFillBenchmark {
+
+	private static final int SIZE = WorldManager.WORLD_SIZE;
+	private static final int WARMUP = 100;
+	private static final int ITERATIONS = 500;
+
+	private static Object sink;
+
+	private FloodFillBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		// About two thirds land, scattered at random, so most of it is joined up
+		Random random = new Random(0);
+		boolean[] land = new boolean[SIZE * SIZE];
+		for (int i = 0; i < land.length; i++) {
+			land[i] = random.nextFloat() < 0.65f;
+		}
+		Point start = new Point(SIZE / 2, SIZE / 2);
+		land[start.x * SIZE + start.y] = true;
+
+		Runnable points = () -> {
+			Set<Point> filled = new HashSet<>();
+			GridUtil.genericFloodFill(start, p -> p.x >= 0 && p.y >= 0 && p.x < SIZE && p.y < SIZE
+					&& land[p.x * SIZE + p.y], new HashSet<>(), filled);
+			sink = filled;
+		};
+		Runnable primitive = () -> {
+			BitSet filled = new BitSet(SIZE * SIZE);
+			GridUtil.floodFill(land, SIZE, SIZE, start.x * SIZE + start.y, filled);
+			sink = filled;
+		};
+		int[] labels = new int[SIZE * SIZE];
+		Runnable components = () -> sink = GridUtil.labelComponents(land, SIZE, SIZE, labels);
+
+		int cells = SIZE * SIZE;
+		double millis = Benchmark.timeMillis(points, WARMUP, ITERATIONS);
+		Benchmark.report("flood fill of points", cells, millis, Benchmark.bytesPerRun(points, ITERATIONS));
+		millis = Benchmark.timeMillis(primitive, WARMUP, ITERATIONS);
+		Benchmark.report("flood fill of array", cells, millis, Benchmark.bytesPerRun(primitive, ITERATIONS));
+		millis = Benchmark.timeMillis(components, WARMUP, ITERATIONS);
+		Benchmark.report("label components", cells, millis, Benchmark.bytesPerRun(components, ITERATIONS));
+	}
+}
@@ -0,0 +1,62 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.deco2800.potatoes.collisions.Circle2D;
+import com.deco2800.potatoes.managers.WorldManager;
+import com.deco2800.potatoes.util.FlowField;
+
+/**
+ * Measures building a flow field over a full size world, updating it when a tree is planted, and sampling it once
+ * per enemy.
+ */
+public class FlowFieldBenchmark {
+
+	private static final int SIZE = WorldManager.WORLD_SIZE;
+	private static final int OBSTACLES = 500;
+	private static final int ENEMIES = 1000;
+	private static final int WARMUP = 10;
+	private static final int ITERATIONS = 50;
+
+	private static float sum;
+
+	private FlowFieldBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		Random random = new Random(0);
+		float[] costs = new float[SIZE * SIZE];
+		Arrays.fill(costs, 1);
+		for (int i = 0; i < OBSTACLES; i++) {
+			costs[random.nextInt(SIZE * SIZE)] = Float.POSITIVE_INFINITY;
+		}
+		FlowField field = new FlowField(SIZE, SIZE, costs);
+		field.setGoal(new Circle2D(SIZE / 2f, SIZE / 2f, 1));
+
+		Benchmark.report("full build", SIZE * SIZE, Benchmark.timeMillis(field::rebuild, WARMUP, ITERATIONS));
+
+		// Plant and remove a tree each run, so the field returns to the same state
+		IntArray changed = new IntArray();
+		int tree = (SIZE / 2 + 10) * SIZE + SIZE / 2;
+		changed.add(tree);
+		Benchmark.report("update, tree planted and removed", SIZE * SIZE, Benchmark.timeMillis(() -> {
+			costs[tree] = Float.POSITIVE_INFINITY;
+			field.update(changed);
+			costs[tree] = 1;
+			field.update(changed);
+		}, WARMUP, ITERATIONS) / 2);
+
+		float[] positions = new float[2 * ENEMIES];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = random.nextFloat() * SIZE;
+		}
+		Benchmark.report("sample, per enemy", ENEMIES, Benchmark.timeMillis(() -> {
+			for (int i = 0; i < ENEMIES; i++) {
+				sum += field.getAngle(positions[2 * i], positions[2 * i + 1]);
+			}
+		}, WARMUP, ITERATIONS) / ENEMIES);
+	}
+}
@@ -0,0 +1,82 @@
+package com.deco2800.potatoes.benchmarks;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.graphics.GL20;
+import com.deco2800.potatoes.RocketPotatoes;
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.TextureManager;
+import com.deco2800.potatoes.screens.GameScreen;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Runs a whole game headless, as fast as it will go, and reports how long each minute of game time took to simulate.
+ * For soak testing as well as performance: run with a number of minutes, e.g. gradlew benchmark
+ * -Pbench=GameSimulationBenchmark, and watch the time per minute and the number of entities as the waves go on.
+ *
+ * Nothing is drawn. GL is mocked, only so the screen and its GUIs can be made.
+ */
+public class GameSimulationBenchmark {
+
+	private static final int DEFAULT_MINUTES = 10;
+	private static final long MINUTE_MILLIS = 60 * 1000;
+
+	private GameSimulationBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		int minutes = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MINUTES;
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				mockGL();
+				TextureManager.loadTextures();
+				GameScreen screen = new GameScreen(new RocketPotatoes());
+				double total = 0;
+				for (int minute = 1; minute <= minutes; minute++) {
+					long start = System.nanoTime();
+					long steps = screen.simulate(MINUTE_MILLIS);
+					double millis = (System.nanoTime() - start) / 1e6;
+					total += millis;
+					int entities = GameManager.get().getWorld().getEntities().size();
+					Benchmark.report(String.format("minute %d, %.0fx real time", minute, MINUTE_MILLIS / millis),
+							entities, millis / steps);
+				}
+				Benchmark.report(minutes + " minutes, per step", minutes, total * GameScreen.STEP_MILLIS
+						/ (minutes * MINUTE_MILLIS));
+				Gdx.app.exit();
+			}
+		});
+	}
+
+	/**
+	 * Mocks GL well enough for shaders to compile, without recording calls
+	 */
+	private static void mockGL() {
+		GL20 gl = mock(GL20.class, withSettings().stubOnly());
+		Answer<Void> succeed = invocation -> {
+			int status = (Integer) invocation.getArguments()[1];
+			if (status == GL20.GL_COMPILE_STATUS || status == GL20.GL_LINK_STATUS) {
+				((IntBuffer) invocation.getArguments()[2]).put(0, 1);
+			}
+			return null;
+		};
+		when(gl.glCreateShader(anyInt())).thenReturn(1);
+		when(gl.glCreateProgram()).thenReturn(1);
+		doAnswer(succeed).when(gl).glGetShaderiv(anyInt(), anyInt(), any(IntBuffer.class));
+		doAnswer(succeed).when(gl).glGetProgramiv(anyInt(), anyInt(), any(IntBuffer.class));
+		Gdx.gl = gl;
+		Gdx.gl20 = gl;
+	}
+}
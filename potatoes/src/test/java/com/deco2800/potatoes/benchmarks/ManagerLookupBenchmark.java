@@ -0,0 +1,110 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.deco2800.potatoes.managers.CameraManager;
+import com.deco2800.potatoes.managers.CheatCodeManager;
+import com.deco2800.potatoes.managers.EventManager;
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.GameTimeManager;
+import com.deco2800.potatoes.managers.InputManager;
+import com.deco2800.potatoes.managers.Manager;
+import com.deco2800.potatoes.managers.ParticleManager;
+import com.deco2800.potatoes.managers.PathManager;
+import com.deco2800.potatoes.managers.PlayerManager;
+import com.deco2800.potatoes.managers.ProgressBarManager;
+import com.deco2800.potatoes.managers.SoundManager;
+import com.deco2800.potatoes.managers.TextureManager;
+import com.deco2800.potatoes.managers.WaveManager;
+import com.deco2800.potatoes.managers.WorldManager;
+
+/**
+ * Measures a frame's worth of GameManager.getManager lookups for 500 entities, each looking up the managers entities
+ * use most, compared to searching the list of managers for each one as getManager used to.
+ *
+ * The managers are made in about the order the game makes them, as the search took longer for those made later.
+ */
+public class ManagerLookupBenchmark {
+
+	private static final int ENTITIES = 500;
+	private static final int WARMUP = 2000;
+	private static final int ITERATIONS = 10000;
+
+	// In about the order the game makes them
+	private static final List<Class<? extends Manager>> TYPES = new ArrayList<>();
+	static {
+		TYPES.add(TextureManager.class);
+		TYPES.add(SoundManager.class);
+		TYPES.add(InputManager.class);
+		TYPES.add(PlayerManager.class);
+		TYPES.add(WaveManager.class);
+		TYPES.add(GameTimeManager.class);
+		TYPES.add(CameraManager.class);
+		TYPES.add(ProgressBarManager.class);
+		TYPES.add(CheatCodeManager.class);
+		TYPES.add(EventManager.class);
+		TYPES.add(WorldManager.class);
+		TYPES.add(ParticleManager.class);
+		TYPES.add(PathManager.class);
+	}
+
+	// What each entity looks up in a frame, e.g. to tick, move and be drawn
+	private static final List<Class<? extends Manager>> LOOKUPS = new ArrayList<>();
+	static {
+		LOOKUPS.add(TextureManager.class);
+		LOOKUPS.add(PlayerManager.class);
+		LOOKUPS.add(EventManager.class);
+		LOOKUPS.add(SoundManager.class);
+		LOOKUPS.add(WorldManager.class);
+		LOOKUPS.add(ParticleManager.class);
+		LOOKUPS.add(PathManager.class);
+		LOOKUPS.add(ProgressBarManager.class);
+	}
+
+	private static Object sink;
+
+	private ManagerLookupBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		List<Manager> managers = new ArrayList<>();
+		for (Class<? extends Manager> type : TYPES) {
+			managers.add(GameManager.get().getManager(type));
+		}
+
+		Runnable searched = () -> {
+			for (int entity = 0; entity < ENTITIES; entity++) {
+				for (int i = 0; i < LOOKUPS.size(); i++) {
+					sink = search(managers, LOOKUPS.get(i));
+				}
+			}
+		};
+		Runnable indexed = () -> {
+			for (int entity = 0; entity < ENTITIES; entity++) {
+				for (int i = 0; i < LOOKUPS.size(); i++) {
+					sink = GameManager.get().getManager(LOOKUPS.get(i));
+				}
+			}
+		};
+
+		int lookups = ENTITIES * LOOKUPS.size();
+		double millis = Benchmark.timeMillis(searched, WARMUP, ITERATIONS);
+		Benchmark.report("searching the list, per frame", lookups, millis, Benchmark.bytesPerRun(searched, ITERATIONS));
+		millis = Benchmark.timeMillis(indexed, WARMUP, ITERATIONS);
+		Benchmark.report("getManager, per frame", lookups, millis, Benchmark.bytesPerRun(indexed, ITERATIONS));
+	}
+
+	/**
+	 * Finds a manager the way getManager used to
+	 */
+	private static Manager search(List<Manager> managers, Class<?> type) {
+		for (Manager m : managers) {
+			if (m.getClass() == type) {
+				return m;
+			}
+		}
+		return null;
+	}
+}
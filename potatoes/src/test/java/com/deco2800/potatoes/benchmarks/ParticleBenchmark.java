@@ -0,0 +1,43 @@
+package com.deco2800.potatoes.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.deco2800.potatoes.managers.ParticleManager;
+import com.deco2800.potatoes.renderering.particles.ParticleEmitter;
+import com.deco2800.potatoes.renderering.particles.types.BasicParticleType;
+
+/**
+ * Measures the heap used to create the particle manager, and the cost of a tick that spawns a burst of particles
+ * (like an enemy death) while many particles are already alive.
+ */
+public class ParticleBenchmark {
+
+	private static final int[] LIVE = { 10000, 100000, 500000 };
+	// Particles spawned each tick, as in an enemy death
+	private static final int BURST = 512;
+	private static final int ITERATIONS = 50;
+
+	private ParticleBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		Benchmark.report("create manager", 1, Benchmark.timeMillis(ParticleManager::new, 0, 1),
+				Benchmark.bytesPerRun(ParticleManager::new, 1));
+
+		Texture texture = mock(Texture.class);
+		for (int live : LIVE) {
+			ParticleManager manager = new ParticleManager();
+			// Each particle lasts long enough that the number alive settles at live
+			BasicParticleType type = new BasicParticleType(live + BURST, live / BURST, 0, BURST, texture);
+			manager.addParticleEmitter(0, new ParticleEmitter(0, 0, type));
+			// Run until particles have started expiring, so free slots are scattered through the pool
+			for (int i = 0; i < 2 * live / BURST; i++) {
+				manager.onTick(1);
+			}
+			Benchmark.report("tick, spawning " + BURST, live,
+					Benchmark.timeMillis(() -> manager.onTick(1), 0, ITERATIONS));
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.lang.reflect.Field;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.deco2800.potatoes.renderering.particles.ParticlePool;
+import com.deco2800.potatoes.renderering.particles.types.BasicParticleType;
+import com.deco2800.potatoes.renderering.particles.types.ParticleType;
+import org.objenesis.ObjenesisStd;
+
+/**
+ * Measures updating and drawing 10^5 to 10^6 live particles of one type, updating on the game thread alone and in
+ * fork/join chunks.
+ *
+ * Drawing uses a real SpriteBatch made without a GL context, so the time is what it costs the CPU to fill the batch's
+ * vertices. The batch is emptied between runs instead of being flushed to the GPU.
+ */
+public class ParticleSimulationBenchmark {
+
+	private static final int[] LIVE = { 100000, 300000, 1000000 };
+	private static final int WARMUP = 5;
+	private static final int ITERATIONS = 20;
+
+	private ParticleSimulationBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) throws ReflectiveOperationException {
+		Texture texture = new ObjenesisStd().newInstance(SizedTexture.class);
+		SpriteBatch batch = recordingBatch(LIVE[LIVE.length - 1]);
+		Field idx = SpriteBatch.class.getDeclaredField("idx");
+		idx.setAccessible(true);
+
+		for (int live : LIVE) {
+			ParticlePool pool = new ParticlePool();
+			// Spawn every particle in the first tick. They live far longer than the benchmark runs
+			BasicParticleType type = new BasicParticleType(live, Float.MAX_VALUE, 0, live, texture);
+			type.onTick(0, pool, 0, 0, true);
+
+			type.setParallelThreshold(Integer.MAX_VALUE);
+			Benchmark.report("update, sequential", live,
+					Benchmark.timeMillis(() -> type.onTick(0.001, pool, 0, 0, true), WARMUP, ITERATIONS));
+			type.setParallelThreshold(ParticleType.PARALLEL_THRESHOLD);
+			Benchmark.report("update, fork/join", live,
+					Benchmark.timeMillis(() -> type.onTick(0.001, pool, 0, 0, true), WARMUP, ITERATIONS));
+			Benchmark.report("draw", live, Benchmark.timeMillis(() -> {
+				type.draw(batch);
+				try {
+					idx.setInt(batch, 0);
+				} catch (IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+			}, WARMUP, ITERATIONS));
+		}
+	}
+
+	/**
+	 * Creates a SpriteBatch, already begun, that can hold the given number of sprites without flushing.
+	 */
+	private static SpriteBatch recordingBatch(int sprites) throws ReflectiveOperationException {
+		// Skip the constructor, which needs GL
+		SpriteBatch batch = new ObjenesisStd().newInstance(SpriteBatch.class);
+		set(batch, "vertices", new float[sprites * 20]);
+		set(batch, "tempColor", new Color(1, 1, 1, 1));
+		set(batch, "drawing", true);
+		batch.setColor(Color.WHITE);
+		return batch;
+	}
+
+	/**
+	 * An 8x8 texture with no GL data, so drawing it costs the same as drawing a real one.
+	 */
+	private static class SizedTexture extends Texture {
+		private SizedTexture() {
+			// Never called, instances are made without running a constructor
+			super((String) null);
+		}
+
+		@Override
+		public int getWidth() {
+			return 8;
+		}
+
+		@Override
+		public int getHeight() {
+			return 8;
+		}
+	}
+
+	private static void set(SpriteBatch batch, String name, Object value) throws ReflectiveOperationException {
+		Field field = SpriteBatch.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(batch, value);
+	}
+}
@@ -0,0 +1,94 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Point2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.util.MinimumSpanningTree;
+import com.deco2800.potatoes.util.ObstacleIndex;
+import com.deco2800.potatoes.worlds.World;
+
+/**
+ * Measures the latency of a single path request on node graphs of different sizes, in a world
+ * with a handful of static obstacles, and the cost of building and updating the graph's edges.
+ */
+public class PathBenchmark {
+
+	private static final int[] SIZES = { 100, 500, 2000 };
+	private static final int WORLD_SIZE = 100;
+	private static final int OBSTACLES = 20;
+	private static final int REQUESTS = 5;
+	private static final int WARMUP = 5;
+	private static final int ITERATIONS = 20;
+	private static final int EDGE_WARMUP = 1;
+	private static final int EDGE_ITERATIONS = 3;
+
+	private static int visited;
+
+	private PathBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		Random random = new Random(0);
+		World world = new World();
+		List<AbstractEntity> obstacles = new ArrayList<>();
+		for (int i = 0; i < OBSTACLES; i++) {
+			obstacles.add(new Obstacle(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE));
+		}
+		world.addEntities(obstacles);
+		GameManager.get().setWorld(world);
+		ObstacleIndex index = new ObstacleIndex();
+		index.addAll(obstacles);
+		Obstacle planted = new Obstacle(WORLD_SIZE / 2f, WORLD_SIZE / 2f);
+
+		for (int size : SIZES) {
+			MinimumSpanningTree graph = new MinimumSpanningTree(size);
+			for (int i = 0; i < size; i++) {
+				graph.addVertex(new Point2D(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE), i);
+			}
+			Benchmark.report("edges, world scan", size,
+					Benchmark.timeMillis(graph::initGraphWeightMatrix, EDGE_WARMUP, EDGE_ITERATIONS));
+			graph.setObstacles(index);
+			Benchmark.report("edges, obstacle index", size,
+					Benchmark.timeMillis(graph::initGraphWeightMatrix, EDGE_WARMUP, EDGE_ITERATIONS));
+			// Plant and remove an obstacle each run, so the graph returns to the same state
+			Benchmark.report("edges, obstacle planted and removed", size, Benchmark.timeMillis(() -> {
+				index.add(planted);
+				graph.updateEdgesNear(planted.getMask());
+				index.remove(planted);
+				graph.updateEdgesNear(planted.getMask());
+			}, EDGE_WARMUP, EDGE_ITERATIONS) / 2);
+
+			Point2D[] starts = new Point2D[REQUESTS];
+			Point2D[] goals = new Point2D[REQUESTS];
+			for (int i = 0; i < REQUESTS; i++) {
+				starts[i] = new Point2D(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+				goals[i] = new Point2D(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+			}
+
+			Benchmark.report("path tree, Dijkstra", size, Benchmark.timeMillis(() -> {
+				for (int i = 0; i < REQUESTS; i++) {
+					visited += graph.createTree(goals[i], starts[i]).size();
+				}
+			}, WARMUP, ITERATIONS) / REQUESTS);
+			Benchmark.report("single path, A*", size, Benchmark.timeMillis(() -> {
+				for (int i = 0; i < REQUESTS; i++) {
+					visited += graph.findPath(goals[i], starts[i]).size();
+				}
+			}, WARMUP, ITERATIONS) / REQUESTS);
+		}
+	}
+
+	private static class Obstacle extends AbstractEntity {
+		public Obstacle(float posX, float posY) {
+			super(new Box2D(posX, posY, 8, 2), 8, 2, "obstacle");
+			setStatic(true);
+			setSolid(true);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Point2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.entities.enemies.PathAndTarget;
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.PathManager;
+import com.deco2800.potatoes.worlds.World;
+
+/**
+ * Measures the time the game thread spends finding paths for a wave of enemies spawning at once, generating the
+ * paths straight away compared to requesting them from the path manager's queue.
+ */
+public class PathQueueBenchmark {
+
+	private static final int WORLD_SIZE = 100;
+	private static final int OBSTACLES = 50;
+	private static final int WAVE = 200;
+	private static final int ROUNDS = 5;
+
+	private PathQueueBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		Random random = new Random(0);
+		World world = new World();
+		List<AbstractEntity> obstacles = new ArrayList<>();
+		for (int i = 0; i < OBSTACLES; i++) {
+			obstacles.add(new Obstacle(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE));
+		}
+		world.addEntities(obstacles);
+		GameManager.get().setWorld(world);
+		PathManager paths = GameManager.get().getManager(PathManager.class);
+
+		Point2D[] starts = new Point2D[WAVE];
+		for (int i = 0; i < WAVE; i++) {
+			starts[i] = new Point2D(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+		}
+		Point2D goal = new Point2D(WORLD_SIZE / 2f, WORLD_SIZE / 2f);
+		// Build the graph up front, as it is shared by both
+		paths.generatePath(starts[0], goal);
+
+		for (int round = 0; round < ROUNDS; round++) {
+			long begin = System.nanoTime();
+			for (Point2D start : starts) {
+				paths.generatePath(start, goal);
+			}
+			Benchmark.report("generated, spawn tick", WAVE, (System.nanoTime() - begin) / 1e6);
+		}
+
+		for (int workers : new int[] { 0, 1, 2 }) {
+			paths.setWorkerThreads(workers);
+			for (int round = 0; round < ROUNDS; round++) {
+				long delivered = paths.getDeliveredRequests();
+				long begin = System.nanoTime();
+				for (Point2D start : starts) {
+					paths.requestPath(start, goal, new PathAndTarget(null, null));
+				}
+				paths.onTick(0);
+				double worst = (System.nanoTime() - begin) / 1e6;
+				int ticks = 1;
+				while (paths.getQueueDepth() > 0) {
+					// Roughly a frame between ticks
+					Thread.sleep(16);
+					long tick = System.nanoTime();
+					paths.onTick(ticks++);
+					worst = Math.max(worst, (System.nanoTime() - tick) / 1e6);
+				}
+				Benchmark.report("requested, " + workers + " workers, worst tick", WAVE, worst);
+				System.out.printf("    %d delivered over %d ticks%n", paths.getDeliveredRequests() - delivered, ticks);
+			}
+		}
+		System.out.printf("latency, average %.1f ms, max %.1f ms%n", paths.getAverageLatency(),
+				paths.getMaxLatency());
+	}
+
+	private static class Obstacle extends AbstractEntity {
+		public Obstacle(float posX, float posY) {
+			super(new Box2D(posX, posY, 8, 2), 8, 2, "obstacle");
+			setStatic(true);
+			setSolid(true);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Circle2D;
+import com.deco2800.potatoes.collisions.Shape2D;
+import com.deco2800.potatoes.util.RTree;
+
+/**
+ * Compares building an RTree one insert at a time against a single Sort-Tile-Recursive bulk
+ * load, and the speed of overlap queries on the resulting trees.
+ */
+public class RTreeBulkLoadBenchmark {
+
+	private static final int[] SIZES = { 100, 1000, 10000 };
+	private static final int QUERIES = 1000;
+	private static final int WARMUP = 5;
+	private static final int ITERATIONS = 20;
+
+	private static int visited;
+
+	private RTreeBulkLoadBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		for (int size : SIZES) {
+			Random random = new Random(size);
+			float worldSize = (float) Math.sqrt(size) * 2;
+			Map<Integer, Shape2D> shapes = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				shapes.put(i, new Circle2D(random.nextFloat() * worldSize, random.nextFloat() * worldSize, 0.4f));
+			}
+			List<Box2D> boxes = new ArrayList<>();
+			for (int i = 0; i < QUERIES; i++) {
+				boxes.add(new Box2D(random.nextFloat() * worldSize, random.nextFloat() * worldSize, 4, 4));
+			}
+
+			Benchmark.report("build, insert each", size, Benchmark.timeMillis(() -> insertEach(shapes), WARMUP,
+					ITERATIONS));
+			Benchmark.report("build, bulk load", size, Benchmark.timeMillis(() -> bulkLoad(shapes), WARMUP,
+					ITERATIONS));
+
+			RTree<Integer> inserted = insertEach(shapes);
+			RTree<Integer> loaded = bulkLoad(shapes);
+			Benchmark.report("query, inserted tree", size, Benchmark.timeMillis(() -> query(inserted, boxes),
+					WARMUP, ITERATIONS) / QUERIES);
+			Benchmark.report("query, bulk loaded tree", size, Benchmark.timeMillis(() -> query(loaded, boxes),
+					WARMUP, ITERATIONS) / QUERIES);
+		}
+	}
+
+	private static RTree<Integer> insertEach(Map<Integer, Shape2D> shapes) {
+		RTree<Integer> tree = new RTree<>();
+		for (Map.Entry<Integer, Shape2D> entry : shapes.entrySet()) {
+			tree.insert(entry.getKey(), entry.getValue());
+		}
+		return tree;
+	}
+
+	private static RTree<Integer> bulkLoad(Map<Integer, Shape2D> shapes) {
+		RTree<Integer> tree = new RTree<>();
+		tree.insertAll(shapes);
+		return tree;
+	}
+
+	private static void query(RTree<Integer> tree, List<Box2D> boxes) {
+		for (Box2D box : boxes) {
+			tree.forEachOverlapping(box, key -> visited++);
+		}
+	}
+}
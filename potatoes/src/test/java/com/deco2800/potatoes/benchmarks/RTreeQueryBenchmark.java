@@ -0,0 +1,99 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Circle2D;
+import com.deco2800.potatoes.collisions.Point2D;
+import com.deco2800.potatoes.util.RTree;
+
+/**
+ * Compares time and allocation per query for the allocating RTree queries against the buffer
+ * and visitor variants.
+ */
+public class RTreeQueryBenchmark {
+
+	private static final int SIZE = 10000;
+	private static final int QUERIES = 1000;
+	private static final int WARMUP = 20;
+	private static final int ITERATIONS = 100;
+
+	private static int visited;
+
+	private RTreeQueryBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		Random random = new Random(0);
+		RTree<Integer> tree = new RTree<>();
+		for (int i = 0; i < SIZE; i++) {
+			tree.insert(i, new Circle2D(random.nextFloat() * 150, random.nextFloat() * 150, 0.4f));
+		}
+
+		// Queries are made up front so only the RTree is measured
+		Box2D[] boxes = new Box2D[QUERIES];
+		Point2D[] points = new Point2D[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			boxes[i] = new Box2D(random.nextFloat() * 150, random.nextFloat() * 150, 4, 4);
+			points[i] = new Point2D(random.nextFloat() * 150, random.nextFloat() * 150);
+		}
+		List<Integer> buffer = new ArrayList<>(SIZE);
+		Consumer<Integer> visitor = key -> visited++;
+
+		run("overlap, new list", () -> {
+			for (Box2D box : boxes) {
+				Collection<Integer> result = tree.findOverlapping(box);
+				visited += result.size();
+			}
+		});
+		run("overlap, buffer", () -> {
+			for (Box2D box : boxes) {
+				buffer.clear();
+				tree.findOverlapping(box, buffer);
+			}
+		});
+		run("overlap, visitor", () -> {
+			for (Box2D box : boxes) {
+				tree.forEachOverlapping(box, visitor);
+			}
+		});
+		run("radius, new circle and list", () -> {
+			for (Point2D point : points) {
+				visited += tree.findOverlapping(new Circle2D(point.getX(), point.getY(), 3)).size();
+			}
+		});
+		run("radius, buffer", () -> {
+			for (Point2D point : points) {
+				buffer.clear();
+				tree.findWithinDistance(point.getX(), point.getY(), 3, buffer);
+			}
+		});
+		run("radius, visitor", () -> {
+			for (Point2D point : points) {
+				tree.forEachWithinDistance(point.getX(), point.getY(), 3, visitor);
+			}
+		});
+		run("closest", () -> {
+			for (Point2D point : points) {
+				visited += tree.findClosest(point);
+			}
+		});
+		run("5 nearest, buffer", () -> {
+			for (Point2D point : points) {
+				buffer.clear();
+				tree.findNearest(point, 5, key -> true, buffer);
+			}
+		});
+	}
+
+	private static void run(String name, Runnable task) {
+		double millis = Benchmark.timeMillis(task, WARMUP, ITERATIONS);
+		double bytes = Benchmark.bytesPerRun(task, ITERATIONS);
+		Benchmark.report(name, SIZE, millis / QUERIES, bytes / QUERIES);
+	}
+}
@@ -0,0 +1,92 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.renderering.VisibleEntityList;
+import com.deco2800.potatoes.worlds.World;
+
+/**
+ * Compares building the render order each frame by sorting every entity in the world, as Render3D used to, against
+ * updating the persistent list of entities in view. Entities drift a little each frame, as they do in game, and the
+ * time to move them is reported separately.
+ */
+public class RenderListBenchmark {
+
+	private static final int[] SIZES = { 1000, 10000, 50000 };
+	private static final float VIEW_SIZE = 40;
+	private static final int WARMUP = 10;
+	private static final int ITERATIONS = 50;
+
+	private static int visited;
+
+	private RenderListBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		for (int size : SIZES) {
+			Random random = new Random(0);
+			World world = new World();
+			// Keep the same density of entities as the world grows
+			float worldSize = (float) Math.sqrt(size) * 3;
+			List<AbstractEntity> entities = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				entities.add(new Entity(random.nextFloat() * worldSize, random.nextFloat() * worldSize));
+			}
+			world.addEntities(entities);
+			GameManager.get().setWorld(world);
+			Box2D view = new Box2D(worldSize / 2, worldSize / 2, VIEW_SIZE, VIEW_SIZE);
+
+			Benchmark.report("move entities only", size, Benchmark.timeMillis(() -> {
+				drift(entities, random);
+				world.updatePositions();
+			}, WARMUP, ITERATIONS));
+
+			Benchmark.report("sort whole world", size, Benchmark.timeMillis(() -> {
+				drift(entities, random);
+				world.updatePositions();
+				SortedMap<AbstractEntity, Integer> sorted = new TreeMap<>((a, b) -> {
+					int val = a.compareTo(b);
+					return val == 0 ? 1 : val;
+				});
+				for (Map.Entry<Integer, AbstractEntity> e : world.getEntities().entrySet()) {
+					sorted.put(e.getValue(), e.getKey());
+				}
+				visited += sorted.size();
+			}, WARMUP, ITERATIONS));
+
+			VisibleEntityList list = new VisibleEntityList();
+			Benchmark.report("update visible list", size, Benchmark.timeMillis(() -> {
+				drift(entities, random);
+				world.updatePositions();
+				list.update(world, view);
+				visited += list.getEntities().size();
+			}, WARMUP, ITERATIONS));
+		}
+	}
+
+	/**
+	 * Moves a tenth of the entities slightly, as if they were walking around.
+	 */
+	private static void drift(List<AbstractEntity> entities, Random random) {
+		for (int i = 0; i < entities.size(); i += 10) {
+			AbstractEntity entity = entities.get(i);
+			entity.setPosition(entity.getPosX() + random.nextFloat() * 0.1f - 0.05f,
+					entity.getPosY() + random.nextFloat() * 0.1f - 0.05f);
+		}
+	}
+
+	private static class Entity extends AbstractEntity {
+		public Entity(float posX, float posY) {
+			super(new Box2D(posX, posY, 0.5f, 0.5f), 1, 1, "entity");
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.deco2800.potatoes.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.graphics.GL20;
+import com.deco2800.potatoes.managers.TextureManager;
+
+/**
+ * Measures how long after starting to load textures the main menu can be shown, and how long until every texture has
+ * loaded, loading the way the main menu does: a frame at a time, uploading for a few milliseconds each frame.
+ *
+ * GL is mocked, so the upload itself costs nothing and the times are mostly decoding. Run from the potatoes directory
+ * after gradlew packTextures to measure loading from the atlases, or without them to measure the separate files.
+ */
+public class TextureLoadingBenchmark {
+
+	// As MainMenuScreen
+	private static final int LOADING_MILLIS = 10;
+	private static final int FRAME_MILLIS = 16;
+
+	private TextureLoadingBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		new HeadlessApplication(new ApplicationAdapter() {});
+		Gdx.gl = mock(GL20.class, withSettings().stubOnly());
+		Gdx.gl20 = Gdx.gl;
+
+		long start = System.nanoTime();
+		TextureManager.startLoading();
+		int frames = 0;
+		double menuMillis = -1;
+		while (!TextureManager.updateLoading(LOADING_MILLIS)) {
+			if (menuMillis < 0 && TextureManager.isMenuLoaded()) {
+				menuMillis = (System.nanoTime() - start) / 1e6;
+			}
+			// The rest of the frame
+			Thread.sleep(FRAME_MILLIS - LOADING_MILLIS);
+			frames++;
+		}
+		double totalMillis = (System.nanoTime() - start) / 1e6;
+		if (menuMillis < 0) {
+			menuMillis = totalMillis;
+		}
+		int textures = TextureManager.getTextureFiles().size();
+		Benchmark.report("main menu loaded", textures, menuMillis);
+		Benchmark.report("all loaded, over " + frames + " frames", textures, totalMillis);
+		Gdx.app.exit();
+	}
+}
@@ -0,0 +1,40 @@
+package com.deco2800.potatoes.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.WorldManager;
+import com.deco2800.potatoes.worlds.DesertWorld;
+import com.deco2800.potatoes.worlds.ForestWorld;
+import com.deco2800.potatoes.worlds.IceWorld;
+import com.deco2800.potatoes.worlds.OceanWorld;
+import com.deco2800.potatoes.worlds.VolcanoWorld;
+import com.deco2800.potatoes.worlds.WorldType;
+
+/**
+ * Measures generating the terrain of all five worlds, as the game does at startup, trying one candidate world at a
+ * time and trying several at once on the common fork/join pool after the first.
+ */
+public class WorldGenerationBenchmark {
+
+	private static final WorldType[] WORLDS = { ForestWorld.get(), DesertWorld.get(), IceWorld.get(),
+			OceanWorld.get(), VolcanoWorld.get() };
+	private static final int WARMUP = 3;
+	private static final int ITERATIONS = 10;
+
+	private WorldGenerationBenchmark() {
+		// Run from main
+	}
+
+	public static void main(String[] args) {
+		int[] parallelisms = { 1, 4, ForkJoinPool.commonPool().getParallelism() };
+		for (int parallelism : parallelisms) {
+			Benchmark.report("all worlds, " + parallelism + " at once", WORLDS.length, Benchmark.timeMillis(() -> {
+				GameManager.get().setSeed(0);
+				for (WorldType world : WORLDS) {
+					world.generateWorld(WorldManager.WORLD_SIZE, parallelism);
+				}
+			}, WARMUP, ITERATIONS));
+		}
+	}
+}
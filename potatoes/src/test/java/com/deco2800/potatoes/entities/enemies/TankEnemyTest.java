@@ -7,6 +7,7 @@ import com.deco2800.potatoes.entities.player.Player;
 import com.deco2800.potatoes.entities.projectiles.BallisticProjectile;
 import com.deco2800.potatoes.entities.projectiles.Projectile;
 import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.TextureManager;
 import com.deco2800.potatoes.managers.WorldManager;
 import com.deco2800.potatoes.worlds.ForestWorld;
 import com.deco2800.potatoes.worlds.WorldType;
@@ -52,6 +53,14 @@ public class TankEnemyTest extends BaseTest {
 		}
 
 	}
+	@Test
+	public void spriteFrames() {
+		tank1.setEnemyStatus("_attack");
+		tank1.setDirectionToCoords(5, 5);
+		Assert.assertTrue(tank1.getTexture().matches("bear_attack_(N|NE|E|SE|S|SW|W|NW)_1"));
+		Assert.assertEquals(TextureManager.getFrameId(tank1.getTexture()), tank1.getTextureFrame());
+	}
+
 	@Test
 	public void bearTickTest(){
 		tank1.onTick(4);
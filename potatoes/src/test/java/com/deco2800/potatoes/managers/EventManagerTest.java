@@ -11,6 +11,8 @@ import org.junit.Test;
 
 import com.deco2800.potatoes.TimeEventTest.TestTimeEvent;
 import com.deco2800.potatoes.entities.Tickable;
+import com.deco2800.potatoes.entities.TimeEvent;
+import com.deco2800.potatoes.entities.player.Player;
 
 public class EventManagerTest {
 	EventManager eventManager;
@@ -88,4 +90,97 @@ public class EventManagerTest {
 		assertArrayEquals("Ticking all events didn't run all actions", actionCounts, results);
 	}
 
+	@Test
+	public void progressFromClock() {
+		TestTimeEvent<Tickable> event = new TestTimeEvent<>();
+		event.setResetAmount(100);
+		event.reset();
+		eventManager.registerEvent(tickable1, event);
+		eventManager.onTick(30);
+		assertEquals(70, event.getProgress());
+		assertEquals(0, event.getActionCount());
+
+		// Setting the progress moves it in the schedule
+		event.setProgress(10);
+		eventManager.onTick(10);
+		assertEquals(1, event.getActionCount());
+		assertEquals(100, event.getProgress());
+
+		// Overdue by more than a reset runs it again
+		eventManager.onTick(250);
+		assertEquals(3, event.getActionCount());
+		assertEquals(50, event.getProgress());
+
+		// The progress is handed back once unregistered
+		eventManager.unregisterEvent(tickable1, event);
+		eventManager.onTick(1000);
+		assertEquals(50, event.getProgress());
+		assertNull(event.getEventManager());
+	}
+
+	@Test
+	public void completedUnregistered() {
+		TestTimeEvent<Tickable> event = new TestTimeEvent<>();
+		event.setDoReset(false);
+		event.setProgress(20);
+		eventManager.registerEvent(tickable1, event);
+		assertEquals(6, eventManager.getEventCount());
+		eventManager.onTick(20);
+		eventManager.onTick(20);
+		assertEquals(1, event.getActionCount());
+		assertEquals(0, event.getProgress());
+		assertTrue(event.isCompleted());
+		assertEquals(5, eventManager.getEventCount());
+	}
+
+	@Test
+	public void dueOrder() {
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			int due = (i * 37) % 50 + 1;
+			TimeEvent<Tickable> event = TimeEvent.createWithSimpleAction(0, false, () -> order.add(due));
+			event.setProgress(due);
+			eventManager.registerEvent(tickable2, event);
+		}
+		for (int i = 0; i < 50; i++) {
+			eventManager.onTick(1);
+			assertEquals(i + 1, order.size());
+			assertEquals(i + 1, (int) order.get(i));
+		}
+	}
+
+	@Test
+	public void registerAgainMoves() {
+		TestTimeEvent<Tickable> event = events.get(0);
+		eventManager.registerEvent(tickable2, event);
+		eventManager.unregisterAll(tickable1);
+		eventManager.onTick(1);
+		assertEquals(1, event.getActionCount());
+		assertEquals(0, events.get(1).getActionCount());
+		assertEquals(3, eventManager.getEventCount());
+	}
+
+	@Test
+	public void actionUnregisters() {
+		TimeEvent<Tickable> event = TimeEvent.createWithSimpleAction(1, true,
+				() -> eventManager.unregisterAll(tickable1));
+		eventManager.registerEvent(tickable1, event);
+		eventManager.onTick(1);
+		eventManager.onTick(1);
+		assertEquals(2, eventManager.getEventCount());
+		assertEquals(1, events.get(0).getActionCount());
+		assertEquals(2, events.get(3).getActionCount());
+	}
+
+	@Test
+	public void playerEventsWithoutGui() {
+		// Nothing pushes to the respawn GUI, which isn't made here
+		Player player = new Player();
+		TestTimeEvent<Tickable> event = new TestTimeEvent<>();
+		eventManager.registerEvent(player, event);
+		eventManager.onTick(1);
+		assertEquals(1, event.getActionCount());
+		assertNull(player.getRespawnProgress());
+	}
+
 }
@@ -0,0 +1,70 @@
+package com.deco2800.potatoes.managers;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.deco2800.potatoes.worlds.World;
+
+public class GameManagerTest {
+
+	/**
+	 * A manager of a subtype, which is looked up separately from its supertype
+	 */
+	public static class SubEventManager extends EventManager {
+	}
+
+	@Before
+	public void setup() {
+		GameManager.get().clearManagers();
+	}
+
+	@After
+	public void tearDown() {
+		GameManager.get().clearManagers();
+	}
+
+	@Test
+	public void createdOnce() {
+		CheatCodeManager cheats = GameManager.get().getManager(CheatCodeManager.class);
+		assertNotNull(cheats);
+		assertSame(cheats, GameManager.get().getManager(CheatCodeManager.class));
+		GameManager.get().clearManagers();
+		assertNotSame(cheats, GameManager.get().getManager(CheatCodeManager.class));
+	}
+
+	@Test
+	public void firstAddedOfExactType() {
+		EventManager first = new EventManager();
+		GameManager.get().addManager(first);
+		GameManager.get().addManager(new EventManager());
+		assertSame(first, GameManager.get().getManager(EventManager.class));
+
+		SubEventManager sub = new SubEventManager();
+		GameManager.get().addManager(sub);
+		assertSame(sub, GameManager.get().getManager(SubEventManager.class));
+		assertSame(first, GameManager.get().getManager(EventManager.class));
+	}
+
+	@Test
+	public void worldManagersSwapped() {
+		World first = new World();
+		World second = new World();
+		GameManager.get().setWorld(first);
+		EventManager firstEvents = GameManager.get().getManager(EventManager.class);
+		CheatCodeManager cheats = GameManager.get().getManager(CheatCodeManager.class);
+
+		// A new world gets its own event manager, and the other managers stay the same
+		GameManager.get().setWorld(second);
+		EventManager secondEvents = GameManager.get().getManager(EventManager.class);
+		assertNotSame(firstEvents, secondEvents);
+		assertSame(cheats, GameManager.get().getManager(CheatCodeManager.class));
+
+		GameManager.get().setWorld(first);
+		assertSame(firstEvents, GameManager.get().getManager(EventManager.class));
+		GameManager.get().setWorld(second);
+		assertSame(secondEvents, GameManager.get().getManager(EventManager.class));
+	}
+}
@@ -4,7 +4,10 @@ package com.deco2800.potatoes.managers;
 import com.deco2800.potatoes.collisions.Box2D;
 import com.deco2800.potatoes.collisions.Point2D;
 import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.entities.enemies.PathAndTarget;
+import com.deco2800.potatoes.util.FlowField;
 import com.deco2800.potatoes.util.Path;
+import com.deco2800.potatoes.util.PathRequest;
 import com.deco2800.potatoes.worlds.World;
 import org.junit.Test;
 
@@ -91,6 +94,124 @@ public class PathManagerTest {
         assertThat("Finish is not the last point of path",
                 finish.equals(path.goal()), is(equalTo(true)));
     }
+    @Test
+    public void flowFieldAroundObstacle() {
+        TestableBlockingEntity goal = new TestableBlockingEntity(50.5f, 90.5f, 1f, 1f);
+
+        FlowField field = pathManager.getFlowField(goal);
+        assertEquals("Flow field should lead towards the goal",
+                Math.PI / 2, field.getAngle(50.5f, 80.5f), 0.001);
+        float blockedDistance = field.getDistance(50.5f, 10.5f);
+        assertTrue("Flow field should go around the obstacle", blockedDistance > 80);
+
+        // Removing the obstacle opens up the direct route
+        pathManager.notifyStaticEntityRemoved(blockingEntity);
+        field = pathManager.getFlowField(goal);
+        assertEquals(80, field.getDistance(50.5f, 10.5f), 0.001);
+    }
+
+    @Test
+    public void flowFieldDroppedWithGoal() {
+        TestableBlockingEntity goal = new TestableBlockingEntity(50.5f, 90.5f, 1f, 1f);
+
+        FlowField field = pathManager.getFlowField(goal);
+        assertSame(field, pathManager.getFlowField(goal));
+        pathManager.notifyEntityRemoved(goal);
+        assertNotSame(field, pathManager.getFlowField(goal));
+    }
+
+    @Test
+    public void leastRecentlyUsedFlowFieldDropped() {
+        TestableBlockingEntity[] goals = new TestableBlockingEntity[PathManager.MAX_FLOW_FIELDS + 1];
+        FlowField[] fields = new FlowField[goals.length];
+        for (int i = 0; i < goals.length; i++) {
+            goals[i] = new TestableBlockingEntity(i + 0.5f, 90.5f, 1f, 1f);
+        }
+        for (int i = 0; i < goals.length - 1; i++) {
+            fields[i] = pathManager.getFlowField(goals[i]);
+        }
+        // Using the first field again makes the second the least recently used
+        assertSame(fields[0], pathManager.getFlowField(goals[0]));
+        pathManager.getFlowField(goals[goals.length - 1]);
+
+        assertSame(fields[0], pathManager.getFlowField(goals[0]));
+        assertNotSame(fields[1], pathManager.getFlowField(goals[1]));
+    }
+
+    @Test
+    public void requestsSolvedOnTick() {
+        pathManager.setWorkerThreads(0);
+        PathAndTarget receiver = new PathAndTarget(null, null);
+        Point2D finish = new Point2D(50, 90);
+        PathRequest request = pathManager.requestPath(new Point2D(50, 10), finish, receiver);
+
+        assertEquals(request, receiver.getPathRequest());
+        assertEquals(1, pathManager.getQueueDepth());
+        assertNull("Path should not be delivered before a tick", receiver.getPath());
+
+        pathManager.onTick(0);
+        assertTrue(request.isSolved());
+        assertEquals(finish, receiver.getPath().goal());
+        assertNull(receiver.getPathRequest());
+        assertEquals(0, pathManager.getQueueDepth());
+        assertEquals(1, pathManager.getDeliveredRequests());
+        assertTrue(pathManager.getMaxLatency() >= pathManager.getAverageLatency());
+    }
+
+    @Test
+    public void supersededRequestsDropped() {
+        pathManager.setWorkerThreads(0);
+        pathManager.setTickBudget(0);
+        PathAndTarget receiver = new PathAndTarget(null, null);
+        PathRequest first = pathManager.requestPath(new Point2D(0, 0), new Point2D(2, 2), receiver);
+        PathRequest second = pathManager.requestPath(new Point2D(0, 0), new Point2D(3, 3), receiver);
+        assertEquals(2, pathManager.getQueueDepth());
+
+        // The first request is dropped without using up the budget
+        pathManager.onTick(0);
+        assertFalse(first.isSolved());
+        assertTrue(second.isSolved());
+        assertEquals(new Point2D(3, 3), receiver.getPath().goal());
+        assertEquals(0, pathManager.getQueueDepth());
+    }
+
+    @Test
+    public void requestsSolvedOnWorkers() throws InterruptedException {
+        pathManager.setWorkerThreads(2);
+        PathAndTarget receiver = new PathAndTarget(null, null);
+        Point2D finish = new Point2D(50, 90);
+        pathManager.requestPath(new Point2D(50, 10), finish, receiver);
+
+        for (int tick = 0; tick < 500 && receiver.getPath() == null; ++tick) {
+            pathManager.onTick(tick);
+            Thread.sleep(10);
+        }
+        assertEquals(finish, receiver.getPath().goal());
+        assertEquals(0, pathManager.getQueueDepth());
+    }
+
+    @Test
+    public void workerThreadsShared() throws InterruptedException {
+        // Each world has its own PathManager, and none of them are ever shut down
+        for (int i = 0; i < 5; i++) {
+            PathManager manager = new PathManager();
+            manager.setWorkerThreads(2);
+            PathAndTarget receiver = new PathAndTarget(null, null);
+            manager.requestPath(new Point2D(50, 10), new Point2D(50, 90), receiver);
+            for (int tick = 0; tick < 500 && receiver.getPath() == null; ++tick) {
+                manager.onTick(tick);
+                Thread.sleep(10);
+            }
+            assertNotNull(receiver.getPath());
+        }
+        assertTrue(PathManager.getRunningWorkerThreads() <= 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWorkerThreads() {
+        pathManager.setWorkerThreads(-1);
+    }
+
     @Test
     public void pathTest() {
 
@@ -1,24 +1,117 @@
 package com.deco2800.potatoes.managers;
 
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.deco2800.potatoes.BaseTest;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class SoundManagerTest extends BaseTest {
 
     SoundManager soundManager;
 
+    private Audio audio;
+    private Graphics graphics;
+    private Sound sound;
+    private long frameId;
+    private long voiceId;
+
     @Before
     public void setUp() {
         soundManager = GameManager.get().getManager(SoundManager.class);
+        audio = Gdx.audio;
+        graphics = Gdx.graphics;
     }
 
     @After
     public void tearDown() {
         GameManager.get().clearManagers();
+        Gdx.audio = audio;
+        Gdx.graphics = graphics;
+    }
+
+    /**
+     * Replaces the audio with one whose sounds count their voices, and the graphics with one whose frame is frameId
+     */
+    private void mockAudio() {
+        sound = mock(Sound.class);
+        when(sound.play(anyFloat())).thenAnswer(invocation -> ++voiceId);
+        Gdx.audio = mock(Audio.class);
+        when(Gdx.audio.newSound(any(FileHandle.class))).thenReturn(sound);
+        Gdx.graphics = mock(Graphics.class);
+        when(Gdx.graphics.getFrameId()).thenAnswer(invocation -> frameId);
+    }
+
+    @Test
+    public void soundsCached() {
+        mockAudio();
+        frameId = 1;
+        soundManager.playSound("attack.wav");
+        frameId = 2;
+        soundManager.playSound("attack.wav");
+        verify(Gdx.audio, times(1)).newSound(any(FileHandle.class));
+        verify(sound, times(2)).play(anyFloat());
+        assertEquals(1, soundManager.getCacheMisses());
+        assertEquals(1, soundManager.getCacheHits());
+    }
+
+    @Test
+    public void preloadedSoundsCached() {
+        mockAudio();
+        soundManager.preloadSounds("attack.wav", "damage.wav");
+        soundManager.playSound("attack.wav");
+        assertEquals(0, soundManager.getCacheMisses());
+        assertEquals(1, soundManager.getCacheHits());
+    }
+
+    @Test
+    public void samePlaysInOneFrameCoalesced() {
+        mockAudio();
+        frameId = 1;
+        for (int i = 0; i < 30; i++) {
+            soundManager.playSound("attack.wav");
+        }
+        soundManager.playSound("damage.wav");
+        verify(sound, times(2)).play(anyFloat());
+        assertEquals(29, soundManager.getCoalescedPlays());
+    }
+
+    @Test
+    public void oldestVoiceStolen() {
+        mockAudio();
+        soundManager.setVoiceLimit("attack.wav", 2);
+        for (frameId = 1; frameId <= 3; frameId++) {
+            soundManager.playSound("attack.wav");
+        }
+        // The first voice makes room for the third
+        verify(sound).stop(1);
+        verify(sound, times(3)).play(anyFloat());
+        assertEquals(1, soundManager.getDroppedVoices());
+        assertEquals(SoundManager.DEFAULT_VOICE_LIMIT, soundManager.getVoiceLimit("damage.wav"));
+    }
+
+    @Test
+    public void disposeFreesSounds() {
+        mockAudio();
+        soundManager.playSound("attack.wav");
+        soundManager.dispose();
+        verify(sound).dispose();
+        // Loaded again
+        frameId++;
+        soundManager.playSound("attack.wav");
+        verify(Gdx.audio, times(2)).newSound(any(FileHandle.class));
     }
 
     @Test
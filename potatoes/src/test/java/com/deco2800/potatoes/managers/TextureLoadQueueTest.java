@@ -0,0 +1,97 @@
+package com.deco2800.potatoes.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.deco2800.potatoes.BaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TextureLoadQueueTest extends BaseTest {
+	private static final String RING = "resources/placeholderassets/ring.png";
+	private static final String POTATE = "resources/placeholderassets/potate.png";
+	private static final String PROJECTILE = "resources/placeholderassets/projectile.png";
+
+	private TextureLoadQueue queue;
+	private List<Texture> loaded;
+
+	@Before
+	public void setup() {
+		queue = new TextureLoadQueue();
+		loaded = new ArrayList<>();
+	}
+
+	@Test
+	public void emptyIsDone() {
+		assertTrue(queue.update(0));
+		assertTrue(queue.isMenuLoaded());
+		assertEquals(1, queue.getProgress(), 0);
+	}
+
+	@Test
+	public void finishLoadsInOrder() {
+		queue.add(Gdx.files.internal(RING), true, loaded::add);
+		queue.add(Gdx.files.internal(POTATE), false, loaded::add);
+		queue.add(Gdx.files.internal(PROJECTILE), false, loaded::add);
+		assertFalse(queue.isDone());
+		assertFalse(queue.isMenuLoaded());
+		assertEquals(0, queue.getProgress(), 0);
+
+		queue.finish();
+		assertTrue(queue.isDone());
+		assertTrue(queue.isMenuLoaded());
+		assertEquals(1, queue.getProgress(), 0);
+		assertEquals(3, loaded.size());
+		assertEquals(100, loaded.get(0).getWidth());
+		assertEquals(128, loaded.get(1).getWidth());
+	}
+
+	@Test
+	public void updateLoadsOverFrames() throws InterruptedException {
+		queue.add(Gdx.files.internal(RING), true, loaded::add);
+		queue.add(Gdx.files.internal(POTATE), false, loaded::add);
+
+		// Uploads whatever has been decoded each call, until everything has been
+		int frames = 0;
+		while (!queue.update(1)) {
+			assertTrue(queue.getProgress() < 1);
+			Thread.sleep(1);
+			frames++;
+			assertTrue("Textures never loaded", frames < 10000);
+		}
+		assertEquals(2, loaded.size());
+		assertTrue(queue.isMenuLoaded());
+		// Loading every file through update stops the decoding threads
+		assertFalse(queue.isDecoding());
+	}
+
+	@Test
+	public void decodersRestarted() {
+		assertFalse(queue.isDecoding());
+		queue.add(Gdx.files.internal(RING), true, loaded::add);
+		assertTrue(queue.isDecoding());
+		queue.finish();
+		assertFalse(queue.isDecoding());
+
+		queue.add(Gdx.files.internal(POTATE), false, loaded::add);
+		assertTrue(queue.isDecoding());
+		queue.finish();
+		assertEquals(2, loaded.size());
+		assertEquals(128, loaded.get(1).getWidth());
+	}
+
+	@Test
+	public void menuLoadedFirst() {
+		queue.add(Gdx.files.internal(RING), true, loaded::add);
+		queue.add(Gdx.files.internal(POTATE), false, loaded::add);
+		while (!queue.isMenuLoaded()) {
+			queue.update(1);
+		}
+		assertEquals(100, loaded.get(0).getWidth());
+		queue.finish();
+	}
+}
@@ -11,12 +11,16 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.potatoes.entities.Direction;
+import com.deco2800.potatoes.entities.enemies.Moose;
+import com.deco2800.potatoes.worlds.World;
 
 public class TextureManagerTest {
 	
@@ -29,13 +33,15 @@ public class TextureManagerTest {
 
 	@Before
 	public void setUp() {
-
+		// Groups are loaded and acquired by other tests, and by entities which never leave their world
+		TextureManager.resetTextureGroups();
 	}
 
 	@After
 	public void tearDown() {
 		textureManager = null;
 		texture = null;
+		TextureManager.resetTextureGroups();
 	}
 
 	
@@ -48,6 +54,202 @@ public class TextureManagerTest {
 		TextureManager.loadTextures();
     }
 	
+	@Test
+	public void textureFilesListed() {
+		Map<String, String> files = TextureManager.getTextureFiles();
+		Assert.assertEquals("resources/trees/Basic.png", files.get("tree"));
+		Assert.assertEquals("resources/placeholderassets/spacman_ded.png", files.get("spacman_ded"));
+		// Loops of animation frames are listed too
+		Assert.assertEquals("resources/enemies/bear/death/bear_death_W_6.png", files.get("bear_death_W_6"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void textureFilesUnmodifiable() {
+		TextureManager.getTextureFiles().put("tree", "resources/trees/Basic.png");
+	}
+
+	@Test
+	public void regionNames() {
+		Assert.assertEquals("trees/Basic", TextureManager.getRegionName("resources/trees/Basic.png"));
+		Assert.assertEquals("tiles/water-tile", TextureManager.getRegionName("resources/tiles/water-tile.gif"));
+		Assert.assertEquals("other", TextureManager.getRegionName("other"));
+	}
+
+	@Test
+	public void menuTextures() {
+		Assert.assertTrue(TextureManager.isMenuTexture("resources/menu/startMainMenu.png"));
+		Assert.assertTrue(TextureManager.isMenuTexture("resources/player/caveman/idle/caveman_idle_SW_1.png"));
+		Assert.assertTrue(TextureManager.isMenuTexture(TextureManager.getTextureFiles().get("spacman_ded")));
+		Assert.assertFalse(TextureManager.isMenuTexture("resources/player/caveman/walk/caveman_walk_SW_1.png"));
+		Assert.assertFalse(TextureManager.isMenuTexture("resources/trees/Basic.png"));
+	}
+
+	@Test
+	public void repeatedTextures() {
+		Assert.assertTrue(TextureManager.isRepeatedTexture(TextureManager.getTextureFiles().get("water1")));
+		Assert.assertTrue(TextureManager.isRepeatedTexture(TextureManager.getTextureFiles().get("water12")));
+		Assert.assertFalse(TextureManager.isRepeatedTexture(TextureManager.getTextureFiles().get("water_shallow1")));
+		Assert.assertFalse(TextureManager.isRepeatedTexture(TextureManager.getTextureFiles().get("grass_tile_1")));
+	}
+
+	@Test
+	public void textureGroups() {
+		Assert.assertEquals("enemies/bear", TextureManager.getTextureGroup("resources/enemies/bear/walk/bear_walk_E_1.png"));
+		Assert.assertEquals("enemies/moose", TextureManager.getTextureGroup("resources/enemies/moose/moose_E.png"));
+		Assert.assertEquals("worlds/desert", TextureManager.getTextureGroup("resources/portals/Desert_Portal.png"));
+		// Shared by every enemy
+		Assert.assertNull(TextureManager.getTextureGroup("resources/enemies/swipe1.png"));
+		Assert.assertNull(TextureManager.getTextureGroup("resources/trees/Basic.png"));
+		Assert.assertEquals("resources/atlas/enemies_bear.atlas", TextureManager.getAtlasFile("enemies/bear"));
+	}
+
+	@Test
+	public void groupLoadedWhenAcquired() {
+		startHeadless();
+		textureManager = new TextureManager();
+		long budget = TextureManager.getResidencyBudget();
+		try {
+			// Unloads the group if another test left it unused
+			TextureManager.setResidencyBudget(0);
+			TextureManager.acquireTextures("enemies/moose");
+			waitForGroup("enemies/moose");
+			TextureRegion region = textureManager.getTextureRegion("moose_E");
+			int frame = TextureManager.getFrameId("moose_E");
+			Assert.assertSame(region, textureManager.getTextureRegion(frame));
+			Assert.assertEquals(256, region.getRegionWidth());
+			Assert.assertTrue(TextureManager.getResidentBytes("enemies/moose") > 0);
+			Assert.assertTrue(TextureManager.getResidencyReport().contains("enemies/moose"));
+
+			// Kept while referenced, however little the budget
+			Assert.assertTrue(TextureManager.getResidentBytes("enemies/moose") > 0);
+			TextureManager.releaseTextures("enemies/moose");
+			Assert.assertEquals(0, TextureManager.getResidentBytes("enemies/moose"));
+
+			// Drawn as the fallback while it is loaded again, into the same region
+			Assert.assertNotSame(region, textureManager.getTextureRegion("moose_E"));
+			Assert.assertNotSame(region, textureManager.getTextureRegion(frame));
+			waitForGroup("enemies/moose");
+			Assert.assertSame(region, textureManager.getTextureRegion("moose_E"));
+			Assert.assertSame(region, textureManager.getTextureRegion(frame));
+			Assert.assertTrue(TextureManager.getResidentBytes("enemies/moose") > 0);
+		} finally {
+			TextureManager.setResidencyBudget(budget);
+		}
+	}
+
+	@Test
+	public void leastRecentlyUsedGroupUnloaded() {
+		startHeadless();
+		textureManager = new TextureManager();
+		long budget = TextureManager.getResidencyBudget();
+		try {
+			TextureManager.setResidencyBudget(0);
+			textureManager.getTextureRegion("moose_E");
+			waitForGroup("enemies/moose");
+			textureManager.getTextureRegion("desert_portal");
+			waitForGroup("worlds/desert");
+			// The moose's textures are unloaded to make room for the desert's
+			Assert.assertEquals(0, TextureManager.getResidentBytes("enemies/moose"));
+			Assert.assertTrue(TextureManager.getResidentBytes("worlds/desert") > 0);
+		} finally {
+			TextureManager.setResidencyBudget(budget);
+		}
+	}
+
+	@Test
+	public void acquiredWithoutGameRunning() {
+		// Groups are only queued on the render thread, so enemies can be spawned without the game running
+		Files files = Gdx.files;
+		Gdx.files = null;
+		try {
+			TextureManager.acquireTextures("enemies/moose");
+			TextureManager.releaseTextures("enemies/moose");
+		} finally {
+			Gdx.files = files;
+		}
+		Assert.assertFalse(TextureManager.isGroupLoaded("enemies/moose"));
+	}
+
+	@Test
+	public void enemyTexturesReleasedWhenRemoved() {
+		startHeadless();
+		long budget = TextureManager.getResidencyBudget();
+		try {
+			TextureManager.setResidencyBudget(0);
+			World world = new World();
+			Moose moose = new Moose(1, 1);
+			world.addEntity(moose);
+			moose.acquireTextures();
+			waitForGroup("enemies/moose");
+			Assert.assertTrue(TextureManager.getResidentBytes("enemies/moose") > 0);
+
+			// However it leaves the world, not only when it dies
+			world.removeEntity(moose);
+			Assert.assertEquals(0, TextureManager.getResidentBytes("enemies/moose"));
+		} finally {
+			TextureManager.setResidencyBudget(budget);
+		}
+	}
+
+	@Test
+	public void allTexturesReleasedOnReset() {
+		startHeadless();
+		long budget = TextureManager.getResidencyBudget();
+		try {
+			TextureManager.setResidencyBudget(0);
+			TextureManager.acquireTextures("enemies/moose");
+			waitForGroup("enemies/moose");
+			GameManager.get().clearManagers();
+			Assert.assertEquals(0, TextureManager.getResidentBytes("enemies/moose"));
+		} finally {
+			TextureManager.setResidencyBudget(budget);
+		}
+	}
+
+	/**
+	 * Uploads textures of groups each frame, as the game screen does, until the group has been loaded
+	 */
+	private static void waitForGroup(String group) {
+		int frames = 0;
+		while (!TextureManager.isGroupLoaded(group)) {
+			TextureManager.updateGroupLoading(1);
+			frames++;
+			Assert.assertTrue("Textures of " + group + " never loaded", frames < 1000000);
+		}
+	}
+
+	@Test
+	public void frameIds() {
+		int frame = TextureManager.getFrameId("bear_walk_N_1");
+		Assert.assertEquals(frame, TextureManager.getFrameId("bear_walk_N_1"));
+		Assert.assertNotEquals(frame, TextureManager.getFrameId("bear_walk_N_2"));
+		Assert.assertEquals("bear_walk_N_1", TextureManager.getFrameName(frame));
+		Assert.assertEquals(-1, TextureManager.getFrameId(null));
+
+		int[][] frames = TextureManager.getDirectionalFrameIds("bear_walk", 8);
+		Assert.assertEquals(frame, frames[Direction.N.ordinal()][0]);
+		Assert.assertEquals("bear_walk_SW_8", TextureManager.getFrameName(frames[Direction.SW.ordinal()][7]));
+		Assert.assertEquals("moose_E", TextureManager.getFrameName(TextureManager.getDirectionalFrameIds("moose")[Direction.E.ordinal()]));
+	}
+
+	@Test
+	public void regionsByFrameId() {
+		startHeadless();
+		textureManager = new TextureManager();
+		TextureManager.saveTexture("frameTest", "resources/healthproperties/Full_Health_Bar.png");
+		int frame = TextureManager.getFrameId("frameTest");
+		Assert.assertSame(textureManager.getTextureRegion("frameTest"), textureManager.getTextureRegion(frame));
+		Assert.assertSame(textureManager.getTextureRegion("frameTest"), textureManager.getTextureRegion(frame));
+		// Ids without a texture get the same as looking them up by name
+		Assert.assertSame(textureManager.getTextureRegion("noSuchTexture"),
+				textureManager.getTextureRegion(TextureManager.getFrameId("noSuchTexture")));
+	}
+
+	private void startHeadless() {
+		new HeadlessApplication(new GdxTestApplication(), new HeadlessApplicationConfiguration());
+		Gdx.gl = mock(GL20.class);
+	}
+
 	@Test
 	public void getTextureTest() {
 		textureManager = new TextureManager();
@@ -0,0 +1,101 @@
+package com.deco2800.potatoes.renderering;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AtlasPackerTest {
+	private static final String RING = "resources/placeholderassets/ring.png";
+	private static final String POTATE = "resources/placeholderassets/potate.png";
+	// Bigger than AtlasPacker.MAX_PACKED_SIZE
+	private static final String SEAL = "resources/resourceEntities/sealSkin.png";
+
+	private FileHandle dir;
+
+	@Before
+	public void setup() throws IOException {
+		GdxNativesLoader.load();
+		dir = new FileHandle(Files.createTempDirectory("atlas").toFile());
+	}
+
+	@After
+	public void tearDown() {
+		dir.deleteDirectory();
+	}
+
+	@Test
+	public void packsIntoOnePage() throws IOException {
+		FileHandle atlas = dir.child("test.atlas");
+		List<String> files = Arrays.asList(RING, POTATE);
+		assertEquals(1, AtlasPacker.pack(files, atlas));
+		assertTrue(dir.child("test1.png").exists());
+
+		TextureAtlasData data = new TextureAtlasData(atlas, dir, false);
+		assertEquals(1, data.getPages().size);
+		assertEquals(2, data.getRegions().size);
+		for (String file : files) {
+			checkRegion(data, file);
+		}
+	}
+
+	@Test
+	public void smallPagesForFewImages() throws IOException {
+		FileHandle atlas = dir.child("test.atlas");
+		AtlasPacker.pack(Arrays.asList(RING, POTATE), atlas);
+
+		TextureAtlasData data = new TextureAtlasData(atlas, dir, false);
+		assertTrue(data.getPages().first().width < AtlasPacker.PAGE_SIZE);
+	}
+
+	@Test
+	public void largeImagesLeftOut() throws IOException {
+		FileHandle atlas = dir.child("test.atlas");
+		AtlasPacker.pack(Arrays.asList(RING, SEAL), atlas);
+
+		TextureAtlasData data = new TextureAtlasData(atlas, dir, false);
+		assertEquals(1, data.getRegions().size);
+		assertEquals("placeholderassets/ring", data.getRegions().first().name);
+	}
+
+	/**
+	 * Checks the region packed from a file is its size, and has its pixels
+	 */
+	private void checkRegion(TextureAtlasData data, String file) {
+		String name = file.substring("resources/".length(), file.length() - ".png".length());
+		Region region = null;
+		for (Region r : data.getRegions()) {
+			if (r.name.equals(name)) {
+				region = r;
+			}
+		}
+		assertNotNull("No region for " + file, region);
+
+		Pixmap image = new Pixmap(new FileHandle(file));
+		Pixmap page = new Pixmap(region.page.textureFile);
+		assertEquals(image.getWidth(), region.width);
+		assertEquals(image.getHeight(), region.height);
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				int pixel = image.getPixel(x, y);
+				// Only compare visible pixels, the colour of transparent ones doesn't matter
+				if ((pixel & 0xFF) != 0) {
+					assertEquals(pixel, page.getPixel(region.left + x, region.top + y));
+				}
+			}
+		}
+		image.dispose();
+		page.dispose();
+	}
+}
@@ -0,0 +1,115 @@
+package com.deco2800.potatoes.renderering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.renderering.RenderCommandList.Layer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class RenderCommandListTest {
+	private RenderCommandList commands;
+	private TextureRegion grass;
+	private TextureRegion rock;
+	private AbstractEntity[] entities;
+
+	@Before
+	public void setup() {
+		commands = new RenderCommandList();
+		grass = new TextureRegion(mock(Texture.class));
+		rock = new TextureRegion(mock(Texture.class));
+		entities = new AbstractEntity[4];
+		for (int i = 0; i < entities.length; i++) {
+			entities[i] = new TestEntity(i);
+		}
+	}
+
+	@After
+	public void tearDown() {
+		commands = null;
+	}
+
+	@Test
+	public void sortedByLayer() {
+		commands.add(Layer.PROGRESS_BAR, grass, entities[0]);
+		commands.add(Layer.ENTITY, grass, entities[1]);
+		commands.add(Layer.SHADOW, null, entities[2]);
+		commands.sort();
+
+		assertEquals(3, commands.size());
+		assertEquals(Layer.SHADOW, commands.getLayer(0));
+		assertSame(entities[2], commands.getEntity(0));
+		assertNull(commands.getTexture(0));
+		assertEquals(Layer.ENTITY, commands.getLayer(1));
+		assertEquals(Layer.PROGRESS_BAR, commands.getLayer(2));
+		assertSame(grass, commands.getRegion(2));
+		assertSame(grass.getTexture(), commands.getTexture(2));
+	}
+
+	@Test
+	public void depthOrderKept() {
+		commands.add(Layer.ENTITY, rock, entities[0]);
+		commands.add(Layer.ENTITY, grass, entities[1]);
+		commands.add(Layer.ENTITY, rock, entities[2]);
+		commands.sort();
+		for (int i = 0; i < 3; i++) {
+			assertSame(entities[i], commands.getEntity(i));
+		}
+	}
+
+	@Test
+	public void groupedByTexture() {
+		commands.add(Layer.PROJECTILE, rock, entities[0]);
+		commands.add(Layer.PROJECTILE, grass, entities[1]);
+		commands.add(Layer.PROJECTILE, rock, entities[2]);
+		commands.add(Layer.PROJECTILE, grass, entities[3]);
+		commands.sort();
+
+		// rock was seen first, and the order is kept within each texture
+		assertSame(entities[0], commands.getEntity(0));
+		assertSame(entities[2], commands.getEntity(1));
+		assertSame(entities[1], commands.getEntity(2));
+		assertSame(entities[3], commands.getEntity(3));
+	}
+
+	@Test
+	public void groupedBySharedPage() {
+		// Two regions packed into the same atlas page as rock
+		TextureRegion stone = new TextureRegion(rock.getTexture());
+		commands.add(Layer.PROJECTILE, rock, entities[0]);
+		commands.add(Layer.PROJECTILE, grass, entities[1]);
+		commands.add(Layer.PROJECTILE, stone, entities[2]);
+		commands.sort();
+
+		assertSame(entities[0], commands.getEntity(0));
+		assertSame(entities[2], commands.getEntity(1));
+		assertSame(stone, commands.getRegion(1));
+		assertSame(entities[1], commands.getEntity(2));
+	}
+
+	@Test
+	public void growsAndClears() {
+		for (int i = 0; i < 1000; i++) {
+			commands.add(Layer.ENTITY, grass, entities[i % entities.length]);
+		}
+		assertEquals(1000, commands.size());
+		commands.clear();
+		assertEquals(0, commands.size());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void outOfBounds() {
+		commands.getEntity(0);
+	}
+
+	private class TestEntity extends AbstractEntity {
+		public TestEntity(float posX) {
+			super(new Box2D(posX, 0, 1, 1), 0, 0, "");
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.deco2800.potatoes.renderering;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.worlds.World;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class VisibleEntityListTest {
+	private World world;
+	private VisibleEntityList list;
+
+	@Before
+	public void setup() {
+		world = new World();
+		list = new VisibleEntityList();
+	}
+
+	@After
+	public void tearDown() {
+		world = null;
+		list = null;
+	}
+
+	@Test
+	public void sortedBackToFront() {
+		TestEntity front = new TestEntity(5, 9);
+		TestEntity back = new TestEntity(9, 5);
+		TestEntity middle = new TestEntity(5, 5);
+		TestEntity middleRight = new TestEntity(6, 6);
+		world.addEntity(front);
+		world.addEntity(middle);
+		world.addEntity(back);
+		world.addEntity(middleRight);
+
+		list.update(world, new Box2D(5, 5, 20, 20));
+		assertEntities(back, middleRight, middle, front);
+
+		// Moving entities resorts them
+		back.setPosition(1, 9);
+		front.setPosition(9, 1);
+		world.updatePositions();
+		list.update(world, new Box2D(5, 5, 20, 20));
+		assertEntities(front, middleRight, middle, back);
+	}
+
+	@Test
+	public void onlyEntitiesInView() {
+		TestEntity inView = new TestEntity(2, 2);
+		TestEntity outOfView = new TestEntity(50, 50);
+		world.addEntity(inView);
+		world.addEntity(outOfView);
+
+		list.update(world, new Box2D(0, 0, 10, 10));
+		assertEntities(inView);
+
+		outOfView.setPosition(1, 3);
+		world.updatePositions();
+		list.update(world, new Box2D(0, 0, 10, 10));
+		assertEntities(inView, outOfView);
+
+		world.removeEntity(inView);
+		list.update(world, new Box2D(0, 0, 10, 10));
+		assertEntities(outOfView);
+
+		list.clear();
+		assertTrue(list.getEntities().isEmpty());
+	}
+
+	private void assertEntities(AbstractEntity... expected) {
+		List<AbstractEntity> entities = list.getEntities();
+		assertEquals(expected.length, entities.size());
+		for (int i = 0; i < expected.length; i++) {
+			assertSame(expected[i], entities.get(i));
+		}
+	}
+
+	private class TestEntity extends AbstractEntity {
+		public TestEntity(float posX, float posY) {
+			super(new Box2D(posX, posY, 0.5f, 0.5f), 0, 0, "");
+		}
+	}
+}
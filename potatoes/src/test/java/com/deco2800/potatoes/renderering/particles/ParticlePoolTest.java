@@ -0,0 +1,84 @@
+package com.deco2800.potatoes.renderering.particles;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParticlePoolTest {
+
+    private ParticlePool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ParticlePool();
+    }
+
+    @Test
+    public void startsEmpty() {
+        assertEquals(0, pool.getCapacity());
+        assertEquals(0, pool.getLiveCount());
+    }
+
+    @Test
+    public void growsWhenFull() {
+        Set<Integer> obtained = new HashSet<>();
+        for (int i = 0; i < 1000; ++i) {
+            assertTrue("Indices should be unique", obtained.add(pool.obtain()));
+        }
+        assertEquals(1000, pool.getLiveCount());
+        assertTrue(pool.getCapacity() >= 1000);
+        assertEquals(pool.getCapacity(), pool.x.length);
+        assertEquals(pool.getCapacity(), pool.rotation.length);
+    }
+
+    @Test
+    public void freedIndicesReused() {
+        int first = pool.obtain();
+        pool.obtain();
+        int capacity = pool.getCapacity();
+        pool.free(first);
+        assertEquals(1, pool.getLiveCount());
+        assertEquals(first, pool.obtain());
+        assertEquals(capacity, pool.getCapacity());
+    }
+
+    @Test
+    public void valuesKeptWhenGrowing() {
+        int index = pool.obtain();
+        pool.x[index] = 3;
+        pool.lifeTime[index] = 7;
+        int capacity = pool.getCapacity();
+        for (int i = pool.getLiveCount(); i <= capacity; ++i) {
+            pool.obtain();
+        }
+        assertTrue(pool.getCapacity() > capacity);
+        assertEquals(3, pool.x[index], 0.0001f);
+        assertEquals(7, pool.lifeTime[index], 0.0001f);
+    }
+
+    @Test
+    public void limitAndCounts() {
+        pool.setLimit(2);
+        pool.obtain();
+        assertFalse(pool.isFull());
+        pool.obtain();
+        assertTrue(pool.isFull());
+        pool.countDropped();
+        pool.countCulled();
+        pool.countCulled();
+        assertEquals(2, pool.getSpawnedCount());
+        assertEquals(1, pool.getDroppedCount());
+        assertEquals(2, pool.getCulledCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void limitTooHigh() {
+        pool.setLimit(ParticlePool.MAX_PARTICLES + 1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.deco2800.potatoes.renderering.particles;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ParticleTextureCacheTest {
+
+    private Texture texture;
+    private int created;
+    private ParticleTextureCache cache;
+
+    @Before
+    public void setUp() {
+        texture = mock(Texture.class);
+        created = 0;
+        cache = new ParticleTextureCache(() -> {
+            created++;
+            return texture;
+        });
+    }
+
+    @Test
+    public void spritesShared() {
+        ParticleTextureCache.Sprite red = cache.acquire(Color.RED, 7, 7);
+        assertSame(red, cache.acquire(new Color(Color.RED), 7, 7));
+        assertEquals(1, cache.size());
+
+        ParticleTextureCache.Sprite other = cache.acquire(Color.RED, 7, 3);
+        assertNotSame(red, other);
+        assertNotSame(red, cache.acquire(Color.GREEN, 7, 7));
+        assertEquals(3, cache.size());
+
+        // Every sprite draws the same white texture
+        assertSame(red.getRegion(), other.getRegion());
+        assertEquals(1, created);
+        assertEquals(7, other.getWidth());
+        assertEquals(3, other.getHeight());
+        assertEquals(Color.RED, red.getColor());
+    }
+
+    @Test
+    public void disposedWhenReleased() {
+        ParticleTextureCache.Sprite red = cache.acquire(Color.RED, 7, 7);
+        cache.acquire(Color.RED, 7, 7);
+        ParticleTextureCache.Sprite green = cache.acquire(Color.GREEN, 7, 7);
+
+        cache.release(red);
+        cache.release(green);
+        assertEquals(1, cache.size());
+        assertTrue(cache.isLoaded());
+
+        cache.release(red);
+        assertEquals(0, cache.size());
+        assertFalse(cache.isLoaded());
+        verify(texture).dispose();
+
+        // Loaded again when next needed
+        cache.acquire(Color.RED, 7, 7);
+        assertEquals(2, created);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void releasedTwice() {
+        ParticleTextureCache.Sprite red = cache.acquire(Color.RED, 7, 7);
+        cache.release(red);
+        cache.release(red);
+    }
+}
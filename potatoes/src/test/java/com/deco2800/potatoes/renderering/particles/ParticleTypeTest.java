@@ -0,0 +1,118 @@
+package com.deco2800.potatoes.renderering.particles;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.deco2800.potatoes.renderering.particles.types.BasicParticleType;
+import com.deco2800.potatoes.renderering.particles.types.BuoyantParticleType;
+import com.deco2800.potatoes.renderering.particles.types.ParticleType;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParticleTypeTest {
+
+    private ParticlePool pool;
+    private Texture texture;
+
+    @Before
+    public void setUp() {
+        pool = new ParticlePool();
+        texture = mock(Texture.class);
+        when(texture.getWidth()).thenReturn(8);
+        when(texture.getHeight()).thenReturn(8);
+    }
+
+    @Test
+    public void parallelUpdateMatchesSequential() {
+        ParticleType type = new BuoyantParticleType(5000, 100.0f, 1.0f, 5000, texture);
+        type.setParallelThreshold(0);
+        type.onTick(1, pool, 0, 0, true);
+        // Expire a few particles
+        for (int p = 0; p < 5000; p += 100) {
+            pool.lifeTime[p] = 1.0f;
+        }
+        float[] x = Arrays.copyOf(pool.x, pool.getCapacity());
+        float[] y = Arrays.copyOf(pool.y, pool.getCapacity());
+        float[] speed = new float[pool.getCapacity()];
+        for (int p = 0; p < 5000; ++p) {
+            speed[p] = (float) Math.hypot(pool.vx[p], pool.vy[p]);
+        }
+
+        type.onTick(2, pool, 0, 0, false);
+        assertEquals(4950, type.getParticleCount());
+        assertEquals(4950, pool.getLiveCount());
+        for (int p = 1; p < 5000; ++p) {
+            if (p % 100 == 0) {
+                continue;
+            }
+            assertEquals(98.0f, pool.lifeTime[p], 0.0001f);
+            // Buoyant particles turn upwards after moving
+            assertEquals(0.0f, pool.vx[p], 0.0001f);
+            assertEquals(speed[p], pool.vy[p], 0.0001f);
+            assertEquals(speed[p] * 2, Math.hypot(pool.x[p] - x[p], pool.y[p] - y[p]), 0.001f);
+        }
+    }
+
+    @Test
+    public void drawsVertices() {
+        ParticleType type = new BasicParticleType(1, 1000.0f, 0.0f, 1, texture);
+        type.onTick(0, pool, 0, 0, true);
+        pool.x[0] = 10;
+        pool.y[0] = 20;
+        pool.rotation[0] = 0;
+
+        SpriteBatch batch = mock(SpriteBatch.class);
+        when(batch.getColor()).thenReturn(new Color(Color.WHITE));
+        type.draw(batch);
+
+        ArgumentCaptor<float[]> vertices = ArgumentCaptor.forClass(float[].class);
+        verify(batch).draw(eq(texture), vertices.capture(), eq(0), eq(20));
+        float[] v = vertices.getValue();
+        // Bottom left, then top right, with the texture the right way up
+        assertEquals(10, v[0], 0.0001f);
+        assertEquals(20, v[1], 0.0001f);
+        assertEquals(0, v[3], 0.0001f);
+        assertEquals(1, v[4], 0.0001f);
+        assertEquals(18, v[10], 0.0001f);
+        assertEquals(28, v[11], 0.0001f);
+        assertEquals(1, v[13], 0.0001f);
+        assertEquals(0, v[14], 0.0001f);
+        assertEquals(Color.WHITE.toFloatBits(), v[2], 0);
+    }
+
+    @Test
+    public void drawsInBlocks() {
+        ParticleType type = new BasicParticleType(2500, 1000.0f, 0.0f, 2500, texture);
+        type.onTick(0, pool, 0, 0, true);
+
+        SpriteBatch batch = mock(SpriteBatch.class);
+        when(batch.getColor()).thenReturn(new Color(Color.WHITE));
+        type.draw(batch);
+        verify(batch, times(2)).draw(eq(texture), any(float[].class), eq(0), eq(20000));
+        verify(batch).draw(eq(texture), any(float[].class), eq(0), eq(10000));
+    }
+
+    @Test
+    public void untexturedNotDrawnWithoutSprite() {
+        ParticleType type = new BasicParticleType(10, 1000.0f, 0.0f, 10, Color.RED, 2, 2);
+        type.onTick(0, pool, 0, 0, true);
+
+        SpriteBatch batch = mock(SpriteBatch.class);
+        when(batch.getColor()).thenReturn(new Color(Color.WHITE));
+        type.draw(batch);
+        verify(batch, never()).draw(any(Texture.class), any(float[].class), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,69 @@
+package com.deco2800.potatoes.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FixedTimestepTest {
+
+    FixedTimestep timestep;
+
+    @Before
+    public void setUp() {
+        timestep = new FixedTimestep(16, 5);
+    }
+
+    @Test
+    public void stepsIndependentOfFrameRate() {
+        // A second at 30, 60 and 144 frames per second all run the same steps
+        int[] fps = { 30, 60, 144 };
+        for (int rate : fps) {
+            FixedTimestep t = new FixedTimestep(16, 5);
+            int steps = 0;
+            for (int frame = 0; frame < rate; frame++) {
+                steps += t.advance(1000.0 / rate);
+            }
+            assertEquals(62, steps);
+            assertEquals(62, t.getSteps());
+        }
+    }
+
+    @Test
+    public void remainderCarried() {
+        assertEquals(0, timestep.advance(10));
+        assertEquals(10 / 16f, timestep.getAlpha(), 1e-6);
+        assertEquals(1, timestep.advance(10));
+        assertEquals(4 / 16f, timestep.getAlpha(), 1e-6);
+        timestep.reset();
+        assertEquals(0, timestep.getAlpha(), 0);
+    }
+
+    @Test
+    public void catchUpLimited() {
+        // A 1 second frame only runs the most steps, the rest is dropped
+        assertEquals(5, timestep.advance(1000));
+        assertEquals(1000 - 5 * 16 - 8, timestep.getDroppedMillis(), 1e-6);
+        assertEquals(0.5f, timestep.getAlpha(), 1e-6);
+        assertEquals(1, timestep.advance(8));
+
+        timestep.setMaxSteps(100);
+        assertEquals(62, timestep.advance(1000));
+    }
+
+    @Test
+    public void negativeIgnored() {
+        assertEquals(0, timestep.advance(-100));
+        assertEquals(0, timestep.getAlpha(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroStep() {
+        new FixedTimestep(0, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroMaxSteps() {
+        timestep.setMaxSteps(0);
+    }
+}
@@ -0,0 +1,119 @@
+package com.deco2800.potatoes.util;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Point2D;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FlowFieldTest {
+
+    private static final int SIZE = 30;
+    private static final float BLOCKED = Float.POSITIVE_INFINITY;
+
+    float[] costs;
+    FlowField field;
+
+    @Before
+    public void setUp() {
+        costs = new float[SIZE * SIZE];
+        Arrays.fill(costs, 1);
+        field = new FlowField(SIZE, SIZE, costs);
+    }
+
+    @After
+    public void tearDown() {
+        costs = null;
+        field = null;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongCostSize() {
+        new FlowField(SIZE, SIZE, new float[SIZE]);
+    }
+
+    @Test
+    public void openGrid() {
+        field.setGoal(new Point2D(5.5f, 5.5f));
+        assertEquals(0, field.getDistance(5.5f, 5.5f), 0);
+        assertEquals(3, field.getDistance(8.5f, 5.5f), 0.001);
+        assertEquals(3 * Math.sqrt(2), field.getDistance(8.5f, 8.5f), 0.001);
+
+        // heads straight for the goal
+        assertEquals(Math.PI, field.getAngle(8.5f, 5.5f), 0.001);
+        assertEquals(-Math.PI / 2, field.getAngle(5.5f, 8.5f), 0.001);
+        assertEquals(-3 * Math.PI / 4, field.getAngle(8.5f, 8.5f), 0.001);
+
+        // no route from outside the grid
+        assertTrue(Float.isNaN(field.getAngle(-1, 5)));
+    }
+
+    @Test
+    public void routeAroundWall() {
+        // wall along x = 10 with a gap at y = 20
+        for (int y = 0; y < SIZE; ++y) {
+            if (y != 20) {
+                costs[y * SIZE + 10] = BLOCKED;
+            }
+        }
+        field.setGoal(new Box2D(15, 5, 1, 1));
+        assertTrue(field.getDistance(5.5f, 5.5f) > 20);
+        // heads up towards the gap first
+        float angle = field.getAngle(5.5f, 5.5f);
+        assertTrue(angle > 0 && angle < Math.PI);
+
+        // slow terrain is avoided where possible
+        Arrays.fill(costs, 0, SIZE, 5);
+        field.rebuild();
+        assertEquals(1, field.getDistance(15.5f, 6.5f), 0.001);
+    }
+
+    @Test
+    public void enclosedCellsUnreachable() {
+        field.setGoal(new Point2D(25.5f, 25.5f));
+        IntArray changed = new IntArray();
+        // box in the cells x < 4, 2 < y < 6
+        for (int i = 0; i <= 6; ++i) {
+            for (int cell : new int[] { 2 * SIZE + i, 6 * SIZE + i, i * SIZE + 4 }) {
+                costs[cell] = BLOCKED;
+                changed.add(cell);
+            }
+        }
+        field.update(changed);
+        assertTrue(Float.isNaN(field.getAngle(1.5f, 3.5f)));
+        assertEquals(BLOCKED, field.getDistance(1.5f, 3.5f), 0);
+    }
+
+    @Test
+    public void updatesMatchRebuild() {
+        Random random = new Random(0);
+        field.setGoal(new Box2D(15, 15, 2, 2));
+        FlowField reference = new FlowField(SIZE, SIZE, costs);
+
+        for (int round = 0; round < 20; ++round) {
+            IntArray changed = new IntArray();
+            for (int i = 0; i < 10; ++i) {
+                int cell = random.nextInt(SIZE * SIZE);
+                costs[cell] = costs[cell] == BLOCKED ? 1 : BLOCKED;
+                changed.add(cell);
+            }
+            field.update(changed);
+            reference.setGoal(new Box2D(15, 15, 2, 2));
+            reference.rebuild();
+
+            for (int y = 0; y < SIZE; ++y) {
+                for (int x = 0; x < SIZE; ++x) {
+                    assertEquals(reference.getDistance(x, y), field.getDistance(x, y), 0.001);
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.deco2800.potatoes.util;
 import org.junit.Test;
 
 import java.awt.*;
+import java.util.BitSet;
 import java.util.Set;
 
 import static org.junit.Assert.*;
@@ -38,6 +39,63 @@ public class GridUtilTest {
 		}
 	}
 
+	@Test
+	public void testPrimitiveFloodFill() {
+		Integer[][] grid = { { 1, 2, 1, 1, 0 }, { 0, 0, 0, 0, 0 }, { 0, 0, 1, 1, 0 }, { 1, 1, 0, 1, 0 },
+				{ 0, 2, 0, 0, 0 } };
+		boolean[] passable = passable(grid);
+		BitSet filled = new BitSet();
+		// Fills the same as the flood fill of objects
+		Set<Point> expected = GridUtil.floodFill(grid, 1, 1);
+		assertEquals(expected.size(), GridUtil.floodFill(passable, 5, 5, 1 * 5 + 1, filled));
+		for (Point p : expected) {
+			assertTrue("Point not in result x:" + p.x + " y:" + p.y, filled.get(p.x * 5 + p.y));
+		}
+		assertEquals(expected.size(), filled.cardinality());
+
+		// Already filled and impassable cells fill nothing
+		assertEquals(0, GridUtil.floodFill(passable, 5, 5, 1 * 5 + 2, filled));
+		assertEquals(0, GridUtil.floodFill(passable, 5, 5, 0, filled));
+		assertEquals(1, GridUtil.floodFill(passable, 5, 5, 4 * 5, filled));
+	}
+
+	@Test
+	public void testFloodFillNotSquare() {
+		// 2 wide and 3 high, with the middle row blocked apart from x = 1
+		boolean[] passable = { true, false, true, true, true, true };
+		BitSet filled = new BitSet();
+		assertEquals(5, GridUtil.floodFill(passable, 2, 3, 0, filled));
+		assertFalse(filled.get(1));
+	}
+
+	@Test
+	public void testLabelComponents() {
+		Integer[][] grid = { { 1, 2, 1, 1, 0 }, { 0, 0, 0, 0, 0 }, { 0, 0, 1, 1, 0 }, { 1, 1, 0, 1, 0 },
+				{ 0, 2, 0, 0, 0 } };
+		int[] labels = new int[25];
+		assertEquals(2, GridUtil.labelComponents(passable(grid), 5, 5, labels));
+		for (int x = 0; x < grid.length; x++) {
+			for (int y = 0; y < grid.length; y++) {
+				int expected = grid[x][y] != 0 ? 0 : x == 4 && y == 0 ? 2 : 1;
+				assertEquals("Wrong label x:" + x + " y:" + y, expected, labels[x * 5 + y]);
+			}
+		}
+
+		// Labels from before are cleared
+		assertEquals(0, GridUtil.labelComponents(new boolean[25], 5, 5, labels));
+		assertArrayEquals(new int[25], labels);
+	}
+
+	private static boolean[] passable(Integer[][] grid) {
+		boolean[] result = new boolean[grid.length * grid[0].length];
+		for (int x = 0; x < grid.length; x++) {
+			for (int y = 0; y < grid[x].length; y++) {
+				result[x * grid[x].length + y] = grid[x][y] == 0;
+			}
+		}
+		return result;
+	}
+
 	@Test
 	public void testBlend() {
 		float[][] grid1 = { { 1, 1, 1 }, { 2, 2, 2 }, { 3, 3, 3 } };
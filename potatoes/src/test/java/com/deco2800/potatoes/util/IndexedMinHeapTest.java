@@ -0,0 +1,79 @@
+package com.deco2800.potatoes.util;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedMinHeapTest {
+
+    IndexedMinHeap heap;
+
+    @Before
+    public void setUp() {
+        heap = new IndexedMinHeap(100);
+    }
+
+    @After
+    public void tearDown() {
+        heap = null;
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void pollEmpty() {
+        heap.poll();
+    }
+
+    @Test
+    public void pollsInOrder() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100; ++i) {
+            heap.offer(i, random.nextFloat());
+        }
+        assertEquals(100, heap.size());
+
+        float last = -1;
+        while (!heap.isEmpty()) {
+            int index = heap.peek();
+            float priority = heap.getPriority(index);
+            assertEquals(index, heap.poll());
+            assertFalse(heap.contains(index));
+            assertTrue(priority >= last);
+            last = priority;
+        }
+    }
+
+    @Test
+    public void decreaseKey() {
+        heap.offer(1, 10);
+        heap.offer(2, 20);
+        heap.offer(3, 30);
+
+        // raising a priority is ignored, lowering it moves the index forward
+        assertFalse(heap.offer(1, 40));
+        assertTrue(heap.offer(3, 5));
+        assertEquals(3, heap.size());
+
+        assertEquals(3, heap.poll());
+        assertEquals(1, heap.poll());
+        assertEquals(2, heap.poll());
+    }
+
+    @Test
+    public void clear() {
+        heap.offer(1, 10);
+        heap.offer(2, 20);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(1));
+
+        heap.offer(2, 1);
+        assertEquals(2, heap.poll());
+    }
+}
@@ -16,10 +16,27 @@ import static org.junit.Assert.assertThat;
 
 import static org.junit.Assert.*;
 
+import com.deco2800.potatoes.collisions.Box2D;
 import com.deco2800.potatoes.collisions.Point2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.worlds.World;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class MinimumSpanningTreeTest {
 
+    private class TestableBlockingEntity extends AbstractEntity {
+
+        public TestableBlockingEntity(float posX, float posY, float xLength, float yLength) {
+            super(new Box2D(posX, posY, xLength, yLength), xLength, yLength, "texture");
+            setStatic(true);
+            setSolid(true);
+        }
+
+    }
+
     float gameHeight = 100;
     float gameWidth = 100;
     int numberOfNodes = 20;
@@ -40,6 +57,10 @@ public class MinimumSpanningTreeTest {
         }
         // Create minimum spanning tree
         tree = new MinimumSpanningTree(numberOfNodes);
+        // Empty world, nothing blocks the start and goal
+        World mockWorld = mock(World.class);
+        when(mockWorld.getEntities()).thenReturn(new HashMap<>());
+        GameManager.get().setWorld(mockWorld);
         // Add vertices to graph
         for (int i = 0; i < numberOfNodes; i++) {
             tree.addVertex(nodes.get(i), i);
@@ -67,8 +88,93 @@ public class MinimumSpanningTreeTest {
 
     @After
     public void tearDown() {
+        GameManager.get().clearManagers();
         nodes = null;
         tree = null;
 
     }
+
+    @Test
+    public void treeReachesEveryVertex() {
+        Point2D goal = new Point2D(1, 1);
+        Point2D start = new Point2D(99, 99);
+        Map<Point2D, Point2D> result = tree.createTree(goal, start);
+        assertThat(result.size(), is(equalTo(numberOfNodes - 1)));
+        // Nothing is blocked, so every vertex can go straight to the goal
+        for (Point2D parent : result.values()) {
+            assertThat(parent, is(equalTo(goal)));
+        }
+    }
+
+    @Test
+    public void directPathWithoutObstacles() {
+        Point2D goal = new Point2D(1, 1);
+        ArrayDeque<Point2D> path = tree.findPath(goal, new Point2D(99, 99));
+        assertThat(path.size(), is(equalTo(1)));
+        assertThat(path.getLast(), is(equalTo(goal)));
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        MinimumSpanningTree copy = new MinimumSpanningTree(tree);
+        assertThat(copy.getSize(), is(equalTo(numberOfNodes)));
+        assertEquals(tree.getGraphEntry(3, 4), copy.getGraphEntry(3, 4), 0);
+
+        copy.putGraphEntry(1f / 0f, 3, 4);
+        assertEquals(new Line(nodes.get(3), nodes.get(4)).getDistance(), tree.getGraphEntry(3, 4), 0.001);
+        assertThat(copy.findPath(new Point2D(1, 1), new Point2D(99, 99)).size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void edgesUpdatedNearObstacles() {
+        ObstacleIndex obstacles = new ObstacleIndex();
+        tree = new MinimumSpanningTree(5);
+        tree.setObstacles(obstacles);
+        tree.addVertex(new Point2D(0, 0), 0);
+        tree.addVertex(new Point2D(0, 0), 1);
+        tree.addVertex(new Point2D(10, 10), 2);
+        tree.addVertex(new Point2D(10, 90), 3);
+        tree.addVertex(new Point2D(90, 90), 4);
+        tree.initGraphWeightMatrix();
+        assertEquals(80, tree.getGraphEntry(2, 3), 0.001);
+        assertEquals(80, tree.getGraphEntry(4, 3), 0.001);
+
+        TestableBlockingEntity wall = new TestableBlockingEntity(10, 50, 5, 5);
+        obstacles.add(wall);
+        tree.updateEdgesNear(wall.getMask());
+        assertTrue(Float.isInfinite(tree.getGraphEntry(2, 3)));
+        assertTrue(Float.isInfinite(tree.getGraphEntry(3, 2)));
+        assertEquals(80, tree.getGraphEntry(3, 4), 0.001);
+
+        obstacles.remove(wall);
+        tree.updateEdgesNear(wall.getMask());
+        assertEquals(80, tree.getGraphEntry(3, 2), 0.001);
+    }
+
+    @Test
+    public void pathAroundObstacle() {
+        World mockWorld = mock(World.class);
+        HashMap<Integer, AbstractEntity> entities = new HashMap<>();
+        entities.put(0, new TestableBlockingEntity(50, 50, 30, 5));
+        when(mockWorld.getEntities()).thenReturn(entities);
+        GameManager.get().setWorld(mockWorld);
+
+        tree = new MinimumSpanningTree(4);
+        tree.addVertex(new Point2D(0, 0), 0);
+        tree.addVertex(new Point2D(0, 0), 1);
+        tree.addVertex(new Point2D(10, 30), 2);
+        tree.addVertex(new Point2D(95, 5), 3);
+        tree.initGraphWeightMatrix();
+
+        Point2D goal = new Point2D(50, 90);
+        ArrayDeque<Point2D> path = tree.findPath(goal, new Point2D(50, 10));
+        assertThat(path.size(), is(equalTo(2)));
+        assertThat(path.getFirst(), is(equalTo(new Point2D(10, 30))));
+        assertThat(path.getLast(), is(equalTo(goal)));
+
+        // The start has to go around, but the detour node can see the goal
+        Map<Point2D, Point2D> result = tree.createTree(goal, new Point2D(50, 10));
+        assertThat(result.get(new Point2D(50, 10)), is(equalTo(new Point2D(10, 30))));
+        assertThat(result.get(new Point2D(10, 30)), is(equalTo(goal)));
+    }
 }
@@ -0,0 +1,101 @@
+package com.deco2800.potatoes.util;
+
+import com.deco2800.potatoes.collisions.Box2D;
+import com.deco2800.potatoes.collisions.Circle2D;
+import com.deco2800.potatoes.collisions.Shape2D;
+import com.deco2800.potatoes.entities.AbstractEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ObstacleIndexTest {
+
+    private class TestObstacle extends AbstractEntity {
+        public TestObstacle(Shape2D mask) {
+            super(mask, 1, 1, "texture");
+            setStatic(true);
+            setSolid(true);
+        }
+    }
+
+    ObstacleIndex index;
+
+    @Before
+    public void setUp() {
+        index = new ObstacleIndex();
+    }
+
+    @After
+    public void tearDown() {
+        index = null;
+    }
+
+    @Test
+    public void emptyIndexBlocksNothing() {
+        assertFalse(index.blocksLine(0, 0, 100, 100));
+    }
+
+    @Test
+    public void linesThroughObstacles() {
+        TestObstacle wall = new TestObstacle(new Box2D(50, 50, 30, 5));
+        index.add(wall);
+        index.add(wall);
+        assertEquals(1, index.size());
+
+        assertTrue(index.blocksLine(50, 10, 50, 90));
+        assertTrue(index.blocksLine(new Line(20, 50, 80, 50)));
+        assertFalse(index.blocksLine(50, 10, 90, 10));
+        assertFalse(index.blocksLine(10, 10, 10, 90));
+
+        index.remove(wall);
+        assertEquals(0, index.size());
+        assertFalse(index.blocksLine(50, 10, 50, 90));
+    }
+
+    @Test
+    public void manyObstacles() {
+        // a row of trees at y = 50, with identical masks, and a gap at x = 50
+        List<AbstractEntity> trees = new ArrayList<>();
+        for (int x = 0; x < 100; ++x) {
+            if (x != 50) {
+                trees.add(new TestObstacle(new Circle2D(x, 50 + 0.01f * x, 0.6f)));
+            }
+        }
+        index.addAll(trees);
+        assertEquals(99, index.size());
+
+        assertTrue(index.blocksLine(20, 0, 20, 100));
+        assertFalse(index.blocksLine(50, 0, 50.1f, 100));
+        assertFalse(index.blocksLine(0, 0, 100, 0));
+
+        ObstacleIndex copy = index.copy();
+        index.remove(trees.get(20));
+        assertFalse(index.blocksLine(20, 0, 20, 100));
+        assertEquals(99, copy.size());
+        assertTrue(copy.blocksLine(20, 0, 20, 100));
+    }
+
+    @Test
+    public void copiesCapturedMasks() {
+        TestObstacle wall = new TestObstacle(new Box2D(50, 50, 30, 5));
+        index.add(wall);
+
+        // Copies are made on worker threads, so they only use the masks captured when obstacles were added
+        wall.setPosition(50, 10);
+        ObstacleIndex copy = index.copy();
+        assertTrue(copy.blocksLine(50, 40, 50, 60));
+        assertFalse(copy.blocksLine(20, 10, 80, 10));
+
+        copy.remove(wall);
+        assertEquals(0, copy.size());
+        assertFalse(copy.blocksLine(50, 40, 50, 60));
+    }
+}
@@ -4,8 +4,11 @@ import com.deco2800.potatoes.collisions.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
@@ -236,6 +239,49 @@ public class RTreeTest {
     }
 
     // relies on findOverlapping and insert
+    /**
+     * Ensure that bulk loaded trees answer queries the same way as incrementally built ones, and
+     * can still be modified afterwards.
+     */
+    @Test
+    public void bulkLoad() {
+        Map<Integer, Shape2D> shapes = new HashMap<>();
+        int count = 0;
+        for (int x = -50; x < 50; ++x) {
+            for (int y = -50; y < 50; ++y) {
+                shapes.put(count++, new Circle2D(x, y, 0.5f));
+            }
+        }
+        tree.insertAll(shapes);
+
+        Shape2D filter = new Box2D(0, 0, 3, 3);
+        assertEquals(9, tree.findOverlapping(filter).size());
+        assertEquals(new Circle2D(49, 49, 0.5f).getX(), tree.find(count - 1).getX(), 0);
+
+        for (Integer key : tree.findOverlapping(filter)) {
+            tree.remove(key);
+        }
+        assertTrue(tree.findOverlapping(filter).isEmpty());
+
+        // batches smaller than the tree are inserted one at a time
+        Map<Integer, Shape2D> extra = new HashMap<>();
+        extra.put(count, new Point2D(0, 0));
+        extra.put(0, new Point2D(0.5f, 0.5f));
+        tree.insertAll(extra);
+        assertEquals(2, tree.findOverlapping(filter).size());
+
+        // batches larger than the tree rebuild it, keeping existing keys
+        Map<Integer, Shape2D> larger = new HashMap<>();
+        for (int x = 0; x < 200; ++x) {
+            for (int y = 0; y < 100; ++y) {
+                larger.put(++count, new Point2D(1000 + x, 0.5f * y + 0.01f * x));
+            }
+        }
+        tree.insertAll(larger);
+        assertEquals(2, tree.findOverlapping(filter).size());
+        assertEquals(count, (int) tree.findClosest(new Point2D(2000, 100)));
+    }
+
     @Test
     public void removeFromTree() {
 
@@ -296,4 +342,127 @@ public class RTreeTest {
 
         assertTrue(tree.findOverlapping(filter).size() == 0);
     }
+
+    @Test
+    public void moveWithinAndOutOfLeaf() {
+        for (int x = -50; x < 50; ++x) {
+            for (int y = -50; y < 50; ++y) {
+                tree.insert(100 * (x + 50) + (y + 50), new Circle2D(x, y, 0.2f));
+            }
+        }
+
+        // small move, should stay in its leaf
+        tree.move(0, new Circle2D(-49.9f, -49.9f, 0.2f));
+        assertTrue(tree.findOverlapping(new Point2D(-49.9f, -49.9f)).contains(0));
+        assertTrue(!tree.findOverlapping(new Point2D(-50.15f, -50.15f)).contains(0));
+
+        // large move, needs to be re-inserted
+        tree.move(0, new Circle2D(500, 500, 0.2f));
+        Collection<Integer> results = tree.findOverlapping(new Point2D(500, 500));
+        assertTrue(results.size() == 1);
+        assertTrue(results.contains(0));
+        assertTrue(tree.findOverlapping(new Circle2D(-50, -50, 1)).size() == 2);
+
+        // everything else is still findable
+        assertTrue(tree.findOverlapping(new Box2D(0, 0, 200, 200)).size() == 9999);
+    }
+
+    @Test
+    public void moveSharedShapeFarAway() {
+        // Entities move their masks before telling the tree, so the bucket already holds the new
+        // position when it is moved
+        List<Circle2D> masks = new ArrayList<>();
+        for (int x = -50; x < 50; ++x) {
+            for (int y = -50; y < 50; ++y) {
+                Circle2D mask = new Circle2D(x, y, 0.2f);
+                masks.add(mask);
+                tree.insert(masks.size() - 1, mask);
+            }
+        }
+
+        Circle2D moved = masks.get(0);
+        moved.setX(500);
+        moved.setY(500);
+        tree.move(0, moved);
+        assertTrue(tree.findOverlapping(new Circle2D(-50, -50, 0.5f)).isEmpty());
+        assertEquals(1, tree.findOverlapping(new Point2D(500, 500)).size());
+
+        // moving a whole corner away leaves nothing behind, and removing afterwards leaves no copies
+        for (int i = 0; i < 1000; ++i) {
+            masks.get(i).setX(masks.get(i).getX() + 1000);
+            tree.move(i, masks.get(i));
+        }
+        assertTrue(tree.findOverlapping(new Box2D(-45.5f, -0.5f, 9.4f, 100)).isEmpty());
+        assertEquals(10000, tree.findOverlapping(new Box2D(0, 0, 4000, 4000)).size());
+        for (int i = 0; i < 1000; ++i) {
+            tree.remove(i);
+        }
+        assertEquals(9000, tree.findOverlapping(new Box2D(0, 0, 4000, 4000)).size());
+    }
+
+    @Test
+    public void moveInSmallTree() {
+        tree.insert(1, new Point2D(0, 0));
+        tree.move(1, new Point2D(5, 5));
+        assertTrue(tree.findOverlapping(new Box2D(5, 5, 1, 1)).contains(1));
+        tree.insert(2, new Point2D(1, 1));
+        tree.move(2, new Point2D(3, 3));
+        assertTrue(tree.findOverlapping(new Box2D(3, 3, 1, 1)).contains(2));
+        assertTrue(tree.findOverlapping(new Box2D(5, 5, 1, 1)).contains(1));
+    }
+
+    @Test
+    public void queriesIntoBuffers() {
+        for (int x = -5; x < 5; ++x) {
+            for (int y = -5; y < 5; ++y) {
+                tree.insert(10 * (x + 5) + (y + 5), new Point2D(x, y));
+            }
+        }
+
+        List<Integer> results = new ArrayList<>();
+        tree.findOverlapping(new Box2D(-4, -4, 2.1f, 2.1f), results);
+        assertTrue(results.size() == 9);
+
+        results.clear();
+        tree.findWithinDistance(0, 0, 1.1f, results);
+        assertTrue(results.size() == 5);
+        assertTrue(results.contains(55));
+
+        List<Integer> visited = new ArrayList<>();
+        tree.forEachWithinDistance(0, 0, 1.1f, visited::add);
+        assertTrue(visited.containsAll(results) && results.containsAll(visited));
+
+        visited.clear();
+        tree.forEachOverlapping(new Box2D(-4, -4, 2.1f, 2.1f), visited::add);
+        assertTrue(visited.size() == 9);
+    }
+
+    @Test
+    public void findKNearest() {
+        for (int x = -50; x < 50; ++x) {
+            tree.insert(x, new Point2D(x, 0.001f * x));
+        }
+
+        List<Integer> results = new ArrayList<>();
+        assertTrue(tree.findNearest(new Point2D(10.1f, 0), 3, key -> true, results) == 3);
+        assertTrue(results.get(0) == 10);
+        assertTrue(results.get(1) == 11);
+        assertTrue(results.get(2) == 9);
+
+        results.clear();
+        assertTrue(tree.findNearest(new Point2D(10.1f, 0), 2, key -> key % 2 == 1, results) == 2);
+        assertTrue(results.get(0) == 11);
+        assertTrue(results.get(1) == 9);
+
+        results.clear();
+        assertTrue(tree.findNearest(new Point2D(0, 0), 1000, key -> true, results) == 100);
+        assertTrue(tree.findClosest(new Point2D(-60, 0)) == -50);
+    }
+
+    @Test
+    public void findClosestSinglePoint() {
+        assertTrue(tree.findClosest(new Point2D(0, 0)) == null);
+        tree.insert(1, new Point2D(3, 3));
+        assertTrue(tree.findClosest(new Point2D(0, 0)) == 1);
+    }
 }
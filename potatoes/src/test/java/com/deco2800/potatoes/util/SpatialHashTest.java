@@ -0,0 +1,113 @@
+package com.deco2800.potatoes.util;
+
+import com.deco2800.potatoes.collisions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SpatialHashTest {
+
+    SpatialHash<Integer> hash;
+
+    @Before
+    public void setUp() {
+        hash = new SpatialHash<>(1);
+    }
+
+    @After
+    public void tearDown() {
+        hash = null;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCellSize() {
+        new SpatialHash<Integer>(0);
+    }
+
+    @Test
+    public void findNearWithoutNeighbours() {
+        for (int x = -5; x < 5; ++x) {
+            for (int y = -5; y < 5; ++y) {
+                hash.insert(10 * (x + 5) + (y + 5), new Point2D(x + 0.5f, y + 0.5f));
+            }
+        }
+        assertEquals(100, hash.size());
+
+        List<Integer> results = new ArrayList<>();
+        hash.addAllNear(new Point2D(2.5f, 2.5f), 0, results);
+        assertEquals(1, results.size());
+        assertTrue(results.contains(77));
+
+        results.clear();
+        hash.addAllNear(new Point2D(20, 20), 0, results);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void findNearWithNeighbours() {
+        for (int x = -5; x < 5; ++x) {
+            for (int y = -5; y < 5; ++y) {
+                hash.insert(10 * (x + 5) + (y + 5), new Point2D(x + 0.5f, y + 0.5f));
+            }
+        }
+
+        List<Integer> results = new ArrayList<>();
+        hash.addAllNear(new Point2D(-4.5f, -4.5f), 1, results);
+        assertEquals(4, results.size());
+
+        results.clear();
+        hash.addAllNear(new Box2D(0, 0, 1.5f, 1.5f), 1, results);
+        assertEquals(16, results.size());
+    }
+
+    @Test
+    public void largeShapesReportedOnce() {
+        hash.insert(1, new Box2D(0, 0, 5, 5));
+        hash.insert(2, new Circle2D(0, 0, 3));
+
+        List<Integer> results = new ArrayList<>();
+        hash.addAllNear(new Box2D(0, 0, 8, 8), 1, results);
+        assertEquals(2, results.size());
+        assertEquals(2, new HashSet<>(results).size());
+    }
+
+    @Test
+    public void moveAndRemove() {
+        hash.insert(1, new Point2D(0.5f, 0.5f));
+        hash.insert(2, new Point2D(0.5f, 0.5f));
+
+        hash.move(1, new Point2D(10.5f, 10.5f));
+        List<Integer> results = new ArrayList<>();
+        hash.addAllNear(new Point2D(0.5f, 0.5f), 0, results);
+        assertEquals(1, results.size());
+        assertTrue(results.contains(2));
+
+        results.clear();
+        hash.addAllNear(new Point2D(10.5f, 10.5f), 0, results);
+        assertEquals(1, results.size());
+        assertTrue(results.contains(1));
+
+        // moving within a cell, and moving unknown keys, change nothing
+        hash.move(1, new Point2D(10.9f, 10.1f));
+        hash.move(3, new Point2D(0.5f, 0.5f));
+        assertEquals(2, hash.size());
+
+        hash.remove(1);
+        hash.remove(3);
+        results.clear();
+        hash.addAllNear(new Box2D(5, 5, 20, 20), 0, results);
+        Set<Integer> remaining = new HashSet<>(results);
+        assertEquals(1, remaining.size());
+        assertFalse(remaining.contains(1));
+    }
+}
@@ -1,8 +1,12 @@
 package com.deco2800.potatoes.worlds;
 
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.deco2800.potatoes.BaseTest;
 import com.deco2800.potatoes.collisions.Box2D;
 import com.deco2800.potatoes.entities.AbstractEntity;
+import com.deco2800.potatoes.managers.TextureManager;
+import com.deco2800.potatoes.managers.WorldManager;
 import com.deco2800.potatoes.worlds.terrain.Terrain;
 import org.junit.After;
 import org.junit.Rule;
@@ -10,8 +14,11 @@ import org.junit.rules.ExpectedException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.*;
@@ -107,6 +114,111 @@ public class WorldTest extends BaseTest {
 		assertTrue(entities.contains(testEntities[7]));
 	}
 
+	@Test
+	public void testAddEntities() {
+		TestEntity single = new TestEntity();
+		single.setPosition(1, 1.5f);
+		world.addEntity(single);
+		world.addEntities(Arrays.asList(testEntities));
+		assertEquals(testEntities.length + 1, world.getEntities().size());
+
+		Iterator<AbstractEntity> entitiesIterator = world.getEntitiesWithinDistance(1, 1, (float)Math.sqrt(1 + 1));
+		Set<AbstractEntity> entities = new HashSet<>();
+		while (entitiesIterator.hasNext()) {
+			entities.add(entitiesIterator.next());
+		}
+		assertEquals(6, entities.size());
+		assertTrue(world.getClosestEntity(15, 12, TestEntity.class).get() == testEntities[9]);
+
+		// entities added in a batch are still tracked individually
+		world.removeEntity(testEntities[3]);
+		assertEquals(testEntities.length, world.getEntities().size());
+	}
+
+	@Test
+	public void testMovedEntitiesUpdated() {
+		for (TestEntity e : testEntities) {
+			world.addEntity(e);
+		}
+		testEntities[9].setPosition(1, 1.5f);
+		assertTrue(testEntities[9].hasPositionChanged());
+		world.updatePositions();
+		assertFalse(testEntities[9].hasPositionChanged());
+
+		Iterator<AbstractEntity> entitiesIterator = world.getEntitiesWithinDistance(1, 1, (float)Math.sqrt(1 + 1));
+		Set<AbstractEntity> entities = new HashSet<>();
+		while (entitiesIterator.hasNext()) {
+			entities.add(entitiesIterator.next());
+		}
+		assertEquals(6, entities.size());
+		assertTrue(entities.contains(testEntities[9]));
+
+		// Removed entities are no longer tracked
+		world.removeEntity(testEntities[9]);
+		testEntities[9].setPosition(10, 10);
+		assertFalse(testEntities[9].hasPositionChanged());
+		world.updatePositions();
+		assertFalse(world.getClosestEntity(10, 10, TestEntity.class).get() == testEntities[9]);
+	}
+
+	@Test
+	public void testEntitiesInArea() {
+		world.addEntities(Arrays.asList(testEntities));
+		AbstractEntity notSolid = new AbstractEntity(new Box2D(1, 0.5f, 0.01f, 0.01f), 0, 0, "") {
+		};
+		world.addEntity(notSolid);
+		List<AbstractEntity> found = new ArrayList<>();
+		world.getEntitiesInArea(new Box2D(1, 1, 2.5f, 2.5f), found);
+		assertEquals(6, found.size());
+		assertTrue(found.contains(notSolid));
+		assertTrue(world.hasEntity(notSolid));
+
+		// moved and removed entities are updated
+		notSolid.setPosition(8, 8.5f);
+		world.updatePositions();
+		world.removeEntity(testEntities[3]);
+		assertFalse(world.hasEntity(testEntities[3]));
+		found.clear();
+		world.getEntitiesInArea(new Box2D(1, 1, 2.5f, 2.5f), found);
+		assertEquals(4, found.size());
+		found.clear();
+		world.getEntitiesInArea(new Box2D(8, 8.5f, 1, 1), found);
+		assertEquals(3, found.size());
+	}
+
+	@Test
+	public void solidEntitiesNearBeforeUpdate() {
+		testEntities[0].setPosition(0.5f, 0.5f);
+		world.addEntity(testEntities[0]);
+		world.updatePositions();
+
+		// Stepped, then pushed along by something else, then moved as far as it likes
+		testEntities[0].setPosition(0.99f, 0.5f);
+		testEntities[0].setPosition(1.5f, 0.5f);
+		testEntities[0].setPosition(20.5f, 0.5f);
+		List<AbstractEntity> found = new ArrayList<>();
+		world.getSolidEntitiesNear(new Box2D(20.5f, 0.5f, 0.01f, 0.01f), found);
+		assertTrue(found.contains(testEntities[0]));
+		found.clear();
+		world.getSolidEntitiesNear(new Box2D(0.5f, 0.5f, 0.01f, 0.01f), found);
+		assertFalse(found.contains(testEntities[0]));
+	}
+
+	@Test
+	public void backgroundCoversTexture() {
+		TextureManager.loadTextures();
+		world.setBackground(new Terrain("water1", 0, false));
+		assertEquals(Terrain.WATER_ARRAY.length, world.getBackgroundArray().length);
+		for (TextureRegionDrawable drawable : world.getBackgroundArray()) {
+			// Repeats the whole of its own texture, not part of an atlas page
+			TextureRegion region = drawable.getRegion();
+			assertEquals(0, region.getU(), 0);
+			assertEquals(0, region.getV(), 0);
+			assertEquals(region.getTexture().getWidth() * WorldManager.WORLD_SIZE * 2, region.getRegionWidth());
+			assertEquals(region.getTexture().getHeight() * WorldManager.WORLD_SIZE * 2, region.getRegionHeight());
+		}
+	}
+
 	private class TestEntity extends AbstractEntity {
 		public TestEntity() {
 			super(new Box2D(0, 0, 0.01f, 0.01f), 0, 0, "");
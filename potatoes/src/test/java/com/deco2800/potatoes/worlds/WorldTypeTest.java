@@ -0,0 +1,50 @@
+package com.deco2800.potatoes.worlds;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.deco2800.potatoes.managers.GameManager;
+import com.deco2800.potatoes.managers.WorldManager;
+import com.deco2800.potatoes.worlds.terrain.Terrain;
+
+public class WorldTypeTest {
+
+	private static final int SIZE = WorldManager.WORLD_SIZE;
+
+	@Test
+	public void sameForSeed() {
+		GameManager.get().setSeed(1234);
+		Terrain[][] first = ForestWorld.get().generateWorld(SIZE, 1);
+		GameManager.get().setSeed(1234);
+		assertSameTerrain(first, ForestWorld.get().generateWorld(SIZE, 1));
+	}
+
+	@Test
+	public void sameForParallelism() {
+		GameManager.get().setSeed(42);
+		Terrain[][] serial = OceanWorld.get().generateWorld(SIZE, 1);
+		long next = GameManager.get().getRandom().nextLong();
+		for (int parallelism : new int[] { 2, 3, 8 }) {
+			GameManager.get().setSeed(42);
+			assertSameTerrain(serial, OceanWorld.get().generateWorld(SIZE, parallelism));
+			// The game's random is used the same amount
+			assertEquals(next, GameManager.get().getRandom().nextLong());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void zeroParallelism() {
+		DesertWorld.get().generateWorld(SIZE, 0);
+	}
+
+	private static void assertSameTerrain(Terrain[][] expected, Terrain[][] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int x = 0; x < expected.length; x++) {
+			for (int y = 0; y < expected[x].length; y++) {
+				// Random terrain has a random texture, so isn't equal to itself
+				assertSame(expected[x][y], actual[x][y]);
+			}
+		}
+	}
+}